@@ -1,2 +1,3 @@
 #!/bin/bash
-java -XstartOnFirstThread -cp FightingICE.jar:./lib/*:./lib/lwjgl/*:./lib/lwjgl/natives/macos/amd64/*:./lib/grpc/* Main --limithp 400 400 --inverted-player 1 --grey-bg --grpc
+# SIMD=1 ./run-macos-amd64.sh uses the SIMD audio kernels built from src-simd
+java -XstartOnFirstThread ${SIMD:+--add-modules jdk.incubator.vector} -cp FightingICE.jar:./lib/*:./lib/lwjgl/*:./lib/lwjgl/natives/macos/amd64/*:./lib/grpc/* Main --limithp 400 400 --inverted-player 1 --grey-bg --grpc
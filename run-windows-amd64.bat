@@ -1,2 +1,5 @@
-java -cp FightingICE.jar;./lib/*;./lib/lwjgl/*;./lib/lwjgl/natives/windows/amd64/*;./lib/grpc/*; Main --limithp 400 400 --inverted-player 1 --grey-bg --grpc
+rem "set SIMD=1" before running uses the SIMD audio kernels built from src-simd
+set SIMD_OPTION=
+if defined SIMD set SIMD_OPTION=--add-modules jdk.incubator.vector
+java %SIMD_OPTION% -cp FightingICE.jar;./lib/*;./lib/lwjgl/*;./lib/lwjgl/natives/windows/amd64/*;./lib/grpc/*; Main --limithp 400 400 --inverted-player 1 --grey-bg --grpc
 
@@ -0,0 +1,107 @@
+package util;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of the kernels of {@link DspPlan} with SIMD instructions through the Vector API.<br>
+ * This class is only loaded by {@link DspKernels} when the module {@code jdk.incubator.vector} is available,
+ * and the parts of the arrays that do not fill a whole vector are processed with scalar instructions.
+ */
+final class VectorDspKernels extends DspKernels {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private final DspKernels scalar = new ScalarDspKernels();
+
+    @Override
+    void butterflies(float[] real, float[] imag, int n, int half, float[] twiddleReal, float[] twiddleImag, int offset) {
+        if (half < SPECIES.length()) {
+            scalar.butterflies(real, imag, n, half, twiddleReal, twiddleImag, offset);
+            return;
+        }
+
+        // half is a multiple of the number of lanes, since both are powers of 2
+        for (int start = 0; start < n; start += 2 * half) {
+            for (int subDFT = 0; subDFT < half; subDFT += SPECIES.length()) {
+                int butterfly = start + subDFT;
+                int ip = butterfly + half;
+                FloatVector UR = FloatVector.fromArray(SPECIES, twiddleReal, offset + subDFT);
+                FloatVector UI = FloatVector.fromArray(SPECIES, twiddleImag, offset + subDFT);
+                FloatVector ipReal = FloatVector.fromArray(SPECIES, real, ip);
+                FloatVector ipImag = FloatVector.fromArray(SPECIES, imag, ip);
+                FloatVector tempReal = ipReal.mul(UR).sub(ipImag.mul(UI));
+                FloatVector tempImag = ipReal.mul(UI).add(ipImag.mul(UR));
+                FloatVector bfReal = FloatVector.fromArray(SPECIES, real, butterfly);
+                FloatVector bfImag = FloatVector.fromArray(SPECIES, imag, butterfly);
+                bfReal.sub(tempReal).intoArray(real, ip);
+                bfImag.sub(tempImag).intoArray(imag, ip);
+                bfReal.add(tempReal).intoArray(real, butterfly);
+                bfImag.add(tempImag).intoArray(imag, butterfly);
+            }
+        }
+    }
+
+    @Override
+    void powerSpectrum(float[] real, float[] imag, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            FloatVector re = FloatVector.fromArray(SPECIES, real, i);
+            FloatVector im = FloatVector.fromArray(SPECIES, imag, i);
+            re.mul(re).add(im.mul(im)).intoArray(real, i);
+        }
+        for (; i < length; i++) {
+            real[i] = real[i] * real[i] + imag[i] * imag[i];
+        }
+    }
+
+    @Override
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sums = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            sums = FloatVector.fromArray(SPECIES, a, aOffset + i).fma(FloatVector.fromArray(SPECIES, b, bOffset + i), sums);
+        }
+        float sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    float powerToDb(float[] values, int length) {
+        FloatVector maxValues = FloatVector.broadcast(SPECIES, -100f);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            FloatVector db = FloatVector.fromArray(SPECIES, values, i).abs().max(1e-10f)
+                    .lanewise(VectorOperators.LOG10).mul(10f);
+            db.intoArray(values, i);
+            maxValues = maxValues.max(db);
+        }
+        float maxValue = maxValues.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            values[i] = toDb(values[i]);
+            maxValue = Math.max(maxValue, values[i]);
+        }
+        return maxValue;
+    }
+
+    @Override
+    void clampMin(float[] values, int length, float floor) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, values, i).max(floor).intoArray(values, i);
+        }
+        for (; i < length; i++) {
+            if (values[i] < floor) {
+                values[i] = floor;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "vector " + SPECIES;
+    }
+}
@@ -1,5 +1,7 @@
 import core.Game;
 import manager.DisplayManager;
+import manager.HeadlessManager;
+import setting.FlagSetting;
 
 /**
  * FightingICEのメインメソッドを持つクラス．
@@ -16,9 +18,12 @@ public class Main {
 	public static void main(String[] options) {
 		Game game = new Game();
 		game.setOptions(options);
-		DisplayManager displayManager = new DisplayManager();
 
 		// ゲームの開始
-		displayManager.start(game);
+		if (FlagSetting.headlessFlag) {
+			new HeadlessManager().start(game);
+		} else {
+			new DisplayManager().start(game);
+		}
 	}
 }
@@ -1,11 +1,17 @@
 package aiinterface;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import enumerate.AudioFeature;
 import grpc.PlayerAgent;
 import informationcontainer.RoundResult;
 import manager.InputManager;
-import setting.LaunchSetting;
+import setting.MatchSetting;
 import struct.AudioData;
 import struct.FrameData;
 import struct.GameData;
@@ -35,7 +41,7 @@ public class AIController extends Thread {
     /**
      * Flag indicating whether a match has started.
      */
-    private boolean isFighting;
+    private volatile boolean isFighting;
 
     /**
      * Entered keys.
@@ -43,14 +49,9 @@ public class AIController extends Thread {
     private Key key;
 
     /**
-     * Frame delay.
+     * Queue delaying the frame data given to the AI.
      */
-    private final static int DELAY = 15;
-
-    /**
-     * List to store frame data.
-     */
-    private LinkedList<FrameData> framesData;
+    private FrameDelayQueue framesData;
 
     /**
      * Data containing screen information.
@@ -63,9 +64,55 @@ public class AIController extends Thread {
     private RoundResult roundResult;
 
     /**
-     * Synchronization object for starting each AI process simultaneously.
+     * Controller dispatching the frames to the AI and notified when the AI has finished processing a frame.
+     */
+    private ThreadController threadController;
+
+    /**
+     * The number of frames dispatched by the thread controller that the AI has taken.
+     */
+    private long takenFrameCount;
+
+    /**
+     * Flag indicating whether the AI is processed on the shared pool of threads instead of its own thread.
+     */
+    private boolean pooled;
+
+    /**
+     * Flag indicating whether the processing of a frame is scheduled on the shared pool of threads.
      */
-    private Object waitObj;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Monitor notified when the processing of a frame on the shared pool of threads ends, waited on by
+     * {@link #awaitTermination(long)}.
+     */
+    private final Object scheduledLock = new Object();
+
+    /**
+     * Flag indicating whether the visual data is hidden from the AI.
+     */
+    private boolean noVisual;
+
+    /**
+     * Flag indicating whether each frame of a gRPC player waits until the player has answered.
+     */
+    private boolean lockstepFlag;
+
+    /**
+     * The maximum time in milliseconds to wait for the input of a gRPC player in lockstep mode.
+     */
+    private long lockstepTimeout;
+
+    /**
+     * Compute budget accounting the time the AI spends processing each frame.
+     */
+    private ComputeBudget computeBudget;
+
+    /**
+     * Audio features declared by the AI on initialization.
+     */
+    private Set<AudioFeature> audioFeatures;
     
     //private List<Double> durations = new ArrayList<>();
 
@@ -87,17 +134,44 @@ public class AIController extends Thread {
     /**
      * Initializes with the provided parameters.
      *
-     * @param waitFrame    Synchronization object for starting each AI process
      * @param gameData     Instance of a class containing immutable game information such as screen width and max HP
      * @param playerNumber the character's side flag: {@code true} if P1, {@code false} if P2
      * @see GameData
      */
-    public void initialize(Object waitFrame, GameData gameData, boolean playerNumber) {
-        this.waitObj = waitFrame;
+    public void initialize(GameData gameData, boolean playerNumber) {
+        initialize(ThreadController.getInstance(), gameData, playerNumber, new MatchSetting());
+    }
+
+    /**
+     * Initializes with the provided parameters for a match that has its own thread controller.
+     *
+     * @param threadController thread controller of the match
+     * @param gameData         Instance of a class containing immutable game information such as screen width and max HP
+     * @param playerNumber     the character's side flag: {@code true} if P1, {@code false} if P2
+     * @param setting          settings of the match, giving whether the visual data is hidden from the AI, the
+     *                         delay of its frame data, its compute budget, the lockstep mode and whether the shared
+     *                         pool of threads is used
+     * @see GameData
+     */
+    public void initialize(ThreadController threadController, GameData gameData, boolean playerNumber,
+            MatchSetting setting) {
+        this.noVisual = setting.isNoVisual(playerNumber);
+        this.lockstepFlag = setting.isLockstepFlag();
+        this.lockstepTimeout = setting.getLockstepTimeout();
+        this.pooled = setting.isAiPoolFlag();
+        initialize(threadController, gameData, playerNumber, setting.getFrameDelay(playerNumber),
+                setting.createComputeBudget());
+    }
+
+    private void initialize(ThreadController threadController, GameData gameData, boolean playerNumber,
+            int frameDelay, ComputeBudget computeBudget) {
+        this.threadController = threadController;
+        this.computeBudget = computeBudget;
+        this.takenFrameCount = threadController.getDispatchedFrameCount(playerNumber);
         //this.gameData = gameData;
         this.playerNumber = playerNumber;
         this.key = new Key();
-        this.framesData = new LinkedList<FrameData>();
+        this.framesData = new FrameDelayQueue(frameDelay);
         this.clear();
         this.isFighting = true;
         this.isRoundEnd = false;
@@ -107,8 +181,9 @@ public class AIController extends Thread {
 //		try {
         if (this.deviceType == InputManager.DEVICE_TYPE_AI) {
         	this.ai.initialize(gameData, playerNumber);
+        	this.audioFeatures = declaredAudioFeatures();
         } else if (this.deviceType == InputManager.DEVICE_TYPE_GRPC) {
-        	this.grpc.initialize(gameData, playerNumber);
+        	this.grpc.initialize(gameData, playerNumber, this.lockstepFlag);
         }
 //			isInit = true;
 //		} catch (Py4JException e) {
@@ -116,58 +191,226 @@ public class AIController extends Thread {
 //			InputManager.getInstance().createAIcontroller();
 //		}
     }
-    
+
     public Key input() {
     	return this.key;
     }
+
+    /**
+     * Returns the compute budget accounting the time the AI spends processing each frame.
+     *
+     * @return the compute budget of the AI
+     */
+    public ComputeBudget getComputeBudget() {
+        return this.computeBudget;
+    }
+
+    /**
+     * Starts processing the frames dispatched to the AI.<br>
+     * If the settings of the match enable the shared pool of threads, each frame is processed by a task on the pool of threads shared by all
+     * the AI controllers, so that an AI waiting for a frame does not hold a thread. Otherwise the AI runs in its own
+     * thread.
+     *
+     * @see AIControllerPool
+     */
+    public void startProcessing() {
+        if (this.pooled) {
+            this.threadController.setDispatchListener(this.playerNumber, this::schedule);
+            if (this.threadController.getDispatchedFrameCount(this.playerNumber) != this.takenFrameCount) {
+                schedule();
+            }
+        } else {
+            start();
+        }
+    }
+
+    /**
+     * Waits until the AI has finished processing after the end of the match.
+     *
+     * @param timeout the maximum time to wait in milliseconds
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void awaitTermination(long timeout) throws InterruptedException {
+        if (!this.pooled) {
+            join(timeout);
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        synchronized (this.scheduledLock) {
+            while (this.scheduled.get()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this.scheduledLock, remaining);
+            }
+        }
+    }
     
     @Override
     public void run() {
         while (isFighting) {
-            synchronized (this.waitObj) {
-                try {
-                    this.waitObj.wait();
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
+            // a frame dispatched while the previous one was processed is taken at once
+            long dispatchedFrameCount = this.threadController.awaitFrame(this.playerNumber, this.takenFrameCount);
+            if (!isFighting) {
+                break;
             }
+            if (dispatchedFrameCount == this.takenFrameCount) {
+                // woken up or interrupted without a frame
+                Thread.interrupted();
+                continue;
+            }
+            this.takenFrameCount = dispatchedFrameCount;
 
-            if (isRoundEnd) {
-            	this.grpc.onRoundEnd(roundResult);
-            	this.isRoundEnd = false;
-            	this.roundResult = null;
-            } else {
-            	boolean isControl;
-
-                try {
-                    isControl = this.framesData.getLast().getCharacter(this.playerNumber).isControl();
-                } catch (NullPointerException e) {
-                    // while game is not started
-                    isControl = false;
-                }
+            processFrame();
+        }
+    }
 
-                FrameData frameData = !this.framesData.isEmpty() ? new FrameData(this.framesData.removeFirst()) : new FrameData();
-                
-                if (this.deviceType == InputManager.DEVICE_TYPE_AI) {
-                	this.ai.getInformation(frameData, isControl);
-        	        this.ai.getAudioData(this.audioData);
-        	        // screen raw data isn't provided to sound-only AI
-        	        if (!LaunchSetting.noVisual[this.playerNumber ? 0: 1]){
-        	            this.ai.getScreenData(this.screenData);
-        	        } else {
-        	        	frameData.removeVisualData();
-        	        }
-        	        
-        	        this.ai.processing();
-        	        this.setInput(this.ai.input());
-                } else if (this.deviceType == InputManager.DEVICE_TYPE_GRPC) {
-                	if (this.grpc.isReady()) {
-                		this.grpc.setInformation(isControl, frameData, audioData, screenData, this.framesData.getLast());
-                    	this.grpc.onGameUpdate();
-                	}
-                }
+    /**
+     * Gives the oldest frame data to the AI and lets it process the frame, then notifies the thread controller.<br>
+     * On the shared pool of threads, the end of a frame waiting for the input of a gRPC player in lockstep mode is
+     * deferred to {@link #resumeScheduled()} so that no thread is held while waiting.
+     *
+     * @return {@code false} if the end of the frame is deferred, otherwise {@code true}
+     */
+    private boolean processFrame() {
+        if (isRoundEnd) {
+        	this.grpc.onRoundEnd(roundResult);
+        	this.isRoundEnd = false;
+        	this.roundResult = null;
+        } else {
+        	boolean isControl;
+        	FrameData frameData;
+        	FrameData nonDelayFrameData;
+        	synchronized (this) {
+        		nonDelayFrameData = this.framesData.peekLast();
+        		frameData = this.framesData.poll();
+        	}
+
+            try {
+                isControl = nonDelayFrameData.getCharacter(this.playerNumber).isControl();
+            } catch (NullPointerException e) {
+                // while game is not started
+                isControl = false;
+            }
+
+            if (this.deviceType == InputManager.DEVICE_TYPE_AI && !this.computeBudget.isDisabled()) {
+            	this.computeBudget.start();
+            	// the frame data is shared with the other AI, so only a sound-only AI gets a copy
+            	if (this.noVisual) {
+            		frameData = frameData.withoutVisualData();
+            	}
+            	this.ai.getInformation(frameData, isControl);
+    	        this.ai.getAudioData(this.audioData);
+    	        // screen raw data isn't provided to sound-only AI
+    	        if (!this.noVisual){
+    	            this.ai.getScreenData(this.screenData);
+    	        }
+    	        
+    	        this.ai.processing();
+    	        Key input = this.ai.input();
+    	        if (!this.computeBudget.stop()) {
+    	            this.setInput(input);
+    	        } else {
+    	            applyBudgetPolicy(input);
+    	        }
+            } else if (this.deviceType == InputManager.DEVICE_TYPE_GRPC) {
+            	if (this.grpc.isReady()) {
+            		this.grpc.setInformation(isControl, frameData, audioData, screenData, nonDelayFrameData);
+                	this.grpc.onGameUpdate();
+            	}
+            	// In lockstep mode the frame ends when the player has answered
+            	if (this.lockstepFlag) {
+            		if (this.pooled) {
+            			this.grpc.awaitInput(this.lockstepTimeout, AIControllerPool.getInstance(), this::resumeScheduled);
+            			return false;
+            		}
+            		try {
+            			this.grpc.awaitInput(this.lockstepTimeout);
+            		} catch (InterruptedException e) {
+            			Thread.currentThread().interrupt();
+            		}
+            	}
+            }
+        }
+	        this.threadController.notifyEndProcess(this.playerNumber);
+	        return true;
+    }
+
+    /**
+     * Handles the input of a frame over budget according to the policy of the compute budget.
+     *
+     * @param input the input computed by the AI in the frame
+     */
+    private void applyBudgetPolicy(Key input) {
+        switch (this.computeBudget.getPolicy()) {
+            case NONE:
+                this.setInput(input);
+                break;
+            case SKIP_INPUT:
+                this.setInput(new Key());
+                break;
+            case REUSE_LAST_KEY:
+                // the key of the previous frame is input again
+                break;
+            case DISABLE:
+                // the match goes on with the character of the AI left without input
+                this.setInput(new Key());
+                Logger.getAnonymousLogger().log(Level.WARNING, String.format("P%s is disabled for the rest of the game: over the compute budget (%s)",
+                        this.playerNumber ? "1" : "2", this.computeBudget.summary()));
+                break;
+        }
+    }
+
+    /**
+     * Schedules the processing of the dispatched frames on the shared pool of threads, unless it is already scheduled.
+     */
+    private void schedule() {
+        if (this.scheduled.compareAndSet(false, true)) {
+            AIControllerPool.getInstance().execute(this::runScheduled);
+        }
+    }
+
+    /**
+     * Processes the last dispatched frame on the shared pool of threads, as {@link #run()} does in the own thread.
+     */
+    private void runScheduled() {
+        boolean deferred = false;
+        try {
+            long dispatchedFrameCount = this.threadController.getDispatchedFrameCount(this.playerNumber);
+            if (isFighting && dispatchedFrameCount != this.takenFrameCount) {
+                this.takenFrameCount = dispatchedFrameCount;
+                deferred = !processFrame();
             }
-	        ThreadController.getInstance().notifyEndProcess(this.playerNumber);
+        } finally {
+            // a deferred frame stays scheduled until it is resumed
+            if (!deferred) {
+                endScheduled();
+            }
+        }
+    }
+
+    /**
+     * Ends a frame whose end was deferred by {@link #processFrame()} on the shared pool of threads.
+     */
+    private void resumeScheduled() {
+        try {
+            this.threadController.notifyEndProcess(this.playerNumber);
+        } finally {
+            endScheduled();
+        }
+    }
+
+    private void endScheduled() {
+        synchronized (this.scheduledLock) {
+            this.scheduled.set(false);
+            this.scheduledLock.notifyAll();
+        }
+
+        // a frame dispatched while the previous one was processed
+        if (isFighting && this.threadController.getDispatchedFrameCount(this.playerNumber) != this.takenFrameCount) {
+            schedule();
         }
     }
 
@@ -197,21 +440,14 @@ public class AIController extends Thread {
 
     /**
      * Sets frame data after a match process.<br>
-     * If the list size is greater than DELAY, removes the oldest frame data.
+     * If the queue is full, removes the oldest frame data.<br>
+     * The frame data is kept by reference and must not be modified afterwards.
      *
      * @param fd Frame data after a match process
      * @see FrameData
      */
     public synchronized void setFrameData(FrameData fd) {
-        if (fd != null) {
-            this.framesData.addLast(fd);
-        } else {
-            this.framesData.addLast(new FrameData());
-        }
-
-        while (this.framesData.size() > DELAY) {
-            this.framesData.removeFirst();
-        }
+        this.framesData.push(fd);
     }
 
     /**
@@ -229,16 +465,42 @@ public class AIController extends Thread {
     }
 
     /**
-     * Clears the stored frame data in the list.<br>
-     * Then adds DELAY-1 empty frame data to the list.
+     * Returns the audio features used by the AI, which are computed in advance in each frame.<br>
+     * An AI implementing {@link AIInterface} uses the features it declares with
+     * {@link AIInterface#getAudioFeatures()}, while a gRPC player uses the features requested on initialization.
+     *
+     * @return the audio features used by the AI
+     */
+    public Set<AudioFeature> getAudioFeatures() {
+        if (this.deviceType == InputManager.DEVICE_TYPE_GRPC) {
+            return this.grpc.getAudioFeatures();
+        }
+        if (this.audioFeatures == null || this.computeBudget.isDisabled()) {
+            return EnumSet.noneOf(AudioFeature.class);
+        }
+        return this.audioFeatures;
+    }
+
+    /**
+     * Returns the audio features declared by the AI.<br>
+     * An AI implemented in Python may not define the method, in which case no feature is computed in advance.
+     */
+    private Set<AudioFeature> declaredAudioFeatures() {
+        try {
+            Set<AudioFeature> features = this.ai.getAudioFeatures();
+            return features == null || features.isEmpty() ? EnumSet.noneOf(AudioFeature.class) : EnumSet.copyOf(features);
+        } catch (RuntimeException e) {
+            return EnumSet.noneOf(AudioFeature.class);
+        }
+    }
+
+    /**
+     * Clears the stored frame data in the queue.<br>
+     * Then fills the queue with empty frame data.
      */
     public synchronized void clear() {
         if (this.framesData != null) {
             this.framesData.clear();
-
-            while (this.framesData.size() < DELAY) {
-                this.framesData.add(new FrameData());
-            }
         }
     }
     
@@ -264,9 +526,15 @@ public class AIController extends Thread {
         this.isFighting = false;
         if (this.deviceType == InputManager.DEVICE_TYPE_AI) {
             this.ai.close();
+            if (this.computeBudget.isEnabled()) {
+                Logger.getAnonymousLogger().log(Level.INFO, String.format("P%s compute time: %s",
+                        this.playerNumber ? "1" : "2", this.computeBudget.summary()));
+            }
     	}
-        synchronized (this.waitObj) {
-            this.waitObj.notifyAll();
+        if (this.pooled) {
+            this.threadController.setDispatchListener(this.playerNumber, null);
+        } else {
+            this.threadController.wakeUpAI(this.playerNumber);
         }
     }
 }
@@ -0,0 +1,92 @@
+package aiinterface;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import setting.FlagSetting;
+import setting.LaunchSetting;
+import setting.MatchSetting;
+
+/**
+ * Pool of threads shared by the AI controllers of the matches whose settings enable it
+ * ({@link MatchSetting#isAiPoolFlag()}, set by {@link FlagSetting#aiPoolFlag} by default).<br>
+ * Instead of running in its own thread that waits for each frame, an AI controller then processes each frame
+ * dispatched to it in a task on this pool, so the number of threads does not grow with the number of matches run at
+ * the same time. The tasks of a controller never run concurrently, and a controller holds no thread between frames.
+ * A controller waiting for an event with a time limit, such as the input of a gRPC player in lockstep mode, does not
+ * hold a thread either: it is resumed by a task run on this pool when the event occurs or by {@link #schedule(Runnable,
+ * long)} when the time runs out.
+ */
+public class AIControllerPool implements Executor {
+
+	/**
+	 * Pool of the threads.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Single thread submitting the tasks scheduled after a delay to {@link #executor}.
+	 */
+	private final ScheduledExecutorService timer;
+
+	/**
+	 * Class constructor, creating {@link LaunchSetting#aiPoolSize} threads.
+	 */
+	private AIControllerPool() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(LaunchSetting.aiPoolSize, runnable -> {
+			Thread thread = new Thread(runnable, "AIController-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "AIController-timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Get the sole instance of the AIControllerPool class.
+	 *
+	 * @return The sole instance of the AIControllerPool class
+	 */
+	public static AIControllerPool getInstance() {
+		return AIControllerPoolHolder.instance;
+	}
+
+	private static class AIControllerPoolHolder {
+		private static final AIControllerPool instance = new AIControllerPool();
+	}
+
+	/**
+	 * Runs the processing of a frame by an AI controller on one of the threads.
+	 *
+	 * @param task
+	 *            The processing of a frame
+	 */
+	@Override
+	public void execute(Runnable task) {
+		this.executor.execute(task);
+	}
+
+	/**
+	 * Runs a task on one of the threads after a delay.
+	 *
+	 * @param task
+	 *            The task
+	 * @param delay
+	 *            The delay in milliseconds
+	 *
+	 * @return The future of the scheduling, which can be cancelled before the task is submitted to the threads
+	 */
+	public ScheduledFuture<?> schedule(Runnable task, long delay) {
+		return this.timer.schedule(() -> execute(task), delay, TimeUnit.MILLISECONDS);
+	}
+
+}
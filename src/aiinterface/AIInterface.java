@@ -1,5 +1,9 @@
 package aiinterface;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+import enumerate.AudioFeature;
 import struct.*;
 
 /**
@@ -108,4 +112,18 @@ public interface AIInterface {
 	default void getAudioData(AudioData ad){
 
 	};
+
+	/**
+	 * Declares the audio features used by the AI. It is called once after
+	 * {@link #initialize(GameData, boolean)}.<br>
+	 * The declared features are computed in advance on worker threads in
+	 * each frame. Any other feature of the audio data is still available, but
+	 * is computed when the AI first reads it, during its own processing.
+	 *
+	 * @return the audio features used by the AI, none by default
+	 * @see AudioData
+	 */
+	default Set<AudioFeature> getAudioFeatures() {
+		return EnumSet.noneOf(AudioFeature.class);
+	}
 }
@@ -1,5 +1,6 @@
 package aiinterface;
 
+import java.nio.ByteBuffer;
 import java.util.Deque;
 import java.util.LinkedList;
 
@@ -18,9 +19,11 @@ public class CommandCenter {
 	private LinkedList<Key> skillKey;
 
 	/**
-	 * The frame data storing the information from the game status.
+	 * The character's facing direction taken from the frame data passed to
+	 * {@link #setFrameData(FrameData, boolean)}.<br>
+	 * {@code true} if the character is facing right, {@code false} otherwise.
 	 */
-	private FrameData frameData;
+	private boolean front;
 
 	/**
 	 * The character's side flag.<br>
@@ -33,7 +36,7 @@ public class CommandCenter {
 	 */
 	public CommandCenter() {
 		this.skillKey = new LinkedList<Key>();
-		this.frameData = new FrameData();
+		this.front = false;
 		this.playerNumber = true;
 	}
 
@@ -198,7 +201,7 @@ public class CommandCenter {
 	private void createKeys(String str) {
 		Key buf;
 		String[] commands = str.split(" ");
-		if (!this.frameData.isFront(playerNumber)){
+		if (!this.front){
 			commands = reverseKey(commands);
 		}
 
@@ -243,7 +246,9 @@ public class CommandCenter {
 	}
 
 	/**
-	 * Sets the current frame data and the boolean variable representing P1 and P2.
+	 * Sets the current frame data and the boolean variable representing P1 and P2.<br>
+	 * Only the facing direction of the character is read from the frame data;
+	 * no reference to it is kept.
 	 *
 	 * @param frameData
 	 *            the current frame data
@@ -252,7 +257,7 @@ public class CommandCenter {
 	 *            {@code true} if the character is P1, or {@code false} if P2.
 	 */
 	public void setFrameData(FrameData frameData, boolean playerNumber) {
-		this.frameData = frameData;
+		this.front = frameData.isFront(playerNumber);
 		this.playerNumber = playerNumber;
 	}
 
@@ -295,6 +300,38 @@ public class CommandCenter {
 		this.skillKey.clear();
 	}
 
+	/**
+	 * Writes the list of keys waiting to be executed to the buffer.
+	 *
+	 * @param buffer
+	 *            the buffer to write to
+	 * @see #restoreState(ByteBuffer)
+	 */
+	public void saveState(ByteBuffer buffer) {
+		Key.writeKeys(buffer, this.skillKey);
+	}
+
+	/**
+	 * Replaces the list of keys waiting to be executed with keys written by
+	 * {@link #saveState(ByteBuffer)}.
+	 *
+	 * @param buffer
+	 *            the buffer to read from
+	 */
+	public void restoreState(ByteBuffer buffer) {
+		Key.readKeys(buffer, this.skillKey);
+	}
+
+	/**
+	 * Returns the number of bytes written by {@link #saveState(ByteBuffer)}
+	 * for the current state.
+	 *
+	 * @return the number of bytes
+	 */
+	public int getStateSize() {
+		return Key.getKeysSize(this.skillKey);
+	}
+
 	/**
 	 * Returns the character's side flag.
 	 *
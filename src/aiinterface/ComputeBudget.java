@@ -0,0 +1,317 @@
+package aiinterface;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+import enumerate.BudgetPolicy;
+
+/**
+ * Class that accounts the time an AI spends processing each frame and checks it against the compute budget.<br>
+ * Both the wall time and the CPU time of the thread processing the frame are measured. The CPU time does not include
+ * the time the thread waited for a processor used by the other AI or the game, so it is the fair measure of the
+ * computation of an AI, while the wall time also includes the time the AI blocked, which delays the game as well.
+ * A frame is over budget if either time exceeds its limit, and the input of the AI is then handled according to the
+ * {@link BudgetPolicy}. The processing of a frame cannot be interrupted, so the budget decides only what is done with
+ * the input computed too late.<br>
+ * The measures are recorded by the thread processing the frames and may be read by another thread.
+ */
+public class ComputeBudget {
+
+	/**
+	 * Bean measuring the CPU time of the current thread, or {@code null} if the JVM does not support it.
+	 */
+	private static final ThreadMXBean CPU_TIMER = cpuTimer();
+
+	/**
+	 * The maximum CPU time per frame in nanoseconds, or 0 for no limit.
+	 */
+	private final long cpuLimit;
+
+	/**
+	 * The maximum wall time per frame in nanoseconds, or 0 for no limit.
+	 */
+	private final long wallLimit;
+
+	private final BudgetPolicy policy;
+
+	private final Histogram wallTime;
+
+	private final Histogram cpuTime;
+
+	/**
+	 * The number of frames over budget.
+	 */
+	private long overruns;
+
+	/**
+	 * Flag indicating whether the AI is disabled for the rest of the game by exceeding the budget.
+	 */
+	private volatile boolean disabled;
+
+	private long wallStart;
+
+	private long cpuStart;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param cpuLimit
+	 *            The maximum CPU time per frame in nanoseconds, or 0 for no limit
+	 * @param wallLimit
+	 *            The maximum wall time per frame in nanoseconds, or 0 for no limit
+	 * @param policy
+	 *            What is done with the input of a frame over budget
+	 */
+	public ComputeBudget(long cpuLimit, long wallLimit, BudgetPolicy policy) {
+		if (cpuLimit < 0 || wallLimit < 0) {
+			throw new IllegalArgumentException("The compute budget must not be negative: " + cpuLimit + ", " + wallLimit);
+		}
+
+		this.cpuLimit = cpuLimit;
+		this.wallLimit = wallLimit;
+		this.policy = policy;
+		this.wallTime = new Histogram();
+		this.cpuTime = new Histogram();
+	}
+
+	public BudgetPolicy getPolicy() {
+		return this.policy;
+	}
+
+	/**
+	 * Returns whether a budget is set, that is a limit or a policy other than {@link BudgetPolicy#NONE}.
+	 *
+	 * @return {@code true} if a budget is set
+	 */
+	public boolean isEnabled() {
+		return this.cpuLimit > 0 || this.wallLimit > 0 || this.policy != BudgetPolicy.NONE;
+	}
+
+	/**
+	 * Starts measuring the processing of a frame.<br>
+	 * Called by the thread processing the frame.
+	 */
+	public void start() {
+		this.cpuStart = currentThreadCpuTime();
+		this.wallStart = System.nanoTime();
+	}
+
+	/**
+	 * Stops measuring the processing of the frame, records its times and checks them against the budget.<br>
+	 * Called by the thread that has called {@link #start()}. If the frame is over budget and the policy is
+	 * {@link BudgetPolicy#DISABLE}, the AI is disabled for the rest of the game.
+	 *
+	 * @return {@code true} if the frame is over budget
+	 */
+	public boolean stop() {
+		long wall = System.nanoTime() - this.wallStart;
+		long cpuEnd = currentThreadCpuTime();
+		long cpu = this.cpuStart < 0 || cpuEnd < 0 ? -1 : cpuEnd - this.cpuStart;
+
+		boolean over = (this.wallLimit > 0 && wall > this.wallLimit) || (this.cpuLimit > 0 && cpu > this.cpuLimit);
+		synchronized (this) {
+			this.wallTime.record(wall);
+			if (cpu >= 0) {
+				this.cpuTime.record(cpu);
+			}
+			if (over) {
+				this.overruns++;
+			}
+		}
+		if (over && this.policy == BudgetPolicy.DISABLE) {
+			this.disabled = true;
+		}
+		return over;
+	}
+
+	/**
+	 * Returns whether the AI is disabled for the rest of the game by exceeding the budget.
+	 *
+	 * @return {@code true} if the AI is no longer processed
+	 */
+	public boolean isDisabled() {
+		return this.disabled;
+	}
+
+	/**
+	 * Returns the number of frames over budget so far.
+	 *
+	 * @return the number of frames over budget
+	 */
+	public synchronized long getOverruns() {
+		return this.overruns;
+	}
+
+	/**
+	 * Returns a copy of the histogram of the wall time per frame.
+	 *
+	 * @return the histogram of the wall time
+	 */
+	public synchronized Histogram getWallTime() {
+		return new Histogram(this.wallTime);
+	}
+
+	/**
+	 * Returns a copy of the histogram of the CPU time per frame, which is empty if the JVM cannot measure it.
+	 *
+	 * @return the histogram of the CPU time
+	 */
+	public synchronized Histogram getCpuTime() {
+		return new Histogram(this.cpuTime);
+	}
+
+	/**
+	 * Returns a one-line summary of the times recorded so far.
+	 *
+	 * @return the summary
+	 */
+	public synchronized String summary() {
+		return String.format(Locale.ROOT, "%d frames, wall %s, CPU %s, %d over budget (%s)", this.wallTime.getCount(),
+				this.wallTime, this.cpuTime.getCount() > 0 ? this.cpuTime.toString() : "n/a", this.overruns,
+				this.disabled ? "disabled" : this.policy);
+	}
+
+	private static long currentThreadCpuTime() {
+		return CPU_TIMER == null ? -1 : CPU_TIMER.getCurrentThreadCpuTime();
+	}
+
+	private static ThreadMXBean cpuTimer() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!threads.isCurrentThreadCpuTimeSupported()) {
+			return null;
+		}
+		try {
+			if (!threads.isThreadCpuTimeEnabled()) {
+				threads.setThreadCpuTimeEnabled(true);
+			}
+		} catch (UnsupportedOperationException e) {
+			return null;
+		}
+		return threads;
+	}
+
+	/**
+	 * Histogram of times with buckets of powers of two microseconds, so that recording a time allocates nothing and
+	 * a percentile is known within a factor of two, along with the exact mean and maximum.
+	 */
+	public static class Histogram {
+
+		/**
+		 * The number of buckets. Bucket 0 holds the times below 1 microsecond, bucket i the times from 2^(i-1) up to
+		 * 2^i microseconds, and the last bucket also the longer times.
+		 */
+		private static final int BUCKETS = 24;
+
+		private final long[] counts;
+
+		private long count;
+
+		private long total;
+
+		private long max;
+
+		private Histogram() {
+			this.counts = new long[BUCKETS];
+		}
+
+		private Histogram(Histogram histogram) {
+			this.counts = histogram.counts.clone();
+			this.count = histogram.count;
+			this.total = histogram.total;
+			this.max = histogram.max;
+		}
+
+		private void record(long nanos) {
+			long micros = nanos / 1000;
+			int bucket = micros == 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+			this.counts[Math.min(bucket, BUCKETS - 1)]++;
+			this.count++;
+			this.total += nanos;
+			this.max = Math.max(this.max, nanos);
+		}
+
+		/**
+		 * Returns the number of recorded times.
+		 *
+		 * @return the number of recorded times
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Returns the number of recorded times in the specified bucket.
+		 *
+		 * @param bucket
+		 *            The index of the bucket, from 0 to {@link #getBucketCount()} - 1
+		 *
+		 * @return the number of recorded times in the bucket
+		 */
+		public long getCount(int bucket) {
+			return this.counts[bucket];
+		}
+
+		public int getBucketCount() {
+			return BUCKETS;
+		}
+
+		/**
+		 * Returns the upper bound of the specified bucket.
+		 *
+		 * @param bucket
+		 *            The index of the bucket, from 0 to {@link #getBucketCount()} - 1
+		 *
+		 * @return the upper bound in nanoseconds, or {@link Long#MAX_VALUE} for the last bucket
+		 */
+		public long getUpperBound(int bucket) {
+			return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) * 1000;
+		}
+
+		/**
+		 * Returns the mean of the recorded times.
+		 *
+		 * @return the mean in nanoseconds, or 0 if no time is recorded
+		 */
+		public double getMean() {
+			return this.count == 0 ? 0 : (double) this.total / this.count;
+		}
+
+		/**
+		 * Returns the maximum of the recorded times.
+		 *
+		 * @return the maximum in nanoseconds
+		 */
+		public long getMax() {
+			return this.max;
+		}
+
+		/**
+		 * Returns an upper bound of the specified percentile of the recorded times, which is the upper bound of the
+		 * bucket holding it or the maximum if lower.
+		 *
+		 * @param percentile
+		 *            The percentile, from 0 to 100
+		 *
+		 * @return the upper bound of the percentile in nanoseconds, or 0 if no time is recorded
+		 */
+		public long getPercentile(double percentile) {
+			long rank = (long) Math.ceil(this.count * percentile / 100);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += this.counts[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min(getUpperBound(i), this.max);
+				}
+			}
+			return this.max;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "mean %.3f ms, p50 %.3f ms, p99 %.3f ms, max %.3f ms", getMean() / 1e6,
+					getPercentile(50) / 1e6, getPercentile(99) / 1e6, this.max / 1e6);
+		}
+	}
+
+}
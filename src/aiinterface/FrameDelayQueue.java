@@ -0,0 +1,119 @@
+package aiinterface;
+
+import struct.FrameData;
+
+/**
+ * Fixed-capacity ring buffer of the frame data of the last frames, which delays the frame data given to an AI.<br>
+ * The queue holds the frame data of the current frame and of the delayed frames, so that after the frame data of the
+ * current frame is pushed, the oldest frame data is the one pushed that many frames before.<br>
+ * The frame data are held by reference: a frame data is not modified once created, so the same instance can be shared
+ * by both AIs and the engine. The queue is not thread-safe.
+ */
+public class FrameDelayQueue {
+
+	/**
+	 * Empty frame data filling the queue at the start of a round, shared by all the queues.
+	 */
+	private static final FrameData EMPTY_FRAME = new FrameData();
+
+	/**
+	 * The frame data, the oldest at {@link #head}.
+	 */
+	private final FrameData[] frames;
+
+	/**
+	 * Index of the oldest frame data.
+	 */
+	private int head;
+
+	/**
+	 * Number of frame data in the queue.
+	 */
+	private int size;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param delay
+	 *            the number of frames the frame data are delayed by, or 0 to give the frame data of the current frame
+	 */
+	public FrameDelayQueue(int delay) {
+		if (delay < 0) {
+			throw new IllegalArgumentException("The frame delay must not be negative: " + delay);
+		}
+		this.frames = new FrameData[delay + 1];
+	}
+
+	/**
+	 * Returns the number of frames the frame data are delayed by.
+	 *
+	 * @return the capacity of the queue minus one
+	 */
+	public int getDelay() {
+		return this.frames.length - 1;
+	}
+
+	/**
+	 * Adds the frame data of the current frame, discarding the oldest frame data if the queue is full.
+	 *
+	 * @param frameData
+	 *            the frame data of the current frame, or {@code null} for an empty frame
+	 */
+	public void push(FrameData frameData) {
+		FrameData frame = frameData != null ? frameData : EMPTY_FRAME;
+		if (this.size < this.frames.length) {
+			this.frames[(this.head + this.size) % this.frames.length] = frame;
+			this.size++;
+		} else {
+			this.frames[this.head] = frame;
+			this.head = (this.head + 1) % this.frames.length;
+		}
+	}
+
+	/**
+	 * Removes and returns the oldest frame data.
+	 *
+	 * @return the oldest frame data, or an empty frame data if the queue is empty
+	 */
+	public FrameData poll() {
+		if (this.size == 0) {
+			return EMPTY_FRAME;
+		}
+
+		FrameData frame = this.frames[this.head];
+		this.frames[this.head] = null;
+		this.head = (this.head + 1) % this.frames.length;
+		this.size--;
+		return frame;
+	}
+
+	/**
+	 * Returns the oldest frame data without removing it.
+	 *
+	 * @return the oldest frame data, or an empty frame data if the queue is empty
+	 */
+	public FrameData peekFirst() {
+		return this.size == 0 ? EMPTY_FRAME : this.frames[this.head];
+	}
+
+	/**
+	 * Returns the frame data of the current frame without removing it.
+	 *
+	 * @return the newest frame data, or {@code null} if the queue is empty
+	 */
+	public FrameData peekLast() {
+		return this.size == 0 ? null : this.frames[(this.head + this.size - 1) % this.frames.length];
+	}
+
+	/**
+	 * Fills the queue with empty frame data, so that the frame data of the first frames of a round are also delayed.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.frames.length; i++) {
+			this.frames[i] = EMPTY_FRAME;
+		}
+		this.head = 0;
+		this.size = this.frames.length;
+	}
+
+}
@@ -1,7 +1,16 @@
 package aiinterface;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 /**
- * Class that handles thread-related processes such as AI execution timing.
+ * Class that handles thread-related processes such as AI execution timing.<br>
+ * The frames are handed to each AI through a slot holding the number of frames dispatched to it, which the AI
+ * compares with the number of frames it has taken, and the end of the processing of both AIs is counted in the same
+ * way. A waiting thread spins for a short time before parking, so the handoff takes no lock and a frame dispatched
+ * while the AI is still busy is not lost.
  */
 public class ThreadController {
 
@@ -11,41 +20,52 @@ public class ThreadController {
 	private static ThreadController threadController = new ThreadController();
 
 	/**
-     * Object managing the start timing of P1's AI processing.
+     * Time spent spinning before parking a waiting thread, in nanoseconds.<br>
+     * A waiting thread does not spin on a single processor, where it would only delay the thread it waits for.
+     */
+	private static final long SPIN_NANOS = Runtime.getRuntime().availableProcessors() > 1
+			? TimeUnit.MICROSECONDS.toNanos(50) : 0;
+
+	/**
+     * Bit of {@link #processed} set when P1's AI processing is complete.
      */
-	private Object AI1;
+	private static final int PROCESSED_AI1 = 1;
 
 	/**
-     * Object managing the start timing of P2's AI processing.
+     * Bit of {@link #processed} set when P2's AI processing is complete.
      */
-	private Object AI2;
+	private static final int PROCESSED_AI2 = 2;
 
 	/**
-     * Flag indicating whether P1's AI processing is complete.<br>
-     * Used only in Fastmode.
+     * Slot managing the start timing of P1's AI processing.
      */
-	private boolean processedAI1;
+	private final FrameSlot AI1;
 
 	/**
-     * Flag indicating whether P2's AI processing is complete.<br>
-     * Used only in Fastmode.
+     * Slot managing the start timing of P2's AI processing.
      */
-	private boolean processedAI2;
+	private final FrameSlot AI2;
 
 	/**
-     * Synchronization object for starting each AI process simultaneously.
+     * Bits of the AIs that have finished processing the current frame.
      */
-	private Object endFrame;
+	private final AtomicInteger processed;
 
 	/**
-     * Class constructor to initialize field variables.
+     * Slot counting the frames processed by both AIs so far, waited for by the game thread.
      */
-	private ThreadController() {
-		this.AI1 = new Object();
-		this.AI2 = new Object();
-		this.endFrame = new Object();
+	private final FrameSlot endFrame;
 
-		resetProcessedFlag();
+	/**
+     * Class constructor to initialize field variables.<br>
+     * The main game uses the sole instance returned by {@link #getInstance()}, while each match run
+     * alongside it creates its own instance.
+     */
+	public ThreadController() {
+		this.AI1 = new FrameSlot();
+		this.AI2 = new FrameSlot();
+		this.processed = new AtomicInteger();
+		this.endFrame = new FrameSlot();
 	}
 
 	/**
@@ -61,76 +81,192 @@ public class ThreadController {
      * Resume processing for each AI.
      */
 	public void resetAllAIsObj() {
-		synchronized (this.AI1) {
-			this.AI1.notifyAll();
-		}
-		synchronized (this.AI2) {
-			this.AI2.notifyAll();
-		}
+		this.AI1.advance();
+		this.AI2.advance();
+	}
+
+	/**
+     * Wake up the AI of the specified character without dispatching a frame, so that it can notice the end of
+     * the game.
+     *
+     * @param playerNumber
+     *            The character's side flag: {@code true} if P1, {@code false} if P2.
+     */
+	public void wakeUpAI(boolean playerNumber) {
+		getSlot(playerNumber).wakeUp();
 	}
 
 	/**
-     * Return the synchronization object for the specified character.
+     * Set the listener called after a frame is dispatched to the AI of the specified character or the AI is woken
+     * up, for an AI processed on a shared pool of threads instead of waiting in its own thread.
      *
      * @param playerNumber
      *            The character's side flag: {@code true} if P1, {@code false} if P2.
+     * @param listener
+     *            The listener, or {@code null} to remove it
+     */
+	public void setDispatchListener(boolean playerNumber, Runnable listener) {
+		getSlot(playerNumber).listener = listener;
+	}
+
+	/**
+     * Get the number of frames dispatched to the AI of the specified character so far.
      *
-     * @return The synchronization object for the specified character
+     * @param playerNumber
+     *            The character's side flag: {@code true} if P1, {@code false} if P2.
+     *
+     * @return The number of frames dispatched to the AI
      */
-	public Object getAIsObject(boolean playerNumber) {
-		if (playerNumber)
-			return this.AI1;
-		else
-			return this.AI2;
+	public long getDispatchedFrameCount(boolean playerNumber) {
+		return getSlot(playerNumber).get();
 	}
 
 	/**
-     * Get the object indicating the completion of one frame of game processing.
+     * Wait until a frame is dispatched to the AI of the specified character or the AI is woken up.<br>
+     * Called only by the thread of the AI.
+     *
+     * @param playerNumber
+     *            The character's side flag: {@code true} if P1, {@code false} if P2.
+     * @param takenFrameCount
+     *            The number of dispatched frames the AI has already taken
      *
-     * @return The object indicating the completion of one frame of game processing.
+     * @return The number of frames dispatched to the AI so far, which is equal to {@code takenFrameCount} if the AI
+     *         has been woken up or interrupted without a frame
      */
-	public Object getEndFrame() {
-		return this.endFrame;
+	public long awaitFrame(boolean playerNumber, long takenFrameCount) {
+		FrameSlot slot = getSlot(playerNumber);
+		slot.await(takenFrameCount, Long.MAX_VALUE);
+		return slot.get();
 	}
 
 	/**
-     * Reset the flag indicating whether each AI's processing is complete to {@code false}.<br>
-     * Used only in Fastmode.
+     * Get the number of frames processed by both AIs so far.<br>
+     * Read before resuming the AIs and passed to {@link #awaitEndFrame(long, long)}.
+     *
+     * @return The number of frames processed by both AIs
      */
-	private void resetProcessedFlag() {
-		this.processedAI1 = false;
-		this.processedAI2 = false;
+	public long getEndFrameCount() {
+		return this.endFrame.get();
+	}
+
+	/**
+     * Wait until both AIs have finished processing a frame after the specified count.<br>
+     * Called only by the thread running the game.
+     *
+     * @param endFrameCount
+     *            The number of frames processed by both AIs, read before resuming the AIs
+     * @param timeout
+     *            The maximum time to wait, in milliseconds
+     *
+     * @return {@code true} if both AIs have finished processing, {@code false} if the time has run out or the
+     *         thread has been interrupted
+     */
+	public boolean awaitEndFrame(long endFrameCount, long timeout) {
+		return this.endFrame.await(endFrameCount, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
 	}
 
 	/**
      * Set the flag indicating the completion of one frame of processing for the specified character.<br>
-     * After setting, check whether both AIs have finished processing.<br>
-     * Used only in Fastmode.
+     * After setting, check whether both AIs have finished processing, and if so, count the frame and wake up the
+     * game thread.
      *
      * @param playerNumber
      *            The character's side flag: {@code true} if P1, {@code false} if P2.
      */
-	synchronized public void notifyEndProcess(boolean playerNumber) {
-		if (playerNumber) {
-			this.processedAI1 = true;
-		} else {
-			this.processedAI2 = true;
+	public void notifyEndProcess(boolean playerNumber) {
+		int bit = playerNumber ? PROCESSED_AI1 : PROCESSED_AI2;
+		int bits = this.processed.accumulateAndGet(bit,
+				(previous, b) -> (previous | b) == (PROCESSED_AI1 | PROCESSED_AI2) ? 0 : previous | b);
+		if (bits == 0) {
+			this.endFrame.advance();
 		}
-		this.checkEndFrame();
+	}
+
+	private FrameSlot getSlot(boolean playerNumber) {
+		return playerNumber ? this.AI1 : this.AI2;
 	}
 
 	/**
-     * Check whether both AIs have finished processing for the current frame.<br>
-     * If both have finished, start processing for the next frame.<br>
-     * Used only in Fastmode.
+     * Counter written by one thread and waited for by another, which spins for a short time and then parks.
      */
-	private void checkEndFrame() {
-		if (this.processedAI1 && this.processedAI2) {
-			synchronized (this.endFrame) {
-				this.endFrame.notifyAll();
+	private static class FrameSlot {
+
+		private final AtomicLong count = new AtomicLong();
+
+		/**
+         * The thread waiting for the counter, or {@code null}.
+         */
+		private volatile Thread waiter;
+
+		/**
+         * Set when the waiter is woken up without advancing the counter, and cleared by the waiter.
+         */
+		private volatile boolean wokenUp;
+
+		/**
+         * Called after the counter is advanced or the waiter is woken up, or {@code null}.
+         */
+		private volatile Runnable listener;
+
+		private long get() {
+			return this.count.get();
+		}
+
+		private void advance() {
+			this.count.incrementAndGet();
+			unparkWaiter();
+		}
+
+		private void wakeUp() {
+			this.wokenUp = true;
+			unparkWaiter();
+		}
+
+		private void unparkWaiter() {
+			Thread thread = this.waiter;
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+			Runnable listener = this.listener;
+			if (listener != null) {
+				listener.run();
+			}
+		}
+
+		/**
+         * Wait until the counter differs from the specified value, the waiter is woken up or interrupted, or the
+         * deadline passes. The interrupt status of the waiter is kept.
+         *
+         * @return {@code true} if the counter differs from the specified value
+         */
+		private boolean await(long value, long deadline) {
+			long spinDeadline = System.nanoTime() + SPIN_NANOS;
+			while (this.count.get() == value && !this.wokenUp) {
+				if (System.nanoTime() - spinDeadline >= 0) {
+					break;
+				}
+				Thread.onSpinWait();
+			}
+
+			// the waiter is published before the counter is checked again, so an advance cannot be missed
+			this.waiter = Thread.currentThread();
+			try {
+				while (this.count.get() == value && !this.wokenUp && !Thread.currentThread().isInterrupted()) {
+					if (deadline == Long.MAX_VALUE) {
+						LockSupport.park(this);
+					} else {
+						long remaining = deadline - System.nanoTime();
+						if (remaining <= 0) {
+							break;
+						}
+						LockSupport.parkNanos(this, remaining);
+					}
+				}
+			} finally {
+				this.waiter = null;
+				this.wokenUp = false;
 			}
-			this.processedAI1 = false;
-			this.processedAI2 = false;
+			return this.count.get() != value;
 		}
 	}
 
@@ -3,10 +3,18 @@ package core;
 import java.awt.Font;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import aiinterface.AIInterface;
 import enumerate.BackgroundType;
+import enumerate.BudgetPolicy;
 import enumerate.GameSceneName;
 import gamescene.Grpc;
 import gamescene.HomeMenu;
@@ -15,6 +23,7 @@ import gamescene.Python;
 import grpc.GrpcServer;
 import image.LetterImage;
 import informationcontainer.AIContainer;
+import informationcontainer.RoundResult;
 import loader.ResourceLoader;
 import manager.GameManager;
 import manager.GraphicManager;
@@ -22,6 +31,7 @@ import manager.InputManager;
 import setting.FlagSetting;
 import setting.GameSetting;
 import setting.LaunchSetting;
+import setting.MatchSetting;
 import setting.ResourceSetting;
 import util.DeleteFiles;
 
@@ -107,6 +117,12 @@ public class Game extends GameManager {
                 //  FlagSetting.muteFlag = true;
                     FlagSetting.automationFlag = true;
                     break;
+                case "--headless":
+                    FlagSetting.headlessFlag = true;
+                    FlagSetting.enableWindow = false;
+                    FlagSetting.fastModeFlag = true;
+                    FlagSetting.automationFlag = true;
+                    break;
                 case "--fastmode":
                     FlagSetting.fastModeFlag = true;
                     FlagSetting.automationFlag = true;
@@ -159,6 +175,73 @@ public class Game extends GameManager {
                 	FlagSetting.grpc = true;
                 	FlagSetting.grpcAuto = true;
                 	break;
+                case "--async-screen":
+                    FlagSetting.asyncScreenCaptureFlag = true;
+                    break;
+                case "--gpu-screen":
+                    // --gpu-screen 96 64 -> render the screen given to the AIs at 96x64
+                    FlagSetting.gpuScreenScaleFlag = true;
+                    LaunchSetting.scaledScreenSize[0] = Integer.parseInt(options[++i]);
+                    LaunchSetting.scaledScreenSize[1] = Integer.parseInt(options[++i]);
+                    break;
+                case "--lockstep":
+                    // --lockstep 1000 -> wait up to 1 second for the input of each gRPC player
+                    FlagSetting.lockstepFlag = true;
+                    LaunchSetting.lockstepTimeout = Long.parseLong(options[++i]);
+                    break;
+                case "--streaming-spectrogram":
+                    // --streaming-spectrogram 100 -> give the AIs the spectrogram of the last 100 STFT frames
+                    FlagSetting.streamingSpectrogramFlag = true;
+                    LaunchSetting.streamingSpectrogramFrames = Integer.parseInt(options[++i]);
+                    break;
+                case "--software-audio":
+                    FlagSetting.softwareAudioFlag = true;
+                    break;
+                case "--frame-delay":
+                    // --frame-delay P1_DELAY P2_DELAY -> give the AIs the frame data of that many frames before,
+                    // 0 for the frame data of the current frame
+                    LaunchSetting.frameDelay[0] = parseDelay("--frame-delay", options[++i]);
+                    LaunchSetting.frameDelay[1] = parseDelay("--frame-delay", options[++i]);
+                    break;
+                case "--action-delay":
+                    // --action-delay P1_DELAY P2_DELAY -> apply the inputs of the AIs that many frames later
+                    LaunchSetting.actionDelay[0] = parseDelay("--action-delay", options[++i]);
+                    LaunchSetting.actionDelay[1] = parseDelay("--action-delay", options[++i]);
+                    break;
+                case "--action-jitter":
+                    // --action-jitter P1_JITTER P2_JITTER -> add up to that many frames to the delay of each input
+                    LaunchSetting.actionJitter[0] = parseDelay("--action-jitter", options[++i]);
+                    LaunchSetting.actionJitter[1] = parseDelay("--action-jitter", options[++i]);
+                    break;
+                case "--ai-pool":
+                    // --ai-pool 8 -> process the AIs of all the matches on 8 shared threads
+                    FlagSetting.aiPoolFlag = true;
+                    LaunchSetting.aiPoolSize = Integer.parseInt(options[++i]);
+                    break;
+                case "--compute-budget":
+                    // --compute-budget 16.6 50 reuse_last_key -> keep the previous key of an AI using more than
+                    // 16.6 ms of CPU time or 50 ms of wall time in a frame, 0 for no limit
+                    LaunchSetting.cpuBudget = Double.parseDouble(options[++i]);
+                    LaunchSetting.wallBudget = Double.parseDouble(options[++i]);
+                    LaunchSetting.budgetPolicy = BudgetPolicy.valueOf(options[++i].toUpperCase(Locale.ROOT));
+                    break;
+                case "--latency-seed":
+                    LaunchSetting.latencySeed = Long.parseLong(options[++i]);
+                    break;
+                case "--parallel-matches":
+                    // -n 100 --headless --parallel-matches 8 -> run the 100 matches 8 at a time
+                    FlagSetting.parallelMatchFlag = true;
+                    LaunchSetting.parallelMatches = Integer.parseInt(options[++i]);
+                    if (LaunchSetting.parallelMatches < 1) {
+                        throw new IllegalArgumentException(
+                                "Arguments error: --parallel-matches must be positive -> " + options[i]);
+                    }
+                    break;
+                case "--sound-cache":
+                    // --sound-cache ./data/cache/sounds/ -> reuse the decoded sounds of the previous runs
+                    FlagSetting.soundCacheFlag = true;
+                    ResourceSetting.SOUND_CACHE_DIRECTORY = options[++i];
+                    break;
                 default:
                     Logger.getAnonymousLogger().log(Level.WARNING, "Arguments error: unknown format is exist. -> " + options[i] + " ?");
             }
@@ -166,11 +249,29 @@ public class Game extends GameManager {
 
     }
 
+    /**
+     * Parses a number of frames of delay given in the command-line arguments.
+     *
+     * @param option The option the value is given for.
+     * @param value The value given in the command-line arguments.
+     * @return The number of frames.
+     * @throws IllegalArgumentException if the value is not a number or is negative.
+     */
+    private static int parseDelay(String option, String value) {
+        int delay = Integer.parseInt(value);
+        if (delay < 0) {
+            throw new IllegalArgumentException("Arguments error: " + option + " must not be negative -> " + value);
+        }
+        return delay;
+    }
+
     @Override
     public void initialize() {
         // Initialize the font to be used
-        Font awtFont = new Font("Times New Roman", Font.BOLD, 24);
-        GraphicManager.getInstance().setLetterFont(new LetterImage(awtFont, true));
+        if (!FlagSetting.headlessFlag) {
+            Font awtFont = new Font("Times New Roman", Font.BOLD, 24);
+            GraphicManager.getInstance().setLetterFont(new LetterImage(awtFont, true));
+        }
 
         createLogDirectories();
 
@@ -198,6 +299,16 @@ public class Game extends GameManager {
 				ResourceSetting.SOUND_DIRECTORY = String.format("./data/sounds/%s/", LaunchSetting.soundName);
             }
 
+            if (FlagSetting.parallelMatchFlag && !FlagSetting.allCombinationFlag) {
+                if (FlagSetting.headlessFlag) {
+                    // Run the matches on a thread pool without going through the game scenes
+                    runParallelMatches();
+                    this.isExitFlag = true;
+                    return;
+                }
+                Logger.getAnonymousLogger().log(Level.WARNING, "--parallel-matches is ignored without --headless.");
+            }
+
             Launcher launcher = new Launcher(GameSceneName.PLAY);
             this.startGame(launcher);
         } else if (FlagSetting.py4j) {
@@ -215,6 +326,49 @@ public class Game extends GameManager {
 
     }
 
+    /**
+     * Runs the repeated matches between the AIs given in the command-line arguments on a pool of threads and waits
+     * until all of them have finished.<br>
+     * Each match loads its own instances of the AIs and writes its own replay and result files.
+     *
+     * @see Match
+     */
+    private void runParallelMatches() {
+        if (LaunchSetting.deviceTypes[0] != InputManager.DEVICE_TYPE_AI
+                || LaunchSetting.deviceTypes[1] != InputManager.DEVICE_TYPE_AI) {
+            Logger.getAnonymousLogger().log(Level.WARNING, "Parallel matches need the AIs of both players.");
+            return;
+        }
+
+        MatchSetting setting = new MatchSetting();
+        ExecutorService executor = Executors.newFixedThreadPool(LaunchSetting.parallelMatches);
+        ArrayList<Future<ArrayList<RoundResult>>> matches = new ArrayList<Future<ArrayList<RoundResult>>>();
+        try {
+            for (int i = 0; i < LaunchSetting.repeatNumber; i++) {
+                AIInterface p1 = ResourceLoader.getInstance().loadAIInterface(LaunchSetting.aiNames[0]);
+                AIInterface p2 = ResourceLoader.getInstance().loadAIInterface(LaunchSetting.aiNames[1]);
+                if (p1 == null || p2 == null) {
+                    Logger.getAnonymousLogger().log(Level.WARNING, "Cannot load the AIs of the match " + (i + 1));
+                    break;
+                }
+                matches.add(executor.submit(new Match(setting, p1, p2)));
+            }
+
+            for (int i = 0; i < matches.size(); i++) {
+                try {
+                    matches.get(i).get();
+                    Logger.getAnonymousLogger().log(Level.INFO, "Match " + (i + 1) + " has finished");
+                } catch (ExecutionException e) {
+                    Logger.getAnonymousLogger().log(Level.WARNING, "Match " + (i + 1) + " has failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Searches if the provided character name is valid and available among the playable characters.
      * If found, returns the character name; otherwise, issues a warning and returns "ZEN" as the default character.
@@ -0,0 +1,298 @@
+package core;
+
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import aiinterface.AIController;
+import aiinterface.AIInterface;
+import aiinterface.ThreadController;
+import fighting.Fighting;
+import informationcontainer.RoundResult;
+import input.InputLatency;
+import input.KeyData;
+import loader.ResourceLoader;
+import setting.GameSetting;
+import setting.MatchSetting;
+import struct.AudioData;
+import struct.FrameData;
+import struct.GameData;
+import struct.Key;
+import struct.ScreenData;
+import util.LogWriter;
+
+/**
+ * A class that runs one match between two AIs independently of the game
+ * scenes.<br>
+ * Each match owns its fight, AI controllers, thread controller, replay file
+ * and settings, so many matches can run in parallel on a thread pool in one
+ * process, for example by submitting them to an
+ * {@link java.util.concurrent.ExecutorService}.<br>
+ * A match neither reads the game screen nor plays sound, and frames are
+ * processed as soon as both AIs have finished; it is meant to be used in
+ * headless mode.<br>
+ * The game runs the repeated matches this way when launched with
+ * {@code --headless --parallel-matches}.
+ */
+public class Match implements Callable<ArrayList<RoundResult>> {
+
+	/**
+	 * The number of matches created so far, used to give each match a unique
+	 * output file name.
+	 */
+	private static final AtomicLong MATCH_COUNT = new AtomicLong();
+
+	/**
+	 * The maximum time in milliseconds to wait for the AIs to process a
+	 * frame.
+	 */
+	private static final long FRAME_TIMEOUT = 20;
+
+	/**
+	 * The maximum time in milliseconds to wait for the AIs to finish
+	 * processing at the end of the match.
+	 */
+	private static final long TERMINATION_TIMEOUT = 1000;
+
+	/**
+	 * The settings of this match.
+	 */
+	private final MatchSetting setting;
+
+	/**
+	 * The AIs of P1 and P2.
+	 */
+	private final AIInterface[] ais;
+
+	/**
+	 * The thread controller shared by the AI controllers of this match.
+	 */
+	private final ThreadController threadController;
+
+	/**
+	 * The latency applied to the inputs of P1 and P2.
+	 */
+	private final InputLatency[] inputLatencies;
+
+	/**
+	 * The black screen passed to the AIs.
+	 */
+	private final ScreenData screenData;
+
+	/**
+	 * The writer of the replay and result files of this match.
+	 */
+	private final LogWriter logWriter;
+
+	/**
+	 * The string identifying this match in the output file names.
+	 */
+	private final String timeInfo;
+
+	/**
+	 * Class constructor.<br>
+	 * The settings are copied, so they can be changed for the next match
+	 * without affecting this one.
+	 *
+	 * @param setting
+	 *            the settings of the match
+	 * @param p1
+	 *            the AI of P1
+	 * @param p2
+	 *            the AI of P2
+	 */
+	public Match(MatchSetting setting, AIInterface p1, AIInterface p2) {
+		if (p1 == null || p2 == null) {
+			throw new IllegalArgumentException("Both AIs must be specified");
+		}
+
+		this.setting = new MatchSetting(setting);
+		this.setting.setSoundFlag(false);
+		this.ais = new AIInterface[] { p1, p2 };
+		this.threadController = new ThreadController();
+		this.inputLatencies = new InputLatency[] { this.setting.createInputLatency(true),
+				this.setting.createInputLatency(false) };
+		this.screenData = new ScreenData(new byte[3 * GameSetting.STAGE_WIDTH * GameSetting.STAGE_HEIGHT],
+				new BufferedImage(GameSetting.STAGE_WIDTH, GameSetting.STAGE_HEIGHT, BufferedImage.TYPE_INT_RGB));
+		this.logWriter = new LogWriter();
+		this.timeInfo = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd-HH.mm.ss", Locale.ENGLISH))
+				+ "_" + MATCH_COUNT.incrementAndGet();
+	}
+
+	/**
+	 * Runs all rounds of the match.<br>
+	 * As in a normal game, the replay file is written unless the training mode
+	 * is enabled, and the results are written to the point file.
+	 *
+	 * @return the results of each round
+	 * @throws InterruptedException
+	 *             if the thread running the match is interrupted
+	 */
+	@Override
+	public ArrayList<RoundResult> call() throws InterruptedException {
+		Fighting fighting = new Fighting(this.setting);
+		fighting.initialize();
+
+		GameData gameData = new GameData(fighting.getCharacters(), this.setting);
+		AIController[] controllers = new AIController[2];
+		for (int i = 0; i < 2; i++) {
+			controllers[i] = new AIController(this.ais[i]);
+			controllers[i].initialize(this.threadController, gameData, i == 0, this.setting);
+			controllers[i].startProcessing();
+		}
+
+		DataOutputStream dos = null;
+		if (!this.setting.isTrainingModeFlag()) {
+			String fileName = this.logWriter.createOutputFileName("./log/replay/", this.timeInfo,
+					this.setting);
+			dos = ResourceLoader.getInstance().openDataOutputStream(fileName + ".dat");
+			this.logWriter.writeHeader(dos, this.setting);
+		}
+
+		ArrayList<RoundResult> roundResults = new ArrayList<RoundResult>();
+		try {
+			for (int round = 1; round <= GameSetting.ROUND_MAX; round++) {
+				roundResults.add(processingRound(fighting, controllers, dos, round));
+			}
+		} finally {
+			for (AIController controller : controllers) {
+				controller.gameEnd();
+			}
+			// the match does not end while its AIs are still processing
+			for (AIController controller : controllers) {
+				controller.awaitTermination(TERMINATION_TIMEOUT);
+			}
+			fighting.close();
+
+			try {
+				if (dos != null) {
+					dos.close();
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+
+		this.logWriter.outputResult(roundResults, LogWriter.CSV, this.timeInfo, this.setting);
+
+		return roundResults;
+	}
+
+	/**
+	 * Runs one round, from the break time to the end of the round.
+	 *
+	 * @param fighting
+	 *            the fight of this match
+	 * @param controllers
+	 *            the AI controllers of P1 and P2
+	 * @param dos
+	 *            the replay file, or {@code null}
+	 * @param round
+	 *            the current round
+	 * @return the result of the round
+	 * @throws InterruptedException
+	 *             if the thread running the match is interrupted
+	 */
+	private RoundResult processingRound(Fighting fighting, AIController[] controllers, DataOutputStream dos,
+			int round) throws InterruptedException {
+		fighting.initRound();
+		for (AIController controller : controllers) {
+			controller.clear();
+		}
+		for (InputLatency inputLatency : this.inputLatencies) {
+			inputLatency.clear();
+		}
+
+		// break time
+		for (int i = 0; i < GameSetting.BREAKTIME_FRAME_NUMBER; i++) {
+			setFrameData(controllers, new FrameData());
+			fighting.initRound();
+		}
+
+		for (int nowFrame = 0;; nowFrame++) {
+			KeyData keyData = new KeyData(new Key[] { this.inputLatencies[0].apply(controllers[0].getInput()),
+					this.inputLatencies[1].apply(controllers[1].getInput()) });
+			fighting.processingFight(nowFrame, keyData);
+			FrameData frameData = fighting.createFrameData(nowFrame, round);
+
+			if (dos != null) {
+				this.logWriter.outputLog(dos, keyData, fighting.getCharacters());
+			}
+
+			setFrameData(controllers, frameData);
+
+			if (isBeaten(frameData) || isTimeOver(nowFrame)) {
+				fighting.processingRoundEnd();
+				RoundResult roundResult = new RoundResult(frameData, this.setting);
+				for (AIController controller : controllers) {
+					controller.informRoundResult(roundResult);
+				}
+
+				return roundResult;
+			}
+		}
+	}
+
+	/**
+	 * Passes the frame data to the AIs and waits until both AIs have
+	 * processed it.
+	 *
+	 * @param controllers
+	 *            the AI controllers of P1 and P2
+	 * @param frameData
+	 *            the frame data
+	 * @throws InterruptedException
+	 *             if the thread running the match is interrupted
+	 */
+	private void setFrameData(AIController[] controllers, FrameData frameData) throws InterruptedException {
+		for (AIController controller : controllers) {
+			controller.setFrameData(frameData);
+			controller.setScreenData(this.screenData);
+			controller.setAudioData(new AudioData());
+		}
+
+		// The count is read before the AIs are resumed, so that the end of
+		// their processing cannot be missed
+		long endFrameCount = this.threadController.getEndFrameCount();
+		this.threadController.resetAllAIsObj();
+		this.threadController.awaitEndFrame(endFrameCount, FRAME_TIMEOUT);
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+	/**
+	 * Checks whether P1 or P2 has been beaten.
+	 *
+	 * @param frameData
+	 *            the frame data of the current frame
+	 * @return {@code true} if P1 or P2 has been beaten, {@code false}
+	 *         otherwise
+	 */
+	private boolean isBeaten(FrameData frameData) {
+		return this.setting.isLimitHpFlag()
+				&& (frameData.getCharacter(true).getHp() <= 0 || frameData.getCharacter(false).getHp() <= 0);
+	}
+
+	/**
+	 * Checks whether the time limit of the round has been reached.
+	 *
+	 * @param nowFrame
+	 *            the current frame
+	 * @return {@code true} if the time limit has been reached, {@code false}
+	 *         otherwise
+	 */
+	private boolean isTimeOver(int nowFrame) {
+		if (this.setting.isTrainingModeFlag()) {
+			return nowFrame == Integer.MAX_VALUE;
+		} else {
+			return nowFrame >= GameSetting.ROUND_FRAME_NUMBER - 1;
+		}
+	}
+}
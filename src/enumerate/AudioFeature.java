@@ -0,0 +1,22 @@
+package enumerate;
+
+import java.util.EnumSet;
+
+/**
+ * Class that defines the audio features that can be provided to an AI.
+ */
+public enum AudioFeature {
+	RAW, // Raw audio data
+	FFT, // Fourier-transformed audio data
+	SPECTROGRAM, // Mel-Spectrogram audio data
+	;
+
+	/**
+	 * Returns the set of all the audio features.
+	 *
+	 * @return the set of all the audio features
+	 */
+	public static EnumSet<AudioFeature> all() {
+		return EnumSet.allOf(AudioFeature.class);
+	}
+}
@@ -0,0 +1,11 @@
+package enumerate;
+
+/**
+ * Class that defines the formats of the values of the audio data sent to a gRPC player.
+ */
+public enum AudioSampleFormat {
+	FLOAT32, // 32-bit floating-point numbers
+	FLOAT16, // 16-bit floating-point numbers
+	INT16, // 16-bit integers multiplied by a scale
+	;
+}
@@ -0,0 +1,13 @@
+package enumerate;
+
+/**
+ * Class that defines what is done with the input of an AI that has exceeded its compute budget in a frame.<br>
+ * None of the policies ends the match: a disabled AI is not a forfeit, its character stays in the fight without input
+ * until the round ends by knockout or time over, and the results do not tell it from a passive player.
+ */
+public enum BudgetPolicy {
+	NONE, // The input is applied, the frame is only counted
+	SKIP_INPUT, // No key is input in the frame
+	REUSE_LAST_KEY, // The key input in the previous frame is input again
+	DISABLE, // No key is input for the rest of the game and the AI is no longer processed
+}
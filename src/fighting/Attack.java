@@ -1,5 +1,7 @@
 package fighting;
 
+import java.nio.ByteBuffer;
+
 import struct.AttackData;
 import struct.HitArea;
 import struct.MotionData;
@@ -209,33 +211,7 @@ public class Attack {
 	 *            Instance of AttackData
 	 */
 	public Attack(AttackData attackData) {
-		if (attackData != null) {
-			this.settingHitArea = attackData.getSettingHitArea();
-			this.settingSpeedX = attackData.getSettingSpeedX();
-			this.settingSpeedY = attackData.getSettingSpeedY();
-
-			this.currentHitArea = attackData.getCurrentHitArea();
-			this.currentFrame = attackData.getCurrentFrame();
-			this.playerNumber = attackData.isPlayerNumber();
-			this.speedX = attackData.getSpeedX();
-			this.speedY = attackData.getSpeedY();
-
-			this.startUp = attackData.getStartUp();
-			this.active = attackData.getActive();
-
-			this.hitDamage = attackData.getHitDamage();
-			this.guardDamage = attackData.getGuardDamage();
-			this.startAddEnergy = attackData.getStartAddEnergy();
-			this.hitAddEnergy = attackData.getHitAddEnergy();
-			this.guardAddEnergy = attackData.getGuardAddEnergy();
-			this.giveEnergy = attackData.getGiveEnergy();
-
-			this.impactX = attackData.getImpactX();
-			this.impactY = attackData.getImpactY();
-			this.giveGuardRecov = attackData.getGiveGuardRecov();
-			this.attackType = attackData.getAttackType();
-			this.downProp = attackData.isDownProp();
-		}
+		reset(attackData);
 	}
 
 	/**
@@ -313,6 +289,149 @@ public class Attack {
 		this.downProp = downProp;
 	}
 
+	/**
+	 * Overwrites all fields of this instance with the values of the provided
+	 * AttackData instance.<br>
+	 * This allows the simulator to reuse an Attack instance instead of
+	 * creating a new one for every simulation. The hit area of the current
+	 * frame is overwritten in place, and the setting hit area, which this
+	 * class never modifies, is shared with {@code attackData}. If
+	 * {@code attackData} is {@code null}, all fields are cleared.
+	 *
+	 * @param attackData
+	 *            Instance of AttackData
+	 */
+	public void reset(AttackData attackData) {
+		if (attackData != null) {
+			HitArea settingHitArea = attackData.peekSettingHitArea();
+			this.settingHitArea = settingHitArea != null ? settingHitArea : new HitArea();
+			this.settingSpeedX = attackData.getSettingSpeedX();
+			this.settingSpeedY = attackData.getSettingSpeedY();
+
+			if (this.currentHitArea == null) {
+				this.currentHitArea = new HitArea(attackData.peekCurrentHitArea());
+			} else {
+				this.currentHitArea.set(attackData.peekCurrentHitArea());
+			}
+			this.currentFrame = attackData.getCurrentFrame();
+			this.playerNumber = attackData.isPlayerNumber();
+			this.speedX = attackData.getSpeedX();
+			this.speedY = attackData.getSpeedY();
+
+			this.startUp = attackData.getStartUp();
+			this.active = attackData.getActive();
+
+			this.hitDamage = attackData.getHitDamage();
+			this.guardDamage = attackData.getGuardDamage();
+			this.startAddEnergy = attackData.getStartAddEnergy();
+			this.hitAddEnergy = attackData.getHitAddEnergy();
+			this.guardAddEnergy = attackData.getGuardAddEnergy();
+			this.giveEnergy = attackData.getGiveEnergy();
+
+			this.impactX = attackData.getImpactX();
+			this.impactY = attackData.getImpactY();
+			this.giveGuardRecov = attackData.getGiveGuardRecov();
+			this.attackType = attackData.getAttackType();
+			this.downProp = attackData.isDownProp();
+		} else {
+			this.settingHitArea = null;
+			this.settingSpeedX = 0;
+			this.settingSpeedY = 0;
+
+			this.currentHitArea = null;
+			this.currentFrame = 0;
+			this.playerNumber = false;
+			this.speedX = 0;
+			this.speedY = 0;
+
+			this.startUp = 0;
+			this.active = 0;
+
+			this.hitDamage = 0;
+			this.guardDamage = 0;
+			this.startAddEnergy = 0;
+			this.hitAddEnergy = 0;
+			this.guardAddEnergy = 0;
+			this.giveEnergy = 0;
+
+			this.impactX = 0;
+			this.impactY = 0;
+			this.giveGuardRecov = 0;
+			this.attackType = 0;
+			this.downProp = false;
+		}
+	}
+
+	/**
+	 * The number of bytes written by {@link #saveState(ByteBuffer)}.
+	 */
+	public static final int STATE_SIZE = 1 + 25 * Integer.BYTES;
+
+	/**
+	 * Writes all fields of this instance to the buffer as primitive values.
+	 *
+	 * @param buffer
+	 *            the buffer to write to
+	 * @see #restoreState(ByteBuffer)
+	 */
+	public void saveState(ByteBuffer buffer) {
+		buffer.put((byte) ((this.playerNumber ? 1 : 0) | (this.downProp ? 2 : 0)));
+		putHitArea(buffer, this.settingHitArea);
+		putHitArea(buffer, this.currentHitArea);
+		buffer.putInt(this.settingSpeedX).putInt(this.settingSpeedY);
+		buffer.putInt(this.currentFrame).putInt(this.speedX).putInt(this.speedY);
+		buffer.putInt(this.startUp).putInt(this.active);
+		buffer.putInt(this.hitDamage).putInt(this.guardDamage);
+		buffer.putInt(this.startAddEnergy).putInt(this.hitAddEnergy).putInt(this.guardAddEnergy)
+				.putInt(this.giveEnergy);
+		buffer.putInt(this.impactX).putInt(this.impactY).putInt(this.giveGuardRecov).putInt(this.attackType);
+	}
+
+	/**
+	 * Overwrites all fields of this instance with values written by
+	 * {@link #saveState(ByteBuffer)}.
+	 *
+	 * @param buffer
+	 *            the buffer to read from
+	 */
+	public void restoreState(ByteBuffer buffer) {
+		byte flags = buffer.get();
+		this.playerNumber = (flags & 1) != 0;
+		this.downProp = (flags & 2) != 0;
+		this.settingHitArea = getHitArea(buffer);
+		this.currentHitArea = getHitArea(buffer);
+		this.settingSpeedX = buffer.getInt();
+		this.settingSpeedY = buffer.getInt();
+		this.currentFrame = buffer.getInt();
+		this.speedX = buffer.getInt();
+		this.speedY = buffer.getInt();
+		this.startUp = buffer.getInt();
+		this.active = buffer.getInt();
+		this.hitDamage = buffer.getInt();
+		this.guardDamage = buffer.getInt();
+		this.startAddEnergy = buffer.getInt();
+		this.hitAddEnergy = buffer.getInt();
+		this.guardAddEnergy = buffer.getInt();
+		this.giveEnergy = buffer.getInt();
+		this.impactX = buffer.getInt();
+		this.impactY = buffer.getInt();
+		this.giveGuardRecov = buffer.getInt();
+		this.attackType = buffer.getInt();
+	}
+
+	private static void putHitArea(ByteBuffer buffer, HitArea hitArea) {
+		if (hitArea == null) {
+			buffer.putInt(0).putInt(0).putInt(0).putInt(0);
+		} else {
+			buffer.putInt(hitArea.getLeft()).putInt(hitArea.getRight()).putInt(hitArea.getTop())
+					.putInt(hitArea.getBottom());
+		}
+	}
+
+	private static HitArea getHitArea(ByteBuffer buffer) {
+		return new HitArea(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+	}
+
 	/**
  	 * Initialize the instance variables using the provided values.
  	 *
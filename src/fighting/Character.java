@@ -2,6 +2,8 @@ package fighting;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
@@ -14,7 +16,7 @@ import loader.ResourceLoader;
 import manager.SoundManager;
 import setting.FlagSetting;
 import setting.GameSetting;
-import setting.LaunchSetting;
+import setting.MatchSetting;
 import struct.AudioSource;
 import struct.CharacterData;
 import struct.HitArea;
@@ -25,6 +27,16 @@ import struct.Key;
  */
 public class Character {
 
+    /**
+     * All actions, indexed by their ordinal.
+     */
+    private static final Action[] ACTIONS = Action.values();
+
+    /**
+     * All states, indexed by their ordinal.
+     */
+    private static final State[] STATES = State.values();
+
     /**
      * The character side's flag.<br>
      * {@code true} if the character is P1, or {@code false} if P2.
@@ -153,6 +165,17 @@ public class Character {
      */
     private Deque<Key> processedCommands;
 
+    /**
+     * The list reused by {@link #reset(CharacterData)} to hold the keys of the action that the character will
+     * be executing.
+     */
+    private Deque<Key> resetInputCommands;
+
+    /**
+     * The list reused by {@link #reset(CharacterData)} to hold the keys that the character executed.
+     */
+    private Deque<Key> resetProcessedCommands;
+
     /**
      * A list that stores all motions of the character.
      *
@@ -170,6 +193,11 @@ public class Character {
      * {@code true} if the process is executed in the simulator, {@code false} otherwise.
      */
     private boolean isSimulateProcess;
+
+    /**
+     * The settings of the match this character belongs to.
+     */
+    private MatchSetting setting;
     /**
      * For when the projectile is on screen and active.
      */
@@ -205,8 +233,19 @@ public class Character {
      * Class constructorï¼Ž
      */
     public Character() {
+        this(new MatchSetting());
+    }
+
+    /**
+     * Class constructor that creates a character of the match with the specified settings.
+     *
+     * @param setting The settings of the match this character belongs to.
+     */
+    public Character(MatchSetting setting) {
         initializeList();
 
+        this.setting = setting;
+
         this.playerNumber = true;
         this.hp = 0;
         this.energy = 0;
@@ -263,6 +302,7 @@ public class Character {
         this.lastHitFrame = character.getLastHitFrame();
         this.hitCount = character.getHitCount();
         this.isSimulateProcess = character.isSimulateProcess();
+        this.setting = character.setting;
         initializeSound();
 
     }
@@ -277,8 +317,40 @@ public class Character {
      * @see Motion
      */ 
     public Character(CharacterData characterData, ArrayList<Motion> motionList) {
+        this(characterData, motionList, new MatchSetting());
+    }
+
+    /**
+     * Constructor that creates an instance of the Character class using the provided data as arguments.<br>
+     * This constructor is only called within the simulator.
+     *
+     * @param characterData An instance of the CharacterData class that contains character information.
+     * @param motionList    A list that stores all motions of the character.
+     * @param setting       The settings of the simulated match.
+     * @see CharacterData
+     * @see Motion
+     */
+    public Character(CharacterData characterData, ArrayList<Motion> motionList, MatchSetting setting) {
         initializeList();
 
+        this.motionList = motionList;
+        this.isSimulateProcess = true;
+        this.setting = setting;
+        reset(characterData);
+        initializeSound();
+    }
+
+    /**
+     * Overwrites the character information of this instance with the provided data.<br>
+     * The motion list is kept, so the simulator can reuse a single instance for many simulations
+     * instead of creating a new one each time. The provided data are read without being copied, and the
+     * key lists are refilled in place, so that resetting an instance does not allocate. This method is only
+     * called within the simulator.
+     *
+     * @param characterData An instance of the CharacterData class that contains character information.
+     * @see CharacterData
+     */
+    public void reset(CharacterData characterData) {
         this.playerNumber = characterData.isPlayerNumber();
         this.hp = characterData.getHp();
         this.energy = characterData.getEnergy();
@@ -294,15 +366,116 @@ public class Character {
         this.hitConfirm = characterData.isHitConfirm();
         this.front = characterData.isFront();
         this.control = characterData.isControl();
-        this.attack = new Attack(characterData.getAttack());
+        if (this.attack == null) {
+            this.attack = new Attack(characterData.peekAttack());
+        } else {
+            this.attack.reset(characterData.peekAttack());
+        }
         this.remainingFrame = characterData.getRemainingFrame();
-        this.inputCommands = characterData.getInputCommand();
-        this.processedCommands = characterData.getProcessedCommand();
-        this.motionList = motionList;
+        if (this.resetInputCommands == null) {
+            this.resetInputCommands = new ArrayDeque<Key>();
+            this.resetProcessedCommands = new ArrayDeque<Key>();
+        }
+        this.resetInputCommands.clear();
+        this.resetInputCommands.addAll(characterData.peekInputCommand());
+        this.resetProcessedCommands.clear();
+        this.resetProcessedCommands.addAll(characterData.peekProcessedCommand());
+        this.inputCommands = this.resetInputCommands;
+        this.processedCommands = this.resetProcessedCommands;
         this.lastHitFrame = characterData.getLastHitFrame();
         this.hitCount = characterData.getHitCount();
-        this.isSimulateProcess = true;
-        initializeSound();
+
+        resetSoundState();
+    }
+
+    /**
+     * Returns the number of bytes written by {@link #saveState(ByteBuffer)} for the current state.
+     *
+     * @return the number of bytes
+     */
+    public int getStateSize() {
+        return 3 + 12 * Integer.BYTES + (this.attack != null ? Attack.STATE_SIZE : 0)
+                + Key.getKeysSize(this.inputCommands) + Key.getKeysSize(this.processedCommands);
+    }
+
+    /**
+     * Writes the information of this character that changes during a fight to the buffer as primitive values.<br>
+     * This method is only called within the simulator.
+     *
+     * @param buffer the buffer to write to
+     * @see #restoreState(ByteBuffer)
+     */
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) ((this.playerNumber ? 1 : 0) | (this.front ? 2 : 0) | (this.control ? 4 : 0)
+                | (this.hitConfirm ? 8 : 0) | (this.attack != null ? 16 : 0)));
+        buffer.put((byte) this.state.ordinal());
+        buffer.put((byte) this.action.ordinal());
+        buffer.putInt(this.hp).putInt(this.energy);
+        buffer.putInt(this.x).putInt(this.y).putInt(this.speedX).putInt(this.speedY);
+        buffer.putInt(this.remainingFrame).putInt(this.lastHitFrame).putInt(this.hitCount);
+        buffer.putInt(this.graphicSizeX).putInt(this.graphicSizeY).putInt(this.graphicAdjustX);
+        if (this.attack != null) {
+            this.attack.saveState(buffer);
+        }
+        Key.writeKeys(buffer, this.inputCommands);
+        Key.writeKeys(buffer, this.processedCommands);
+    }
+
+    /**
+     * Overwrites the information of this character with values written by {@link #saveState(ByteBuffer)}.<br>
+     * This method is only called within the simulator.
+     *
+     * @param buffer the buffer to read from
+     */
+    public void restoreState(ByteBuffer buffer) {
+        byte flags = buffer.get();
+        this.playerNumber = (flags & 1) != 0;
+        this.front = (flags & 2) != 0;
+        this.control = (flags & 4) != 0;
+        this.hitConfirm = (flags & 8) != 0;
+        this.state = STATES[buffer.get()];
+        this.action = ACTIONS[buffer.get()];
+        this.hp = buffer.getInt();
+        this.energy = buffer.getInt();
+        this.x = buffer.getInt();
+        this.y = buffer.getInt();
+        this.speedX = buffer.getInt();
+        this.speedY = buffer.getInt();
+        this.remainingFrame = buffer.getInt();
+        this.lastHitFrame = buffer.getInt();
+        this.hitCount = buffer.getInt();
+        this.graphicSizeX = buffer.getInt();
+        this.graphicSizeY = buffer.getInt();
+        this.graphicAdjustX = buffer.getInt();
+        if ((flags & 16) != 0) {
+            if (this.attack == null) {
+                this.attack = new Attack();
+            }
+            this.attack.restoreState(buffer);
+        } else {
+            this.attack = null;
+        }
+        Key.readKeys(buffer, this.inputCommands);
+        Key.readKeys(buffer, this.processedCommands);
+
+        resetSoundState();
+    }
+
+    /**
+     * Clears the information used only for playing sound effects.
+     */
+    private void resetSoundState() {
+        this.TempName = " ";
+        this.TempName2 = " ";
+        this.preEnergy = 0;
+        for (int a = 0; a < this.projectileAttack.length; a++) {
+            this.isProjectileLive[a] = false;
+            this.ProjectileHit[a] = false;
+            this.sX[a] = 0;
+            this.sY[a] = 0;
+            this.projectileAttack[a] = null;
+            this.projectileAttack2[a] = null;
+        }
     }
 
     /**
@@ -344,7 +517,7 @@ public class Character {
     }
 
     public void initializeSound() {
-        if (!this.isSimulateProcess) {
+        if (isSoundProcess()) {
             this.sourceDefault = SoundManager.getInstance().createAudioSource();
             this.sourceLanding = SoundManager.getInstance().createAudioSource();
             this.sourceWalking = SoundManager.getInstance().createAudioSource();
@@ -362,15 +535,15 @@ public class Character {
      * Initializes character information at the beginning of each round.
      */
     public void roundInit() {
-        if (FlagSetting.limitHpFlag) {
-            this.hp = LaunchSetting.maxHp[this.playerNumber ? 0 : 1];
+        if (this.setting.isLimitHpFlag()) {
+            this.hp = this.setting.getMaxHp(this.playerNumber);
         } else {
             this.hp = 0;
         }
 
-        if (FlagSetting.trainingModeFlag) {
-            this.hp = LaunchSetting.maxHp[this.playerNumber ? 0 : 1];
-            this.energy = LaunchSetting.maxEnergy[this.playerNumber ? 0 : 1];
+        if (this.setting.isTrainingModeFlag()) {
+            this.hp = this.setting.getMaxHp(this.playerNumber);
+            this.energy = this.setting.getMaxEnergy(this.playerNumber);
         } else {
             this.energy = 0;
         }
@@ -439,7 +612,7 @@ public class Character {
         Name = executeAction.toString();
 
         // Playing sound effects based on the actions.
-        if (!this.isSimulateProcess) {
+        if (isSoundProcess()) {
             if (Arrays.asList("JUMP", "FOR_JUMP", "BACK_JUMP", "THROW_A", "THROW_B", "THROW_HIT", "THROW_SUFFER", "STAND_A", "STAND_B", "CROUCH_A", "CROUCH_B", "AIR_A", "AIR_B", "AIR_DA", "AIR_DB", "STAND_FA", "STAND_FB", "CROUCH_FA", "CROUCH_FB", "AIR_FA", "AIR_FB", "AIR_UA", "AIR_UB", "STAND_F_D_DFA", "STAND_F_D_DFB", "STAND_D_DB_BA", "STAND_D_DB_BB", "AIR_F_D_DFA", "AIR_F_D_DFB", "AIR_D_DB_BA", "AIR_D_DB_BB").contains(Name)) {
                 Name = Name + ".wav";
 
@@ -494,13 +667,13 @@ public class Character {
         frictionEffect();
         gravityEffect();
 
-        if (FlagSetting.trainingModeFlag) {
-            this.energy = LaunchSetting.maxEnergy[this.playerNumber ? 0 : 1];
-            this.hp = LaunchSetting.maxHp[this.playerNumber ? 0 : 1];
+        if (this.setting.isTrainingModeFlag()) {
+            this.energy = this.setting.getMaxEnergy(this.playerNumber);
+            this.hp = this.setting.getMaxHp(this.playerNumber);
         }
 
-        if (this.energy > LaunchSetting.maxEnergy[this.playerNumber ? 0 : 1]) {
-            this.energy = LaunchSetting.maxEnergy[this.playerNumber ? 0 : 1];
+        if (this.energy > this.setting.getMaxEnergy(this.playerNumber)) {
+            this.energy = this.setting.getMaxEnergy(this.playerNumber);
         }
 
         if (getHitAreaBottom() >= GameSetting.STAGE_HEIGHT) {
@@ -508,7 +681,7 @@ public class Character {
                 runAction(Action.LANDING, true);
                 setSpeedY(0);
 
-                if (!this.isSimulateProcess) {
+                if (isSoundProcess()) {
                     SoundManager.getInstance().play2(sourceLanding, SoundManager.getInstance().getSoundBuffers().get("LANDING.wav"), this.x, this.y, false);
                 }
             }
@@ -557,7 +730,7 @@ public class Character {
             this.processedCommands.removeFirst();
 
         // Different Conditions for the sound effects
-        if (!FlagSetting.muteFlag && !this.isSimulateProcess) {
+        if (!FlagSetting.muteFlag && isSoundProcess()) {
             if (this.energy > this.preEnergy + 50) {
                 this.preEnergy = this.energy;
                 if (this.playerNumber) {
@@ -577,7 +750,7 @@ public class Character {
 
                 }
             }
-            if(FlagSetting.limitHpFlag) {
+            if(this.setting.isLimitHpFlag()) {
             	if(this.hp < 50) {
             		if(!SoundManager.getInstance().isPlaying(sourceHeartBeat)) {
             			if(this.playerNumber)SoundManager.getInstance().play2(sourceHeartBeat,SoundManager.getInstance().getSoundBuffers().get("Heartbeat.wav"),0,0,false);
@@ -655,7 +828,7 @@ public class Character {
             setRemainingFrame(attack.getGiveGuardRecov());
             opponent.setEnergy(opponent.getEnergy() + attack.getGuardAddEnergy());
 
-            if (!this.isSimulateProcess) {
+            if (isSoundProcess()) {
                 SoundManager.getInstance().play2(sourceLanding, SoundManager.getInstance().getSoundBuffers().get("WeakGuard.wav"), this.x, this.y, false);
             }
         } else {
@@ -686,7 +859,7 @@ public class Character {
                     runAction(Action.CHANGE_DOWN, false);
                     setRemainingFrame(this.motionList.get(this.action.ordinal()).getFrameNumber());
 
-                    if (!FlagSetting.muteFlag && !this.isSimulateProcess) {
+                    if (!FlagSetting.muteFlag && isSoundProcess()) {
                         SoundManager.getInstance().play2(sourceLanding, SoundManager.getInstance().getSoundBuffers().get("HitB.wav"), this.x, this.y, false);
 
                     }
@@ -709,7 +882,7 @@ public class Character {
                             break;
                     }
 
-                    if (!FlagSetting.muteFlag && !this.isSimulateProcess) {
+                    if (!FlagSetting.muteFlag && isSoundProcess()) {
                         SoundManager.getInstance().play2(sourceLanding, SoundManager.getInstance().getSoundBuffers().get("HitA.wav"), this.x, this.y, false);
                     }
                 }
@@ -1129,6 +1302,16 @@ public class Character {
         return temp;
     }
 
+    /**
+     * Returns the motion of the specified action without copying the motion list.
+     *
+     * @param action the action
+     * @return the motion of the action
+     */
+    Motion getMotion(Action action) {
+        return this.motionList.get(action.ordinal());
+    }
+
     /**
      * Returns a list storing keys of the action that the character will be
      * executing in the simulator
@@ -1436,7 +1619,22 @@ public class Character {
         return this.isSimulateProcess;
     }
 
+    /**
+     * Returns whether this character plays sound effects.<br>
+     * Sound effects are played neither within the simulator nor in matches whose settings disable them.
+     *
+     * @return {@code true} if this character plays sound effects, {@code false} otherwise.
+     */
+    private boolean isSoundProcess() {
+        return !this.isSimulateProcess && this.setting.isSoundFlag();
+    }
+
     public void close(){
+        if (!isSoundProcess()) {
+            // no sound source has been created
+            return;
+        }
+
         // close all sound sources
         sourceDefault.close();
         sourceLanding.close();
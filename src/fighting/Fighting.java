@@ -12,7 +12,7 @@ import input.KeyData;
 import manager.GraphicManager;
 import setting.FlagSetting;
 import setting.GameSetting;
-import setting.LaunchSetting;
+import setting.MatchSetting;
 import struct.AttackData;
 import struct.CharacterData;
 import struct.FrameData;
@@ -60,11 +60,27 @@ public class Fighting {
      */
 	protected CommandTable commandTable;
 
+	/**
+	 * The settings of the match.
+	 */
+	protected MatchSetting setting;
+
 
 	/**
-	 * Class constructor．
+	 * Class constructor．<br>
+	 * The match is set up with the current launch settings.
 	 */
 	public Fighting() {
+		this(new MatchSetting());
+	}
+
+	/**
+	 * Class constructor that sets up the match with the specified settings.
+	 *
+	 * @param setting The settings of the match.
+	 */
+	public Fighting(MatchSetting setting) {
+		this.setting = setting;
 		this.playerCharacters = new Character[2];
 		this.projectileDeque = new LinkedList<LoopEffect>();
 		this.inputCommands = new LinkedList<KeyData>();
@@ -88,8 +104,8 @@ public class Fighting {
      */
 	public void initialize() {
 		for (int i = 0; i < 2; i++) {
-			this.playerCharacters[i] = new Character();
-			this.playerCharacters[i].initialize(LaunchSetting.characterNames[i], i == 0);
+			this.playerCharacters[i] = new Character(this.setting);
+			this.playerCharacters[i].initialize(this.setting.getCharacterName(i == 0), i == 0);
 			this.hitEffects.add(new LinkedList<HitEffect>());
 		}
 	}
@@ -381,8 +397,8 @@ public class Fighting {
 	 * @see Action
 	 */
 	protected boolean ableAction(Character character, Action nextAction) {
-		Motion nextMotion = character.getMotionList().get(nextAction.ordinal());
-		Motion nowMotion = character.getMotionList().get(character.getAction().ordinal());
+		Motion nextMotion = character.getMotion(nextAction);
+		Motion nowMotion = character.getMotion(character.getAction());
 
 		if (character.getEnergy() < -nextMotion.getAttackStartAddEnergy()) {
 			return false;
@@ -452,7 +468,7 @@ public class Fighting {
 			newAttackDeque.addLast(new AttackData(loopEffect.getAttack()));
 		}
 
-		return new FrameData(characterData, nowFrame, round, newAttackDeque);
+		return new FrameData(characterData, nowFrame, round, newAttackDeque, this.setting);
 	}
 
 	/**
@@ -8,12 +8,15 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import enumerate.AudioFeature;
 import enumerate.GameSceneName;
 import fighting.Fighting;
+import grpc.GrpcFrameCache;
 import grpc.ObserverAgent;
 import informationcontainer.RoundResult;
 import input.KeyData;
@@ -31,9 +34,12 @@ import struct.AudioSource;
 import struct.FrameData;
 import struct.GameData;
 import struct.ScreenData;
+import util.AudioFeaturePipeline;
 import util.DebugActionData;
 import util.LogWriter;
+import util.MFCC;
 import util.ResourceDrawer;
+import util.StreamingSpectrogram;
 
 /**
  * 対戦中のシーンを扱うクラス．
@@ -100,6 +106,17 @@ public class Play extends GameScene {
 	private AudioSource sourceBackground;
 
 	private AudioData audioData;
+
+	/**
+	 * 音声を描画しないフレームでAIに渡す無音の音声データ．特徴量の計算結果と共に使い回す．
+	 */
+	private AudioData silentAudioData;
+
+	/**
+	 * ラウンドを通して更新されるメルスペクトログラム．無効な場合はnull．
+	 */
+	private StreamingSpectrogram streamingSpectrogram;
+
 	/**
 	 * クラスコンストラクタ．
 	 */
@@ -128,7 +145,8 @@ public class Play extends GameScene {
 
 		this.frameData = new FrameData();
 		this.screenData = new ScreenData();
-		this.audioData = new AudioData();
+		this.silentAudioData = new AudioData();
+		this.audioData = this.silentAudioData;
 		this.keyData = new KeyData();
 		this.roundResults = new ArrayList<RoundResult>();
 
@@ -156,11 +174,13 @@ public class Play extends GameScene {
 			InputManager.getInstance().createAIcontroller();
 			InputManager.getInstance().startAI(gameData);
 			
-			try {
-				Thread.sleep(1000);
-			} catch (InterruptedException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
+			if (!FlagSetting.headlessFlag) {
+				try {
+					Thread.sleep(1000);
+				} catch (InterruptedException e) {
+					// TODO Auto-generated catch block
+					e.printStackTrace();
+				}
 			}
 			
 	        Logger.getAnonymousLogger().log(Level.INFO, "AI controller is ready");
@@ -243,6 +263,14 @@ public class Play extends GameScene {
 		this.keyData = new KeyData();
 
 		InputManager.getInstance().clear();
+		if (FlagSetting.grpc) {
+			GrpcFrameCache.getInstance().clear();
+		}
+		if (FlagSetting.streamingSpectrogramFlag) {
+			// 前のラウンドの更新が残っていても影響しないよう，ラウンドごとに作り直す
+			this.streamingSpectrogram = new StreamingSpectrogram(MFCC.getPlan(), 2,
+					LaunchSetting.streamingSpectrogramFrames);
+		}
 		SoundManager.getInstance().play2(sourceBackground,SoundManager.getInstance().getBackGroundMusicBuffer(),350,0,true);
 	}
 
@@ -251,7 +279,7 @@ public class Play extends GameScene {
 	 */
 	private void processingBreakTime() {
 		// ダミーフレームをAIにセット
-		InputManager.getInstance().setFrameData(new FrameData(), new ScreenData(), new AudioData());
+		InputManager.getInstance().setFrameData(new FrameData(), new ScreenData(), this.silentAudioData);
 
 		if (FlagSetting.enableWindow) {
 			GraphicManager.getInstance().drawQuad(0, 0, GameSetting.STAGE_WIDTH, GameSetting.STAGE_HEIGHT, 0, 0, 0, 0);
@@ -306,11 +334,27 @@ public class Play extends GameScene {
 		}
 
 		this.screenData = new ScreenData();
-		if (this.nowFrame == 0) {
-			this.audioData = new AudioData();
+		if (FlagSetting.streamingSpectrogramFlag) {
+			// 新たに描画された音声のみをスペクトログラムに追加する
+			float[][] rawData = this.silentAudioData.getRawData();
+			int length = 0;
+			if (this.nowFrame != 0 && SoundManager.getInstance().getVirtualRenderer() != null) {
+				rawData = SoundManager.getInstance().getVirtualRenderer().sampleAudio();
+				length = GameSetting.SOUND_RENDER_SIZE;
+			}
+			this.audioData = new AudioData(rawData,
+					AudioFeaturePipeline.getInstance().submit(this.streamingSpectrogram, rawData, length));
+		} else if (this.nowFrame == 0 || SoundManager.getInstance().getVirtualRenderer() == null) {
+			this.audioData = this.silentAudioData;
 		} else {
             this.audioData = new AudioData(SoundManager.getInstance().getVirtualRenderer().sampleAudio());
         }
+		// 音声の特徴量の計算はワーカースレッドで行い，AIや観戦者が取得する際に結果を待つ
+		EnumSet<AudioFeature> audioFeatures = InputManager.getInstance().getAudioFeatures();
+		if (FlagSetting.grpc) {
+			audioFeatures.addAll(LaunchSetting.grpcServer.getObserver().getAudioFeatures());
+		}
+		AudioFeaturePipeline.getInstance().submit(this.audioData, audioFeatures);
 		// AIにFrameDataをセット
 		InputManager.getInstance().setFrameData(this.frameData, this.screenData, this.audioData);
 		
@@ -0,0 +1,79 @@
+package grpc;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import enumerate.AudioFeature;
+import enumerate.AudioSampleFormat;
+
+/**
+ * The audio data requested by a gRPC player on initialization: the features
+ * sent and the format of their values.<br>
+ * The options are immutable and used as a key of the converted audio data, so
+ * that the players requesting the same options share the same message.
+ */
+public final class AudioPayloadOptions {
+
+	/**
+	 * All the features as 32-bit floating-point numbers.
+	 */
+	public static final AudioPayloadOptions DEFAULT = new AudioPayloadOptions(AudioFeature.all(),
+			AudioSampleFormat.FLOAT32, false);
+
+	private final Set<AudioFeature> features;
+
+	private final AudioSampleFormat format;
+
+	private final boolean delta;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param features
+	 *            the features sent
+	 * @param format
+	 *            the format of the values
+	 * @param delta
+	 *            {@code true} if each 16-bit integer is sent as the difference
+	 *            from the previous value of the same row
+	 */
+	public AudioPayloadOptions(Set<AudioFeature> features, AudioSampleFormat format, boolean delta) {
+		this.features = Collections.unmodifiableSet(features.isEmpty() ? EnumSet.noneOf(AudioFeature.class)
+				: EnumSet.copyOf(features));
+		this.format = format;
+		this.delta = delta && format == AudioSampleFormat.INT16;
+	}
+
+	public Set<AudioFeature> getFeatures() {
+		return this.features;
+	}
+
+	public AudioSampleFormat getFormat() {
+		return this.format;
+	}
+
+	public boolean isDelta() {
+		return this.delta;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof AudioPayloadOptions)) {
+			return false;
+		}
+		AudioPayloadOptions other = (AudioPayloadOptions) obj;
+		return this.features.equals(other.features) && this.format == other.format && this.delta == other.delta;
+	}
+
+	@Override
+	public int hashCode() {
+		return (this.features.hashCode() * 31 + this.format.hashCode()) * 31 + Boolean.hashCode(this.delta);
+	}
+
+	@Override
+	public String toString() {
+		return this.features + " " + this.format + (this.delta ? " delta" : "");
+	}
+
+}
@@ -0,0 +1,262 @@
+package grpc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.Empty;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import protoc.EnvProto.CreateEnvsRequest;
+import protoc.EnvProto.CreateEnvsResponse;
+import protoc.EnvProto.PlayerBatch;
+import protoc.EnvProto.PlayerGameStateBatch;
+import protoc.EnvProto.PlayerInputBatch;
+import protoc.EnvServiceGrpc;
+import protoc.ServiceProto.InitializeRequest;
+import protoc.ServiceProto.InitializeResponse;
+import protoc.ServiceProto.ParticipateRequest;
+import protoc.ServiceProto.PlayerInput;
+import setting.GameSetting;
+import setting.MatchSetting;
+import util.GrpcUtil;
+
+/**
+ * The service of {@code EnvService} in {@code proto/env.proto}.<br>
+ * A client creates many matches with one call and then advances all of them
+ * by one frame with each call of {@code StepBatch}, so that one round trip
+ * is shared by all the environments and the matches are processed in
+ * parallel.
+ */
+public class EnvService extends EnvServiceGrpc.EnvServiceImplBase {
+
+	/**
+	 * The maximum number of environments created by one call of
+	 * {@code CreateEnvs}.
+	 */
+	public static final int MAX_GAME_NUMBER = 1024;
+
+	/**
+	 * The environments, keyed by the identifiers of the players controlled
+	 * through inputs.
+	 */
+	private final Map<String, MatchEnv> envs;
+
+	/**
+	 * The threads stepping the environments in parallel.
+	 */
+	private final ExecutorService stepExecutor;
+
+	public EnvService() {
+		this.envs = new ConcurrentHashMap<String, MatchEnv>();
+		this.stepExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	@Override
+	public void createEnvs(CreateEnvsRequest request, StreamObserver<CreateEnvsResponse> responseObserver) {
+		if (request.getGameNumber() < 1 || request.getGameNumber() > MAX_GAME_NUMBER) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(
+					"The number of games must be between 1 and " + MAX_GAME_NUMBER + ": " + request.getGameNumber())
+					.asRuntimeException());
+			return;
+		}
+
+		String[] characterNames = { request.getCharacter1(), request.getCharacter2() };
+		String[] aiNames = { request.getPlayer1(), request.getPlayer2() };
+		for (int i = 0; i < 2; i++) {
+			if (characterNames[i].isEmpty()) {
+				characterNames[i] = GameSetting.CHARACTERS[0];
+			} else if (!Arrays.asList(GameSetting.CHARACTERS).contains(characterNames[i])) {
+				responseObserver.onError(Status.INVALID_ARGUMENT
+						.withDescription("Unknown character: " + characterNames[i]).asRuntimeException());
+				return;
+			}
+		}
+
+		MatchSetting setting = new MatchSetting();
+		setting.setCharacterNames(characterNames[0], characterNames[1]);
+		setting.setAiNames(aiNames[0].isEmpty() ? "gRPC" : aiNames[0], aiNames[1].isEmpty() ? "gRPC" : aiNames[1]);
+		setting.setSoundFlag(false);
+
+		InitializeRequest[] options = { request.getPlayer1Options(), request.getPlayer2Options() };
+		setting.setNoVisual(setting.isNoVisual(true) || options[0].getIsBlind(),
+				setting.isNoVisual(false) || options[1].getIsBlind());
+		AudioPayloadOptions[] audioPayloadOptions = new AudioPayloadOptions[2];
+		try {
+			for (int i = 0; i < 2; i++) {
+				audioPayloadOptions[i] = GrpcUtil.getAudioPayloadOptions(options[i]);
+			}
+		} catch (IllegalArgumentException e) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+			return;
+		}
+
+		CreateEnvsResponse.Builder response = CreateEnvsResponse.newBuilder();
+		List<MatchEnv> createdEnvs = new ArrayList<MatchEnv>();
+		boolean created = false;
+		try {
+			for (int n = 0; n < request.getGameNumber(); n++) {
+				MatchEnv env = new MatchEnv(setting, aiNames, audioPayloadOptions);
+				createdEnvs.add(env);
+				for (boolean playerNumber : new boolean[] { true, false }) {
+					if (env.getPlayerUuid(playerNumber) != null) {
+						String playerUuid = env.getPlayerUuid(playerNumber).toString();
+						this.envs.put(playerUuid, env);
+						response.addPlayers(InitializeResponse.newBuilder().setPlayerUuid(playerUuid));
+					}
+				}
+			}
+			created = true;
+		} catch (IllegalArgumentException e) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+			return;
+		} finally {
+			// the environments created before a failure are not returned, so they are closed
+			if (!created) {
+				for (MatchEnv env : createdEnvs) {
+					this.envs.values().removeIf(x -> x == env);
+					env.close();
+				}
+			}
+		}
+
+		Logger.getAnonymousLogger().log(Level.INFO, "Created " + request.getGameNumber() + " environments");
+		responseObserver.onNext(response.build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void resetBatch(PlayerBatch request, StreamObserver<PlayerGameStateBatch> responseObserver) {
+		List<String> playerUuids = new ArrayList<String>();
+		for (ParticipateRequest player : request.getPlayersList()) {
+			playerUuids.add(player.getPlayerUuid());
+		}
+
+		List<MatchEnv> envs = getEnvs(playerUuids, responseObserver);
+		if (envs == null) {
+			return;
+		}
+
+		for (MatchEnv env : new LinkedHashSet<MatchEnv>(envs)) {
+			env.reset();
+		}
+
+		responseObserver.onNext(getStates(envs, playerUuids));
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void stepBatch(PlayerInputBatch request, StreamObserver<PlayerGameStateBatch> responseObserver) {
+		List<PlayerInput> inputs = request.getInputsList();
+		List<String> playerUuids = new ArrayList<String>();
+		for (PlayerInput input : inputs) {
+			playerUuids.add(input.getPlayerUuid());
+		}
+
+		List<MatchEnv> envs = getEnvs(playerUuids, responseObserver);
+		if (envs == null) {
+			return;
+		}
+
+		for (int i = 0; i < inputs.size(); i++) {
+			envs.get(i).setInput(playerUuids.get(i), GrpcUtil.fromGrpcKey(inputs.get(i).getInputKey()));
+		}
+
+		// Each environment is stepped once even if both of its players are in the batch
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (MatchEnv env : new LinkedHashSet<MatchEnv>(envs)) {
+			tasks.add(() -> {
+				env.step();
+				return null;
+			});
+		}
+
+		try {
+			for (Future<Void> future : this.stepExecutor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			responseObserver.onError(Status.CANCELLED.withCause(e).asRuntimeException());
+			return;
+		} catch (ExecutionException e) {
+			responseObserver.onError(Status.INTERNAL.withCause(e.getCause()).asRuntimeException());
+			return;
+		}
+
+		responseObserver.onNext(getStates(envs, playerUuids));
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void closeEnvs(PlayerBatch request, StreamObserver<Empty> responseObserver) {
+		for (ParticipateRequest player : request.getPlayersList()) {
+			MatchEnv env = this.envs.get(player.getPlayerUuid());
+			if (env != null) {
+				this.envs.values().removeIf(x -> x == env);
+				env.close();
+			}
+		}
+
+		responseObserver.onNext(Empty.getDefaultInstance());
+		responseObserver.onCompleted();
+	}
+
+	/**
+	 * Closes all the environments and stops the threads stepping them.
+	 */
+	public void close() {
+		for (MatchEnv env : new LinkedHashSet<MatchEnv>(this.envs.values())) {
+			env.close();
+		}
+		this.envs.clear();
+		this.stepExecutor.shutdownNow();
+	}
+
+	/**
+	 * Returns the environment of each player, or reports an error to the
+	 * client if a player is unknown.
+	 *
+	 * @param playerUuids
+	 *            the identifiers of the players
+	 * @param responseObserver
+	 *            the observer of the response
+	 * @return the environment of each player, or {@code null} if a player is
+	 *         unknown
+	 */
+	private List<MatchEnv> getEnvs(List<String> playerUuids, StreamObserver<?> responseObserver) {
+		List<MatchEnv> envs = new ArrayList<MatchEnv>();
+		for (String playerUuid : playerUuids) {
+			MatchEnv env = this.envs.get(playerUuid);
+			if (env == null) {
+				responseObserver.onError(
+						Status.NOT_FOUND.withDescription("Unknown player: " + playerUuid).asRuntimeException());
+				return null;
+			}
+			envs.add(env);
+		}
+
+		return envs;
+	}
+
+	private PlayerGameStateBatch getStates(List<MatchEnv> envs, List<String> playerUuids) {
+		PlayerGameStateBatch.Builder states = PlayerGameStateBatch.newBuilder();
+		for (int i = 0; i < envs.size(); i++) {
+			states.addStates(envs.get(i).getState(playerUuids.get(i)));
+		}
+
+		return states.build();
+	}
+
+}
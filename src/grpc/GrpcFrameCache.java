@@ -0,0 +1,171 @@
+package grpc;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import protoc.MessageProto.GrpcAudioData;
+import protoc.MessageProto.GrpcFrameData;
+import protoc.MessageProto.GrpcScreenData;
+import setting.FlagSetting;
+import struct.AudioData;
+import struct.FrameData;
+import struct.ScreenData;
+import util.GrpcUtil;
+
+/**
+ * Cache of the protobuf messages sent to the gRPC players and the spectator.<br>
+ * Each frame is converted once and the message is reused by all the streams:
+ * the frame data is keyed by its round, frame number and whether its visual
+ * data has been removed, while the screen and audio data are keyed by the
+ * arrays shared by all the copies of the data of a frame and, for the audio
+ * data, the features and format requested by the client.
+ */
+public class GrpcFrameCache {
+
+	/**
+	 * The number of converted frame data kept, enough for the delayed frames of
+	 * the players and the current frame of the spectator.
+	 */
+	private static final int FRAME_CACHE_SIZE = 64;
+
+	/**
+	 * The width of the screen data sent to the clients.
+	 */
+	public static final int SCREEN_WIDTH = 96;
+
+	/**
+	 * The height of the screen data sent to the clients.
+	 */
+	public static final int SCREEN_HEIGHT = 64;
+
+	private final Map<String, GrpcFrameData> frameDataCache;
+
+	/**
+	 * The screen data converted last. The arrays of the display bytes are
+	 * reused by the screen reader, so the screen data itself is compared.
+	 */
+	private ScreenData lastScreenDataSource;
+
+	private GrpcScreenData lastScreenData;
+
+	private float[][] lastRawData;
+
+	/**
+	 * The converted audio data of the last frame for each requested payload.
+	 */
+	private final Map<AudioPayloadOptions, GrpcAudioData> audioDataCache;
+
+	private GrpcFrameCache() {
+		this.audioDataCache = new HashMap<AudioPayloadOptions, GrpcAudioData>();
+		this.frameDataCache = new LinkedHashMap<String, GrpcFrameData>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, GrpcFrameData> eldest) {
+				return size() > FRAME_CACHE_SIZE;
+			}
+		};
+	}
+
+	public static GrpcFrameCache getInstance() {
+		return GrpcFrameCacheHolder.instance;
+	}
+
+	private static class GrpcFrameCacheHolder {
+		private static final GrpcFrameCache instance = new GrpcFrameCache();
+	}
+
+	/**
+	 * Returns the converted frame data.<br>
+	 * Frames are not cached with slow motion, since the frames at the end of a
+	 * round share their frame number.
+	 *
+	 * @param frameData
+	 *            the frame data
+	 * @param blind
+	 *            {@code true} if the visual data has been removed from the
+	 *            frame data
+	 * @return the converted frame data
+	 */
+	public GrpcFrameData getFrameData(FrameData frameData, boolean blind) {
+		if (FlagSetting.slowmotion) {
+			return GrpcUtil.convertFrameData(frameData);
+		}
+
+		String key = frameData.getEmptyFlag() ? "empty"
+				: frameData.getRound() + ":" + frameData.getFramesNumber() + ":" + blind;
+		synchronized (this.frameDataCache) {
+			return this.frameDataCache.computeIfAbsent(key, k -> GrpcUtil.convertFrameData(frameData));
+		}
+	}
+
+	/**
+	 * Returns the screen data converted to a grayscale image of
+	 * {@link #SCREEN_WIDTH} x {@link #SCREEN_HEIGHT}.
+	 *
+	 * @param screenData
+	 *            the screen data, or {@code null}
+	 * @return the converted screen data
+	 */
+	public synchronized GrpcScreenData getScreenData(ScreenData screenData) {
+		if (screenData == null || screenData.getDisplayBytes() == null) {
+			return GrpcUtil.convertScreenData(screenData, SCREEN_WIDTH, SCREEN_HEIGHT, true);
+		}
+
+		if (screenData != this.lastScreenDataSource) {
+			this.lastScreenData = GrpcUtil.convertScreenData(screenData, SCREEN_WIDTH, SCREEN_HEIGHT, true);
+			this.lastScreenDataSource = screenData;
+		}
+		return this.lastScreenData;
+	}
+
+	/**
+	 * Returns the converted audio data.
+	 *
+	 * @param audioData
+	 *            the audio data, or {@code null}
+	 * @return the converted audio data
+	 */
+	public GrpcAudioData getAudioData(AudioData audioData) {
+		return getAudioData(audioData, AudioPayloadOptions.DEFAULT);
+	}
+
+	/**
+	 * Returns the audio data converted with only the requested features, in
+	 * the requested format.
+	 *
+	 * @param audioData
+	 *            the audio data, or {@code null}
+	 * @param options
+	 *            the requested features and format
+	 * @return the converted audio data
+	 */
+	public synchronized GrpcAudioData getAudioData(AudioData audioData, AudioPayloadOptions options) {
+		if (audioData == null || audioData.getRawData() == null) {
+			return GrpcUtil.convertAudioData(audioData, options);
+		}
+
+		if (audioData.getRawData() != this.lastRawData) {
+			this.audioDataCache.clear();
+			this.lastRawData = audioData.getRawData();
+		}
+		return this.audioDataCache.computeIfAbsent(options, k -> GrpcUtil.convertAudioData(audioData, k));
+	}
+
+	/**
+	 * Discards all the cached messages.<br>
+	 * Called at the start of each round, since the frame numbers start again
+	 * from 0.
+	 */
+	public synchronized void clear() {
+		synchronized (this.frameDataCache) {
+			this.frameDataCache.clear();
+		}
+		this.lastScreenDataSource = null;
+		this.lastScreenData = null;
+		this.lastRawData = null;
+		this.audioDataCache.clear();
+	}
+
+}
@@ -17,17 +17,20 @@ public class GrpcServer {
   	private GrpcGame game;
 	private PlayerAgent[] players;
 	private ObserverAgent observer;
+	private EnvService envService;
   	
   	public GrpcServer() {
   		this.game = new GrpcGame();
   		this.players = new PlayerAgent[] {new PlayerAgent(), new PlayerAgent()};
   		this.observer = new ObserverAgent();
+  		this.envService = new EnvService();
   	}
 
   	public void start(int port) throws IOException {
   		ServiceImpl service = new ServiceImpl(this);
     	server = ServerBuilder.forPort(port)
     			.addService(ServerInterceptors.intercept(service, new RequestInterceptor()))
+    			.addService(ServerInterceptors.intercept(this.envService, new RequestInterceptor()))
     			.executor(Executors.newFixedThreadPool(4))
     			.build();
     	
@@ -40,6 +43,7 @@ public class GrpcServer {
 	  		this.players[0].onCompleted();
 	  		this.players[1].onCompleted();
 	  		this.observer.notifyOnCompleted();
+	  		this.envService.close();
 	  		server.shutdown().awaitTermination(30, TimeUnit.SECONDS);
     	}
   	}
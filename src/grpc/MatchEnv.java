@@ -0,0 +1,399 @@
+package grpc;
+
+import java.awt.image.BufferedImage;
+import java.util.UUID;
+
+import aiinterface.AIController;
+import aiinterface.FrameDelayQueue;
+import aiinterface.ThreadController;
+import fighting.Fighting;
+import informationcontainer.RoundResult;
+import input.InputLatency;
+import input.KeyData;
+import loader.ResourceLoader;
+import protoc.EnumProto.GrpcFlag;
+import protoc.MessageProto.GrpcAudioData;
+import protoc.MessageProto.GrpcScreenData;
+import protoc.ServiceProto.PlayerGameState;
+import setting.GameSetting;
+import setting.MatchSetting;
+import struct.AudioData;
+import struct.FrameData;
+import struct.GameData;
+import struct.Key;
+import struct.ScreenData;
+import util.GrpcUtil;
+
+/**
+ * An environment of {@link EnvService}: a match that advances one frame each
+ * time it is stepped.<br>
+ * Each player is controlled either by an AI loaded from data/ai or by the
+ * inputs passed to {@link #setInput(String, Key)}.
+ */
+public class MatchEnv {
+
+	/**
+	 * The maximum time in milliseconds to wait for the AIs to process a
+	 * frame.
+	 */
+	private static final long FRAME_TIMEOUT = 20;
+
+	/**
+	 * The maximum time in milliseconds to wait for the AIs to finish
+	 * processing when the match is closed.
+	 */
+	private static final long TERMINATION_TIMEOUT = 1000;
+
+	private final MatchSetting setting;
+
+	/**
+	 * The identifiers of the players controlled through inputs, or
+	 * {@code null} for the players controlled by an AI.
+	 */
+	private final UUID[] playerUuids;
+
+	/**
+	 * The controllers of the players controlled by an AI, or {@code null} for
+	 * the players controlled through inputs.
+	 */
+	private final AIController[] controllers;
+
+	private final ThreadController threadController;
+
+	private final Fighting fighting;
+
+	private final GameData gameData;
+
+	private final Key[] inputs;
+
+	/**
+	 * The latency applied to the inputs of P1 and P2.
+	 */
+	private final InputLatency[] inputLatencies;
+
+	/**
+	 * The frame data of the last frames, delayed for P1 and P2.
+	 */
+	private final FrameDelayQueue[] framesData;
+
+	/**
+	 * The black screen passed to the AIs.
+	 */
+	private final ScreenData screenData;
+
+	/**
+	 * The silent audio passed to the AIs.
+	 */
+	private final AudioData silentAudioData;
+
+	/**
+	 * The black screen sent to the players controlled through inputs, which
+	 * is converted once since it never changes.
+	 */
+	private final GrpcScreenData grpcScreenData;
+
+	/**
+	 * The silent audio sent to P1 and P2, converted once with the audio
+	 * payload options of each player.
+	 */
+	private final GrpcAudioData[] grpcAudioData;
+
+	private FrameData frameData;
+
+	private int nowFrame;
+
+	private int currentRound;
+
+	/**
+	 * The result of the round ended by the last step, or {@code null}.
+	 */
+	private RoundResult roundResult;
+
+	private boolean isInitialized;
+
+	private boolean isGameEnd;
+
+	/**
+	 * Class constructor that creates the match and starts the AIs.
+	 *
+	 * @param setting
+	 *            the settings of the match
+	 * @param aiNames
+	 *            the names of the AIs controlling P1 and P2, {@code null} or
+	 *            empty for a player controlled through inputs
+	 * @param audioPayloadOptions
+	 *            the audio payload options of P1 and P2, used for the players
+	 *            controlled through inputs
+	 */
+	public MatchEnv(MatchSetting setting, String[] aiNames, AudioPayloadOptions[] audioPayloadOptions) {
+		this.setting = new MatchSetting(setting);
+		this.setting.setSoundFlag(false);
+		this.playerUuids = new UUID[2];
+		this.controllers = new AIController[2];
+		this.threadController = new ThreadController();
+		this.inputs = new Key[] { new Key(), new Key() };
+		this.inputLatencies = new InputLatency[] { this.setting.createInputLatency(true),
+				this.setting.createInputLatency(false) };
+		this.framesData = new FrameDelayQueue[] { new FrameDelayQueue(this.setting.getFrameDelay(true)),
+				new FrameDelayQueue(this.setting.getFrameDelay(false)) };
+		this.screenData = new ScreenData(new byte[3 * GameSetting.STAGE_WIDTH * GameSetting.STAGE_HEIGHT],
+				new BufferedImage(GameSetting.STAGE_WIDTH, GameSetting.STAGE_HEIGHT, BufferedImage.TYPE_INT_RGB));
+		this.silentAudioData = new AudioData();
+		this.grpcScreenData = GrpcUtil.convertScreenData(this.screenData, GrpcFrameCache.SCREEN_WIDTH,
+				GrpcFrameCache.SCREEN_HEIGHT, true);
+		this.grpcAudioData = new GrpcAudioData[] { GrpcUtil.convertAudioData(this.silentAudioData, audioPayloadOptions[0]),
+				GrpcUtil.convertAudioData(this.silentAudioData, audioPayloadOptions[1]) };
+
+		this.fighting = new Fighting(this.setting);
+		this.fighting.initialize();
+		this.gameData = new GameData(this.fighting.getCharacters(), this.setting);
+
+		for (int i = 0; i < 2; i++) {
+			if (aiNames[i] == null || aiNames[i].isEmpty()) {
+				this.playerUuids[i] = UUID.randomUUID();
+			} else {
+				this.controllers[i] = ResourceLoader.getInstance().loadAI(aiNames[i]);
+				if (this.controllers[i] == null) {
+					close();
+					throw new IllegalArgumentException("Cannot load AI: " + aiNames[i]);
+				}
+				this.controllers[i].initialize(this.threadController, this.gameData, i == 0, this.setting);
+				this.controllers[i].startProcessing();
+			}
+		}
+
+		reset();
+		this.isInitialized = false;
+	}
+
+	/**
+	 * Returns the identifier of the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the identifier of the player, or {@code null} if the player is
+	 *         controlled by an AI
+	 */
+	public UUID getPlayerUuid(boolean playerNumber) {
+		return this.playerUuids[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Starts a new game.
+	 */
+	public synchronized void reset() {
+		this.fighting.processingRoundEnd();
+		this.fighting.initRound();
+
+		this.frameData = new FrameData();
+		this.nowFrame = 0;
+		this.currentRound = 1;
+		this.roundResult = null;
+		this.isInitialized = true;
+		this.isGameEnd = false;
+		clearInputs();
+		clearFrames();
+	}
+
+	/**
+	 * Sets the input of a player for the next frame.
+	 *
+	 * @param playerUuid
+	 *            the identifier of the player
+	 * @param key
+	 *            the input of the player
+	 */
+	public synchronized void setInput(String playerUuid, Key key) {
+		this.inputs[getPlayerIndex(playerUuid)] = key;
+	}
+
+	/**
+	 * Advances the match by one frame.<br>
+	 * Nothing happens once the game has ended until {@link #reset()} is
+	 * called.
+	 *
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting for the AIs
+	 */
+	public synchronized void step() throws InterruptedException {
+		this.isInitialized = false;
+		if (this.isGameEnd) {
+			return;
+		}
+		this.roundResult = null;
+
+		for (int i = 0; i < 2; i++) {
+			if (this.controllers[i] != null) {
+				this.inputs[i] = this.controllers[i].getInput();
+			}
+		}
+		Key[] keys = new Key[2];
+		for (int i = 0; i < 2; i++) {
+			keys[i] = this.inputLatencies[i].apply(this.inputs[i]);
+		}
+		KeyData keyData = new KeyData(keys);
+		clearInputs();
+
+		this.fighting.processingFight(this.nowFrame, keyData);
+		this.frameData = this.fighting.createFrameData(this.nowFrame, this.currentRound);
+		for (FrameDelayQueue queue : this.framesData) {
+			queue.push(this.frameData);
+		}
+		setFrameDataToAIs();
+
+		if (isBeaten() || isTimeOver()) {
+			this.fighting.processingRoundEnd();
+			this.roundResult = new RoundResult(this.frameData, this.setting);
+			for (AIController controller : this.controllers) {
+				if (controller != null) {
+					controller.informRoundResult(this.roundResult);
+				}
+			}
+
+			if (this.currentRound >= GameSetting.ROUND_MAX) {
+				this.isGameEnd = true;
+			} else {
+				this.fighting.initRound();
+				this.nowFrame = 0;
+				this.currentRound++;
+				clearFrames();
+			}
+		} else {
+			this.nowFrame++;
+		}
+	}
+
+	/**
+	 * Returns the state of a player after the last reset or step.
+	 *
+	 * @param playerUuid
+	 *            the identifier of the player
+	 * @return the state of the player
+	 */
+	public synchronized PlayerGameState getState(String playerUuid) {
+		boolean playerNumber = getPlayerIndex(playerUuid) == 0;
+
+		PlayerGameState.Builder state = PlayerGameState.newBuilder();
+		if (this.isInitialized) {
+			state.setStateFlag(GrpcFlag.INITIALIZE).setGameData(GrpcUtil.convertGameData(this.gameData));
+		} else if (this.roundResult != null) {
+			state.setStateFlag(this.isGameEnd ? GrpcFlag.GAME_END : GrpcFlag.ROUND_END)
+					.setRoundResult(GrpcUtil.convertRoundResult(this.roundResult));
+		} else {
+			state.setStateFlag(GrpcFlag.PROCESSING);
+		}
+
+		FrameData delayedFrameData = this.framesData[playerNumber ? 0 : 1].peekFirst();
+		if (this.setting.isNoVisual(playerNumber)) {
+			delayedFrameData = delayedFrameData.withoutVisualData();
+		}
+		state.setIsControl(!this.frameData.getEmptyFlag() && this.frameData.getCharacter(playerNumber).isControl())
+				.setFrameData(GrpcUtil.convertFrameData(delayedFrameData))
+				.setAudioData(this.grpcAudioData[playerNumber ? 0 : 1]);
+		// as in the stream of a player, the screen is not sent to a blind player
+		if (!this.setting.isNoVisual(playerNumber)) {
+			state.setScreenData(this.grpcScreenData);
+		}
+		if (this.setting.isNonDelay(playerNumber)) {
+			state.setNonDelayFrameData(GrpcUtil.convertFrameData(this.frameData));
+		}
+
+		return state.build();
+	}
+
+	/**
+	 * Ends the AIs of this match.
+	 */
+	public synchronized void close() {
+		for (AIController controller : this.controllers) {
+			if (controller != null) {
+				controller.gameEnd();
+			}
+		}
+		// the match does not end while its AIs are still processing
+		try {
+			for (AIController controller : this.controllers) {
+				if (controller != null) {
+					controller.awaitTermination(TERMINATION_TIMEOUT);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		this.fighting.close();
+	}
+
+	private int getPlayerIndex(String playerUuid) {
+		for (int i = 0; i < 2; i++) {
+			if (this.playerUuids[i] != null && this.playerUuids[i].toString().equals(playerUuid)) {
+				return i;
+			}
+		}
+
+		throw new IllegalArgumentException("Unknown player: " + playerUuid);
+	}
+
+	private void clearInputs() {
+		for (int i = 0; i < 2; i++) {
+			this.inputs[i] = new Key();
+		}
+	}
+
+	private void clearFrames() {
+		for (int i = 0; i < 2; i++) {
+			this.framesData[i].clear();
+			this.inputLatencies[i].clear();
+		}
+
+		for (AIController controller : this.controllers) {
+			if (controller != null) {
+				controller.clear();
+			}
+		}
+	}
+
+	/**
+	 * Passes the frame data to the AIs and waits until they have processed
+	 * it.
+	 *
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting for the AIs
+	 */
+	private void setFrameDataToAIs() throws InterruptedException {
+		boolean hasAI = false;
+		for (int i = 0; i < 2; i++) {
+			if (this.controllers[i] != null) {
+				this.controllers[i].setFrameData(this.frameData);
+				this.controllers[i].setScreenData(this.screenData);
+				this.controllers[i].setAudioData(this.silentAudioData);
+				hasAI = true;
+			} else {
+				// There is no thread to wait for
+				this.threadController.notifyEndProcess(i == 0);
+			}
+		}
+
+		if (hasAI) {
+			long endFrameCount = this.threadController.getEndFrameCount();
+			this.threadController.resetAllAIsObj();
+			this.threadController.awaitEndFrame(endFrameCount, FRAME_TIMEOUT);
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
+	}
+
+	private boolean isBeaten() {
+		return this.setting.isLimitHpFlag()
+				&& (this.frameData.getCharacter(true).getHp() <= 0 || this.frameData.getCharacter(false).getHp() <= 0);
+	}
+
+	private boolean isTimeOver() {
+		if (this.setting.isTrainingModeFlag()) {
+			return this.nowFrame == Integer.MAX_VALUE;
+		} else {
+			return this.nowFrame >= GameSetting.ROUND_FRAME_NUMBER - 1;
+		}
+	}
+
+}
@@ -1,29 +1,49 @@
 package grpc;
 
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import enumerate.AudioFeature;
 import protoc.EnumProto.GrpcFlag;
 import protoc.ServiceProto.SpectatorGameState;
 import struct.AudioData;
 import struct.FrameData;
 import struct.GameData;
 import struct.ScreenData;
-import util.GrpcUtil;
 
+/**
+ * The spectator of the game.<br>
+ * The states are converted and sent by a thread of the agent, in the order
+ * of the calls, so that the game thread does not wait for the audio
+ * features computed on the worker threads.
+ */
 public class ObserverAgent {
 	
-	private boolean cancelled;
-	private StreamObserver<SpectatorGameState> responseObserver;
+	private volatile boolean cancelled;
+	private volatile StreamObserver<SpectatorGameState> responseObserver;
 	
 	private FrameData frameData;
 	private AudioData audioData;
 	private ScreenData screenData;
 	
+	/**
+	 * The thread converting and sending the states to the spectator.
+	 */
+	private final ExecutorService sender;
+	
 	public ObserverAgent() {
 		this.cancelled = true;
+		this.sender = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ObserverAgent-sender");
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 	
 	public void initialize(GameData gameData) {
@@ -54,14 +74,29 @@ public class ObserverAgent {
 		return this.cancelled;
 	}
 	
+	/**
+	 * Returns the audio features sent to the spectator, which are computed in
+	 * advance in each frame.
+	 *
+	 * @return the audio features sent, or none if no spectator is connected
+	 */
+	public Set<AudioFeature> getAudioFeatures() {
+		if (this.isCancelled()) {
+			return EnumSet.noneOf(AudioFeature.class);
+		}
+		return AudioPayloadOptions.DEFAULT.getFeatures();
+	}
+	
 	public void cancel() {
 		this.responseObserver = null;
 		this.cancelled = true;
 	}
 	
 	public void notifyOnCompleted() {
-		if (!this.isCancelled()) {
-			this.responseObserver.onCompleted();
+		StreamObserver<SpectatorGameState> responseObserver = this.responseObserver;
+		if (!this.isCancelled() && responseObserver != null) {
+			// completed after the states already queued
+			this.sender.execute(responseObserver::onCompleted);
 		}
 	}
 	
@@ -86,19 +121,43 @@ public class ObserverAgent {
 		this.audioData = audioData;
 	}
 	
+	/**
+	 * Sends the information of the current frame to the spectator.<br>
+	 * The state is built by the thread of the agent, which waits for the
+	 * audio features instead of the game thread.
+	 */
 	public void onGameUpdate() {
-		SpectatorGameState response = SpectatorGameState.newBuilder()
-  				.setStateFlag(GrpcFlag.PROCESSING)
-  				.setFrameData(GrpcUtil.convertFrameData(frameData))
-  				.setScreenData(GrpcUtil.convertScreenData(screenData, 96, 64, true))
-  				.setAudioData(GrpcUtil.convertAudioData(audioData))
-  				.build();
-		this.onNext(response);
+		if (this.isCancelled()) {
+			return;
+		}
+		
+		FrameData frameData = this.frameData;
+		AudioData audioData = this.audioData;
+		ScreenData screenData = this.screenData;
+		this.sender.execute(() -> {
+			if (this.isCancelled()) {
+				return;
+			}
+			SpectatorGameState response = SpectatorGameState.newBuilder()
+	  				.setStateFlag(GrpcFlag.PROCESSING)
+	  				.setFrameData(GrpcFrameCache.getInstance().getFrameData(frameData, false))
+	  				.setScreenData(GrpcFrameCache.getInstance().getScreenData(screenData))
+	  				.setAudioData(GrpcFrameCache.getInstance().getAudioData(audioData))
+	  				.build();
+			this.send(response);
+		});
 	}
 	
 	public void onNext(SpectatorGameState state) {
 		if (!this.isCancelled()) {
-			this.responseObserver.onNext(state);
+			this.sender.execute(() -> this.send(state));
+		}
+	}
+	
+	private void send(SpectatorGameState state) {
+		StreamObserver<SpectatorGameState> responseObserver = this.responseObserver;
+		if (!this.isCancelled() && responseObserver != null) {
+			responseObserver.onNext(state);
 		}
 	}
 
@@ -8,11 +8,16 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import aiinterface.AIControllerPool;
 import aiinterface.ThreadController;
+import enumerate.AudioFeature;
 import informationcontainer.RoundResult;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
@@ -38,6 +43,7 @@ public class PlayerAgent {
 	private boolean playerNumber;
 	private String playerName;
 	private boolean blind;
+	private AudioPayloadOptions audioPayloadOptions;
 	
 	private boolean isControl;
 	private FrameData frameData;
@@ -48,18 +54,40 @@ public class PlayerAgent {
 	private StreamObserver<PlayerGameState> responseObserver;
 	private boolean gameStarted;
 	private boolean waitFlag;
+	private int missedFrames;
+	private boolean lockstepFlag;
+	
+	/**
+	 * The continuation waiting for the answer of the player without holding
+	 * a thread, or {@code null}.
+	 */
+	private Runnable inputContinuation;
+	private Executor inputContinuationExecutor;
+	private ScheduledFuture<?> inputTimeout;
 	
 	public PlayerAgent() {
 		this.playerUuid = UUID.randomUUID();
 		this.cancelled = true;
+		this.audioPayloadOptions = AudioPayloadOptions.DEFAULT;
 
 		this.gameStarted = false;
 		this.waitFlag = false;
 	}
 	
+	/**
+	 * Initializes the player with the settings requested by the client.
+	 *
+	 * @param request
+	 *            the request of the client
+	 * @throws IllegalArgumentException
+	 *             if the requested audio encoding is not supported, in which
+	 *             case the player is left unchanged
+	 */
 	public void initializeRPC(InitializeRequest request) {
+		AudioPayloadOptions audioPayloadOptions = GrpcUtil.getAudioPayloadOptions(request);
 		this.playerName = request.getPlayerName();
 		this.blind = request.getIsBlind();
+		this.audioPayloadOptions = audioPayloadOptions;
 	}
 	
 	public void participateRPC(StreamObserver<PlayerGameState> responseObserver) {
@@ -73,14 +101,35 @@ public class PlayerAgent {
 				PlayerAgent.this.cancel();
 			}
 		});
+		if (this.audioPayloadOptions.isDelta()) {
+			// the differences of the audio data are small and compress well
+			((ServerCallStreamObserver<PlayerGameState>) responseObserver).setCompression("gzip");
+		}
 		this.cancelled = false;
 		this.responseObserver = responseObserver;
 	}
 	
-	public void initialize(GameData gameData, boolean playerNumber) {
+	/**
+	 * Initializes the player for a new game.
+	 *
+	 * @param gameData
+	 *            the game data
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @param lockstepFlag
+	 *            {@code true} if the game waits for the input of the player
+	 *            in each frame
+	 */
+	public void initialize(GameData gameData, boolean playerNumber, boolean lockstepFlag) {
 		this.playerNumber = playerNumber;
+		this.lockstepFlag = lockstepFlag;
 		
 		this.isControl = false;
+		this.missedFrames = 0;
+		synchronized (this) {
+			// a continuation left by the previous game is dropped
+			this.clearInputContinuation();
+		}
 		this.frameData = new FrameData();
 		this.audioData = new AudioData();
 		this.screenData = new ScreenData();
@@ -92,6 +141,10 @@ public class PlayerAgent {
 	public void cancel() {
 		this.responseObserver = null;
 		this.cancelled = true;
+		synchronized (this) {
+			this.notifyAll();
+		}
+		this.resumeInputContinuation();
 	}
 	
 	public UUID getPlayerUuid() {
@@ -110,14 +163,105 @@ public class PlayerAgent {
 		return this.blind || LaunchSetting.noVisual[this.playerNumber ? 0 : 1];
 	}
 	
+	public Set<AudioFeature> getAudioFeatures() {
+		return this.audioPayloadOptions.getFeatures();
+	}
+	
 	public boolean isGameStarted() {
 		return this.gameStarted;
 	}
 	
-	public boolean isReady() {
+	public synchronized boolean isReady() {
 		return !this.waitFlag;
 	}
 	
+	public synchronized int getMissedFrames() {
+		return this.missedFrames;
+	}
+	
+	/**
+	 * Waits until the player answers the last game state sent to it.<br>
+	 * If the player does not answer in time, the frame is counted as missed
+	 * and the answer is still awaited in the next frame.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait in milliseconds
+	 * @return {@code true} if the player has answered, {@code false} if the
+	 *         frame is missed
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting
+	 */
+	public synchronized boolean awaitInput(long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		for (long remaining = timeout; this.waitFlag && !this.isCancelled() && remaining > 0;
+				remaining = deadline - System.currentTimeMillis()) {
+			this.wait(remaining);
+		}
+		
+		if (this.waitFlag) {
+			this.missedFrames++;
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Runs a continuation once the player has answered the last game state
+	 * sent to it, without holding a thread while waiting.<br>
+	 * The continuation is run on the executor when the input arrives, the
+	 * player is cancelled or the time runs out, in which case the frame is
+	 * counted as missed like {@link #awaitInput(long)}. If the player has
+	 * already answered, it is run at once by the calling thread.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait in milliseconds
+	 * @param executor
+	 *            the executor running the continuation
+	 * @param continuation
+	 *            the continuation
+	 */
+	public void awaitInput(long timeout, Executor executor, Runnable continuation) {
+		synchronized (this) {
+			if (this.waitFlag && !this.isCancelled()) {
+				this.clearInputContinuation();
+				this.inputContinuation = continuation;
+				this.inputContinuationExecutor = executor;
+				this.inputTimeout = AIControllerPool.getInstance().schedule(this::resumeInputContinuation, timeout);
+				return;
+			}
+		}
+		continuation.run();
+	}
+	
+	/**
+	 * Runs the continuation waiting for the answer of the player, if any.
+	 */
+	private void resumeInputContinuation() {
+		Runnable continuation;
+		Executor executor;
+		synchronized (this) {
+			continuation = this.inputContinuation;
+			executor = this.inputContinuationExecutor;
+			if (continuation == null) {
+				return;
+			}
+			if (this.waitFlag) {
+				this.missedFrames++;
+			}
+			this.clearInputContinuation();
+		}
+		executor.execute(continuation);
+	}
+	
+	private void clearInputContinuation() {
+		if (this.inputTimeout != null) {
+			this.inputTimeout.cancel(false);
+		}
+		this.inputContinuation = null;
+		this.inputContinuationExecutor = null;
+		this.inputTimeout = null;
+	}
+	
 	public void rpcWarmingUp() {
         Logger.getAnonymousLogger().log(Level.INFO, "Warming up RPC streaming for P" + (playerNumber ? "1" : "2"));
 		for (int i = 0; i < 100; i++) {
@@ -136,7 +280,8 @@ public class PlayerAgent {
 		this.screenData = screenData;
 		this.audioData = audioData;
 		if (this.isBlind()) {
-			this.frameData.removeVisualData();
+			// the frame data is shared with the other AI
+			this.frameData = frameData.withoutVisualData();
 			this.screenData = null;
 		}
 	}
@@ -152,26 +297,41 @@ public class PlayerAgent {
 	}
 	
 	public void onGameUpdate() {
-		if (!this.waitFlag) {
-			this.startTimer(frameData.getFramesNumber());
-			this.waitFlag = true;
+		synchronized (this) {
+			if (!this.waitFlag) {
+				this.startTimer(frameData.getFramesNumber());
+				this.waitFlag = true;
+			}
 		}
 		
 		PlayerGameState.Builder response = PlayerGameState.newBuilder()
 				.setStateFlag(GrpcFlag.PROCESSING)
 				.setIsControl(isControl)
-  				.setFrameData(GrpcUtil.convertFrameData(frameData))
-  				.setScreenData(GrpcUtil.convertScreenData(screenData, 96, 64, true))
-  				.setAudioData(GrpcUtil.convertAudioData(audioData));
+  				.setFrameData(GrpcFrameCache.getInstance().getFrameData(frameData, this.isBlind()))
+  				.setScreenData(GrpcFrameCache.getInstance().getScreenData(screenData))
+  				.setAudioData(GrpcFrameCache.getInstance().getAudioData(audioData, this.audioPayloadOptions));
 		if (LaunchSetting.nonDelay[playerNumber ? 0 : 1]) {
-			response.setNonDelayFrameData(GrpcUtil.convertFrameData(nonDelayFrameData));
+			response.setNonDelayFrameData(GrpcFrameCache.getInstance().getFrameData(nonDelayFrameData, false));
 		}
 		this.onNext(response.build());
 	}
 	
 	public void onRoundEnd(RoundResult roundResult) {
-		this.waitFlag = false;
+		synchronized (this) {
+			this.waitFlag = false;
+		}
+		this.resumeInputContinuation();
 		this.exportGrpcPerfAsCsv();
+		if (this.lockstepFlag) {
+			int missedFrames;
+			synchronized (this) {
+				// the frames are counted per round
+				missedFrames = this.missedFrames;
+				this.missedFrames = 0;
+			}
+			Logger.getAnonymousLogger().log(Level.INFO, String.format("P%s missed %d frames in round %d",
+					playerNumber ? "1" : "2", missedFrames, roundResult.getRound()));
+		}
 		boolean isGameEnd = roundResult.getRound() >= GameSetting.ROUND_MAX;
 		
 		PlayerGameState response = PlayerGameState.newBuilder()
@@ -191,10 +351,14 @@ public class PlayerAgent {
 			InputManager.getInstance().setInput(playerNumber, key);
 		}
 		
-		if (this.waitFlag) {
-    		this.endTimer();
-    		this.waitFlag = false;
-    	}
+		synchronized (this) {
+			if (this.waitFlag) {
+	    		this.endTimer();
+	    		this.waitFlag = false;
+	    		this.notifyAll();
+	    	}
+		}
+		this.resumeInputContinuation();
 	}
 	
 	public void onNext(PlayerGameState state) {
@@ -2,6 +2,7 @@ package grpc;
 
 import com.google.protobuf.Empty;
 
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import protoc.ServiceGrpc;
 import protoc.ServiceProto.InitializeRequest;
@@ -35,7 +36,12 @@ public class ServiceImpl extends ServiceGrpc.ServiceImplBase {
 	@Override
 	public void initialize(InitializeRequest request, StreamObserver<InitializeResponse> responseObserver) {
 		PlayerAgent player = server.getPlayer(request.getPlayerNumber());
-		player.initializeRPC(request);
+		try {
+			player.initializeRPC(request);
+		} catch (IllegalArgumentException e) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+			return;
+		}
 		InitializeResponse response = InitializeResponse.newBuilder()
 				.setPlayerUuid(player.getPlayerUuid().toString())
 				.build();
@@ -1,6 +1,6 @@
 package informationcontainer;
 
-import setting.FlagSetting;
+import setting.MatchSetting;
 import struct.FrameData;
 
 /**
@@ -55,11 +55,24 @@ public class RoundResult {
 	 *            Game data within the frame
 	 */
 	public RoundResult(FrameData frameData) {
+		this(frameData, new MatchSetting());
+	}
+
+	/**
+	 * Class constructor to update RoundResult with information related to results obtained from the provided frame
+	 * data of a match with the specified settings.
+	 *
+	 * @param frameData
+	 *            Game data within the frame
+	 * @param setting
+	 *            Settings of the match
+	 */
+	public RoundResult(FrameData frameData, MatchSetting setting) {
 		this.currentRound = frameData.getRound();
 		this.elapsedFrame = frameData.getFramesNumber() + 1;
 		this.remainingHPs = new int[] { frameData.getCharacter(true).getHp(), frameData.getCharacter(false).getHp() };
 
-		if (FlagSetting.limitHpFlag) {
+		if (setting.isLimitHpFlag()) {
 			this.remainingHPs[0] = Math.max(this.remainingHPs[0], 0);
 			this.remainingHPs[1] = Math max(this.remainingHPs[1], 0);
 		}
@@ -0,0 +1,137 @@
+package input;
+
+import java.util.Random;
+
+import struct.Key;
+
+/**
+ * A class delaying the input Keys of a player before they are applied to the game.<br>
+ * The Key input in a frame arrives after the action delay plus a jitter drawn uniformly from
+ * [0, action jitter] frames. In each frame, the most recently input Key that has arrived is applied and the Keys
+ * input before it are discarded, so the inputs are never applied out of order; until a Key arrives, the last applied
+ * Key is kept.<br>
+ * The jitter is drawn from a random number generator with the given seed, so a game can be reproduced.
+ */
+public class InputLatency {
+
+	/**
+	 * The number of frames every input Key is delayed by.
+	 */
+	private final int delay;
+
+	/**
+	 * The maximum number of frames added to the delay of an input Key.
+	 */
+	private final int jitter;
+
+	/**
+	 * The random number generator of the jitter.
+	 */
+	private final Random random;
+
+	/**
+	 * The input Keys that have not been applied yet, the oldest at {@link #head}.
+	 */
+	private final Key[] keys;
+
+	/**
+	 * The frame at which each input Key arrives.
+	 */
+	private final long[] arrivals;
+
+	private int head;
+
+	private int size;
+
+	/**
+	 * The number of Keys input so far.
+	 */
+	private long frame;
+
+	/**
+	 * The Key applied in the last frame.
+	 */
+	private Key applied;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param delay
+	 *            The number of frames every input Key is delayed by.
+	 * @param jitter
+	 *            The maximum number of frames added to the delay of an input Key, or 0 for no jitter.
+	 * @param seed
+	 *            The seed of the jitter.
+	 */
+	public InputLatency(int delay, int jitter, long seed) {
+		if (delay < 0 || jitter < 0) {
+			throw new IllegalArgumentException("The input latency must not be negative: " + delay + ", " + jitter);
+		}
+
+		this.delay = delay;
+		this.jitter = jitter;
+		this.random = new Random(seed);
+		// a Key input more than delay + jitter frames before has arrived and been applied or discarded
+		this.keys = new Key[delay + jitter + 1];
+		this.arrivals = new long[delay + jitter + 1];
+		this.applied = new Key();
+	}
+
+	/**
+	 * Returns whether the input Keys are applied as soon as they are input.
+	 *
+	 * @return {@code true} if there is neither delay nor jitter
+	 */
+	public boolean isImmediate() {
+		return this.delay == 0 && this.jitter == 0;
+	}
+
+	/**
+	 * Inputs the Key of the current frame and returns the Key to apply in this frame.<br>
+	 * This method must be called exactly once per frame.
+	 *
+	 * @param key
+	 *            The Key input in the current frame.
+	 *
+	 * @return The Key to apply in the current frame.
+	 */
+	public Key apply(Key key) {
+		if (isImmediate()) {
+			return key;
+		}
+
+		int index = (this.head + this.size) % this.keys.length;
+		this.keys[index] = key;
+		this.arrivals[index] = this.frame + this.delay + (this.jitter > 0 ? this.random.nextInt(this.jitter + 1) : 0);
+		this.size++;
+
+		int newest = -1;
+		for (int i = 0; i < this.size; i++) {
+			if (this.arrivals[(this.head + i) % this.keys.length] <= this.frame) {
+				newest = i;
+			}
+		}
+		for (int i = 0; i <= newest; i++) {
+			this.applied = this.keys[this.head];
+			this.keys[this.head] = null;
+			this.head = (this.head + 1) % this.keys.length;
+			this.size--;
+		}
+
+		this.frame++;
+		return this.applied;
+	}
+
+	/**
+	 * Discards the Keys that have not been applied yet, at the start of a round.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.keys.length; i++) {
+			this.keys[i] = null;
+		}
+		this.head = 0;
+		this.size = 0;
+		this.applied = new Key();
+	}
+
+}
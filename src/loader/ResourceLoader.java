@@ -42,6 +42,7 @@ import image.CharacterActionImage;
 import image.Image;
 import manager.GraphicManager;
 import manager.SoundManager;
+import setting.FlagSetting;
 import setting.GameSetting;
 import setting.LaunchSetting;
 import setting.ResourceSetting;
@@ -88,6 +89,12 @@ public class ResourceLoader {
 		String graphicPath = "./data/graphics/";
 		String characterGraphicPath = "./data/characters/";
 
+		// ヘッドレスモードではOpenGLのテクスチャを作成できないため，画像を読み込まない
+		if (FlagSetting.headlessFlag) {
+			loadSoundResource();
+			return;
+		}
+
 		// 波動拳読み込み
 		if (!isLoaded("hadouken")) {
 			loadImages(GraphicManager.getInstance().getProjectileImageContainer(),
@@ -149,6 +156,13 @@ public class ResourceLoader {
 		loadCharacterImages(characterGraphicPath);
 		Logger.getAnonymousLogger().log(Level.INFO, "Character images have been loaded.");
 
+		loadSoundResource();
+	}
+
+	/**
+	 * サウンドエフェクト及びBGMを読み込む．
+	 */
+	private void loadSoundResource() {
 		// サウンドエフェクト読み込み
 		if (!isLoaded("soundEffect")) {
 			loadSoundEffect();
@@ -252,13 +266,28 @@ public class ResourceLoader {
 	 *         読み込んだAIが無ければnullを返す．
 	 */
 	public AIController loadAI(String aiName) {
+		AIInterface ai = loadAIInterface(aiName);
+
+		return ai == null ? null : new AIController(ai);
+	}
+
+	/**
+	 * 指定されたAI名のjarファイルを読み込み、AIのインスタンスを返す．<br>
+	 * 呼び出すたびに新しいクラスローダで読み込むため，並行して実行される試合のAIは互いに独立している．
+	 *
+	 * @param aiName
+	 *            読み込みたいAIの名前
+	 *
+	 * @return 読み込んだAIのインスタンス<br>
+	 *         読み込んだAIが無ければnullを返す．
+	 */
+	public AIInterface loadAIInterface(String aiName) {
 		File file = new File("./data/ai/" + aiName + ".jar");
 
 		try {
 			ClassLoader cl = URLClassLoader.newInstance(new URL[] { file.toURI().toURL() });
 			Class<?> c = cl.loadClass(aiName);
-			AIInterface ai = (AIInterface) c.getDeclaredConstructor().newInstance();
-			return new AIController(ai);
+			return (AIInterface) c.getDeclaredConstructor().newInstance();
 		} catch (Exception e) {
 			e.printStackTrace();
 			return null;
@@ -0,0 +1,254 @@
+package loader;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.lwjgl.util.WaveData;
+
+import setting.FlagSetting;
+import setting.ResourceSetting;
+
+/**
+ * デコード済みの音声をプロセス全体で共有するシングルトンパターンクラス．<br>
+ * 音声はファイルの内容のハッシュ値をキーとして保持されるため，同じ内容の音声は一度しかデコードされない．
+ * {@link FlagSetting#soundCacheFlag}が有効な場合は，デコード済みの音声を{@link ResourceSetting#SOUND_CACHE_DIRECTORY}にも保存し，
+ * 以降のプロセスではデコードせずにメモリマップして読み込む．
+ */
+public class SoundCache {
+
+	/**
+	 * キャッシュファイルの先頭に置く識別子．
+	 */
+	private static final byte[] MAGIC = { 'F', 'T', 'G', 'P', 'C', 'M', '0', '1' };
+
+	/**
+	 * キャッシュファイルのヘッダの長さ．識別子，バイトオーダー，フォーマット，サンプリングレート及びデータ長からなる．
+	 */
+	private static final int HEADER_SIZE = MAGIC.length + 4 * 4;
+
+	/**
+	 * デコード済みの音声を格納するマップ．キーはファイルの内容のSHA-256ハッシュ値．
+	 */
+	private final Map<String, DecodedSound> sounds;
+
+	/**
+	 * クラスコンストラクタ．
+	 */
+	private SoundCache() {
+		this.sounds = new HashMap<String, DecodedSound>();
+	}
+
+	/**
+	 * SoundCacheクラスの唯一のインスタンスを取得する．
+	 *
+	 * @return SoundCacheクラスの唯一のインスタンス
+	 */
+	public static SoundCache getInstance() {
+		return SoundCacheHolder.instance;
+	}
+
+	/**
+	 * getInstance()が呼ばれたときに初めてインスタンスを生成するホルダークラス．
+	 */
+	private static class SoundCacheHolder {
+		private static final SoundCache instance = new SoundCache();
+	}
+
+	/**
+	 * Wav音声ファイルをデコードした音声を返す．
+	 *
+	 * @param filePath
+	 *            音声のファイルパス
+	 * @return デコード済みの音声．ファイルを読み込めない場合はnull
+	 */
+	public synchronized DecodedSound load(String filePath) {
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(new File(filePath).toPath());
+		} catch (IOException e) {
+			Logger.getAnonymousLogger().log(Level.WARNING, "Cannot read the sound file: " + filePath);
+			return null;
+		}
+
+		String key = hash(bytes);
+		DecodedSound sound = this.sounds.get(key);
+		if (sound != null) {
+			return sound;
+		}
+
+		Path cacheFile = new File(ResourceSetting.SOUND_CACHE_DIRECTORY, key + ".pcm").toPath();
+		if (FlagSetting.soundCacheFlag) {
+			sound = readCache(cacheFile);
+		}
+		if (sound == null) {
+			WaveData waveData = WaveData.create(new ByteArrayInputStream(bytes));
+			if (waveData == null) {
+				Logger.getAnonymousLogger().log(Level.WARNING, "Cannot decode the sound file: " + filePath);
+				return null;
+			}
+			sound = new DecodedSound(waveData.format, waveData.data, waveData.samplerate);
+			if (FlagSetting.soundCacheFlag) {
+				writeCache(cacheFile, sound);
+			}
+		}
+
+		this.sounds.put(key, sound);
+		return sound;
+	}
+
+	/**
+	 * キャッシュファイルをメモリマップして読み込む．
+	 *
+	 * @param cacheFile
+	 *            キャッシュファイルのパス
+	 * @return デコード済みの音声．キャッシュファイルが存在しないか，壊れているか，このプロセスで使えない場合はnull
+	 */
+	private DecodedSound readCache(Path cacheFile) {
+		if (!Files.isRegularFile(cacheFile)) {
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+			// ヘッダより短いファイルは書き込みの途中で壊れたものとして扱う
+			if (channel.size() < HEADER_SIZE) {
+				return null;
+			}
+
+			ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			byte[] magic = new byte[MAGIC.length];
+			mapped.get(magic);
+			int byteOrder = mapped.getInt();
+			int format = mapped.getInt();
+			int sampleRate = mapped.getInt();
+			int length = mapped.getInt();
+			// 16ビットの音声はネイティブのバイトオーダーで格納されている
+			if (!Arrays.equals(magic, MAGIC) || byteOrder != nativeOrderId()
+					|| length != channel.size() - HEADER_SIZE) {
+				return null;
+			}
+
+			ByteBuffer data = mapped.slice().order(ByteOrder.nativeOrder());
+			return new DecodedSound(format, data, sampleRate);
+		} catch (IOException | RuntimeException e) {
+			// 壊れたキャッシュファイルは無視し，音声をデコードし直して上書きする
+			Logger.getAnonymousLogger().log(Level.WARNING, "Cannot read the sound cache: " + cacheFile);
+			return null;
+		}
+	}
+
+	/**
+	 * デコード済みの音声をキャッシュファイルに書き込む．<br>
+	 * 書き込み中のファイルを他のプロセスが読み込まないよう，一時ファイルに書き込んでから置き換える．
+	 *
+	 * @param cacheFile
+	 *            キャッシュファイルのパス
+	 * @param sound
+	 *            デコード済みの音声
+	 */
+	private void writeCache(Path cacheFile, DecodedSound sound) {
+		Path tempFile = null;
+		try {
+			Files.createDirectories(cacheFile.getParent());
+			tempFile = Files.createTempFile(cacheFile.getParent(), "sound", ".tmp");
+
+			ByteBuffer data = sound.getData();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.put(MAGIC).putInt(nativeOrderId()).putInt(sound.getFormat()).putInt(sound.getSampleRate())
+					.putInt(data.remaining()).flip();
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+				while (header.hasRemaining()) {
+					channel.write(header);
+				}
+				while (data.hasRemaining()) {
+					channel.write(data);
+				}
+			}
+			Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			Logger.getAnonymousLogger().log(Level.WARNING, "Cannot write the sound cache: " + cacheFile);
+		} finally {
+			// the temporary file is left only if the move has failed
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				} catch (IOException e) {
+					Logger.getAnonymousLogger().log(Level.WARNING, "Cannot delete the temporary file: " + tempFile);
+				}
+			}
+		}
+	}
+
+	private static int nativeOrderId() {
+		return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 0 : 1;
+	}
+
+	private static String hash(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * デコード済みの音声．
+	 */
+	public static class DecodedSound {
+
+		/**
+		 * OpenALのフォーマット．
+		 */
+		private final int format;
+
+		/**
+		 * 音声のデータ．16ビットの音声はネイティブのバイトオーダーで格納される．
+		 */
+		private final ByteBuffer data;
+
+		/**
+		 * サンプリングレート．
+		 */
+		private final int sampleRate;
+
+		private DecodedSound(int format, ByteBuffer data, int sampleRate) {
+			this.format = format;
+			this.data = data;
+			this.sampleRate = sampleRate;
+		}
+
+		public int getFormat() {
+			return this.format;
+		}
+
+		/**
+		 * 音声のデータを返す．<br>
+		 * 返されるバッファは読み込み位置を共有しないため，自由に読み込んでよい．
+		 *
+		 * @return 音声のデータ
+		 */
+		public ByteBuffer getData() {
+			return this.data.duplicate().order(this.data.order()).rewind();
+		}
+
+		public int getSampleRate() {
+			return this.sampleRate;
+		}
+	}
+
+}
@@ -18,8 +18,12 @@ import image.LetterImage;
 import render.ImageTask;
 import render.QuadTask;
 import render.RenderTask;
+import render.ScaledScreenRenderer;
+import render.ScreenReader;
 import render.StringTask;
+import setting.FlagSetting;
 import setting.GameSetting;
+import setting.LaunchSetting;
 
 /**
  * 画像の描画を管理するマネージャークラス．
@@ -83,6 +87,21 @@ public class GraphicManager {
 
 	private Graphics2D screenGraphic;
 
+	/**
+	 * ゲーム画面のRGBデータを読み出すクラス．最初に画面を読み出すときに生成する．
+	 */
+	private ScreenReader screenReader;
+
+	/**
+	 * AIに渡す画面を描画するタスクのリスト．GPUで縮小する場合のみ用いる．
+	 */
+	private LinkedList<RenderTask> screenDataTaskList;
+
+	/**
+	 * AIに渡す画面を縮小した解像度で描画するクラス．最初に描画するときに生成する．
+	 */
+	private ScaledScreenRenderer scaledScreenRenderer;
+
 
 	/**
 	 * クラスコンストラクタ．
@@ -91,7 +110,9 @@ public class GraphicManager {
 		Logger.getAnonymousLogger().log(Level.INFO, "Create instance: " + GraphicManager.class.getName());
 
 		this.renderTaskList = new LinkedList<RenderTask>();
-		this.letterImage = new LetterImage();
+		this.screenDataTaskList = new LinkedList<RenderTask>();
+		// ヘッドレスモードではOpenGLのテクスチャを作成できないため，文字画像を読み込まない
+		this.letterImage = FlagSetting.headlessFlag ? null : new LetterImage();
 
 		this.characterImageContainer = new ArrayList<CharacterActionImage>();
 
@@ -258,6 +279,12 @@ public class GraphicManager {
 	}
 
 	public void drawImageinScreenData(Image img, int x, int y, int sizeX, int sizeY, boolean direction){
+		if (isScreenScaledOnGpu()) {
+			// 画面はGPUでのみ描画する
+			this.screenDataTaskList.add(new ImageTask(img.getTextureId(), x, y, sizeX, sizeY, direction));
+			return;
+		}
+
 		if(direction){
 			screenGraphic.drawImage(img.getBufferedImage(), x, y, sizeX, sizeY, null);
 		}else{
@@ -269,6 +296,11 @@ public class GraphicManager {
 	}
 
 	public void drawLineQuadinScreenData(int x, int y, int sizeX, int sizeY, float red, float green, float blue, float alpha){
+		if (isScreenScaledOnGpu()) {
+			this.screenDataTaskList.add(new QuadTask(QuadTask.LINE_QUAD, x, y, sizeX, sizeY, red, green, blue, alpha));
+			return;
+		}
+
 		screenGraphic.setColor(new Color(red,green,blue));
 		screenGraphic.drawRect(x, y, sizeX, sizeY);
 	}
@@ -351,6 +383,7 @@ public class GraphicManager {
 	}
 
 	public void resetScreen(){
+		this.screenDataTaskList.clear();
 		screen = new BufferedImage(screen.getWidth(), screen.getHeight(), BufferedImage.TYPE_INT_RGB);
 		screenGraphic = screen.createGraphics();
 		screenGraphic.setColor(new Color (128,128,128));
@@ -364,6 +397,56 @@ public class GraphicManager {
 		return screen;
 	}
 
+	/**
+	 * ゲーム画面のRGBデータを読み出す．<br>
+	 * 非同期読み出しが有効な場合，得られる画面は数フレーム前のものとなる．
+	 *
+	 * @return ゲーム画面のRGBデータ
+	 * @see ScreenReader
+	 */
+	public byte[] readScreenPixels() {
+		if (this.screenReader == null) {
+			this.screenReader = new ScreenReader(GameSetting.STAGE_WIDTH, GameSetting.STAGE_HEIGHT,
+					FlagSetting.asyncScreenCaptureFlag);
+		}
+
+		return this.screenReader.read();
+	}
+
+	/**
+	 * AIに渡す画面を{@link LaunchSetting#scaledScreenSize}の解像度でGPUに描画し，そのRGBデータを読み出す．
+	 *
+	 * @return 上の行から順に並べたRGBデータ．GPUで縮小しない場合はnull
+	 * @see ScaledScreenRenderer
+	 */
+	public byte[] renderScaledScreen() {
+		if (!isScreenScaledOnGpu()) {
+			return null;
+		}
+
+		return this.scaledScreenRenderer.render(this.screenDataTaskList);
+	}
+
+	/**
+	 * AIに渡す画面をGPUで縮小して描画するかどうかを返す．<br>
+	 * この場合，AIに渡す画面はJava2Dでは描画せず，フル解像度の画面も読み出さない．
+	 * 縮小した画面を描画するクラスは最初に呼び出されたときに生成する．
+	 *
+	 * @return GPUで縮小して描画する場合はtrue
+	 */
+	public boolean isScreenScaledOnGpu() {
+		if (!FlagSetting.gpuScreenScaleFlag || FlagSetting.headlessFlag) {
+			return false;
+		}
+
+		if (this.scaledScreenRenderer == null) {
+			this.scaledScreenRenderer = new ScaledScreenRenderer(LaunchSetting.scaledScreenSize[0],
+					LaunchSetting.scaledScreenSize[1]);
+		}
+
+		return this.scaledScreenRenderer.isAvailable();
+	}
+
 	/**
 	 * GraphicManagerのフィールド変数をクリアする．
 	 */
@@ -378,6 +461,15 @@ public class GraphicManager {
 		this.upperImageContainer = null;
 		this.hitEffectImageContainer = null;
 		this.backGroundImage.clear();
+		if (this.screenReader != null) {
+			this.screenReader.close();
+			this.screenReader = null;
+		}
+		this.screenDataTaskList.clear();
+		if (this.scaledScreenRenderer != null) {
+			this.scaledScreenRenderer.close();
+			this.scaledScreenRenderer = null;
+		}
 	}
 
 }
@@ -0,0 +1,66 @@
+package manager;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import setting.FlagSetting;
+import setting.LaunchSetting;
+
+/**
+ * ウィンドウ, OpenGL及びOpenALを使わずにゲームの進行管理を行うマネージャクラス．<br>
+ * GPUやサウンドデバイスの無い環境で，CPUの許す限りの速さで対戦を行うために用いる．
+ */
+public class HeadlessManager {
+
+	/**
+	 * クラスコンストラクタ．
+	 */
+	public HeadlessManager() {
+
+	}
+
+	/**
+	 * ゲームをスタートさせる．<br>
+	 * 1. ゲームマネージャの初期化を行う．<br>
+	 * 2. ゲームの終了処理命令が来るまで，フレームレートの同期や描画を行わずにゲーム状態の更新を繰り返す．<br>
+	 * 3. ゲームの終了処理を行う．<br>
+	 *
+	 * @param game
+	 *            GameManagerクラスのインスタンス
+	 * @see GameManager
+	 */
+	public void start(GameManager game) {
+		System.setProperty("java.awt.headless", "true");
+		Logger.getAnonymousLogger().log(Level.INFO, "Headless mode");
+
+		// ゲームマネージャ初期化
+		game.initialize();
+
+		// メインループ
+		while (!game.isExit()) {
+			game.update();
+		}
+		game.close();
+
+		// ゲームの終了処理
+		close();
+	}
+
+	/**
+	 * ゲームの終了処理を行う．
+	 */
+	private void close() {
+		SoundManager.getInstance().close();
+
+		if (FlagSetting.grpc) {
+			try {
+				LaunchSetting.grpcServer.stop();
+			} catch (InterruptedException e) {
+				Logger.getAnonymousLogger().log(Level.INFO, "Fail to stop gRPC server");
+			}
+		}
+
+		Logger.getAnonymousLogger().log(Level.INFO, "Close FightingICE");
+		System.exit(0);
+	}
+}
@@ -15,6 +15,7 @@ import static org.lwjgl.glfw.GLFW.GLFW_KEY_X;
 import static org.lwjgl.glfw.GLFW.GLFW_KEY_Y;
 import static org.lwjgl.glfw.GLFW.GLFW_KEY_Z;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -22,15 +23,18 @@ import java.util.logging.Logger;
 import aiinterface.AIController;
 import aiinterface.AIInterface;
 import aiinterface.ThreadController;
+import enumerate.AudioFeature;
 import enumerate.GameSceneName;
 import informationcontainer.AIContainer;
 import informationcontainer.RoundResult;
+import input.InputLatency;
 import input.KeyData;
 import input.Keyboard;
 import loader.ResourceLoader;
 import py4j.Py4JException;
 import setting.FlagSetting;
 import setting.LaunchSetting;
+import setting.MatchSetting;
 import struct.AudioData;
 import struct.FrameData;
 import struct.GameData;
@@ -57,6 +61,16 @@ public class InputManager {
 	 */
 	private AIController[] ais;
 
+	/**
+	 * 各AIのキー入力に適用する遅延を格納する配列．
+	 */
+	private InputLatency[] inputLatencies;
+
+	/**
+	 * 現在の試合の設定．
+	 */
+	private MatchSetting setting;
+
 	/**
 	 * ゲームのシーン名．
 	 */
@@ -89,11 +103,6 @@ public class InputManager {
 	 */
 	private char[] deviceTypes;
 
-	/**
-	 * 1フレーム分のゲームの処理が終わったことを示すオブジェクト．
-	 */
-	private Object endFrame;
-
 	/**
 	 * InputManagerクラスのクラスコンストラクタ．<br>
 	 * デバイスタイプはデフォルトでキーボードを指定する．
@@ -109,8 +118,6 @@ public class InputManager {
 		for (int i = 0; i < this.deviceTypes.length; i++) {
 			this.deviceTypes[i] = DEVICE_TYPE_KEYBOARD;
 		}
-
-		this.endFrame = ThreadController.getInstance().getEndFrame();
 	}
 
 	/**
@@ -163,6 +170,9 @@ public class InputManager {
 			case DEVICE_TYPE_AI:
 			case DEVICE_TYPE_GRPC:
 				keys[i] = getKeyFromAI(this.ais[i]);
+				if (this.inputLatencies != null) {
+					keys[i] = this.inputLatencies[i].apply(keys[i]);
+				}
 				break;
 			default:
 				break;
@@ -221,6 +231,8 @@ public class InputManager {
 
 		this.deviceTypes = LaunchSetting.deviceTypes.clone();
 		this.ais = new AIController[DEFAULT_DEVICE_NUMBER];
+		this.setting = new MatchSetting();
+		this.inputLatencies = new InputLatency[] { this.setting.createInputLatency(true), this.setting.createInputLatency(false) };
 		for (int i = 0; i < this.deviceTypes.length; i++) {
 			if (this.deviceTypes[i] == DEVICE_TYPE_AI) {
 				if (this.predifinedAIs.containsKey(aiNames[i])) {
@@ -248,12 +260,28 @@ public class InputManager {
 		for (int i = 0; i < this.deviceTypes.length; i++) {
 			if (this.ais[i] != null) {
 		        Logger.getAnonymousLogger().log(Level.INFO, String.format("Initialize AI controller for P%s", i == 0 ? "1" : "2"));
-				this.ais[i].initialize(ThreadController.getInstance().getAIsObject(i == 0), gameData, i == 0);
-				this.ais[i].start();// start the thread
+				this.ais[i].initialize(ThreadController.getInstance(), gameData, i == 0, this.setting);
+				this.ais[i].startProcessing();
 			}
 		}
 	}
 
+	/**
+	 * 各AIが用いる音声の特徴量をまとめて返す．
+	 *
+	 * @return 少なくとも1つのAIが用いる音声の特徴量の集合
+	 * @see AIController#getAudioFeatures()
+	 */
+	public EnumSet<AudioFeature> getAudioFeatures() {
+		EnumSet<AudioFeature> features = EnumSet.noneOf(AudioFeature.class);
+		for (AIController ai : this.ais) {
+			if (ai != null) {
+				features.addAll(ai.getAudioFeatures());
+			}
+		}
+		return features;
+	}
+
 	/**
 	 * AIの動作を停止させる．
 	 */
@@ -262,6 +290,7 @@ public class InputManager {
 		
 		this.deviceTypes = new char[DEFAULT_DEVICE_NUMBER];
 		this.ais = new AIController[DEFAULT_DEVICE_NUMBER];
+		this.inputLatencies = null;
 	}
 
 	/**
@@ -296,28 +325,46 @@ public class InputManager {
 	public void setFrameData(FrameData frameData, ScreenData screenData, AudioData audioData) {
 		for (AIController ai : this.ais) {
 			if (ai != null) {
-				if (!frameData.getEmptyFlag()) {
-					ai.setFrameData(new FrameData(frameData));
-				} else {
-					ai.setFrameData(new FrameData());
-				}
-				ai.setScreenData(new ScreenData(screenData));
-				ai.setAudioData(new AudioData(audioData));
+				// フレームデータ，スクリーンデータ及び音声データは生成後に変更されないため，各AIで共有する
+				ai.setFrameData(frameData);
+				ai.setScreenData(screenData);
+				ai.setAudioData(audioData);
 			}
 		}
 
-		ThreadController.getInstance().resetAllAIsObj();
+		if (this.setting.isLockstepFlag()) {
+			waitForAllAIs();
+			return;
+		}
+
+		ThreadController threadController = ThreadController.getInstance();
+		long endFrameCount = threadController.getEndFrameCount();
+		threadController.resetAllAIsObj();
 		if (FlagSetting.fastModeFlag) {
-			synchronized (this.endFrame) {
-				try {
-					this.endFrame.wait(20);
-				} catch (InterruptedException e) {
-					e.printStackTrace();
-				}
-			}
+			threadController.awaitEndFrame(endFrameCount, 20);
 		}
 	}
 	
+	/**
+	 * ロックステップモードにおいて，各AIの処理を開始し，全てのAIが処理を終えるまで待機する．<br>
+	 * gRPCのプレイヤーは入力を受け取るまで最大で{@link MatchSetting#getLockstepTimeout()}ミリ秒待機するため，
+	 * 処理を終えていないAIのスレッドによってゲームが止まらないよう，その2倍の時間で待機を打ち切る．
+	 */
+	private void waitForAllAIs() {
+		ThreadController threadController = ThreadController.getInstance();
+		long endFrameCount = threadController.getEndFrameCount();
+
+		// AIが存在しない側は待機する必要がない
+		for (int i = 0; i < 2; i++) {
+			if (this.ais[i] == null) {
+				threadController.notifyEndProcess(i == 0);
+			}
+		}
+
+		threadController.resetAllAIsObj();
+		threadController.awaitEndFrame(endFrameCount, 2 * this.setting.getLockstepTimeout());
+	}
+
 	public void setInput(boolean playerNumber, Key input) {
 		AIController ai = this.ais[playerNumber ? 0 : 1];
 		if (ai != null) {
@@ -349,7 +396,7 @@ public class InputManager {
 	}
 
 	/**
-	 * 各AIコントローラ内に保持されているフレームデータをクリアする.
+	 * 各AIコントローラ内に保持されているフレームデータ及び適用されていないキー入力をクリアする.
 	 */
 	public void clear() {
 		for (AIController ai : this.ais) {
@@ -357,6 +404,11 @@ public class InputManager {
 				ai.clear();
 			}
 		}
+		if (this.inputLatencies != null) {
+			for (InputLatency inputLatency : this.inputLatencies) {
+				inputLatency.clear();
+			}
+		}
 	}
 
 	/**
@@ -2,12 +2,6 @@ package manager;
 
 import static org.lwjgl.openal.AL10.*;
 
-import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -15,8 +9,9 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.lwjgl.BufferUtils;
-import org.lwjgl.util.WaveData;
+import loader.SoundCache;
+import loader.SoundCache.DecodedSound;
+import render.audio.SoftwareSoundRender;
 import render.audio.SoundRender;
 import setting.FlagSetting;
 import struct.AudioBuffer;
@@ -140,6 +135,17 @@ public class SoundManager {
         if (!FlagSetting.fastModeFlag && !FlagSetting.muteFlag && FlagSetting.enableWindow) {
             this.soundRenderers.add(SoundRender.createDefaultRenderer());
         }
+        if (FlagSetting.softwareAudioFlag) {
+            // The audio given to the AIs is mixed without any OpenAL device, even in headless mode
+            virtualRenderer = new SoftwareSoundRender();
+            this.soundRenderers.add(virtualRenderer);
+            this.setListenerValues();
+            return;
+        }
+        if (FlagSetting.headlessFlag) {
+            // No OpenAL device is opened, so every sound operation becomes a no-op
+            return;
+        }
         virtualRenderer = SoundRender.createVirtualRenderer();
         this.soundRenderers.add(virtualRenderer);
         this.setListenerValues();
@@ -167,9 +173,11 @@ public class SoundManager {
     public AudioBuffer createAudioBuffer(String filePath, boolean loop) {
         AudioBuffer audioBuffer = null;
         int[] bufferIds = new int[soundRenderers.size()];
-        for (int i = 0; i < soundRenderers.size(); i++) {
-            soundRenderers.get(i).set();
-            bufferIds[i] = this.registerSound(filePath);
+        DecodedSound sound = SoundCache.getInstance().load(filePath);
+        if (sound != null) {
+            for (int i = 0; i < soundRenderers.size(); i++) {
+                bufferIds[i] = soundRenderers.get(i).createBuffer(sound.getFormat(), sound.getData(), sound.getSampleRate());
+            }
         }
         audioBuffer = new AudioBuffer(bufferIds);
         this.audioBuffers.add(audioBuffer);
@@ -177,20 +185,6 @@ public class SoundManager {
     }
 
 
-    /**
-     * Create audio source at the current OpenAL context.
-     *
-     * @return a new source id.
-     */
-    private int createSource() {
-        // 音溝㝮生戝
-        IntBuffer source1 = IntBuffer.wrap(new int[]{alGenSources()});
-
-        alSourcef(source1.get(0), AL_ROLLOFF_FACTOR, 0.01F);
-
-        return source1.get(0);
-    }
-
     /**
      * Creates a new audio source.
      *
@@ -200,8 +194,7 @@ public class SoundManager {
         AudioSource audioSource = null;
         int[] sourceIds = new int[soundRenderers.size()];
         for (int i = 0; i < soundRenderers.size(); i++) {
-            soundRenderers.get(i).set();
-            sourceIds[i] = createSource();
+            sourceIds[i] = soundRenderers.get(i).createSource(0.01F);
         }
         audioSource = new AudioSource(sourceIds);
         this.audioSources.add(audioSource);
@@ -221,33 +214,6 @@ public class SoundManager {
         }
     }
 
-    /**
-     * Wav音声ファイルを読㝿込ん㝧ポッファ㝫坖り込㝿，音声ポッファを返㝙．
-     *
-     * @param filePath 音声㝮ファイルパス
-     * @return 音声ポッファ
-     */
-    private int registerSound(String filePath) {
-        // ポッファを生戝
-        IntBuffer buffer = BufferUtils.createIntBuffer(1);
-        alGenBuffers(buffer);
-
-        // Wav音声ファイルをポッファ㝫坖り込む
-        try {
-            BufferedInputStream e = new BufferedInputStream(new FileInputStream(new File(filePath)));
-            WaveData waveFile = WaveData.create(e);
-            alBufferData(buffer.get(0), waveFile.format, waveFile.data, waveFile.samplerate);
-            e.close();
-            waveFile.dispose();
-        } catch (FileNotFoundException arg1) {
-            arg1.printStackTrace();
-        } catch (IOException arg2) {
-            arg2.printStackTrace();
-        }
-
-        return buffer.get(0);
-    }
-
     /**
      * 引数㝧指定㝕れ㝟音溝を冝生㝙る．
      *
@@ -386,7 +352,8 @@ public class SoundManager {
     }
 
     /**
-     * Gets the virtual sound renderer.
+     * Gets the virtual sound renderer.<br>
+     * Returns {@code null} in headless mode, unless the audio is mixed in pure Java.
      *
      * @return virtual sound render.
      */
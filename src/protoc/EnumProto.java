@@ -869,6 +869,151 @@ public final class EnumProto {
     // @@protoc_insertion_point(enum_scope:service.GrpcAction)
   }
 
+  /**
+   * <pre>
+   * The format of each value of the audio data sent to a gRPC player.
+   * </pre>
+   *
+   * Protobuf enum {@code service.AudioSampleFormat}
+   */
+  public enum AudioSampleFormat
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * 32-bit floating-point numbers
+     * </pre>
+     *
+     * <code>FLOAT32 = 0;</code>
+     */
+    FLOAT32(0),
+    /**
+     * <pre>
+     * 16-bit floating-point numbers
+     * </pre>
+     *
+     * <code>FLOAT16 = 1;</code>
+     */
+    FLOAT16(1),
+    /**
+     * <pre>
+     * 16-bit integers, multiplied by the scale sent with the data
+     * </pre>
+     *
+     * <code>INT16 = 2;</code>
+     */
+    INT16(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * 32-bit floating-point numbers
+     * </pre>
+     *
+     * <code>FLOAT32 = 0;</code>
+     */
+    public static final int FLOAT32_VALUE = 0;
+    /**
+     * <pre>
+     * 16-bit floating-point numbers
+     * </pre>
+     *
+     * <code>FLOAT16 = 1;</code>
+     */
+    public static final int FLOAT16_VALUE = 1;
+    /**
+     * <pre>
+     * 16-bit integers, multiplied by the scale sent with the data
+     * </pre>
+     *
+     * <code>INT16 = 2;</code>
+     */
+    public static final int INT16_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static AudioSampleFormat valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static AudioSampleFormat forNumber(int value) {
+      switch (value) {
+        case 0: return FLOAT32;
+        case 1: return FLOAT16;
+        case 2: return INT16;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<AudioSampleFormat>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        AudioSampleFormat> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<AudioSampleFormat>() {
+            public AudioSampleFormat findValueByNumber(int number) {
+              return AudioSampleFormat.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return protoc.EnumProto.getDescriptor().getEnumTypes().get(3);
+    }
+
+    private static final AudioSampleFormat[] VALUES = values();
+
+    public static AudioSampleFormat valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private AudioSampleFormat(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:service.AudioSampleFormat)
+  }
+
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -904,8 +1049,9 @@ public final class EnumProto {
       "B\0200\022\017\n\013AIR_D_DF_FA\0201\022\017\n\013AIR_D_DF_FB\0202\022\017\n" +
       "\013AIR_F_D_DFA\0203\022\017\n\013AIR_F_D_DFB\0204\022\017\n\013AIR_D" +
       "_DB_BA\0205\022\017\n\013AIR_D_DB_BB\0206\022\021\n\rSTAND_D_DF_" +
-      "FC\0207B\033\n\006protocB\tEnumProtoP\000\242\002\003HLWb\006proto" +
-      "3"
+      "FC\0207*8\n\021AudioSampleFormat\022\013\n\007FLOAT32\020\000\022\013" +
+      "\n\007FLOAT16\020\001\022\t\n\005INT16\020\002B\033\n\006protocB\tEnumPr" +
+      "otoP\000\242\002\003HLWb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
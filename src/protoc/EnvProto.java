@@ -0,0 +1,4790 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: env.proto
+
+package protoc;
+
+public final class EnvProto {
+  private EnvProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface CreateEnvsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.CreateEnvsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string character_1 = 1;</code>
+     * @return The character1.
+     */
+    java.lang.String getCharacter1();
+    /**
+     * <code>string character_1 = 1;</code>
+     * @return The bytes for character1.
+     */
+    com.google.protobuf.ByteString
+        getCharacter1Bytes();
+
+    /**
+     * <code>string character_2 = 2;</code>
+     * @return The character2.
+     */
+    java.lang.String getCharacter2();
+    /**
+     * <code>string character_2 = 2;</code>
+     * @return The bytes for character2.
+     */
+    com.google.protobuf.ByteString
+        getCharacter2Bytes();
+
+    /**
+     * <code>string player_1 = 3;</code>
+     * @return The player1.
+     */
+    java.lang.String getPlayer1();
+    /**
+     * <code>string player_1 = 3;</code>
+     * @return The bytes for player1.
+     */
+    com.google.protobuf.ByteString
+        getPlayer1Bytes();
+
+    /**
+     * <code>string player_2 = 4;</code>
+     * @return The player2.
+     */
+    java.lang.String getPlayer2();
+    /**
+     * <code>string player_2 = 4;</code>
+     * @return The bytes for player2.
+     */
+    com.google.protobuf.ByteString
+        getPlayer2Bytes();
+
+    /**
+     * <code>int32 game_number = 5;</code>
+     * @return The gameNumber.
+     */
+    int getGameNumber();
+
+    /**
+     * <pre>
+     * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+     * player_name are ignored.
+     * </pre>
+     *
+     * <code>.service.InitializeRequest player_1_options = 6;</code>
+     * @return Whether the player1Options field is set.
+     */
+    boolean hasPlayer1Options();
+    /**
+     * <pre>
+     * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+     * player_name are ignored.
+     * </pre>
+     *
+     * <code>.service.InitializeRequest player_1_options = 6;</code>
+     * @return The player1Options.
+     */
+    protoc.ServiceProto.InitializeRequest getPlayer1Options();
+    /**
+     * <pre>
+     * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+     * player_name are ignored.
+     * </pre>
+     *
+     * <code>.service.InitializeRequest player_1_options = 6;</code>
+     */
+    protoc.ServiceProto.InitializeRequestOrBuilder getPlayer1OptionsOrBuilder();
+
+    /**
+     * <code>.service.InitializeRequest player_2_options = 7;</code>
+     * @return Whether the player2Options field is set.
+     */
+    boolean hasPlayer2Options();
+    /**
+     * <code>.service.InitializeRequest player_2_options = 7;</code>
+     * @return The player2Options.
+     */
+    protoc.ServiceProto.InitializeRequest getPlayer2Options();
+    /**
+     * <code>.service.InitializeRequest player_2_options = 7;</code>
+     */
+    protoc.ServiceProto.InitializeRequestOrBuilder getPlayer2OptionsOrBuilder();
+  }
+  /**
+   * <pre>
+   * The fields 1 to 5 are those of RunGameRequest, so a RunGameRequest can be sent as well.
+   * </pre>
+   *
+   * Protobuf type {@code service.CreateEnvsRequest}
+   */
+  public static final class CreateEnvsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.CreateEnvsRequest)
+      CreateEnvsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateEnvsRequest.newBuilder() to construct.
+    private CreateEnvsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateEnvsRequest() {
+      character1_ = "";
+      character2_ = "";
+      player1_ = "";
+      player2_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateEnvsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.EnvProto.internal_static_service_CreateEnvsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.EnvProto.internal_static_service_CreateEnvsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.EnvProto.CreateEnvsRequest.class, protoc.EnvProto.CreateEnvsRequest.Builder.class);
+    }
+
+    public static final int CHARACTER_1_FIELD_NUMBER = 1;
+    private volatile java.lang.Object character1_;
+    /**
+     * <code>string character_1 = 1;</code>
+     * @return The character1.
+     */
+    @java.lang.Override
+    public java.lang.String getCharacter1() {
+      java.lang.Object ref = character1_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        character1_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string character_1 = 1;</code>
+     * @return The bytes for character1.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCharacter1Bytes() {
+      java.lang.Object ref = character1_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        character1_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CHARACTER_2_FIELD_NUMBER = 2;
+    private volatile java.lang.Object character2_;
+    /**
+     * <code>string character_2 = 2;</code>
+     * @return The character2.
+     */
+    @java.lang.Override
+    public java.lang.String getCharacter2() {
+      java.lang.Object ref = character2_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        character2_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string character_2 = 2;</code>
+     * @return The bytes for character2.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCharacter2Bytes() {
+      java.lang.Object ref = character2_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        character2_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PLAYER_1_FIELD_NUMBER = 3;
+    private volatile java.lang.Object player1_;
+    /**
+     * <code>string player_1 = 3;</code>
+     * @return The player1.
+     */
+    @java.lang.Override
+    public java.lang.String getPlayer1() {
+      java.lang.Object ref = player1_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        player1_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string player_1 = 3;</code>
+     * @return The bytes for player1.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPlayer1Bytes() {
+      java.lang.Object ref = player1_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        player1_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PLAYER_2_FIELD_NUMBER = 4;
+    private volatile java.lang.Object player2_;
+    /**
+     * <code>string player_2 = 4;</code>
+     * @return The player2.
+     */
+    @java.lang.Override
+    public java.lang.String getPlayer2() {
+      java.lang.Object ref = player2_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        player2_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string player_2 = 4;</code>
+     * @return The bytes for player2.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPlayer2Bytes() {
+      java.lang.Object ref = player2_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        player2_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int GAME_NUMBER_FIELD_NUMBER = 5;
+    private int gameNumber_;
+    /**
+     * <code>int32 game_number = 5;</code>
+     * @return The gameNumber.
+     */
+    @java.lang.Override
+    public int getGameNumber() {
+      return gameNumber_;
+    }
+
+    public static final int PLAYER_1_OPTIONS_FIELD_NUMBER = 6;
+    private protoc.ServiceProto.InitializeRequest player1Options_;
+    /**
+     * <pre>
+     * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+     * player_name are ignored.
+     * </pre>
+     *
+     * <code>.service.InitializeRequest player_1_options = 6;</code>
+     * @return Whether the player1Options field is set.
+     */
+    @java.lang.Override
+    public boolean hasPlayer1Options() {
+      return player1Options_ != null;
+    }
+    /**
+     * <pre>
+     * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+     * player_name are ignored.
+     * </pre>
+     *
+     * <code>.service.InitializeRequest player_1_options = 6;</code>
+     * @return The player1Options.
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeRequest getPlayer1Options() {
+      return player1Options_ == null ? protoc.ServiceProto.InitializeRequest.getDefaultInstance() : player1Options_;
+    }
+    /**
+     * <pre>
+     * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+     * player_name are ignored.
+     * </pre>
+     *
+     * <code>.service.InitializeRequest player_1_options = 6;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeRequestOrBuilder getPlayer1OptionsOrBuilder() {
+      return getPlayer1Options();
+    }
+
+    public static final int PLAYER_2_OPTIONS_FIELD_NUMBER = 7;
+    private protoc.ServiceProto.InitializeRequest player2Options_;
+    /**
+     * <code>.service.InitializeRequest player_2_options = 7;</code>
+     * @return Whether the player2Options field is set.
+     */
+    @java.lang.Override
+    public boolean hasPlayer2Options() {
+      return player2Options_ != null;
+    }
+    /**
+     * <code>.service.InitializeRequest player_2_options = 7;</code>
+     * @return The player2Options.
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeRequest getPlayer2Options() {
+      return player2Options_ == null ? protoc.ServiceProto.InitializeRequest.getDefaultInstance() : player2Options_;
+    }
+    /**
+     * <code>.service.InitializeRequest player_2_options = 7;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeRequestOrBuilder getPlayer2OptionsOrBuilder() {
+      return getPlayer2Options();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(character1_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, character1_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(character2_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, character2_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(player1_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, player1_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(player2_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, player2_);
+      }
+      if (gameNumber_ != 0) {
+        output.writeInt32(5, gameNumber_);
+      }
+      if (player1Options_ != null) {
+        output.writeMessage(6, getPlayer1Options());
+      }
+      if (player2Options_ != null) {
+        output.writeMessage(7, getPlayer2Options());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(character1_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, character1_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(character2_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, character2_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(player1_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, player1_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(player2_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, player2_);
+      }
+      if (gameNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, gameNumber_);
+      }
+      if (player1Options_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getPlayer1Options());
+      }
+      if (player2Options_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getPlayer2Options());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.EnvProto.CreateEnvsRequest)) {
+        return super.equals(obj);
+      }
+      protoc.EnvProto.CreateEnvsRequest other = (protoc.EnvProto.CreateEnvsRequest) obj;
+
+      if (!getCharacter1()
+          .equals(other.getCharacter1())) return false;
+      if (!getCharacter2()
+          .equals(other.getCharacter2())) return false;
+      if (!getPlayer1()
+          .equals(other.getPlayer1())) return false;
+      if (!getPlayer2()
+          .equals(other.getPlayer2())) return false;
+      if (getGameNumber()
+          != other.getGameNumber()) return false;
+      if (hasPlayer1Options() != other.hasPlayer1Options()) return false;
+      if (hasPlayer1Options()) {
+        if (!getPlayer1Options()
+            .equals(other.getPlayer1Options())) return false;
+      }
+      if (hasPlayer2Options() != other.hasPlayer2Options()) return false;
+      if (hasPlayer2Options()) {
+        if (!getPlayer2Options()
+            .equals(other.getPlayer2Options())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CHARACTER_1_FIELD_NUMBER;
+      hash = (53 * hash) + getCharacter1().hashCode();
+      hash = (37 * hash) + CHARACTER_2_FIELD_NUMBER;
+      hash = (53 * hash) + getCharacter2().hashCode();
+      hash = (37 * hash) + PLAYER_1_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayer1().hashCode();
+      hash = (37 * hash) + PLAYER_2_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayer2().hashCode();
+      hash = (37 * hash) + GAME_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getGameNumber();
+      if (hasPlayer1Options()) {
+        hash = (37 * hash) + PLAYER_1_OPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayer1Options().hashCode();
+      }
+      if (hasPlayer2Options()) {
+        hash = (37 * hash) + PLAYER_2_OPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayer2Options().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.CreateEnvsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.EnvProto.CreateEnvsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The fields 1 to 5 are those of RunGameRequest, so a RunGameRequest can be sent as well.
+     * </pre>
+     *
+     * Protobuf type {@code service.CreateEnvsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.CreateEnvsRequest)
+        protoc.EnvProto.CreateEnvsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.EnvProto.internal_static_service_CreateEnvsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.EnvProto.internal_static_service_CreateEnvsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.EnvProto.CreateEnvsRequest.class, protoc.EnvProto.CreateEnvsRequest.Builder.class);
+      }
+
+      // Construct using protoc.EnvProto.CreateEnvsRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        character1_ = "";
+
+        character2_ = "";
+
+        player1_ = "";
+
+        player2_ = "";
+
+        gameNumber_ = 0;
+
+        if (player1OptionsBuilder_ == null) {
+          player1Options_ = null;
+        } else {
+          player1Options_ = null;
+          player1OptionsBuilder_ = null;
+        }
+        if (player2OptionsBuilder_ == null) {
+          player2Options_ = null;
+        } else {
+          player2Options_ = null;
+          player2OptionsBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.EnvProto.internal_static_service_CreateEnvsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.CreateEnvsRequest getDefaultInstanceForType() {
+        return protoc.EnvProto.CreateEnvsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.CreateEnvsRequest build() {
+        protoc.EnvProto.CreateEnvsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.CreateEnvsRequest buildPartial() {
+        protoc.EnvProto.CreateEnvsRequest result = new protoc.EnvProto.CreateEnvsRequest(this);
+        result.character1_ = character1_;
+        result.character2_ = character2_;
+        result.player1_ = player1_;
+        result.player2_ = player2_;
+        result.gameNumber_ = gameNumber_;
+        if (player1OptionsBuilder_ == null) {
+          result.player1Options_ = player1Options_;
+        } else {
+          result.player1Options_ = player1OptionsBuilder_.build();
+        }
+        if (player2OptionsBuilder_ == null) {
+          result.player2Options_ = player2Options_;
+        } else {
+          result.player2Options_ = player2OptionsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.EnvProto.CreateEnvsRequest) {
+          return mergeFrom((protoc.EnvProto.CreateEnvsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.EnvProto.CreateEnvsRequest other) {
+        if (other == protoc.EnvProto.CreateEnvsRequest.getDefaultInstance()) return this;
+        if (!other.getCharacter1().isEmpty()) {
+          character1_ = other.character1_;
+          onChanged();
+        }
+        if (!other.getCharacter2().isEmpty()) {
+          character2_ = other.character2_;
+          onChanged();
+        }
+        if (!other.getPlayer1().isEmpty()) {
+          player1_ = other.player1_;
+          onChanged();
+        }
+        if (!other.getPlayer2().isEmpty()) {
+          player2_ = other.player2_;
+          onChanged();
+        }
+        if (other.getGameNumber() != 0) {
+          setGameNumber(other.getGameNumber());
+        }
+        if (other.hasPlayer1Options()) {
+          mergePlayer1Options(other.getPlayer1Options());
+        }
+        if (other.hasPlayer2Options()) {
+          mergePlayer2Options(other.getPlayer2Options());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                character1_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              case 18: {
+                character2_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 18
+              case 26: {
+                player1_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 26
+              case 34: {
+                player2_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 34
+              case 40: {
+                gameNumber_ = input.readInt32();
+
+                break;
+              } // case 40
+              case 50: {
+                input.readMessage(
+                    getPlayer1OptionsFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 50
+              case 58: {
+                input.readMessage(
+                    getPlayer2OptionsFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private java.lang.Object character1_ = "";
+      /**
+       * <code>string character_1 = 1;</code>
+       * @return The character1.
+       */
+      public java.lang.String getCharacter1() {
+        java.lang.Object ref = character1_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          character1_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string character_1 = 1;</code>
+       * @return The bytes for character1.
+       */
+      public com.google.protobuf.ByteString
+          getCharacter1Bytes() {
+        java.lang.Object ref = character1_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          character1_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string character_1 = 1;</code>
+       * @param value The character1 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCharacter1(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        character1_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string character_1 = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCharacter1() {
+        
+        character1_ = getDefaultInstance().getCharacter1();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string character_1 = 1;</code>
+       * @param value The bytes for character1 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCharacter1Bytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        character1_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object character2_ = "";
+      /**
+       * <code>string character_2 = 2;</code>
+       * @return The character2.
+       */
+      public java.lang.String getCharacter2() {
+        java.lang.Object ref = character2_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          character2_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string character_2 = 2;</code>
+       * @return The bytes for character2.
+       */
+      public com.google.protobuf.ByteString
+          getCharacter2Bytes() {
+        java.lang.Object ref = character2_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          character2_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string character_2 = 2;</code>
+       * @param value The character2 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCharacter2(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        character2_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string character_2 = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCharacter2() {
+        
+        character2_ = getDefaultInstance().getCharacter2();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string character_2 = 2;</code>
+       * @param value The bytes for character2 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCharacter2Bytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        character2_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object player1_ = "";
+      /**
+       * <code>string player_1 = 3;</code>
+       * @return The player1.
+       */
+      public java.lang.String getPlayer1() {
+        java.lang.Object ref = player1_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          player1_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string player_1 = 3;</code>
+       * @return The bytes for player1.
+       */
+      public com.google.protobuf.ByteString
+          getPlayer1Bytes() {
+        java.lang.Object ref = player1_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          player1_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string player_1 = 3;</code>
+       * @param value The player1 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayer1(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        player1_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string player_1 = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlayer1() {
+        
+        player1_ = getDefaultInstance().getPlayer1();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string player_1 = 3;</code>
+       * @param value The bytes for player1 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayer1Bytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        player1_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object player2_ = "";
+      /**
+       * <code>string player_2 = 4;</code>
+       * @return The player2.
+       */
+      public java.lang.String getPlayer2() {
+        java.lang.Object ref = player2_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          player2_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string player_2 = 4;</code>
+       * @return The bytes for player2.
+       */
+      public com.google.protobuf.ByteString
+          getPlayer2Bytes() {
+        java.lang.Object ref = player2_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          player2_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string player_2 = 4;</code>
+       * @param value The player2 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayer2(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        player2_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string player_2 = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlayer2() {
+        
+        player2_ = getDefaultInstance().getPlayer2();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string player_2 = 4;</code>
+       * @param value The bytes for player2 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayer2Bytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        player2_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int gameNumber_ ;
+      /**
+       * <code>int32 game_number = 5;</code>
+       * @return The gameNumber.
+       */
+      @java.lang.Override
+      public int getGameNumber() {
+        return gameNumber_;
+      }
+      /**
+       * <code>int32 game_number = 5;</code>
+       * @param value The gameNumber to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGameNumber(int value) {
+        
+        gameNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 game_number = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGameNumber() {
+        
+        gameNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private protoc.ServiceProto.InitializeRequest player1Options_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.InitializeRequest, protoc.ServiceProto.InitializeRequest.Builder, protoc.ServiceProto.InitializeRequestOrBuilder> player1OptionsBuilder_;
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       * @return Whether the player1Options field is set.
+       */
+      public boolean hasPlayer1Options() {
+        return player1OptionsBuilder_ != null || player1Options_ != null;
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       * @return The player1Options.
+       */
+      public protoc.ServiceProto.InitializeRequest getPlayer1Options() {
+        if (player1OptionsBuilder_ == null) {
+          return player1Options_ == null ? protoc.ServiceProto.InitializeRequest.getDefaultInstance() : player1Options_;
+        } else {
+          return player1OptionsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      public Builder setPlayer1Options(protoc.ServiceProto.InitializeRequest value) {
+        if (player1OptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          player1Options_ = value;
+          onChanged();
+        } else {
+          player1OptionsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      public Builder setPlayer1Options(
+          protoc.ServiceProto.InitializeRequest.Builder builderForValue) {
+        if (player1OptionsBuilder_ == null) {
+          player1Options_ = builderForValue.build();
+          onChanged();
+        } else {
+          player1OptionsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      public Builder mergePlayer1Options(protoc.ServiceProto.InitializeRequest value) {
+        if (player1OptionsBuilder_ == null) {
+          if (player1Options_ != null) {
+            player1Options_ =
+              protoc.ServiceProto.InitializeRequest.newBuilder(player1Options_).mergeFrom(value).buildPartial();
+          } else {
+            player1Options_ = value;
+          }
+          onChanged();
+        } else {
+          player1OptionsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      public Builder clearPlayer1Options() {
+        if (player1OptionsBuilder_ == null) {
+          player1Options_ = null;
+          onChanged();
+        } else {
+          player1Options_ = null;
+          player1OptionsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      public protoc.ServiceProto.InitializeRequest.Builder getPlayer1OptionsBuilder() {
+        
+        onChanged();
+        return getPlayer1OptionsFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      public protoc.ServiceProto.InitializeRequestOrBuilder getPlayer1OptionsOrBuilder() {
+        if (player1OptionsBuilder_ != null) {
+          return player1OptionsBuilder_.getMessageOrBuilder();
+        } else {
+          return player1Options_ == null ?
+              protoc.ServiceProto.InitializeRequest.getDefaultInstance() : player1Options_;
+        }
+      }
+      /**
+       * <pre>
+       * What is sent to each player controlled through StepBatch, as in Initialize. player_number and
+       * player_name are ignored.
+       * </pre>
+       *
+       * <code>.service.InitializeRequest player_1_options = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.InitializeRequest, protoc.ServiceProto.InitializeRequest.Builder, protoc.ServiceProto.InitializeRequestOrBuilder> 
+          getPlayer1OptionsFieldBuilder() {
+        if (player1OptionsBuilder_ == null) {
+          player1OptionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protoc.ServiceProto.InitializeRequest, protoc.ServiceProto.InitializeRequest.Builder, protoc.ServiceProto.InitializeRequestOrBuilder>(
+                  getPlayer1Options(),
+                  getParentForChildren(),
+                  isClean());
+          player1Options_ = null;
+        }
+        return player1OptionsBuilder_;
+      }
+
+      private protoc.ServiceProto.InitializeRequest player2Options_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.InitializeRequest, protoc.ServiceProto.InitializeRequest.Builder, protoc.ServiceProto.InitializeRequestOrBuilder> player2OptionsBuilder_;
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       * @return Whether the player2Options field is set.
+       */
+      public boolean hasPlayer2Options() {
+        return player2OptionsBuilder_ != null || player2Options_ != null;
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       * @return The player2Options.
+       */
+      public protoc.ServiceProto.InitializeRequest getPlayer2Options() {
+        if (player2OptionsBuilder_ == null) {
+          return player2Options_ == null ? protoc.ServiceProto.InitializeRequest.getDefaultInstance() : player2Options_;
+        } else {
+          return player2OptionsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      public Builder setPlayer2Options(protoc.ServiceProto.InitializeRequest value) {
+        if (player2OptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          player2Options_ = value;
+          onChanged();
+        } else {
+          player2OptionsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      public Builder setPlayer2Options(
+          protoc.ServiceProto.InitializeRequest.Builder builderForValue) {
+        if (player2OptionsBuilder_ == null) {
+          player2Options_ = builderForValue.build();
+          onChanged();
+        } else {
+          player2OptionsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      public Builder mergePlayer2Options(protoc.ServiceProto.InitializeRequest value) {
+        if (player2OptionsBuilder_ == null) {
+          if (player2Options_ != null) {
+            player2Options_ =
+              protoc.ServiceProto.InitializeRequest.newBuilder(player2Options_).mergeFrom(value).buildPartial();
+          } else {
+            player2Options_ = value;
+          }
+          onChanged();
+        } else {
+          player2OptionsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      public Builder clearPlayer2Options() {
+        if (player2OptionsBuilder_ == null) {
+          player2Options_ = null;
+          onChanged();
+        } else {
+          player2Options_ = null;
+          player2OptionsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      public protoc.ServiceProto.InitializeRequest.Builder getPlayer2OptionsBuilder() {
+        
+        onChanged();
+        return getPlayer2OptionsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      public protoc.ServiceProto.InitializeRequestOrBuilder getPlayer2OptionsOrBuilder() {
+        if (player2OptionsBuilder_ != null) {
+          return player2OptionsBuilder_.getMessageOrBuilder();
+        } else {
+          return player2Options_ == null ?
+              protoc.ServiceProto.InitializeRequest.getDefaultInstance() : player2Options_;
+        }
+      }
+      /**
+       * <code>.service.InitializeRequest player_2_options = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.InitializeRequest, protoc.ServiceProto.InitializeRequest.Builder, protoc.ServiceProto.InitializeRequestOrBuilder> 
+          getPlayer2OptionsFieldBuilder() {
+        if (player2OptionsBuilder_ == null) {
+          player2OptionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protoc.ServiceProto.InitializeRequest, protoc.ServiceProto.InitializeRequest.Builder, protoc.ServiceProto.InitializeRequestOrBuilder>(
+                  getPlayer2Options(),
+                  getParentForChildren(),
+                  isClean());
+          player2Options_ = null;
+        }
+        return player2OptionsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.CreateEnvsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.CreateEnvsRequest)
+    private static final protoc.EnvProto.CreateEnvsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.EnvProto.CreateEnvsRequest();
+    }
+
+    public static protoc.EnvProto.CreateEnvsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateEnvsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateEnvsRequest>() {
+      @java.lang.Override
+      public CreateEnvsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateEnvsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateEnvsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.EnvProto.CreateEnvsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateEnvsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.CreateEnvsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    java.util.List<protoc.ServiceProto.InitializeResponse> 
+        getPlayersList();
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    protoc.ServiceProto.InitializeResponse getPlayers(int index);
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    int getPlayersCount();
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    java.util.List<? extends protoc.ServiceProto.InitializeResponseOrBuilder> 
+        getPlayersOrBuilderList();
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    protoc.ServiceProto.InitializeResponseOrBuilder getPlayersOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Environments created by CreateEnvs, one per player controlled through StepBatch.
+   * </pre>
+   *
+   * Protobuf type {@code service.CreateEnvsResponse}
+   */
+  public static final class CreateEnvsResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.CreateEnvsResponse)
+      CreateEnvsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateEnvsResponse.newBuilder() to construct.
+    private CreateEnvsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateEnvsResponse() {
+      players_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateEnvsResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.EnvProto.internal_static_service_CreateEnvsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.EnvProto.internal_static_service_CreateEnvsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.EnvProto.CreateEnvsResponse.class, protoc.EnvProto.CreateEnvsResponse.Builder.class);
+    }
+
+    public static final int PLAYERS_FIELD_NUMBER = 1;
+    private java.util.List<protoc.ServiceProto.InitializeResponse> players_;
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protoc.ServiceProto.InitializeResponse> getPlayersList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protoc.ServiceProto.InitializeResponseOrBuilder> 
+        getPlayersOrBuilderList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    @java.lang.Override
+    public int getPlayersCount() {
+      return players_.size();
+    }
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeResponse getPlayers(int index) {
+      return players_.get(index);
+    }
+    /**
+     * <code>repeated .service.InitializeResponse players = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeResponseOrBuilder getPlayersOrBuilder(
+        int index) {
+      return players_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < players_.size(); i++) {
+        output.writeMessage(1, players_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < players_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, players_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.EnvProto.CreateEnvsResponse)) {
+        return super.equals(obj);
+      }
+      protoc.EnvProto.CreateEnvsResponse other = (protoc.EnvProto.CreateEnvsResponse) obj;
+
+      if (!getPlayersList()
+          .equals(other.getPlayersList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPlayersCount() > 0) {
+        hash = (37 * hash) + PLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayersList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.CreateEnvsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.EnvProto.CreateEnvsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Environments created by CreateEnvs, one per player controlled through StepBatch.
+     * </pre>
+     *
+     * Protobuf type {@code service.CreateEnvsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.CreateEnvsResponse)
+        protoc.EnvProto.CreateEnvsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.EnvProto.internal_static_service_CreateEnvsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.EnvProto.internal_static_service_CreateEnvsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.EnvProto.CreateEnvsResponse.class, protoc.EnvProto.CreateEnvsResponse.Builder.class);
+      }
+
+      // Construct using protoc.EnvProto.CreateEnvsResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+        } else {
+          players_ = null;
+          playersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.EnvProto.internal_static_service_CreateEnvsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.CreateEnvsResponse getDefaultInstanceForType() {
+        return protoc.EnvProto.CreateEnvsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.CreateEnvsResponse build() {
+        protoc.EnvProto.CreateEnvsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.CreateEnvsResponse buildPartial() {
+        protoc.EnvProto.CreateEnvsResponse result = new protoc.EnvProto.CreateEnvsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (playersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            players_ = java.util.Collections.unmodifiableList(players_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.players_ = players_;
+        } else {
+          result.players_ = playersBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.EnvProto.CreateEnvsResponse) {
+          return mergeFrom((protoc.EnvProto.CreateEnvsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.EnvProto.CreateEnvsResponse other) {
+        if (other == protoc.EnvProto.CreateEnvsResponse.getDefaultInstance()) return this;
+        if (playersBuilder_ == null) {
+          if (!other.players_.isEmpty()) {
+            if (players_.isEmpty()) {
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlayersIsMutable();
+              players_.addAll(other.players_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.players_.isEmpty()) {
+            if (playersBuilder_.isEmpty()) {
+              playersBuilder_.dispose();
+              playersBuilder_ = null;
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              playersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlayersFieldBuilder() : null;
+            } else {
+              playersBuilder_.addAllMessages(other.players_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                protoc.ServiceProto.InitializeResponse m =
+                    input.readMessage(
+                        protoc.ServiceProto.InitializeResponse.parser(),
+                        extensionRegistry);
+                if (playersBuilder_ == null) {
+                  ensurePlayersIsMutable();
+                  players_.add(m);
+                } else {
+                  playersBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<protoc.ServiceProto.InitializeResponse> players_ =
+        java.util.Collections.emptyList();
+      private void ensurePlayersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          players_ = new java.util.ArrayList<protoc.ServiceProto.InitializeResponse>(players_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.InitializeResponse, protoc.ServiceProto.InitializeResponse.Builder, protoc.ServiceProto.InitializeResponseOrBuilder> playersBuilder_;
+
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.InitializeResponse> getPlayersList() {
+        if (playersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(players_);
+        } else {
+          return playersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public int getPlayersCount() {
+        if (playersBuilder_ == null) {
+          return players_.size();
+        } else {
+          return playersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public protoc.ServiceProto.InitializeResponse getPlayers(int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);
+        } else {
+          return playersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder setPlayers(
+          int index, protoc.ServiceProto.InitializeResponse value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.set(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder setPlayers(
+          int index, protoc.ServiceProto.InitializeResponse.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder addPlayers(protoc.ServiceProto.InitializeResponse value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder addPlayers(
+          int index, protoc.ServiceProto.InitializeResponse value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder addPlayers(
+          protoc.ServiceProto.InitializeResponse.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder addPlayers(
+          int index, protoc.ServiceProto.InitializeResponse.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder addAllPlayers(
+          java.lang.Iterable<? extends protoc.ServiceProto.InitializeResponse> values) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, players_);
+          onChanged();
+        } else {
+          playersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder clearPlayers() {
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          playersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public Builder removePlayers(int index) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.remove(index);
+          onChanged();
+        } else {
+          playersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public protoc.ServiceProto.InitializeResponse.Builder getPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public protoc.ServiceProto.InitializeResponseOrBuilder getPlayersOrBuilder(
+          int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);  } else {
+          return playersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public java.util.List<? extends protoc.ServiceProto.InitializeResponseOrBuilder> 
+           getPlayersOrBuilderList() {
+        if (playersBuilder_ != null) {
+          return playersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(players_);
+        }
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public protoc.ServiceProto.InitializeResponse.Builder addPlayersBuilder() {
+        return getPlayersFieldBuilder().addBuilder(
+            protoc.ServiceProto.InitializeResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public protoc.ServiceProto.InitializeResponse.Builder addPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().addBuilder(
+            index, protoc.ServiceProto.InitializeResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.InitializeResponse players = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.InitializeResponse.Builder> 
+           getPlayersBuilderList() {
+        return getPlayersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.InitializeResponse, protoc.ServiceProto.InitializeResponse.Builder, protoc.ServiceProto.InitializeResponseOrBuilder> 
+          getPlayersFieldBuilder() {
+        if (playersBuilder_ == null) {
+          playersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protoc.ServiceProto.InitializeResponse, protoc.ServiceProto.InitializeResponse.Builder, protoc.ServiceProto.InitializeResponseOrBuilder>(
+                  players_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          players_ = null;
+        }
+        return playersBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.CreateEnvsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.CreateEnvsResponse)
+    private static final protoc.EnvProto.CreateEnvsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.EnvProto.CreateEnvsResponse();
+    }
+
+    public static protoc.EnvProto.CreateEnvsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateEnvsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateEnvsResponse>() {
+      @java.lang.Override
+      public CreateEnvsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateEnvsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateEnvsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.EnvProto.CreateEnvsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PlayerBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.PlayerBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    java.util.List<protoc.ServiceProto.ParticipateRequest> 
+        getPlayersList();
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    protoc.ServiceProto.ParticipateRequest getPlayers(int index);
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    int getPlayersCount();
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    java.util.List<? extends protoc.ServiceProto.ParticipateRequestOrBuilder> 
+        getPlayersOrBuilderList();
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    protoc.ServiceProto.ParticipateRequestOrBuilder getPlayersOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * The players whose environments are reset or closed.
+   * </pre>
+   *
+   * Protobuf type {@code service.PlayerBatch}
+   */
+  public static final class PlayerBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.PlayerBatch)
+      PlayerBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PlayerBatch.newBuilder() to construct.
+    private PlayerBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PlayerBatch() {
+      players_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PlayerBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.EnvProto.internal_static_service_PlayerBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.EnvProto.internal_static_service_PlayerBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.EnvProto.PlayerBatch.class, protoc.EnvProto.PlayerBatch.Builder.class);
+    }
+
+    public static final int PLAYERS_FIELD_NUMBER = 1;
+    private java.util.List<protoc.ServiceProto.ParticipateRequest> players_;
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protoc.ServiceProto.ParticipateRequest> getPlayersList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protoc.ServiceProto.ParticipateRequestOrBuilder> 
+        getPlayersOrBuilderList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    @java.lang.Override
+    public int getPlayersCount() {
+      return players_.size();
+    }
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.ParticipateRequest getPlayers(int index) {
+      return players_.get(index);
+    }
+    /**
+     * <code>repeated .service.ParticipateRequest players = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.ParticipateRequestOrBuilder getPlayersOrBuilder(
+        int index) {
+      return players_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < players_.size(); i++) {
+        output.writeMessage(1, players_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < players_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, players_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.EnvProto.PlayerBatch)) {
+        return super.equals(obj);
+      }
+      protoc.EnvProto.PlayerBatch other = (protoc.EnvProto.PlayerBatch) obj;
+
+      if (!getPlayersList()
+          .equals(other.getPlayersList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPlayersCount() > 0) {
+        hash = (37 * hash) + PLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayersList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.EnvProto.PlayerBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The players whose environments are reset or closed.
+     * </pre>
+     *
+     * Protobuf type {@code service.PlayerBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.PlayerBatch)
+        protoc.EnvProto.PlayerBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.EnvProto.internal_static_service_PlayerBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.EnvProto.internal_static_service_PlayerBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.EnvProto.PlayerBatch.class, protoc.EnvProto.PlayerBatch.Builder.class);
+      }
+
+      // Construct using protoc.EnvProto.PlayerBatch.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+        } else {
+          players_ = null;
+          playersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.EnvProto.internal_static_service_PlayerBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerBatch getDefaultInstanceForType() {
+        return protoc.EnvProto.PlayerBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerBatch build() {
+        protoc.EnvProto.PlayerBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerBatch buildPartial() {
+        protoc.EnvProto.PlayerBatch result = new protoc.EnvProto.PlayerBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (playersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            players_ = java.util.Collections.unmodifiableList(players_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.players_ = players_;
+        } else {
+          result.players_ = playersBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.EnvProto.PlayerBatch) {
+          return mergeFrom((protoc.EnvProto.PlayerBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.EnvProto.PlayerBatch other) {
+        if (other == protoc.EnvProto.PlayerBatch.getDefaultInstance()) return this;
+        if (playersBuilder_ == null) {
+          if (!other.players_.isEmpty()) {
+            if (players_.isEmpty()) {
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlayersIsMutable();
+              players_.addAll(other.players_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.players_.isEmpty()) {
+            if (playersBuilder_.isEmpty()) {
+              playersBuilder_.dispose();
+              playersBuilder_ = null;
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              playersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlayersFieldBuilder() : null;
+            } else {
+              playersBuilder_.addAllMessages(other.players_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                protoc.ServiceProto.ParticipateRequest m =
+                    input.readMessage(
+                        protoc.ServiceProto.ParticipateRequest.parser(),
+                        extensionRegistry);
+                if (playersBuilder_ == null) {
+                  ensurePlayersIsMutable();
+                  players_.add(m);
+                } else {
+                  playersBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<protoc.ServiceProto.ParticipateRequest> players_ =
+        java.util.Collections.emptyList();
+      private void ensurePlayersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          players_ = new java.util.ArrayList<protoc.ServiceProto.ParticipateRequest>(players_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.ParticipateRequest, protoc.ServiceProto.ParticipateRequest.Builder, protoc.ServiceProto.ParticipateRequestOrBuilder> playersBuilder_;
+
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.ParticipateRequest> getPlayersList() {
+        if (playersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(players_);
+        } else {
+          return playersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public int getPlayersCount() {
+        if (playersBuilder_ == null) {
+          return players_.size();
+        } else {
+          return playersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public protoc.ServiceProto.ParticipateRequest getPlayers(int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);
+        } else {
+          return playersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder setPlayers(
+          int index, protoc.ServiceProto.ParticipateRequest value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.set(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder setPlayers(
+          int index, protoc.ServiceProto.ParticipateRequest.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder addPlayers(protoc.ServiceProto.ParticipateRequest value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder addPlayers(
+          int index, protoc.ServiceProto.ParticipateRequest value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder addPlayers(
+          protoc.ServiceProto.ParticipateRequest.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder addPlayers(
+          int index, protoc.ServiceProto.ParticipateRequest.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder addAllPlayers(
+          java.lang.Iterable<? extends protoc.ServiceProto.ParticipateRequest> values) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, players_);
+          onChanged();
+        } else {
+          playersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder clearPlayers() {
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          playersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public Builder removePlayers(int index) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.remove(index);
+          onChanged();
+        } else {
+          playersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public protoc.ServiceProto.ParticipateRequest.Builder getPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public protoc.ServiceProto.ParticipateRequestOrBuilder getPlayersOrBuilder(
+          int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);  } else {
+          return playersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public java.util.List<? extends protoc.ServiceProto.ParticipateRequestOrBuilder> 
+           getPlayersOrBuilderList() {
+        if (playersBuilder_ != null) {
+          return playersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(players_);
+        }
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public protoc.ServiceProto.ParticipateRequest.Builder addPlayersBuilder() {
+        return getPlayersFieldBuilder().addBuilder(
+            protoc.ServiceProto.ParticipateRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public protoc.ServiceProto.ParticipateRequest.Builder addPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().addBuilder(
+            index, protoc.ServiceProto.ParticipateRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.ParticipateRequest players = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.ParticipateRequest.Builder> 
+           getPlayersBuilderList() {
+        return getPlayersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.ParticipateRequest, protoc.ServiceProto.ParticipateRequest.Builder, protoc.ServiceProto.ParticipateRequestOrBuilder> 
+          getPlayersFieldBuilder() {
+        if (playersBuilder_ == null) {
+          playersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protoc.ServiceProto.ParticipateRequest, protoc.ServiceProto.ParticipateRequest.Builder, protoc.ServiceProto.ParticipateRequestOrBuilder>(
+                  players_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          players_ = null;
+        }
+        return playersBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.PlayerBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.PlayerBatch)
+    private static final protoc.EnvProto.PlayerBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.EnvProto.PlayerBatch();
+    }
+
+    public static protoc.EnvProto.PlayerBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PlayerBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PlayerBatch>() {
+      @java.lang.Override
+      public PlayerBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PlayerBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PlayerBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.EnvProto.PlayerBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PlayerInputBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.PlayerInputBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    java.util.List<protoc.ServiceProto.PlayerInput> 
+        getInputsList();
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    protoc.ServiceProto.PlayerInput getInputs(int index);
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    int getInputsCount();
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    java.util.List<? extends protoc.ServiceProto.PlayerInputOrBuilder> 
+        getInputsOrBuilderList();
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    protoc.ServiceProto.PlayerInputOrBuilder getInputsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * The inputs of the players, applied to the next frame of their environments.
+   * </pre>
+   *
+   * Protobuf type {@code service.PlayerInputBatch}
+   */
+  public static final class PlayerInputBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.PlayerInputBatch)
+      PlayerInputBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PlayerInputBatch.newBuilder() to construct.
+    private PlayerInputBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PlayerInputBatch() {
+      inputs_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PlayerInputBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.EnvProto.internal_static_service_PlayerInputBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.EnvProto.internal_static_service_PlayerInputBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.EnvProto.PlayerInputBatch.class, protoc.EnvProto.PlayerInputBatch.Builder.class);
+    }
+
+    public static final int INPUTS_FIELD_NUMBER = 1;
+    private java.util.List<protoc.ServiceProto.PlayerInput> inputs_;
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protoc.ServiceProto.PlayerInput> getInputsList() {
+      return inputs_;
+    }
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protoc.ServiceProto.PlayerInputOrBuilder> 
+        getInputsOrBuilderList() {
+      return inputs_;
+    }
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    @java.lang.Override
+    public int getInputsCount() {
+      return inputs_.size();
+    }
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.PlayerInput getInputs(int index) {
+      return inputs_.get(index);
+    }
+    /**
+     * <code>repeated .service.PlayerInput inputs = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.PlayerInputOrBuilder getInputsOrBuilder(
+        int index) {
+      return inputs_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < inputs_.size(); i++) {
+        output.writeMessage(1, inputs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < inputs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, inputs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.EnvProto.PlayerInputBatch)) {
+        return super.equals(obj);
+      }
+      protoc.EnvProto.PlayerInputBatch other = (protoc.EnvProto.PlayerInputBatch) obj;
+
+      if (!getInputsList()
+          .equals(other.getInputsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getInputsCount() > 0) {
+        hash = (37 * hash) + INPUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getInputsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerInputBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.EnvProto.PlayerInputBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The inputs of the players, applied to the next frame of their environments.
+     * </pre>
+     *
+     * Protobuf type {@code service.PlayerInputBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.PlayerInputBatch)
+        protoc.EnvProto.PlayerInputBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.EnvProto.internal_static_service_PlayerInputBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.EnvProto.internal_static_service_PlayerInputBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.EnvProto.PlayerInputBatch.class, protoc.EnvProto.PlayerInputBatch.Builder.class);
+      }
+
+      // Construct using protoc.EnvProto.PlayerInputBatch.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+        } else {
+          inputs_ = null;
+          inputsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.EnvProto.internal_static_service_PlayerInputBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerInputBatch getDefaultInstanceForType() {
+        return protoc.EnvProto.PlayerInputBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerInputBatch build() {
+        protoc.EnvProto.PlayerInputBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerInputBatch buildPartial() {
+        protoc.EnvProto.PlayerInputBatch result = new protoc.EnvProto.PlayerInputBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (inputsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            inputs_ = java.util.Collections.unmodifiableList(inputs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.inputs_ = inputs_;
+        } else {
+          result.inputs_ = inputsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.EnvProto.PlayerInputBatch) {
+          return mergeFrom((protoc.EnvProto.PlayerInputBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.EnvProto.PlayerInputBatch other) {
+        if (other == protoc.EnvProto.PlayerInputBatch.getDefaultInstance()) return this;
+        if (inputsBuilder_ == null) {
+          if (!other.inputs_.isEmpty()) {
+            if (inputs_.isEmpty()) {
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureInputsIsMutable();
+              inputs_.addAll(other.inputs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.inputs_.isEmpty()) {
+            if (inputsBuilder_.isEmpty()) {
+              inputsBuilder_.dispose();
+              inputsBuilder_ = null;
+              inputs_ = other.inputs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              inputsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInputsFieldBuilder() : null;
+            } else {
+              inputsBuilder_.addAllMessages(other.inputs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                protoc.ServiceProto.PlayerInput m =
+                    input.readMessage(
+                        protoc.ServiceProto.PlayerInput.parser(),
+                        extensionRegistry);
+                if (inputsBuilder_ == null) {
+                  ensureInputsIsMutable();
+                  inputs_.add(m);
+                } else {
+                  inputsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<protoc.ServiceProto.PlayerInput> inputs_ =
+        java.util.Collections.emptyList();
+      private void ensureInputsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          inputs_ = new java.util.ArrayList<protoc.ServiceProto.PlayerInput>(inputs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.PlayerInput, protoc.ServiceProto.PlayerInput.Builder, protoc.ServiceProto.PlayerInputOrBuilder> inputsBuilder_;
+
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.PlayerInput> getInputsList() {
+        if (inputsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(inputs_);
+        } else {
+          return inputsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public int getInputsCount() {
+        if (inputsBuilder_ == null) {
+          return inputs_.size();
+        } else {
+          return inputsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerInput getInputs(int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);
+        } else {
+          return inputsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder setInputs(
+          int index, protoc.ServiceProto.PlayerInput value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.set(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder setInputs(
+          int index, protoc.ServiceProto.PlayerInput.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder addInputs(protoc.ServiceProto.PlayerInput value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder addInputs(
+          int index, protoc.ServiceProto.PlayerInput value) {
+        if (inputsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInputsIsMutable();
+          inputs_.add(index, value);
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder addInputs(
+          protoc.ServiceProto.PlayerInput.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder addInputs(
+          int index, protoc.ServiceProto.PlayerInput.Builder builderForValue) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          inputsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder addAllInputs(
+          java.lang.Iterable<? extends protoc.ServiceProto.PlayerInput> values) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, inputs_);
+          onChanged();
+        } else {
+          inputsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder clearInputs() {
+        if (inputsBuilder_ == null) {
+          inputs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          inputsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public Builder removeInputs(int index) {
+        if (inputsBuilder_ == null) {
+          ensureInputsIsMutable();
+          inputs_.remove(index);
+          onChanged();
+        } else {
+          inputsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerInput.Builder getInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerInputOrBuilder getInputsOrBuilder(
+          int index) {
+        if (inputsBuilder_ == null) {
+          return inputs_.get(index);  } else {
+          return inputsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public java.util.List<? extends protoc.ServiceProto.PlayerInputOrBuilder> 
+           getInputsOrBuilderList() {
+        if (inputsBuilder_ != null) {
+          return inputsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(inputs_);
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerInput.Builder addInputsBuilder() {
+        return getInputsFieldBuilder().addBuilder(
+            protoc.ServiceProto.PlayerInput.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerInput.Builder addInputsBuilder(
+          int index) {
+        return getInputsFieldBuilder().addBuilder(
+            index, protoc.ServiceProto.PlayerInput.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.PlayerInput inputs = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.PlayerInput.Builder> 
+           getInputsBuilderList() {
+        return getInputsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.PlayerInput, protoc.ServiceProto.PlayerInput.Builder, protoc.ServiceProto.PlayerInputOrBuilder> 
+          getInputsFieldBuilder() {
+        if (inputsBuilder_ == null) {
+          inputsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protoc.ServiceProto.PlayerInput, protoc.ServiceProto.PlayerInput.Builder, protoc.ServiceProto.PlayerInputOrBuilder>(
+                  inputs_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          inputs_ = null;
+        }
+        return inputsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.PlayerInputBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.PlayerInputBatch)
+    private static final protoc.EnvProto.PlayerInputBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.EnvProto.PlayerInputBatch();
+    }
+
+    public static protoc.EnvProto.PlayerInputBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PlayerInputBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PlayerInputBatch>() {
+      @java.lang.Override
+      public PlayerInputBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PlayerInputBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PlayerInputBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.EnvProto.PlayerInputBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PlayerGameStateBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.PlayerGameStateBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    java.util.List<protoc.ServiceProto.PlayerGameState> 
+        getStatesList();
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    protoc.ServiceProto.PlayerGameState getStates(int index);
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    int getStatesCount();
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    java.util.List<? extends protoc.ServiceProto.PlayerGameStateOrBuilder> 
+        getStatesOrBuilderList();
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    protoc.ServiceProto.PlayerGameStateOrBuilder getStatesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * The states of the players, in the order of the request.
+   * </pre>
+   *
+   * Protobuf type {@code service.PlayerGameStateBatch}
+   */
+  public static final class PlayerGameStateBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.PlayerGameStateBatch)
+      PlayerGameStateBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PlayerGameStateBatch.newBuilder() to construct.
+    private PlayerGameStateBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PlayerGameStateBatch() {
+      states_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PlayerGameStateBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.EnvProto.internal_static_service_PlayerGameStateBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.EnvProto.internal_static_service_PlayerGameStateBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.EnvProto.PlayerGameStateBatch.class, protoc.EnvProto.PlayerGameStateBatch.Builder.class);
+    }
+
+    public static final int STATES_FIELD_NUMBER = 1;
+    private java.util.List<protoc.ServiceProto.PlayerGameState> states_;
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protoc.ServiceProto.PlayerGameState> getStatesList() {
+      return states_;
+    }
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protoc.ServiceProto.PlayerGameStateOrBuilder> 
+        getStatesOrBuilderList() {
+      return states_;
+    }
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    @java.lang.Override
+    public int getStatesCount() {
+      return states_.size();
+    }
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.PlayerGameState getStates(int index) {
+      return states_.get(index);
+    }
+    /**
+     * <code>repeated .service.PlayerGameState states = 1;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.PlayerGameStateOrBuilder getStatesOrBuilder(
+        int index) {
+      return states_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < states_.size(); i++) {
+        output.writeMessage(1, states_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < states_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, states_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.EnvProto.PlayerGameStateBatch)) {
+        return super.equals(obj);
+      }
+      protoc.EnvProto.PlayerGameStateBatch other = (protoc.EnvProto.PlayerGameStateBatch) obj;
+
+      if (!getStatesList()
+          .equals(other.getStatesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getStatesCount() > 0) {
+        hash = (37 * hash) + STATES_FIELD_NUMBER;
+        hash = (53 * hash) + getStatesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.EnvProto.PlayerGameStateBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.EnvProto.PlayerGameStateBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * The states of the players, in the order of the request.
+     * </pre>
+     *
+     * Protobuf type {@code service.PlayerGameStateBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.PlayerGameStateBatch)
+        protoc.EnvProto.PlayerGameStateBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.EnvProto.internal_static_service_PlayerGameStateBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.EnvProto.internal_static_service_PlayerGameStateBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.EnvProto.PlayerGameStateBatch.class, protoc.EnvProto.PlayerGameStateBatch.Builder.class);
+      }
+
+      // Construct using protoc.EnvProto.PlayerGameStateBatch.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (statesBuilder_ == null) {
+          states_ = java.util.Collections.emptyList();
+        } else {
+          states_ = null;
+          statesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.EnvProto.internal_static_service_PlayerGameStateBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerGameStateBatch getDefaultInstanceForType() {
+        return protoc.EnvProto.PlayerGameStateBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerGameStateBatch build() {
+        protoc.EnvProto.PlayerGameStateBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.EnvProto.PlayerGameStateBatch buildPartial() {
+        protoc.EnvProto.PlayerGameStateBatch result = new protoc.EnvProto.PlayerGameStateBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (statesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            states_ = java.util.Collections.unmodifiableList(states_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.states_ = states_;
+        } else {
+          result.states_ = statesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.EnvProto.PlayerGameStateBatch) {
+          return mergeFrom((protoc.EnvProto.PlayerGameStateBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.EnvProto.PlayerGameStateBatch other) {
+        if (other == protoc.EnvProto.PlayerGameStateBatch.getDefaultInstance()) return this;
+        if (statesBuilder_ == null) {
+          if (!other.states_.isEmpty()) {
+            if (states_.isEmpty()) {
+              states_ = other.states_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureStatesIsMutable();
+              states_.addAll(other.states_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.states_.isEmpty()) {
+            if (statesBuilder_.isEmpty()) {
+              statesBuilder_.dispose();
+              statesBuilder_ = null;
+              states_ = other.states_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              statesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getStatesFieldBuilder() : null;
+            } else {
+              statesBuilder_.addAllMessages(other.states_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                protoc.ServiceProto.PlayerGameState m =
+                    input.readMessage(
+                        protoc.ServiceProto.PlayerGameState.parser(),
+                        extensionRegistry);
+                if (statesBuilder_ == null) {
+                  ensureStatesIsMutable();
+                  states_.add(m);
+                } else {
+                  statesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<protoc.ServiceProto.PlayerGameState> states_ =
+        java.util.Collections.emptyList();
+      private void ensureStatesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          states_ = new java.util.ArrayList<protoc.ServiceProto.PlayerGameState>(states_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.PlayerGameState, protoc.ServiceProto.PlayerGameState.Builder, protoc.ServiceProto.PlayerGameStateOrBuilder> statesBuilder_;
+
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.PlayerGameState> getStatesList() {
+        if (statesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(states_);
+        } else {
+          return statesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public int getStatesCount() {
+        if (statesBuilder_ == null) {
+          return states_.size();
+        } else {
+          return statesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerGameState getStates(int index) {
+        if (statesBuilder_ == null) {
+          return states_.get(index);
+        } else {
+          return statesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder setStates(
+          int index, protoc.ServiceProto.PlayerGameState value) {
+        if (statesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStatesIsMutable();
+          states_.set(index, value);
+          onChanged();
+        } else {
+          statesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder setStates(
+          int index, protoc.ServiceProto.PlayerGameState.Builder builderForValue) {
+        if (statesBuilder_ == null) {
+          ensureStatesIsMutable();
+          states_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          statesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder addStates(protoc.ServiceProto.PlayerGameState value) {
+        if (statesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStatesIsMutable();
+          states_.add(value);
+          onChanged();
+        } else {
+          statesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder addStates(
+          int index, protoc.ServiceProto.PlayerGameState value) {
+        if (statesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStatesIsMutable();
+          states_.add(index, value);
+          onChanged();
+        } else {
+          statesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder addStates(
+          protoc.ServiceProto.PlayerGameState.Builder builderForValue) {
+        if (statesBuilder_ == null) {
+          ensureStatesIsMutable();
+          states_.add(builderForValue.build());
+          onChanged();
+        } else {
+          statesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder addStates(
+          int index, protoc.ServiceProto.PlayerGameState.Builder builderForValue) {
+        if (statesBuilder_ == null) {
+          ensureStatesIsMutable();
+          states_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          statesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder addAllStates(
+          java.lang.Iterable<? extends protoc.ServiceProto.PlayerGameState> values) {
+        if (statesBuilder_ == null) {
+          ensureStatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, states_);
+          onChanged();
+        } else {
+          statesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder clearStates() {
+        if (statesBuilder_ == null) {
+          states_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          statesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public Builder removeStates(int index) {
+        if (statesBuilder_ == null) {
+          ensureStatesIsMutable();
+          states_.remove(index);
+          onChanged();
+        } else {
+          statesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerGameState.Builder getStatesBuilder(
+          int index) {
+        return getStatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerGameStateOrBuilder getStatesOrBuilder(
+          int index) {
+        if (statesBuilder_ == null) {
+          return states_.get(index);  } else {
+          return statesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public java.util.List<? extends protoc.ServiceProto.PlayerGameStateOrBuilder> 
+           getStatesOrBuilderList() {
+        if (statesBuilder_ != null) {
+          return statesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(states_);
+        }
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerGameState.Builder addStatesBuilder() {
+        return getStatesFieldBuilder().addBuilder(
+            protoc.ServiceProto.PlayerGameState.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public protoc.ServiceProto.PlayerGameState.Builder addStatesBuilder(
+          int index) {
+        return getStatesFieldBuilder().addBuilder(
+            index, protoc.ServiceProto.PlayerGameState.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.PlayerGameState states = 1;</code>
+       */
+      public java.util.List<protoc.ServiceProto.PlayerGameState.Builder> 
+           getStatesBuilderList() {
+        return getStatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protoc.ServiceProto.PlayerGameState, protoc.ServiceProto.PlayerGameState.Builder, protoc.ServiceProto.PlayerGameStateOrBuilder> 
+          getStatesFieldBuilder() {
+        if (statesBuilder_ == null) {
+          statesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protoc.ServiceProto.PlayerGameState, protoc.ServiceProto.PlayerGameState.Builder, protoc.ServiceProto.PlayerGameStateOrBuilder>(
+                  states_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          states_ = null;
+        }
+        return statesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.PlayerGameStateBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.PlayerGameStateBatch)
+    private static final protoc.EnvProto.PlayerGameStateBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.EnvProto.PlayerGameStateBatch();
+    }
+
+    public static protoc.EnvProto.PlayerGameStateBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PlayerGameStateBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PlayerGameStateBatch>() {
+      @java.lang.Override
+      public PlayerGameStateBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PlayerGameStateBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PlayerGameStateBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.EnvProto.PlayerGameStateBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_CreateEnvsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_CreateEnvsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_CreateEnvsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_CreateEnvsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_PlayerBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_PlayerBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_PlayerInputBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_PlayerInputBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_PlayerGameStateBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_PlayerGameStateBatch_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\tenv.proto\022\007service\032\033google/protobuf/em" +
+      "pty.proto\032\rservice.proto\"\342\001\n\021CreateEnvsR" +
+      "equest\022\023\n\013character_1\030\001 \001(\t\022\023\n\013character" +
+      "_2\030\002 \001(\t\022\020\n\010player_1\030\003 \001(\t\022\020\n\010player_2\030\004" +
+      " \001(\t\022\023\n\013game_number\030\005 \001(\005\0224\n\020player_1_op" +
+      "tions\030\006 \001(\0132\032.service.InitializeRequest\022" +
+      "4\n\020player_2_options\030\007 \001(\0132\032.service.Init" +
+      "ializeRequest\"B\n\022CreateEnvsResponse\022,\n\007p" +
+      "layers\030\001 \003(\0132\033.service.InitializeRespons" +
+      "e\";\n\013PlayerBatch\022,\n\007players\030\001 \003(\0132\033.serv" +
+      "ice.ParticipateRequest\"8\n\020PlayerInputBat" +
+      "ch\022$\n\006inputs\030\001 \003(\0132\024.service.PlayerInput" +
+      "\"@\n\024PlayerGameStateBatch\022(\n\006states\030\001 \003(\013" +
+      "2\030.service.PlayerGameState2\240\002\n\nEnvServic" +
+      "e\022G\n\nCreateEnvs\022\032.service.CreateEnvsRequ" +
+      "est\032\033.service.CreateEnvsResponse\"\000\022C\n\nRe" +
+      "setBatch\022\024.service.PlayerBatch\032\035.service" +
+      ".PlayerGameStateBatch\"\000\022G\n\tStepBatch\022\031.s" +
+      "ervice.PlayerInputBatch\032\035.service.Player" +
+      "GameStateBatch\"\000\022;\n\tCloseEnvs\022\024.service." +
+      "PlayerBatch\032\026.google.protobuf.Empty\"\000B\032\n" +
+      "\006protocB\010EnvProtoP\000\242\002\003HLWb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.google.protobuf.EmptyProto.getDescriptor(),
+          protoc.ServiceProto.getDescriptor(),
+        });
+    internal_static_service_CreateEnvsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_service_CreateEnvsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_CreateEnvsRequest_descriptor,
+        new java.lang.String[] { "Character1", "Character2", "Player1", "Player2", "GameNumber", "Player1Options", "Player2Options", });
+    internal_static_service_CreateEnvsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_service_CreateEnvsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_CreateEnvsResponse_descriptor,
+        new java.lang.String[] { "Players", });
+    internal_static_service_PlayerBatch_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_service_PlayerBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_PlayerBatch_descriptor,
+        new java.lang.String[] { "Players", });
+    internal_static_service_PlayerInputBatch_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_service_PlayerInputBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_PlayerInputBatch_descriptor,
+        new java.lang.String[] { "Inputs", });
+    internal_static_service_PlayerGameStateBatch_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_service_PlayerGameStateBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_PlayerGameStateBatch_descriptor,
+        new java.lang.String[] { "States", });
+    com.google.protobuf.EmptyProto.getDescriptor();
+    protoc.ServiceProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
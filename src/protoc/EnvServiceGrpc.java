@@ -0,0 +1,557 @@
+package protoc;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * Vectorized environments backed by matches running inside the game process.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.53.0)",
+    comments = "Source: env.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class EnvServiceGrpc {
+
+  private EnvServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "service.EnvService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<protoc.EnvProto.CreateEnvsRequest,
+      protoc.EnvProto.CreateEnvsResponse> getCreateEnvsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "CreateEnvs",
+      requestType = protoc.EnvProto.CreateEnvsRequest.class,
+      responseType = protoc.EnvProto.CreateEnvsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protoc.EnvProto.CreateEnvsRequest,
+      protoc.EnvProto.CreateEnvsResponse> getCreateEnvsMethod() {
+    io.grpc.MethodDescriptor<protoc.EnvProto.CreateEnvsRequest, protoc.EnvProto.CreateEnvsResponse> getCreateEnvsMethod;
+    if ((getCreateEnvsMethod = EnvServiceGrpc.getCreateEnvsMethod) == null) {
+      synchronized (EnvServiceGrpc.class) {
+        if ((getCreateEnvsMethod = EnvServiceGrpc.getCreateEnvsMethod) == null) {
+          EnvServiceGrpc.getCreateEnvsMethod = getCreateEnvsMethod =
+              io.grpc.MethodDescriptor.<protoc.EnvProto.CreateEnvsRequest, protoc.EnvProto.CreateEnvsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "CreateEnvs"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.CreateEnvsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.CreateEnvsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new EnvServiceMethodDescriptorSupplier("CreateEnvs"))
+              .build();
+        }
+      }
+    }
+    return getCreateEnvsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protoc.EnvProto.PlayerBatch,
+      protoc.EnvProto.PlayerGameStateBatch> getResetBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ResetBatch",
+      requestType = protoc.EnvProto.PlayerBatch.class,
+      responseType = protoc.EnvProto.PlayerGameStateBatch.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protoc.EnvProto.PlayerBatch,
+      protoc.EnvProto.PlayerGameStateBatch> getResetBatchMethod() {
+    io.grpc.MethodDescriptor<protoc.EnvProto.PlayerBatch, protoc.EnvProto.PlayerGameStateBatch> getResetBatchMethod;
+    if ((getResetBatchMethod = EnvServiceGrpc.getResetBatchMethod) == null) {
+      synchronized (EnvServiceGrpc.class) {
+        if ((getResetBatchMethod = EnvServiceGrpc.getResetBatchMethod) == null) {
+          EnvServiceGrpc.getResetBatchMethod = getResetBatchMethod =
+              io.grpc.MethodDescriptor.<protoc.EnvProto.PlayerBatch, protoc.EnvProto.PlayerGameStateBatch>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ResetBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.PlayerBatch.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.PlayerGameStateBatch.getDefaultInstance()))
+              .setSchemaDescriptor(new EnvServiceMethodDescriptorSupplier("ResetBatch"))
+              .build();
+        }
+      }
+    }
+    return getResetBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protoc.EnvProto.PlayerInputBatch,
+      protoc.EnvProto.PlayerGameStateBatch> getStepBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StepBatch",
+      requestType = protoc.EnvProto.PlayerInputBatch.class,
+      responseType = protoc.EnvProto.PlayerGameStateBatch.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protoc.EnvProto.PlayerInputBatch,
+      protoc.EnvProto.PlayerGameStateBatch> getStepBatchMethod() {
+    io.grpc.MethodDescriptor<protoc.EnvProto.PlayerInputBatch, protoc.EnvProto.PlayerGameStateBatch> getStepBatchMethod;
+    if ((getStepBatchMethod = EnvServiceGrpc.getStepBatchMethod) == null) {
+      synchronized (EnvServiceGrpc.class) {
+        if ((getStepBatchMethod = EnvServiceGrpc.getStepBatchMethod) == null) {
+          EnvServiceGrpc.getStepBatchMethod = getStepBatchMethod =
+              io.grpc.MethodDescriptor.<protoc.EnvProto.PlayerInputBatch, protoc.EnvProto.PlayerGameStateBatch>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StepBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.PlayerInputBatch.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.PlayerGameStateBatch.getDefaultInstance()))
+              .setSchemaDescriptor(new EnvServiceMethodDescriptorSupplier("StepBatch"))
+              .build();
+        }
+      }
+    }
+    return getStepBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protoc.EnvProto.PlayerBatch,
+      com.google.protobuf.Empty> getCloseEnvsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "CloseEnvs",
+      requestType = protoc.EnvProto.PlayerBatch.class,
+      responseType = com.google.protobuf.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protoc.EnvProto.PlayerBatch,
+      com.google.protobuf.Empty> getCloseEnvsMethod() {
+    io.grpc.MethodDescriptor<protoc.EnvProto.PlayerBatch, com.google.protobuf.Empty> getCloseEnvsMethod;
+    if ((getCloseEnvsMethod = EnvServiceGrpc.getCloseEnvsMethod) == null) {
+      synchronized (EnvServiceGrpc.class) {
+        if ((getCloseEnvsMethod = EnvServiceGrpc.getCloseEnvsMethod) == null) {
+          EnvServiceGrpc.getCloseEnvsMethod = getCloseEnvsMethod =
+              io.grpc.MethodDescriptor.<protoc.EnvProto.PlayerBatch, com.google.protobuf.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "CloseEnvs"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protoc.EnvProto.PlayerBatch.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.google.protobuf.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new EnvServiceMethodDescriptorSupplier("CloseEnvs"))
+              .build();
+        }
+      }
+    }
+    return getCloseEnvsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static EnvServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EnvServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EnvServiceStub>() {
+        @java.lang.Override
+        public EnvServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EnvServiceStub(channel, callOptions);
+        }
+      };
+    return EnvServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static EnvServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EnvServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EnvServiceBlockingStub>() {
+        @java.lang.Override
+        public EnvServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EnvServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return EnvServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static EnvServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EnvServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EnvServiceFutureStub>() {
+        @java.lang.Override
+        public EnvServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EnvServiceFutureStub(channel, callOptions);
+        }
+      };
+    return EnvServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * Vectorized environments backed by matches running inside the game process.
+   * </pre>
+   */
+  public static abstract class EnvServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     * <pre>
+     * Creates game_number environments. player_1 and player_2 name the AI in data/ai
+     * controlling each player, or are empty if the player is controlled through StepBatch.
+     * The environments play no sound, so the audio data of the states are silent.
+     * </pre>
+     */
+    public void createEnvs(protoc.EnvProto.CreateEnvsRequest request,
+        io.grpc.stub.StreamObserver<protoc.EnvProto.CreateEnvsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateEnvsMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Starts a new game in the environments of the players.
+     * </pre>
+     */
+    public void resetBatch(protoc.EnvProto.PlayerBatch request,
+        io.grpc.stub.StreamObserver<protoc.EnvProto.PlayerGameStateBatch> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getResetBatchMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Advances the environments of the players by one frame.
+     * </pre>
+     */
+    public void stepBatch(protoc.EnvProto.PlayerInputBatch request,
+        io.grpc.stub.StreamObserver<protoc.EnvProto.PlayerGameStateBatch> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStepBatchMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void closeEnvs(protoc.EnvProto.PlayerBatch request,
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCloseEnvsMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getCreateEnvsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                protoc.EnvProto.CreateEnvsRequest,
+                protoc.EnvProto.CreateEnvsResponse>(
+                  this, METHODID_CREATE_ENVS)))
+          .addMethod(
+            getResetBatchMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                protoc.EnvProto.PlayerBatch,
+                protoc.EnvProto.PlayerGameStateBatch>(
+                  this, METHODID_RESET_BATCH)))
+          .addMethod(
+            getStepBatchMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                protoc.EnvProto.PlayerInputBatch,
+                protoc.EnvProto.PlayerGameStateBatch>(
+                  this, METHODID_STEP_BATCH)))
+          .addMethod(
+            getCloseEnvsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                protoc.EnvProto.PlayerBatch,
+                com.google.protobuf.Empty>(
+                  this, METHODID_CLOSE_ENVS)))
+          .build();
+    }
+  }
+
+  /**
+   * <pre>
+   * Vectorized environments backed by matches running inside the game process.
+   * </pre>
+   */
+  public static final class EnvServiceStub extends io.grpc.stub.AbstractAsyncStub<EnvServiceStub> {
+    private EnvServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EnvServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EnvServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Creates game_number environments. player_1 and player_2 name the AI in data/ai
+     * controlling each player, or are empty if the player is controlled through StepBatch.
+     * The environments play no sound, so the audio data of the states are silent.
+     * </pre>
+     */
+    public void createEnvs(protoc.EnvProto.CreateEnvsRequest request,
+        io.grpc.stub.StreamObserver<protoc.EnvProto.CreateEnvsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCreateEnvsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Starts a new game in the environments of the players.
+     * </pre>
+     */
+    public void resetBatch(protoc.EnvProto.PlayerBatch request,
+        io.grpc.stub.StreamObserver<protoc.EnvProto.PlayerGameStateBatch> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getResetBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Advances the environments of the players by one frame.
+     * </pre>
+     */
+    public void stepBatch(protoc.EnvProto.PlayerInputBatch request,
+        io.grpc.stub.StreamObserver<protoc.EnvProto.PlayerGameStateBatch> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getStepBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void closeEnvs(protoc.EnvProto.PlayerBatch request,
+        io.grpc.stub.StreamObserver<com.google.protobuf.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCloseEnvsMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * <pre>
+   * Vectorized environments backed by matches running inside the game process.
+   * </pre>
+   */
+  public static final class EnvServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<EnvServiceBlockingStub> {
+    private EnvServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EnvServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EnvServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Creates game_number environments. player_1 and player_2 name the AI in data/ai
+     * controlling each player, or are empty if the player is controlled through StepBatch.
+     * The environments play no sound, so the audio data of the states are silent.
+     * </pre>
+     */
+    public protoc.EnvProto.CreateEnvsResponse createEnvs(protoc.EnvProto.CreateEnvsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCreateEnvsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Starts a new game in the environments of the players.
+     * </pre>
+     */
+    public protoc.EnvProto.PlayerGameStateBatch resetBatch(protoc.EnvProto.PlayerBatch request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getResetBatchMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Advances the environments of the players by one frame.
+     * </pre>
+     */
+    public protoc.EnvProto.PlayerGameStateBatch stepBatch(protoc.EnvProto.PlayerInputBatch request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getStepBatchMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.google.protobuf.Empty closeEnvs(protoc.EnvProto.PlayerBatch request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCloseEnvsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * <pre>
+   * Vectorized environments backed by matches running inside the game process.
+   * </pre>
+   */
+  public static final class EnvServiceFutureStub extends io.grpc.stub.AbstractFutureStub<EnvServiceFutureStub> {
+    private EnvServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EnvServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EnvServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Creates game_number environments. player_1 and player_2 name the AI in data/ai
+     * controlling each player, or are empty if the player is controlled through StepBatch.
+     * The environments play no sound, so the audio data of the states are silent.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protoc.EnvProto.CreateEnvsResponse> createEnvs(
+        protoc.EnvProto.CreateEnvsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCreateEnvsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Starts a new game in the environments of the players.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protoc.EnvProto.PlayerGameStateBatch> resetBatch(
+        protoc.EnvProto.PlayerBatch request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getResetBatchMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Advances the environments of the players by one frame.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protoc.EnvProto.PlayerGameStateBatch> stepBatch(
+        protoc.EnvProto.PlayerInputBatch request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getStepBatchMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.google.protobuf.Empty> closeEnvs(
+        protoc.EnvProto.PlayerBatch request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCloseEnvsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_CREATE_ENVS = 0;
+  private static final int METHODID_RESET_BATCH = 1;
+  private static final int METHODID_STEP_BATCH = 2;
+  private static final int METHODID_CLOSE_ENVS = 3;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final EnvServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(EnvServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_CREATE_ENVS:
+          serviceImpl.createEnvs((protoc.EnvProto.CreateEnvsRequest) request,
+              (io.grpc.stub.StreamObserver<protoc.EnvProto.CreateEnvsResponse>) responseObserver);
+          break;
+        case METHODID_RESET_BATCH:
+          serviceImpl.resetBatch((protoc.EnvProto.PlayerBatch) request,
+              (io.grpc.stub.StreamObserver<protoc.EnvProto.PlayerGameStateBatch>) responseObserver);
+          break;
+        case METHODID_STEP_BATCH:
+          serviceImpl.stepBatch((protoc.EnvProto.PlayerInputBatch) request,
+              (io.grpc.stub.StreamObserver<protoc.EnvProto.PlayerGameStateBatch>) responseObserver);
+          break;
+        case METHODID_CLOSE_ENVS:
+          serviceImpl.closeEnvs((protoc.EnvProto.PlayerBatch) request,
+              (io.grpc.stub.StreamObserver<com.google.protobuf.Empty>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class EnvServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    EnvServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return protoc.EnvProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("EnvService");
+    }
+  }
+
+  private static final class EnvServiceFileDescriptorSupplier
+      extends EnvServiceBaseDescriptorSupplier {
+    EnvServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class EnvServiceMethodDescriptorSupplier
+      extends EnvServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    EnvServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (EnvServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new EnvServiceFileDescriptorSupplier())
+              .addMethod(getCreateEnvsMethod())
+              .addMethod(getResetBatchMethod())
+              .addMethod(getStepBatchMethod())
+              .addMethod(getCloseEnvsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -6661,6 +6661,22 @@ public final class MessageProto {
      * @return The imaginaryDataAsBytes.
      */
     com.google.protobuf.ByteString getImaginaryDataAsBytes();
+
+    /**
+     * <pre>
+     * The scales of the data encoded as 16-bit integers
+     * </pre>
+     *
+     * <code>float real_data_scale = 3;</code>
+     * @return The realDataScale.
+     */
+    float getRealDataScale();
+
+    /**
+     * <code>float imaginary_data_scale = 4;</code>
+     * @return The imaginaryDataScale.
+     */
+    float getImaginaryDataScale();
   }
   /**
    * Protobuf type {@code service.GrpcFftData}
@@ -6726,6 +6742,32 @@ public final class MessageProto {
       return imaginaryDataAsBytes_;
     }
 
+    public static final int REAL_DATA_SCALE_FIELD_NUMBER = 3;
+    private float realDataScale_;
+    /**
+     * <pre>
+     * The scales of the data encoded as 16-bit integers
+     * </pre>
+     *
+     * <code>float real_data_scale = 3;</code>
+     * @return The realDataScale.
+     */
+    @java.lang.Override
+    public float getRealDataScale() {
+      return realDataScale_;
+    }
+
+    public static final int IMAGINARY_DATA_SCALE_FIELD_NUMBER = 4;
+    private float imaginaryDataScale_;
+    /**
+     * <code>float imaginary_data_scale = 4;</code>
+     * @return The imaginaryDataScale.
+     */
+    @java.lang.Override
+    public float getImaginaryDataScale() {
+      return imaginaryDataScale_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -6746,6 +6788,12 @@ public final class MessageProto {
       if (!imaginaryDataAsBytes_.isEmpty()) {
         output.writeBytes(2, imaginaryDataAsBytes_);
       }
+      if (java.lang.Float.floatToRawIntBits(realDataScale_) != 0) {
+        output.writeFloat(3, realDataScale_);
+      }
+      if (java.lang.Float.floatToRawIntBits(imaginaryDataScale_) != 0) {
+        output.writeFloat(4, imaginaryDataScale_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -6763,6 +6811,14 @@ public final class MessageProto {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, imaginaryDataAsBytes_);
       }
+      if (java.lang.Float.floatToRawIntBits(realDataScale_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(3, realDataScale_);
+      }
+      if (java.lang.Float.floatToRawIntBits(imaginaryDataScale_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(4, imaginaryDataScale_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6782,6 +6838,12 @@ public final class MessageProto {
           .equals(other.getRealDataAsBytes())) return false;
       if (!getImaginaryDataAsBytes()
           .equals(other.getImaginaryDataAsBytes())) return false;
+      if (java.lang.Float.floatToIntBits(getRealDataScale())
+          != java.lang.Float.floatToIntBits(
+              other.getRealDataScale())) return false;
+      if (java.lang.Float.floatToIntBits(getImaginaryDataScale())
+          != java.lang.Float.floatToIntBits(
+              other.getImaginaryDataScale())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -6797,6 +6859,12 @@ public final class MessageProto {
       hash = (53 * hash) + getRealDataAsBytes().hashCode();
       hash = (37 * hash) + IMAGINARY_DATA_AS_BYTES_FIELD_NUMBER;
       hash = (53 * hash) + getImaginaryDataAsBytes().hashCode();
+      hash = (37 * hash) + REAL_DATA_SCALE_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getRealDataScale());
+      hash = (37 * hash) + IMAGINARY_DATA_SCALE_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getImaginaryDataScale());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -6929,6 +6997,10 @@ public final class MessageProto {
 
         imaginaryDataAsBytes_ = com.google.protobuf.ByteString.EMPTY;
 
+        realDataScale_ = 0F;
+
+        imaginaryDataScale_ = 0F;
+
         return this;
       }
 
@@ -6957,6 +7029,8 @@ public final class MessageProto {
         protoc.MessageProto.GrpcFftData result = new protoc.MessageProto.GrpcFftData(this);
         result.realDataAsBytes_ = realDataAsBytes_;
         result.imaginaryDataAsBytes_ = imaginaryDataAsBytes_;
+        result.realDataScale_ = realDataScale_;
+        result.imaginaryDataScale_ = imaginaryDataScale_;
         onBuilt();
         return result;
       }
@@ -7011,6 +7085,12 @@ public final class MessageProto {
         if (other.getImaginaryDataAsBytes() != com.google.protobuf.ByteString.EMPTY) {
           setImaginaryDataAsBytes(other.getImaginaryDataAsBytes());
         }
+        if (other.getRealDataScale() != 0F) {
+          setRealDataScale(other.getRealDataScale());
+        }
+        if (other.getImaginaryDataScale() != 0F) {
+          setImaginaryDataScale(other.getImaginaryDataScale());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -7047,6 +7127,16 @@ public final class MessageProto {
 
                 break;
               } // case 18
+              case 29: {
+                realDataScale_ = input.readFloat();
+
+                break;
+              } // case 29
+              case 37: {
+                imaginaryDataScale_ = input.readFloat();
+
+                break;
+              } // case 37
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -7130,6 +7220,80 @@ public final class MessageProto {
         onChanged();
         return this;
       }
+
+      private float realDataScale_ ;
+      /**
+       * <pre>
+       * The scales of the data encoded as 16-bit integers
+       * </pre>
+       *
+       * <code>float real_data_scale = 3;</code>
+       * @return The realDataScale.
+       */
+      @java.lang.Override
+      public float getRealDataScale() {
+        return realDataScale_;
+      }
+      /**
+       * <pre>
+       * The scales of the data encoded as 16-bit integers
+       * </pre>
+       *
+       * <code>float real_data_scale = 3;</code>
+       * @param value The realDataScale to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRealDataScale(float value) {
+        
+        realDataScale_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The scales of the data encoded as 16-bit integers
+       * </pre>
+       *
+       * <code>float real_data_scale = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRealDataScale() {
+        
+        realDataScale_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float imaginaryDataScale_ ;
+      /**
+       * <code>float imaginary_data_scale = 4;</code>
+       * @return The imaginaryDataScale.
+       */
+      @java.lang.Override
+      public float getImaginaryDataScale() {
+        return imaginaryDataScale_;
+      }
+      /**
+       * <code>float imaginary_data_scale = 4;</code>
+       * @param value The imaginaryDataScale to set.
+       * @return This builder for chaining.
+       */
+      public Builder setImaginaryDataScale(float value) {
+        
+        imaginaryDataScale_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float imaginary_data_scale = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearImaginaryDataScale() {
+        
+        imaginaryDataScale_ = 0F;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -7707,6 +7871,22 @@ public final class MessageProto {
      * @return The spectrogramDataAsBytes.
      */
     com.google.protobuf.ByteString getSpectrogramDataAsBytes();
+
+    /**
+     * <pre>
+     * The scales of the data encoded as 16-bit integers
+     * </pre>
+     *
+     * <code>float raw_data_scale = 4;</code>
+     * @return The rawDataScale.
+     */
+    float getRawDataScale();
+
+    /**
+     * <code>float spectrogram_data_scale = 5;</code>
+     * @return The spectrogramDataScale.
+     */
+    float getSpectrogramDataScale();
   }
   /**
    * Protobuf type {@code service.GrpcAudioData}
@@ -7813,6 +7993,32 @@ public final class MessageProto {
       return spectrogramDataAsBytes_;
     }
 
+    public static final int RAW_DATA_SCALE_FIELD_NUMBER = 4;
+    private float rawDataScale_;
+    /**
+     * <pre>
+     * The scales of the data encoded as 16-bit integers
+     * </pre>
+     *
+     * <code>float raw_data_scale = 4;</code>
+     * @return The rawDataScale.
+     */
+    @java.lang.Override
+    public float getRawDataScale() {
+      return rawDataScale_;
+    }
+
+    public static final int SPECTROGRAM_DATA_SCALE_FIELD_NUMBER = 5;
+    private float spectrogramDataScale_;
+    /**
+     * <code>float spectrogram_data_scale = 5;</code>
+     * @return The spectrogramDataScale.
+     */
+    @java.lang.Override
+    public float getSpectrogramDataScale() {
+      return spectrogramDataScale_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -7836,6 +8042,12 @@ public final class MessageProto {
       if (!spectrogramDataAsBytes_.isEmpty()) {
         output.writeBytes(3, spectrogramDataAsBytes_);
       }
+      if (java.lang.Float.floatToRawIntBits(rawDataScale_) != 0) {
+        output.writeFloat(4, rawDataScale_);
+      }
+      if (java.lang.Float.floatToRawIntBits(spectrogramDataScale_) != 0) {
+        output.writeFloat(5, spectrogramDataScale_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -7857,6 +8069,14 @@ public final class MessageProto {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, spectrogramDataAsBytes_);
       }
+      if (java.lang.Float.floatToRawIntBits(rawDataScale_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(4, rawDataScale_);
+      }
+      if (java.lang.Float.floatToRawIntBits(spectrogramDataScale_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(5, spectrogramDataScale_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -7878,6 +8098,12 @@ public final class MessageProto {
           .equals(other.getFftDataList())) return false;
       if (!getSpectrogramDataAsBytes()
           .equals(other.getSpectrogramDataAsBytes())) return false;
+      if (java.lang.Float.floatToIntBits(getRawDataScale())
+          != java.lang.Float.floatToIntBits(
+              other.getRawDataScale())) return false;
+      if (java.lang.Float.floatToIntBits(getSpectrogramDataScale())
+          != java.lang.Float.floatToIntBits(
+              other.getSpectrogramDataScale())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -7897,6 +8123,12 @@ public final class MessageProto {
       }
       hash = (37 * hash) + SPECTROGRAM_DATA_AS_BYTES_FIELD_NUMBER;
       hash = (53 * hash) + getSpectrogramDataAsBytes().hashCode();
+      hash = (37 * hash) + RAW_DATA_SCALE_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getRawDataScale());
+      hash = (37 * hash) + SPECTROGRAM_DATA_SCALE_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getSpectrogramDataScale());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -8036,6 +8268,10 @@ public final class MessageProto {
         bitField0_ = (bitField0_ & ~0x00000001);
         spectrogramDataAsBytes_ = com.google.protobuf.ByteString.EMPTY;
 
+        rawDataScale_ = 0F;
+
+        spectrogramDataScale_ = 0F;
+
         return this;
       }
 
@@ -8074,6 +8310,8 @@ public final class MessageProto {
           result.fftData_ = fftDataBuilder_.build();
         }
         result.spectrogramDataAsBytes_ = spectrogramDataAsBytes_;
+        result.rawDataScale_ = rawDataScale_;
+        result.spectrogramDataScale_ = spectrogramDataScale_;
         onBuilt();
         return result;
       }
@@ -8154,6 +8392,12 @@ public final class MessageProto {
         if (other.getSpectrogramDataAsBytes() != com.google.protobuf.ByteString.EMPTY) {
           setSpectrogramDataAsBytes(other.getSpectrogramDataAsBytes());
         }
+        if (other.getRawDataScale() != 0F) {
+          setRawDataScale(other.getRawDataScale());
+        }
+        if (other.getSpectrogramDataScale() != 0F) {
+          setSpectrogramDataScale(other.getSpectrogramDataScale());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -8203,6 +8447,16 @@ public final class MessageProto {
 
                 break;
               } // case 26
+              case 37: {
+                rawDataScale_ = input.readFloat();
+
+                break;
+              } // case 37
+              case 45: {
+                spectrogramDataScale_ = input.readFloat();
+
+                break;
+              } // case 45
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -8527,6 +8781,80 @@ public final class MessageProto {
         onChanged();
         return this;
       }
+
+      private float rawDataScale_ ;
+      /**
+       * <pre>
+       * The scales of the data encoded as 16-bit integers
+       * </pre>
+       *
+       * <code>float raw_data_scale = 4;</code>
+       * @return The rawDataScale.
+       */
+      @java.lang.Override
+      public float getRawDataScale() {
+        return rawDataScale_;
+      }
+      /**
+       * <pre>
+       * The scales of the data encoded as 16-bit integers
+       * </pre>
+       *
+       * <code>float raw_data_scale = 4;</code>
+       * @param value The rawDataScale to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRawDataScale(float value) {
+        
+        rawDataScale_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The scales of the data encoded as 16-bit integers
+       * </pre>
+       *
+       * <code>float raw_data_scale = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRawDataScale() {
+        
+        rawDataScale_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float spectrogramDataScale_ ;
+      /**
+       * <code>float spectrogram_data_scale = 5;</code>
+       * @return The spectrogramDataScale.
+       */
+      @java.lang.Override
+      public float getSpectrogramDataScale() {
+        return spectrogramDataScale_;
+      }
+      /**
+       * <code>float spectrogram_data_scale = 5;</code>
+       * @param value The spectrogramDataScale to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpectrogramDataScale(float value) {
+        
+        spectrogramDataScale_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float spectrogram_data_scale = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpectrogramDataScale() {
+        
+        spectrogramDataScale_ = 0F;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -11504,20 +11832,23 @@ public final class MessageProto {
       "number\030\002 \001(\005\022\025\n\rcurrent_round\030\003 \001(\005\0220\n\017p" +
       "rojectile_data\030\004 \003(\0132\027.service.GrpcAttac" +
       "kData\022\022\n\nempty_flag\030\005 \001(\010\022\r\n\005front\030\006 \003(\010" +
-      "\"J\n\013GrpcFftData\022\032\n\022real_data_as_bytes\030\001 " +
-      "\001(\014\022\037\n\027imaginary_data_as_bytes\030\002 \001(\014\"\'\n\016" +
-      "GrpcScreenData\022\025\n\rdisplay_bytes\030\001 \001(\014\"u\n" +
-      "\rGrpcAudioData\022\031\n\021raw_data_as_bytes\030\001 \001(" +
-      "\014\022&\n\010fft_data\030\002 \003(\0132\024.service.GrpcFftDat" +
-      "a\022!\n\031spectrogram_data_as_bytes\030\003 \001(\014\"`\n\014" +
-      "GrpcGameData\022\017\n\007max_hps\030\001 \003(\005\022\024\n\014max_ene" +
-      "rgies\030\002 \003(\005\022\027\n\017character_names\030\003 \003(\t\022\020\n\010" +
-      "ai_names\030\004 \003(\t\"V\n\017GrpcRoundResult\022\025\n\rcur" +
-      "rent_round\030\001 \001(\005\022\025\n\rremaining_hps\030\002 \003(\005\022" +
-      "\025\n\relapsed_frame\030\003 \001(\005\"V\n\007GrpcKey\022\t\n\001A\030\001" +
-      " \001(\010\022\t\n\001B\030\002 \001(\010\022\t\n\001C\030\003 \001(\010\022\t\n\001U\030\004 \001(\010\022\t\n" +
-      "\001R\030\005 \001(\010\022\t\n\001D\030\006 \001(\010\022\t\n\001L\030\007 \001(\010B\036\n\006protoc" +
-      "B\014MessageProtoP\000\242\002\003HLWb\006proto3"
+      "\"\201\001\n\013GrpcFftData\022\032\n\022real_data_as_bytes\030\001" +
+      " \001(\014\022\037\n\027imaginary_data_as_bytes\030\002 \001(\014\022\027\n" +
+      "\017real_data_scale\030\003 \001(\002\022\034\n\024imaginary_data" +
+      "_scale\030\004 \001(\002\"\'\n\016GrpcScreenData\022\025\n\rdispla" +
+      "y_bytes\030\001 \001(\014\"\255\001\n\rGrpcAudioData\022\031\n\021raw_d" +
+      "ata_as_bytes\030\001 \001(\014\022&\n\010fft_data\030\002 \003(\0132\024.s" +
+      "ervice.GrpcFftData\022!\n\031spectrogram_data_a" +
+      "s_bytes\030\003 \001(\014\022\026\n\016raw_data_scale\030\004 \001(\002\022\036\n" +
+      "\026spectrogram_data_scale\030\005 \001(\002\"`\n\014GrpcGam" +
+      "eData\022\017\n\007max_hps\030\001 \003(\005\022\024\n\014max_energies\030\002" +
+      " \003(\005\022\027\n\017character_names\030\003 \003(\t\022\020\n\010ai_name" +
+      "s\030\004 \003(\t\"V\n\017GrpcRoundResult\022\025\n\rcurrent_ro" +
+      "und\030\001 \001(\005\022\025\n\rremaining_hps\030\002 \003(\005\022\025\n\relap" +
+      "sed_frame\030\003 \001(\005\"V\n\007GrpcKey\022\t\n\001A\030\001 \001(\010\022\t\n" +
+      "\001B\030\002 \001(\010\022\t\n\001C\030\003 \001(\010\022\t\n\001U\030\004 \001(\010\022\t\n\001R\030\005 \001(" +
+      "\010\022\t\n\001D\030\006 \001(\010\022\t\n\001L\030\007 \001(\010B\036\n\006protocB\014Messa" +
+      "geProtoP\000\242\002\003HLWb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -11553,7 +11884,7 @@ public final class MessageProto {
     internal_static_service_GrpcFftData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_GrpcFftData_descriptor,
-        new java.lang.String[] { "RealDataAsBytes", "ImaginaryDataAsBytes", });
+        new java.lang.String[] { "RealDataAsBytes", "ImaginaryDataAsBytes", "RealDataScale", "ImaginaryDataScale", });
     internal_static_service_GrpcScreenData_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_service_GrpcScreenData_fieldAccessorTable = new
@@ -11565,7 +11896,7 @@ public final class MessageProto {
     internal_static_service_GrpcAudioData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_GrpcAudioData_descriptor,
-        new java.lang.String[] { "RawDataAsBytes", "FftData", "SpectrogramDataAsBytes", });
+        new java.lang.String[] { "RawDataAsBytes", "FftData", "SpectrogramDataAsBytes", "RawDataScale", "SpectrogramDataScale", });
     internal_static_service_GrpcGameData_descriptor =
       getDescriptor().getMessageTypes().get(7);
     internal_static_service_GrpcGameData_fieldAccessorTable = new
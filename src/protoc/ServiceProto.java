@@ -2801,28 +2801,1833 @@ public final class ServiceProto {
      * @return The isBlind.
      */
     boolean getIsBlind();
+
+    /**
+     * <pre>
+     * The audio features sent to the player. All of them are sent if unset.
+     * </pre>
+     *
+     * <code>.service.AudioFeatureSet audio_features = 4;</code>
+     * @return Whether the audioFeatures field is set.
+     */
+    boolean hasAudioFeatures();
+    /**
+     * <pre>
+     * The audio features sent to the player. All of them are sent if unset.
+     * </pre>
+     *
+     * <code>.service.AudioFeatureSet audio_features = 4;</code>
+     * @return The audioFeatures.
+     */
+    protoc.ServiceProto.AudioFeatureSet getAudioFeatures();
+    /**
+     * <pre>
+     * The audio features sent to the player. All of them are sent if unset.
+     * </pre>
+     *
+     * <code>.service.AudioFeatureSet audio_features = 4;</code>
+     */
+    protoc.ServiceProto.AudioFeatureSetOrBuilder getAudioFeaturesOrBuilder();
+
+    /**
+     * <pre>
+     * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+     * </pre>
+     *
+     * <code>.service.AudioEncoding audio_encoding = 5;</code>
+     * @return Whether the audioEncoding field is set.
+     */
+    boolean hasAudioEncoding();
+    /**
+     * <pre>
+     * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+     * </pre>
+     *
+     * <code>.service.AudioEncoding audio_encoding = 5;</code>
+     * @return The audioEncoding.
+     */
+    protoc.ServiceProto.AudioEncoding getAudioEncoding();
+    /**
+     * <pre>
+     * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+     * </pre>
+     *
+     * <code>.service.AudioEncoding audio_encoding = 5;</code>
+     */
+    protoc.ServiceProto.AudioEncodingOrBuilder getAudioEncodingOrBuilder();
+  }
+  /**
+   * Protobuf type {@code service.InitializeRequest}
+   */
+  public static final class InitializeRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.InitializeRequest)
+      InitializeRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InitializeRequest.newBuilder() to construct.
+    private InitializeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InitializeRequest() {
+      playerName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InitializeRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.ServiceProto.internal_static_service_InitializeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.ServiceProto.internal_static_service_InitializeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.ServiceProto.InitializeRequest.class, protoc.ServiceProto.InitializeRequest.Builder.class);
+    }
+
+    public static final int PLAYER_NUMBER_FIELD_NUMBER = 1;
+    private boolean playerNumber_;
+    /**
+     * <code>bool player_number = 1;</code>
+     * @return The playerNumber.
+     */
+    @java.lang.Override
+    public boolean getPlayerNumber() {
+      return playerNumber_;
+    }
+
+    public static final int PLAYER_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object playerName_;
+    /**
+     * <code>string player_name = 2;</code>
+     * @return The playerName.
+     */
+    @java.lang.Override
+    public java.lang.String getPlayerName() {
+      java.lang.Object ref = playerName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        playerName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string player_name = 2;</code>
+     * @return The bytes for playerName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPlayerNameBytes() {
+      java.lang.Object ref = playerName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        playerName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IS_BLIND_FIELD_NUMBER = 3;
+    private boolean isBlind_;
+    /**
+     * <code>bool is_blind = 3;</code>
+     * @return The isBlind.
+     */
+    @java.lang.Override
+    public boolean getIsBlind() {
+      return isBlind_;
+    }
+
+    public static final int AUDIO_FEATURES_FIELD_NUMBER = 4;
+    private protoc.ServiceProto.AudioFeatureSet audioFeatures_;
+    /**
+     * <pre>
+     * The audio features sent to the player. All of them are sent if unset.
+     * </pre>
+     *
+     * <code>.service.AudioFeatureSet audio_features = 4;</code>
+     * @return Whether the audioFeatures field is set.
+     */
+    @java.lang.Override
+    public boolean hasAudioFeatures() {
+      return audioFeatures_ != null;
+    }
+    /**
+     * <pre>
+     * The audio features sent to the player. All of them are sent if unset.
+     * </pre>
+     *
+     * <code>.service.AudioFeatureSet audio_features = 4;</code>
+     * @return The audioFeatures.
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.AudioFeatureSet getAudioFeatures() {
+      return audioFeatures_ == null ? protoc.ServiceProto.AudioFeatureSet.getDefaultInstance() : audioFeatures_;
+    }
+    /**
+     * <pre>
+     * The audio features sent to the player. All of them are sent if unset.
+     * </pre>
+     *
+     * <code>.service.AudioFeatureSet audio_features = 4;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.AudioFeatureSetOrBuilder getAudioFeaturesOrBuilder() {
+      return getAudioFeatures();
+    }
+
+    public static final int AUDIO_ENCODING_FIELD_NUMBER = 5;
+    private protoc.ServiceProto.AudioEncoding audioEncoding_;
+    /**
+     * <pre>
+     * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+     * </pre>
+     *
+     * <code>.service.AudioEncoding audio_encoding = 5;</code>
+     * @return Whether the audioEncoding field is set.
+     */
+    @java.lang.Override
+    public boolean hasAudioEncoding() {
+      return audioEncoding_ != null;
+    }
+    /**
+     * <pre>
+     * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+     * </pre>
+     *
+     * <code>.service.AudioEncoding audio_encoding = 5;</code>
+     * @return The audioEncoding.
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.AudioEncoding getAudioEncoding() {
+      return audioEncoding_ == null ? protoc.ServiceProto.AudioEncoding.getDefaultInstance() : audioEncoding_;
+    }
+    /**
+     * <pre>
+     * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+     * </pre>
+     *
+     * <code>.service.AudioEncoding audio_encoding = 5;</code>
+     */
+    @java.lang.Override
+    public protoc.ServiceProto.AudioEncodingOrBuilder getAudioEncodingOrBuilder() {
+      return getAudioEncoding();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (playerNumber_ != false) {
+        output.writeBool(1, playerNumber_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, playerName_);
+      }
+      if (isBlind_ != false) {
+        output.writeBool(3, isBlind_);
+      }
+      if (audioFeatures_ != null) {
+        output.writeMessage(4, getAudioFeatures());
+      }
+      if (audioEncoding_ != null) {
+        output.writeMessage(5, getAudioEncoding());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (playerNumber_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, playerNumber_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, playerName_);
+      }
+      if (isBlind_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, isBlind_);
+      }
+      if (audioFeatures_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getAudioFeatures());
+      }
+      if (audioEncoding_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getAudioEncoding());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.ServiceProto.InitializeRequest)) {
+        return super.equals(obj);
+      }
+      protoc.ServiceProto.InitializeRequest other = (protoc.ServiceProto.InitializeRequest) obj;
+
+      if (getPlayerNumber()
+          != other.getPlayerNumber()) return false;
+      if (!getPlayerName()
+          .equals(other.getPlayerName())) return false;
+      if (getIsBlind()
+          != other.getIsBlind()) return false;
+      if (hasAudioFeatures() != other.hasAudioFeatures()) return false;
+      if (hasAudioFeatures()) {
+        if (!getAudioFeatures()
+            .equals(other.getAudioFeatures())) return false;
+      }
+      if (hasAudioEncoding() != other.hasAudioEncoding()) return false;
+      if (hasAudioEncoding()) {
+        if (!getAudioEncoding()
+            .equals(other.getAudioEncoding())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PLAYER_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPlayerNumber());
+      hash = (37 * hash) + PLAYER_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayerName().hashCode();
+      hash = (37 * hash) + IS_BLIND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsBlind());
+      if (hasAudioFeatures()) {
+        hash = (37 * hash) + AUDIO_FEATURES_FIELD_NUMBER;
+        hash = (53 * hash) + getAudioFeatures().hashCode();
+      }
+      if (hasAudioEncoding()) {
+        hash = (37 * hash) + AUDIO_ENCODING_FIELD_NUMBER;
+        hash = (53 * hash) + getAudioEncoding().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.ServiceProto.InitializeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.ServiceProto.InitializeRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.InitializeRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.InitializeRequest)
+        protoc.ServiceProto.InitializeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.ServiceProto.internal_static_service_InitializeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.ServiceProto.internal_static_service_InitializeRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.ServiceProto.InitializeRequest.class, protoc.ServiceProto.InitializeRequest.Builder.class);
+      }
+
+      // Construct using protoc.ServiceProto.InitializeRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        playerNumber_ = false;
+
+        playerName_ = "";
+
+        isBlind_ = false;
+
+        if (audioFeaturesBuilder_ == null) {
+          audioFeatures_ = null;
+        } else {
+          audioFeatures_ = null;
+          audioFeaturesBuilder_ = null;
+        }
+        if (audioEncodingBuilder_ == null) {
+          audioEncoding_ = null;
+        } else {
+          audioEncoding_ = null;
+          audioEncodingBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.ServiceProto.internal_static_service_InitializeRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.ServiceProto.InitializeRequest getDefaultInstanceForType() {
+        return protoc.ServiceProto.InitializeRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.ServiceProto.InitializeRequest build() {
+        protoc.ServiceProto.InitializeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.ServiceProto.InitializeRequest buildPartial() {
+        protoc.ServiceProto.InitializeRequest result = new protoc.ServiceProto.InitializeRequest(this);
+        result.playerNumber_ = playerNumber_;
+        result.playerName_ = playerName_;
+        result.isBlind_ = isBlind_;
+        if (audioFeaturesBuilder_ == null) {
+          result.audioFeatures_ = audioFeatures_;
+        } else {
+          result.audioFeatures_ = audioFeaturesBuilder_.build();
+        }
+        if (audioEncodingBuilder_ == null) {
+          result.audioEncoding_ = audioEncoding_;
+        } else {
+          result.audioEncoding_ = audioEncodingBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.ServiceProto.InitializeRequest) {
+          return mergeFrom((protoc.ServiceProto.InitializeRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.ServiceProto.InitializeRequest other) {
+        if (other == protoc.ServiceProto.InitializeRequest.getDefaultInstance()) return this;
+        if (other.getPlayerNumber() != false) {
+          setPlayerNumber(other.getPlayerNumber());
+        }
+        if (!other.getPlayerName().isEmpty()) {
+          playerName_ = other.playerName_;
+          onChanged();
+        }
+        if (other.getIsBlind() != false) {
+          setIsBlind(other.getIsBlind());
+        }
+        if (other.hasAudioFeatures()) {
+          mergeAudioFeatures(other.getAudioFeatures());
+        }
+        if (other.hasAudioEncoding()) {
+          mergeAudioEncoding(other.getAudioEncoding());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                playerNumber_ = input.readBool();
+
+                break;
+              } // case 8
+              case 18: {
+                playerName_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 18
+              case 24: {
+                isBlind_ = input.readBool();
+
+                break;
+              } // case 24
+              case 34: {
+                input.readMessage(
+                    getAudioFeaturesFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 34
+              case 42: {
+                input.readMessage(
+                    getAudioEncodingFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private boolean playerNumber_ ;
+      /**
+       * <code>bool player_number = 1;</code>
+       * @return The playerNumber.
+       */
+      @java.lang.Override
+      public boolean getPlayerNumber() {
+        return playerNumber_;
+      }
+      /**
+       * <code>bool player_number = 1;</code>
+       * @param value The playerNumber to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayerNumber(boolean value) {
+        
+        playerNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool player_number = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlayerNumber() {
+        
+        playerNumber_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object playerName_ = "";
+      /**
+       * <code>string player_name = 2;</code>
+       * @return The playerName.
+       */
+      public java.lang.String getPlayerName() {
+        java.lang.Object ref = playerName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          playerName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string player_name = 2;</code>
+       * @return The bytes for playerName.
+       */
+      public com.google.protobuf.ByteString
+          getPlayerNameBytes() {
+        java.lang.Object ref = playerName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          playerName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string player_name = 2;</code>
+       * @param value The playerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayerName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        playerName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string player_name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlayerName() {
+        
+        playerName_ = getDefaultInstance().getPlayerName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string player_name = 2;</code>
+       * @param value The bytes for playerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayerNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        playerName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean isBlind_ ;
+      /**
+       * <code>bool is_blind = 3;</code>
+       * @return The isBlind.
+       */
+      @java.lang.Override
+      public boolean getIsBlind() {
+        return isBlind_;
+      }
+      /**
+       * <code>bool is_blind = 3;</code>
+       * @param value The isBlind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsBlind(boolean value) {
+        
+        isBlind_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool is_blind = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsBlind() {
+        
+        isBlind_ = false;
+        onChanged();
+        return this;
+      }
+
+      private protoc.ServiceProto.AudioFeatureSet audioFeatures_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.AudioFeatureSet, protoc.ServiceProto.AudioFeatureSet.Builder, protoc.ServiceProto.AudioFeatureSetOrBuilder> audioFeaturesBuilder_;
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       * @return Whether the audioFeatures field is set.
+       */
+      public boolean hasAudioFeatures() {
+        return audioFeaturesBuilder_ != null || audioFeatures_ != null;
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       * @return The audioFeatures.
+       */
+      public protoc.ServiceProto.AudioFeatureSet getAudioFeatures() {
+        if (audioFeaturesBuilder_ == null) {
+          return audioFeatures_ == null ? protoc.ServiceProto.AudioFeatureSet.getDefaultInstance() : audioFeatures_;
+        } else {
+          return audioFeaturesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      public Builder setAudioFeatures(protoc.ServiceProto.AudioFeatureSet value) {
+        if (audioFeaturesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          audioFeatures_ = value;
+          onChanged();
+        } else {
+          audioFeaturesBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      public Builder setAudioFeatures(
+          protoc.ServiceProto.AudioFeatureSet.Builder builderForValue) {
+        if (audioFeaturesBuilder_ == null) {
+          audioFeatures_ = builderForValue.build();
+          onChanged();
+        } else {
+          audioFeaturesBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      public Builder mergeAudioFeatures(protoc.ServiceProto.AudioFeatureSet value) {
+        if (audioFeaturesBuilder_ == null) {
+          if (audioFeatures_ != null) {
+            audioFeatures_ =
+              protoc.ServiceProto.AudioFeatureSet.newBuilder(audioFeatures_).mergeFrom(value).buildPartial();
+          } else {
+            audioFeatures_ = value;
+          }
+          onChanged();
+        } else {
+          audioFeaturesBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      public Builder clearAudioFeatures() {
+        if (audioFeaturesBuilder_ == null) {
+          audioFeatures_ = null;
+          onChanged();
+        } else {
+          audioFeatures_ = null;
+          audioFeaturesBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      public protoc.ServiceProto.AudioFeatureSet.Builder getAudioFeaturesBuilder() {
+        
+        onChanged();
+        return getAudioFeaturesFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      public protoc.ServiceProto.AudioFeatureSetOrBuilder getAudioFeaturesOrBuilder() {
+        if (audioFeaturesBuilder_ != null) {
+          return audioFeaturesBuilder_.getMessageOrBuilder();
+        } else {
+          return audioFeatures_ == null ?
+              protoc.ServiceProto.AudioFeatureSet.getDefaultInstance() : audioFeatures_;
+        }
+      }
+      /**
+       * <pre>
+       * The audio features sent to the player. All of them are sent if unset.
+       * </pre>
+       *
+       * <code>.service.AudioFeatureSet audio_features = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.AudioFeatureSet, protoc.ServiceProto.AudioFeatureSet.Builder, protoc.ServiceProto.AudioFeatureSetOrBuilder> 
+          getAudioFeaturesFieldBuilder() {
+        if (audioFeaturesBuilder_ == null) {
+          audioFeaturesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protoc.ServiceProto.AudioFeatureSet, protoc.ServiceProto.AudioFeatureSet.Builder, protoc.ServiceProto.AudioFeatureSetOrBuilder>(
+                  getAudioFeatures(),
+                  getParentForChildren(),
+                  isClean());
+          audioFeatures_ = null;
+        }
+        return audioFeaturesBuilder_;
+      }
+
+      private protoc.ServiceProto.AudioEncoding audioEncoding_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.AudioEncoding, protoc.ServiceProto.AudioEncoding.Builder, protoc.ServiceProto.AudioEncodingOrBuilder> audioEncodingBuilder_;
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       * @return Whether the audioEncoding field is set.
+       */
+      public boolean hasAudioEncoding() {
+        return audioEncodingBuilder_ != null || audioEncoding_ != null;
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       * @return The audioEncoding.
+       */
+      public protoc.ServiceProto.AudioEncoding getAudioEncoding() {
+        if (audioEncodingBuilder_ == null) {
+          return audioEncoding_ == null ? protoc.ServiceProto.AudioEncoding.getDefaultInstance() : audioEncoding_;
+        } else {
+          return audioEncodingBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      public Builder setAudioEncoding(protoc.ServiceProto.AudioEncoding value) {
+        if (audioEncodingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          audioEncoding_ = value;
+          onChanged();
+        } else {
+          audioEncodingBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      public Builder setAudioEncoding(
+          protoc.ServiceProto.AudioEncoding.Builder builderForValue) {
+        if (audioEncodingBuilder_ == null) {
+          audioEncoding_ = builderForValue.build();
+          onChanged();
+        } else {
+          audioEncodingBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      public Builder mergeAudioEncoding(protoc.ServiceProto.AudioEncoding value) {
+        if (audioEncodingBuilder_ == null) {
+          if (audioEncoding_ != null) {
+            audioEncoding_ =
+              protoc.ServiceProto.AudioEncoding.newBuilder(audioEncoding_).mergeFrom(value).buildPartial();
+          } else {
+            audioEncoding_ = value;
+          }
+          onChanged();
+        } else {
+          audioEncodingBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      public Builder clearAudioEncoding() {
+        if (audioEncodingBuilder_ == null) {
+          audioEncoding_ = null;
+          onChanged();
+        } else {
+          audioEncoding_ = null;
+          audioEncodingBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      public protoc.ServiceProto.AudioEncoding.Builder getAudioEncodingBuilder() {
+        
+        onChanged();
+        return getAudioEncodingFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      public protoc.ServiceProto.AudioEncodingOrBuilder getAudioEncodingOrBuilder() {
+        if (audioEncodingBuilder_ != null) {
+          return audioEncodingBuilder_.getMessageOrBuilder();
+        } else {
+          return audioEncoding_ == null ?
+              protoc.ServiceProto.AudioEncoding.getDefaultInstance() : audioEncoding_;
+        }
+      }
+      /**
+       * <pre>
+       * The encoding of the audio data sent to the player. 32-bit floating-point numbers if unset.
+       * </pre>
+       *
+       * <code>.service.AudioEncoding audio_encoding = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protoc.ServiceProto.AudioEncoding, protoc.ServiceProto.AudioEncoding.Builder, protoc.ServiceProto.AudioEncodingOrBuilder> 
+          getAudioEncodingFieldBuilder() {
+        if (audioEncodingBuilder_ == null) {
+          audioEncodingBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protoc.ServiceProto.AudioEncoding, protoc.ServiceProto.AudioEncoding.Builder, protoc.ServiceProto.AudioEncodingOrBuilder>(
+                  getAudioEncoding(),
+                  getParentForChildren(),
+                  isClean());
+          audioEncoding_ = null;
+        }
+        return audioEncodingBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.InitializeRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.InitializeRequest)
+    private static final protoc.ServiceProto.InitializeRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.ServiceProto.InitializeRequest();
+    }
+
+    public static protoc.ServiceProto.InitializeRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InitializeRequest>
+        PARSER = new com.google.protobuf.AbstractParser<InitializeRequest>() {
+      @java.lang.Override
+      public InitializeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InitializeRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InitializeRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.ServiceProto.InitializeRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AudioEncodingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.AudioEncoding)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.service.AudioSampleFormat format = 1;</code>
+     * @return The enum numeric value on the wire for format.
+     */
+    int getFormatValue();
+    /**
+     * <code>.service.AudioSampleFormat format = 1;</code>
+     * @return The format.
+     */
+    protoc.EnumProto.AudioSampleFormat getFormat();
+
+    /**
+     * <pre>
+     * With the INT16 format, each value is sent as the difference from the previous value of the same row,
+     * and the stream of the player is compressed with gzip. Initialize fails with INVALID_ARGUMENT if delta
+     * is requested with another format.
+     * </pre>
+     *
+     * <code>bool delta = 2;</code>
+     * @return The delta.
+     */
+    boolean getDelta();
+  }
+  /**
+   * Protobuf type {@code service.AudioEncoding}
+   */
+  public static final class AudioEncoding extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:service.AudioEncoding)
+      AudioEncodingOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AudioEncoding.newBuilder() to construct.
+    private AudioEncoding(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AudioEncoding() {
+      format_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AudioEncoding();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protoc.ServiceProto.internal_static_service_AudioEncoding_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protoc.ServiceProto.internal_static_service_AudioEncoding_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protoc.ServiceProto.AudioEncoding.class, protoc.ServiceProto.AudioEncoding.Builder.class);
+    }
+
+    public static final int FORMAT_FIELD_NUMBER = 1;
+    private int format_;
+    /**
+     * <code>.service.AudioSampleFormat format = 1;</code>
+     * @return The enum numeric value on the wire for format.
+     */
+    @java.lang.Override public int getFormatValue() {
+      return format_;
+    }
+    /**
+     * <code>.service.AudioSampleFormat format = 1;</code>
+     * @return The format.
+     */
+    @java.lang.Override public protoc.EnumProto.AudioSampleFormat getFormat() {
+      @SuppressWarnings("deprecation")
+      protoc.EnumProto.AudioSampleFormat result = protoc.EnumProto.AudioSampleFormat.valueOf(format_);
+      return result == null ? protoc.EnumProto.AudioSampleFormat.UNRECOGNIZED : result;
+    }
+
+    public static final int DELTA_FIELD_NUMBER = 2;
+    private boolean delta_;
+    /**
+     * <pre>
+     * With the INT16 format, each value is sent as the difference from the previous value of the same row,
+     * and the stream of the player is compressed with gzip. Initialize fails with INVALID_ARGUMENT if delta
+     * is requested with another format.
+     * </pre>
+     *
+     * <code>bool delta = 2;</code>
+     * @return The delta.
+     */
+    @java.lang.Override
+    public boolean getDelta() {
+      return delta_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (format_ != protoc.EnumProto.AudioSampleFormat.FLOAT32.getNumber()) {
+        output.writeEnum(1, format_);
+      }
+      if (delta_ != false) {
+        output.writeBool(2, delta_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (format_ != protoc.EnumProto.AudioSampleFormat.FLOAT32.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, format_);
+      }
+      if (delta_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, delta_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protoc.ServiceProto.AudioEncoding)) {
+        return super.equals(obj);
+      }
+      protoc.ServiceProto.AudioEncoding other = (protoc.ServiceProto.AudioEncoding) obj;
+
+      if (format_ != other.format_) return false;
+      if (getDelta()
+          != other.getDelta()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FORMAT_FIELD_NUMBER;
+      hash = (53 * hash) + format_;
+      hash = (37 * hash) + DELTA_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDelta());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protoc.ServiceProto.AudioEncoding parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protoc.ServiceProto.AudioEncoding prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.AudioEncoding}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:service.AudioEncoding)
+        protoc.ServiceProto.AudioEncodingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protoc.ServiceProto.internal_static_service_AudioEncoding_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protoc.ServiceProto.internal_static_service_AudioEncoding_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protoc.ServiceProto.AudioEncoding.class, protoc.ServiceProto.AudioEncoding.Builder.class);
+      }
+
+      // Construct using protoc.ServiceProto.AudioEncoding.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        format_ = 0;
+
+        delta_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protoc.ServiceProto.internal_static_service_AudioEncoding_descriptor;
+      }
+
+      @java.lang.Override
+      public protoc.ServiceProto.AudioEncoding getDefaultInstanceForType() {
+        return protoc.ServiceProto.AudioEncoding.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protoc.ServiceProto.AudioEncoding build() {
+        protoc.ServiceProto.AudioEncoding result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protoc.ServiceProto.AudioEncoding buildPartial() {
+        protoc.ServiceProto.AudioEncoding result = new protoc.ServiceProto.AudioEncoding(this);
+        result.format_ = format_;
+        result.delta_ = delta_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protoc.ServiceProto.AudioEncoding) {
+          return mergeFrom((protoc.ServiceProto.AudioEncoding)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protoc.ServiceProto.AudioEncoding other) {
+        if (other == protoc.ServiceProto.AudioEncoding.getDefaultInstance()) return this;
+        if (other.format_ != 0) {
+          setFormatValue(other.getFormatValue());
+        }
+        if (other.getDelta() != false) {
+          setDelta(other.getDelta());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                format_ = input.readEnum();
+
+                break;
+              } // case 8
+              case 16: {
+                delta_ = input.readBool();
+
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private int format_ = 0;
+      /**
+       * <code>.service.AudioSampleFormat format = 1;</code>
+       * @return The enum numeric value on the wire for format.
+       */
+      @java.lang.Override public int getFormatValue() {
+        return format_;
+      }
+      /**
+       * <code>.service.AudioSampleFormat format = 1;</code>
+       * @param value The enum numeric value on the wire for format to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFormatValue(int value) {
+        
+        format_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.service.AudioSampleFormat format = 1;</code>
+       * @return The format.
+       */
+      @java.lang.Override
+      public protoc.EnumProto.AudioSampleFormat getFormat() {
+        @SuppressWarnings("deprecation")
+        protoc.EnumProto.AudioSampleFormat result = protoc.EnumProto.AudioSampleFormat.valueOf(format_);
+        return result == null ? protoc.EnumProto.AudioSampleFormat.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.service.AudioSampleFormat format = 1;</code>
+       * @param value The format to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFormat(protoc.EnumProto.AudioSampleFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        format_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.service.AudioSampleFormat format = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFormat() {
+        
+        format_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean delta_ ;
+      /**
+       * <pre>
+       * With the INT16 format, each value is sent as the difference from the previous value of the same row,
+       * and the stream of the player is compressed with gzip. Initialize fails with INVALID_ARGUMENT if delta
+       * is requested with another format.
+       * </pre>
+       *
+       * <code>bool delta = 2;</code>
+       * @return The delta.
+       */
+      @java.lang.Override
+      public boolean getDelta() {
+        return delta_;
+      }
+      /**
+       * <pre>
+       * With the INT16 format, each value is sent as the difference from the previous value of the same row,
+       * and the stream of the player is compressed with gzip. Initialize fails with INVALID_ARGUMENT if delta
+       * is requested with another format.
+       * </pre>
+       *
+       * <code>bool delta = 2;</code>
+       * @param value The delta to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDelta(boolean value) {
+        
+        delta_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * With the INT16 format, each value is sent as the difference from the previous value of the same row,
+       * and the stream of the player is compressed with gzip. Initialize fails with INVALID_ARGUMENT if delta
+       * is requested with another format.
+       * </pre>
+       *
+       * <code>bool delta = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDelta() {
+        
+        delta_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:service.AudioEncoding)
+    }
+
+    // @@protoc_insertion_point(class_scope:service.AudioEncoding)
+    private static final protoc.ServiceProto.AudioEncoding DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protoc.ServiceProto.AudioEncoding();
+    }
+
+    public static protoc.ServiceProto.AudioEncoding getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AudioEncoding>
+        PARSER = new com.google.protobuf.AbstractParser<AudioEncoding>() {
+      @java.lang.Override
+      public AudioEncoding parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<AudioEncoding> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AudioEncoding> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protoc.ServiceProto.AudioEncoding getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AudioFeatureSetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:service.AudioFeatureSet)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool raw = 1;</code>
+     * @return The raw.
+     */
+    boolean getRaw();
+
+    /**
+     * <code>bool fft = 2;</code>
+     * @return The fft.
+     */
+    boolean getFft();
+
+    /**
+     * <code>bool spectrogram = 3;</code>
+     * @return The spectrogram.
+     */
+    boolean getSpectrogram();
   }
   /**
-   * Protobuf type {@code service.InitializeRequest}
+   * Protobuf type {@code service.AudioFeatureSet}
    */
-  public static final class InitializeRequest extends
+  public static final class AudioFeatureSet extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:service.InitializeRequest)
-      InitializeRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:service.AudioFeatureSet)
+      AudioFeatureSetOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use InitializeRequest.newBuilder() to construct.
-    private InitializeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use AudioFeatureSet.newBuilder() to construct.
+    private AudioFeatureSet(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private InitializeRequest() {
-      playerName_ = "";
+    private AudioFeatureSet() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new InitializeRequest();
+      return new AudioFeatureSet();
     }
 
     @java.lang.Override
@@ -2832,75 +4637,48 @@ public final class ServiceProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protoc.ServiceProto.internal_static_service_InitializeRequest_descriptor;
+      return protoc.ServiceProto.internal_static_service_AudioFeatureSet_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protoc.ServiceProto.internal_static_service_InitializeRequest_fieldAccessorTable
+      return protoc.ServiceProto.internal_static_service_AudioFeatureSet_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protoc.ServiceProto.InitializeRequest.class, protoc.ServiceProto.InitializeRequest.Builder.class);
+              protoc.ServiceProto.AudioFeatureSet.class, protoc.ServiceProto.AudioFeatureSet.Builder.class);
     }
 
-    public static final int PLAYER_NUMBER_FIELD_NUMBER = 1;
-    private boolean playerNumber_;
+    public static final int RAW_FIELD_NUMBER = 1;
+    private boolean raw_;
     /**
-     * <code>bool player_number = 1;</code>
-     * @return The playerNumber.
+     * <code>bool raw = 1;</code>
+     * @return The raw.
      */
     @java.lang.Override
-    public boolean getPlayerNumber() {
-      return playerNumber_;
+    public boolean getRaw() {
+      return raw_;
     }
 
-    public static final int PLAYER_NAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object playerName_;
-    /**
-     * <code>string player_name = 2;</code>
-     * @return The playerName.
-     */
-    @java.lang.Override
-    public java.lang.String getPlayerName() {
-      java.lang.Object ref = playerName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        playerName_ = s;
-        return s;
-      }
-    }
+    public static final int FFT_FIELD_NUMBER = 2;
+    private boolean fft_;
     /**
-     * <code>string player_name = 2;</code>
-     * @return The bytes for playerName.
+     * <code>bool fft = 2;</code>
+     * @return The fft.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getPlayerNameBytes() {
-      java.lang.Object ref = playerName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        playerName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean getFft() {
+      return fft_;
     }
 
-    public static final int IS_BLIND_FIELD_NUMBER = 3;
-    private boolean isBlind_;
+    public static final int SPECTROGRAM_FIELD_NUMBER = 3;
+    private boolean spectrogram_;
     /**
-     * <code>bool is_blind = 3;</code>
-     * @return The isBlind.
+     * <code>bool spectrogram = 3;</code>
+     * @return The spectrogram.
      */
     @java.lang.Override
-    public boolean getIsBlind() {
-      return isBlind_;
+    public boolean getSpectrogram() {
+      return spectrogram_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2917,14 +4695,14 @@ public final class ServiceProto {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (playerNumber_ != false) {
-        output.writeBool(1, playerNumber_);
+      if (raw_ != false) {
+        output.writeBool(1, raw_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, playerName_);
+      if (fft_ != false) {
+        output.writeBool(2, fft_);
       }
-      if (isBlind_ != false) {
-        output.writeBool(3, isBlind_);
+      if (spectrogram_ != false) {
+        output.writeBool(3, spectrogram_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -2935,16 +4713,17 @@ public final class ServiceProto {
       if (size != -1) return size;
 
       size = 0;
-      if (playerNumber_ != false) {
+      if (raw_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, playerNumber_);
+          .computeBoolSize(1, raw_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, playerName_);
+      if (fft_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, fft_);
       }
-      if (isBlind_ != false) {
+      if (spectrogram_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, isBlind_);
+          .computeBoolSize(3, spectrogram_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -2956,17 +4735,17 @@ public final class ServiceProto {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protoc.ServiceProto.InitializeRequest)) {
+      if (!(obj instanceof protoc.ServiceProto.AudioFeatureSet)) {
         return super.equals(obj);
       }
-      protoc.ServiceProto.InitializeRequest other = (protoc.ServiceProto.InitializeRequest) obj;
+      protoc.ServiceProto.AudioFeatureSet other = (protoc.ServiceProto.AudioFeatureSet) obj;
 
-      if (getPlayerNumber()
-          != other.getPlayerNumber()) return false;
-      if (!getPlayerName()
-          .equals(other.getPlayerName())) return false;
-      if (getIsBlind()
-          != other.getIsBlind()) return false;
+      if (getRaw()
+          != other.getRaw()) return false;
+      if (getFft()
+          != other.getFft()) return false;
+      if (getSpectrogram()
+          != other.getSpectrogram()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2978,82 +4757,83 @@ public final class ServiceProto {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PLAYER_NUMBER_FIELD_NUMBER;
+      hash = (37 * hash) + RAW_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getPlayerNumber());
-      hash = (37 * hash) + PLAYER_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getPlayerName().hashCode();
-      hash = (37 * hash) + IS_BLIND_FIELD_NUMBER;
+          getRaw());
+      hash = (37 * hash) + FFT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsBlind());
+          getFft());
+      hash = (37 * hash) + SPECTROGRAM_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSpectrogram());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(byte[] data)
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(java.io.InputStream input)
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protoc.ServiceProto.InitializeRequest parseDelimitedFrom(java.io.InputStream input)
+    public static protoc.ServiceProto.AudioFeatureSet parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protoc.ServiceProto.InitializeRequest parseDelimitedFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protoc.ServiceProto.InitializeRequest parseFrom(
+    public static protoc.ServiceProto.AudioFeatureSet parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3066,7 +4846,7 @@ public final class ServiceProto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protoc.ServiceProto.InitializeRequest prototype) {
+    public static Builder newBuilder(protoc.ServiceProto.AudioFeatureSet prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3082,26 +4862,26 @@ public final class ServiceProto {
       return builder;
     }
     /**
-     * Protobuf type {@code service.InitializeRequest}
+     * Protobuf type {@code service.AudioFeatureSet}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:service.InitializeRequest)
-        protoc.ServiceProto.InitializeRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:service.AudioFeatureSet)
+        protoc.ServiceProto.AudioFeatureSetOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protoc.ServiceProto.internal_static_service_InitializeRequest_descriptor;
+        return protoc.ServiceProto.internal_static_service_AudioFeatureSet_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protoc.ServiceProto.internal_static_service_InitializeRequest_fieldAccessorTable
+        return protoc.ServiceProto.internal_static_service_AudioFeatureSet_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protoc.ServiceProto.InitializeRequest.class, protoc.ServiceProto.InitializeRequest.Builder.class);
+                protoc.ServiceProto.AudioFeatureSet.class, protoc.ServiceProto.AudioFeatureSet.Builder.class);
       }
 
-      // Construct using protoc.ServiceProto.InitializeRequest.newBuilder()
+      // Construct using protoc.ServiceProto.AudioFeatureSet.newBuilder()
       private Builder() {
 
       }
@@ -3114,11 +4894,11 @@ public final class ServiceProto {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        playerNumber_ = false;
+        raw_ = false;
 
-        playerName_ = "";
+        fft_ = false;
 
-        isBlind_ = false;
+        spectrogram_ = false;
 
         return this;
       }
@@ -3126,17 +4906,17 @@ public final class ServiceProto {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protoc.ServiceProto.internal_static_service_InitializeRequest_descriptor;
+        return protoc.ServiceProto.internal_static_service_AudioFeatureSet_descriptor;
       }
 
       @java.lang.Override
-      public protoc.ServiceProto.InitializeRequest getDefaultInstanceForType() {
-        return protoc.ServiceProto.InitializeRequest.getDefaultInstance();
+      public protoc.ServiceProto.AudioFeatureSet getDefaultInstanceForType() {
+        return protoc.ServiceProto.AudioFeatureSet.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protoc.ServiceProto.InitializeRequest build() {
-        protoc.ServiceProto.InitializeRequest result = buildPartial();
+      public protoc.ServiceProto.AudioFeatureSet build() {
+        protoc.ServiceProto.AudioFeatureSet result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3144,11 +4924,11 @@ public final class ServiceProto {
       }
 
       @java.lang.Override
-      public protoc.ServiceProto.InitializeRequest buildPartial() {
-        protoc.ServiceProto.InitializeRequest result = new protoc.ServiceProto.InitializeRequest(this);
-        result.playerNumber_ = playerNumber_;
-        result.playerName_ = playerName_;
-        result.isBlind_ = isBlind_;
+      public protoc.ServiceProto.AudioFeatureSet buildPartial() {
+        protoc.ServiceProto.AudioFeatureSet result = new protoc.ServiceProto.AudioFeatureSet(this);
+        result.raw_ = raw_;
+        result.fft_ = fft_;
+        result.spectrogram_ = spectrogram_;
         onBuilt();
         return result;
       }
@@ -3187,25 +4967,24 @@ public final class ServiceProto {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protoc.ServiceProto.InitializeRequest) {
-          return mergeFrom((protoc.ServiceProto.InitializeRequest)other);
+        if (other instanceof protoc.ServiceProto.AudioFeatureSet) {
+          return mergeFrom((protoc.ServiceProto.AudioFeatureSet)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protoc.ServiceProto.InitializeRequest other) {
-        if (other == protoc.ServiceProto.InitializeRequest.getDefaultInstance()) return this;
-        if (other.getPlayerNumber() != false) {
-          setPlayerNumber(other.getPlayerNumber());
+      public Builder mergeFrom(protoc.ServiceProto.AudioFeatureSet other) {
+        if (other == protoc.ServiceProto.AudioFeatureSet.getDefaultInstance()) return this;
+        if (other.getRaw() != false) {
+          setRaw(other.getRaw());
         }
-        if (!other.getPlayerName().isEmpty()) {
-          playerName_ = other.playerName_;
-          onChanged();
+        if (other.getFft() != false) {
+          setFft(other.getFft());
         }
-        if (other.getIsBlind() != false) {
-          setIsBlind(other.getIsBlind());
+        if (other.getSpectrogram() != false) {
+          setSpectrogram(other.getSpectrogram());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -3234,17 +5013,17 @@ public final class ServiceProto {
                 done = true;
                 break;
               case 8: {
-                playerNumber_ = input.readBool();
+                raw_ = input.readBool();
 
                 break;
               } // case 8
-              case 18: {
-                playerName_ = input.readStringRequireUtf8();
+              case 16: {
+                fft_ = input.readBool();
 
                 break;
-              } // case 18
+              } // case 16
               case 24: {
-                isBlind_ = input.readBool();
+                spectrogram_ = input.readBool();
 
                 break;
               } // case 24
@@ -3264,140 +5043,95 @@ public final class ServiceProto {
         return this;
       }
 
-      private boolean playerNumber_ ;
+      private boolean raw_ ;
       /**
-       * <code>bool player_number = 1;</code>
-       * @return The playerNumber.
+       * <code>bool raw = 1;</code>
+       * @return The raw.
        */
       @java.lang.Override
-      public boolean getPlayerNumber() {
-        return playerNumber_;
+      public boolean getRaw() {
+        return raw_;
       }
       /**
-       * <code>bool player_number = 1;</code>
-       * @param value The playerNumber to set.
+       * <code>bool raw = 1;</code>
+       * @param value The raw to set.
        * @return This builder for chaining.
        */
-      public Builder setPlayerNumber(boolean value) {
+      public Builder setRaw(boolean value) {
         
-        playerNumber_ = value;
+        raw_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>bool player_number = 1;</code>
+       * <code>bool raw = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPlayerNumber() {
+      public Builder clearRaw() {
         
-        playerNumber_ = false;
+        raw_ = false;
         onChanged();
         return this;
       }
 
-      private java.lang.Object playerName_ = "";
-      /**
-       * <code>string player_name = 2;</code>
-       * @return The playerName.
-       */
-      public java.lang.String getPlayerName() {
-        java.lang.Object ref = playerName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          playerName_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string player_name = 2;</code>
-       * @return The bytes for playerName.
-       */
-      public com.google.protobuf.ByteString
-          getPlayerNameBytes() {
-        java.lang.Object ref = playerName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          playerName_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
+      private boolean fft_ ;
       /**
-       * <code>string player_name = 2;</code>
-       * @param value The playerName to set.
-       * @return This builder for chaining.
+       * <code>bool fft = 2;</code>
+       * @return The fft.
        */
-      public Builder setPlayerName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        playerName_ = value;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public boolean getFft() {
+        return fft_;
       }
       /**
-       * <code>string player_name = 2;</code>
+       * <code>bool fft = 2;</code>
+       * @param value The fft to set.
        * @return This builder for chaining.
        */
-      public Builder clearPlayerName() {
+      public Builder setFft(boolean value) {
         
-        playerName_ = getDefaultInstance().getPlayerName();
+        fft_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string player_name = 2;</code>
-       * @param value The bytes for playerName to set.
+       * <code>bool fft = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder setPlayerNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearFft() {
         
-        playerName_ = value;
+        fft_ = false;
         onChanged();
         return this;
       }
 
-      private boolean isBlind_ ;
+      private boolean spectrogram_ ;
       /**
-       * <code>bool is_blind = 3;</code>
-       * @return The isBlind.
+       * <code>bool spectrogram = 3;</code>
+       * @return The spectrogram.
        */
       @java.lang.Override
-      public boolean getIsBlind() {
-        return isBlind_;
+      public boolean getSpectrogram() {
+        return spectrogram_;
       }
       /**
-       * <code>bool is_blind = 3;</code>
-       * @param value The isBlind to set.
+       * <code>bool spectrogram = 3;</code>
+       * @param value The spectrogram to set.
        * @return This builder for chaining.
        */
-      public Builder setIsBlind(boolean value) {
+      public Builder setSpectrogram(boolean value) {
         
-        isBlind_ = value;
+        spectrogram_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>bool is_blind = 3;</code>
+       * <code>bool spectrogram = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearIsBlind() {
+      public Builder clearSpectrogram() {
         
-        isBlind_ = false;
+        spectrogram_ = false;
         onChanged();
         return this;
       }
@@ -3414,23 +5148,23 @@ public final class ServiceProto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:service.InitializeRequest)
+      // @@protoc_insertion_point(builder_scope:service.AudioFeatureSet)
     }
 
-    // @@protoc_insertion_point(class_scope:service.InitializeRequest)
-    private static final protoc.ServiceProto.InitializeRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:service.AudioFeatureSet)
+    private static final protoc.ServiceProto.AudioFeatureSet DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protoc.ServiceProto.InitializeRequest();
+      DEFAULT_INSTANCE = new protoc.ServiceProto.AudioFeatureSet();
     }
 
-    public static protoc.ServiceProto.InitializeRequest getDefaultInstance() {
+    public static protoc.ServiceProto.AudioFeatureSet getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<InitializeRequest>
-        PARSER = new com.google.protobuf.AbstractParser<InitializeRequest>() {
+    private static final com.google.protobuf.Parser<AudioFeatureSet>
+        PARSER = new com.google.protobuf.AbstractParser<AudioFeatureSet>() {
       @java.lang.Override
-      public InitializeRequest parsePartialFrom(
+      public AudioFeatureSet parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3449,17 +5183,17 @@ public final class ServiceProto {
       }
     };
 
-    public static com.google.protobuf.Parser<InitializeRequest> parser() {
+    public static com.google.protobuf.Parser<AudioFeatureSet> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<InitializeRequest> getParserForType() {
+    public com.google.protobuf.Parser<AudioFeatureSet> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protoc.ServiceProto.InitializeRequest getDefaultInstanceForType() {
+    public protoc.ServiceProto.AudioFeatureSet getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -7088,6 +8822,16 @@ public final class ServiceProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_service_InitializeRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_AudioEncoding_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_AudioEncoding_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_AudioFeatureSet_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_service_AudioFeatureSet_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_service_InitializeResponse_descriptor;
   private static final 
@@ -7128,32 +8872,38 @@ public final class ServiceProto {
       "ta\022,\n\013screen_data\030\003 \001(\0132\027.service.GrpcSc" +
       "reenData\022*\n\naudio_data\030\004 \001(\0132\026.service.G" +
       "rpcAudioData\022.\n\014round_result\030\005 \001(\0132\030.ser" +
-      "vice.GrpcRoundResult\"Q\n\021InitializeReques" +
-      "t\022\025\n\rplayer_number\030\001 \001(\010\022\023\n\013player_name\030" +
-      "\002 \001(\t\022\020\n\010is_blind\030\003 \001(\010\")\n\022InitializeRes" +
-      "ponse\022\023\n\013player_uuid\030\001 \001(\t\")\n\022Participat" +
-      "eRequest\022\023\n\013player_uuid\030\001 \001(\t\"\342\002\n\017Player" +
-      "GameState\022%\n\nstate_flag\030\001 \001(\0162\021.service." +
-      "GrpcFlag\022\022\n\nis_control\030\002 \001(\010\022*\n\nframe_da" +
-      "ta\030\003 \001(\0132\026.service.GrpcFrameData\0224\n\024non_" +
-      "delay_frame_data\030\004 \001(\0132\026.service.GrpcFra" +
-      "meData\022,\n\013screen_data\030\005 \001(\0132\027.service.Gr" +
-      "pcScreenData\022*\n\naudio_data\030\006 \001(\0132\026.servi" +
-      "ce.GrpcAudioData\022(\n\tgame_data\030\007 \001(\0132\025.se" +
-      "rvice.GrpcGameData\022.\n\014round_result\030\010 \001(\013" +
-      "2\030.service.GrpcRoundResult\"G\n\013PlayerInpu" +
-      "t\022\023\n\013player_uuid\030\001 \001(\t\022#\n\tinput_key\030\002 \001(" +
-      "\0132\020.service.GrpcKey2\332\002\n\007Service\022<\n\007RunGa" +
-      "me\022\027.service.RunGameRequest\032\026.google.pro" +
-      "tobuf.Empty\"\000\022E\n\010Spectate\022\030.service.Spec" +
-      "tateRequest\032\033.service.SpectatorGameState" +
-      "\"\0000\001\022G\n\nInitialize\022\032.service.InitializeR" +
-      "equest\032\033.service.InitializeResponse\"\000\022H\n" +
-      "\013Participate\022\033.service.ParticipateReques" +
-      "t\032\030.service.PlayerGameState\"\0000\001\0227\n\005Input" +
-      "\022\024.service.PlayerInput\032\026.google.protobuf" +
-      ".Empty\"\000B\036\n\006protocB\014ServiceProtoP\000\242\002\003HLW" +
-      "b\006proto3"
+      "vice.GrpcRoundResult\"\263\001\n\021InitializeReque" +
+      "st\022\025\n\rplayer_number\030\001 \001(\010\022\023\n\013player_name" +
+      "\030\002 \001(\t\022\020\n\010is_blind\030\003 \001(\010\0220\n\016audio_featur" +
+      "es\030\004 \001(\0132\030.service.AudioFeatureSet\022.\n\016au" +
+      "dio_encoding\030\005 \001(\0132\026.service.AudioEncodi" +
+      "ng\"J\n\rAudioEncoding\022*\n\006format\030\001 \001(\0162\032.se" +
+      "rvice.AudioSampleFormat\022\r\n\005delta\030\002 \001(\010\"@" +
+      "\n\017AudioFeatureSet\022\013\n\003raw\030\001 \001(\010\022\013\n\003fft\030\002 " +
+      "\001(\010\022\023\n\013spectrogram\030\003 \001(\010\")\n\022InitializeRe" +
+      "sponse\022\023\n\013player_uuid\030\001 \001(\t\")\n\022Participa" +
+      "teRequest\022\023\n\013player_uuid\030\001 \001(\t\"\342\002\n\017Playe" +
+      "rGameState\022%\n\nstate_flag\030\001 \001(\0162\021.service" +
+      ".GrpcFlag\022\022\n\nis_control\030\002 \001(\010\022*\n\nframe_d" +
+      "ata\030\003 \001(\0132\026.service.GrpcFrameData\0224\n\024non" +
+      "_delay_frame_data\030\004 \001(\0132\026.service.GrpcFr" +
+      "ameData\022,\n\013screen_data\030\005 \001(\0132\027.service.G" +
+      "rpcScreenData\022*\n\naudio_data\030\006 \001(\0132\026.serv" +
+      "ice.GrpcAudioData\022(\n\tgame_data\030\007 \001(\0132\025.s" +
+      "ervice.GrpcGameData\022.\n\014round_result\030\010 \001(" +
+      "\0132\030.service.GrpcRoundResult\"G\n\013PlayerInp" +
+      "ut\022\023\n\013player_uuid\030\001 \001(\t\022#\n\tinput_key\030\002 \001" +
+      "(\0132\020.service.GrpcKey2\332\002\n\007Service\022<\n\007RunG" +
+      "ame\022\027.service.RunGameRequest\032\026.google.pr" +
+      "otobuf.Empty\"\000\022E\n\010Spectate\022\030.service.Spe" +
+      "ctateRequest\032\033.service.SpectatorGameStat" +
+      "e\"\0000\001\022G\n\nInitialize\022\032.service.Initialize" +
+      "Request\032\033.service.InitializeResponse\"\000\022H" +
+      "\n\013Participate\022\033.service.ParticipateReque" +
+      "st\032\030.service.PlayerGameState\"\0000\001\0227\n\005Inpu" +
+      "t\022\024.service.PlayerInput\032\026.google.protobu" +
+      "f.Empty\"\000B\036\n\006protocB\014ServiceProtoP\000\242\002\003HL" +
+      "Wb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -7185,27 +8935,39 @@ public final class ServiceProto {
     internal_static_service_InitializeRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_InitializeRequest_descriptor,
-        new java.lang.String[] { "PlayerNumber", "PlayerName", "IsBlind", });
-    internal_static_service_InitializeResponse_descriptor =
+        new java.lang.String[] { "PlayerNumber", "PlayerName", "IsBlind", "AudioFeatures", "AudioEncoding", });
+    internal_static_service_AudioEncoding_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_service_AudioEncoding_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_AudioEncoding_descriptor,
+        new java.lang.String[] { "Format", "Delta", });
+    internal_static_service_AudioFeatureSet_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_service_AudioFeatureSet_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_service_AudioFeatureSet_descriptor,
+        new java.lang.String[] { "Raw", "Fft", "Spectrogram", });
+    internal_static_service_InitializeResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_service_InitializeResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_InitializeResponse_descriptor,
         new java.lang.String[] { "PlayerUuid", });
     internal_static_service_ParticipateRequest_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_service_ParticipateRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_ParticipateRequest_descriptor,
         new java.lang.String[] { "PlayerUuid", });
     internal_static_service_PlayerGameState_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_service_PlayerGameState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_PlayerGameState_descriptor,
         new java.lang.String[] { "StateFlag", "IsControl", "FrameData", "NonDelayFrameData", "ScreenData", "AudioData", "GameData", "RoundResult", });
     internal_static_service_PlayerInput_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_service_PlayerInput_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_service_PlayerInput_descriptor,
@@ -0,0 +1,173 @@
+package render;
+
+import static org.lwjgl.opengl.GL11.GL_COLOR_BUFFER_BIT;
+import static org.lwjgl.opengl.GL11.GL_PACK_ALIGNMENT;
+import static org.lwjgl.opengl.GL11.GL_RGB;
+import static org.lwjgl.opengl.GL11.GL_RGB8;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_VIEWPORT;
+import static org.lwjgl.opengl.GL11.glClear;
+import static org.lwjgl.opengl.GL11.glClearColor;
+import static org.lwjgl.opengl.GL11.glGetIntegerv;
+import static org.lwjgl.opengl.GL11.glPixelStorei;
+import static org.lwjgl.opengl.GL11.glReadPixels;
+import static org.lwjgl.opengl.GL11.glViewport;
+import static org.lwjgl.opengl.GL30.GL_COLOR_ATTACHMENT0;
+import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER;
+import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER_COMPLETE;
+import static org.lwjgl.opengl.GL30.GL_RENDERBUFFER;
+import static org.lwjgl.opengl.GL30.glBindFramebuffer;
+import static org.lwjgl.opengl.GL30.glBindRenderbuffer;
+import static org.lwjgl.opengl.GL30.glCheckFramebufferStatus;
+import static org.lwjgl.opengl.GL30.glDeleteFramebuffers;
+import static org.lwjgl.opengl.GL30.glDeleteRenderbuffers;
+import static org.lwjgl.opengl.GL30.glFramebufferRenderbuffer;
+import static org.lwjgl.opengl.GL30.glGenFramebuffers;
+import static org.lwjgl.opengl.GL30.glGenRenderbuffers;
+import static org.lwjgl.opengl.GL30.glRenderbufferStorage;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+/**
+ * AIに渡す画面を，縮小した解像度のオフスクリーンのフレームバッファに直接描画するクラス．<br>
+ * 描画の座標系はゲーム画面のままで，ビューポートのみを縮小するため，
+ * 通常の描画タスクをそのまま用いることができる．
+ */
+public class ScaledScreenRenderer {
+
+	/**
+	 * フレームバッファの幅．
+	 */
+	private final int width;
+
+	/**
+	 * フレームバッファの高さ．
+	 */
+	private final int height;
+
+	/**
+	 * フレームバッファのハンドル．フレームバッファを作成できない場合は0．
+	 */
+	private int framebuffer;
+
+	/**
+	 * 色を格納するレンダーバッファのハンドル．
+	 */
+	private int renderbuffer;
+
+	/**
+	 * フレームバッファを読み出す際に使い回すバッファ．
+	 */
+	private ByteBuffer pixels;
+
+	/**
+	 * 描画前のビューポートを保存する配列．
+	 */
+	private int[] viewport;
+
+	/**
+	 * クラスコンストラクタ．<br>
+	 * OpenGLのコンテキストを持つスレッドで呼び出す必要がある．
+	 *
+	 * @param width
+	 *            縮小後の画面の幅
+	 * @param height
+	 *            縮小後の画面の高さ
+	 */
+	public ScaledScreenRenderer(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.pixels = BufferUtils.createByteBuffer(3 * width * height);
+		this.viewport = new int[4];
+
+		GLCapabilities capabilities = GL.getCapabilities();
+		if (!capabilities.OpenGL30 && !capabilities.GL_ARB_framebuffer_object) {
+			Logger.getAnonymousLogger().log(Level.WARNING, "Framebuffer objects are not supported");
+			return;
+		}
+
+		this.framebuffer = glGenFramebuffers();
+		this.renderbuffer = glGenRenderbuffers();
+		glBindRenderbuffer(GL_RENDERBUFFER, this.renderbuffer);
+		glRenderbufferStorage(GL_RENDERBUFFER, GL_RGB8, width, height);
+		glBindFramebuffer(GL_FRAMEBUFFER, this.framebuffer);
+		glFramebufferRenderbuffer(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_RENDERBUFFER, this.renderbuffer);
+
+		if (glCheckFramebufferStatus(GL_FRAMEBUFFER) != GL_FRAMEBUFFER_COMPLETE) {
+			Logger.getAnonymousLogger().log(Level.WARNING, "Cannot create the framebuffer of the scaled screen");
+			close();
+		}
+		glBindFramebuffer(GL_FRAMEBUFFER, 0);
+		glBindRenderbuffer(GL_RENDERBUFFER, 0);
+	}
+
+	/**
+	 * フレームバッファを作成できたかどうかを返す．
+	 *
+	 * @return フレームバッファを作成できた場合はtrue
+	 */
+	public boolean isAvailable() {
+		return this.framebuffer != 0;
+	}
+
+	/**
+	 * 黒で塗りつぶしたフレームバッファに描画タスクを実行し，そのRGBデータを読み出す．
+	 *
+	 * @param tasks
+	 *            描画タスクのリスト
+	 * @return 上の行から順に並べたRGBデータ．フレームバッファを作成できなかった場合はnull
+	 */
+	public byte[] render(List<RenderTask> tasks) {
+		if (!isAvailable()) {
+			return null;
+		}
+
+		glGetIntegerv(GL_VIEWPORT, this.viewport);
+		glBindFramebuffer(GL_FRAMEBUFFER, this.framebuffer);
+		glViewport(0, 0, this.width, this.height);
+		glClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+		glClear(GL_COLOR_BUFFER_BIT);
+
+		for (RenderTask task : tasks) {
+			task.render();
+		}
+
+		this.pixels.clear();
+		glPixelStorei(GL_PACK_ALIGNMENT, 1);
+		glReadPixels(0, 0, this.width, this.height, GL_RGB, GL_UNSIGNED_BYTE, this.pixels);
+		glPixelStorei(GL_PACK_ALIGNMENT, 4);
+
+		glBindFramebuffer(GL_FRAMEBUFFER, 0);
+		glViewport(this.viewport[0], this.viewport[1], this.viewport[2], this.viewport[3]);
+
+		// OpenGLでは下の行から読み出されるため，上下を反転する
+		int stride = 3 * this.width;
+		byte[] buffer = new byte[stride * this.height];
+		for (int y = 0; y < this.height; y++) {
+			this.pixels.position((this.height - 1 - y) * stride);
+			this.pixels.get(buffer, y * stride, stride);
+		}
+
+		return buffer;
+	}
+
+	/**
+	 * フレームバッファを解放する．
+	 */
+	public void close() {
+		if (this.framebuffer != 0) {
+			glDeleteFramebuffers(this.framebuffer);
+			glDeleteRenderbuffers(this.renderbuffer);
+			this.framebuffer = 0;
+			this.renderbuffer = 0;
+		}
+	}
+
+}
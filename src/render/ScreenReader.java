@@ -0,0 +1,174 @@
+package render;
+
+import static org.lwjgl.opengl.GL11.GL_RGB;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.glReadPixels;
+import static org.lwjgl.opengl.GL15.GL_READ_ONLY;
+import static org.lwjgl.opengl.GL15.GL_STREAM_READ;
+import static org.lwjgl.opengl.GL15.glBindBuffer;
+import static org.lwjgl.opengl.GL15.glBufferData;
+import static org.lwjgl.opengl.GL15.glDeleteBuffers;
+import static org.lwjgl.opengl.GL15.glGenBuffers;
+import static org.lwjgl.opengl.GL15.glMapBuffer;
+import static org.lwjgl.opengl.GL15.glUnmapBuffer;
+import static org.lwjgl.opengl.GL21.GL_PIXEL_PACK_BUFFER;
+
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+/**
+ * ゲーム画面のRGBデータを読み出すクラス．<br>
+ * ピクセルバッファオブジェクト(PBO)のリングを用いる場合，あるフレームで読み出しを要求した画面は
+ * リングが一周した後のフレームでマップして取り出すため，読み出しの完了をGPUの処理と並行して待つことができる．
+ * その代わり，得られる画面は{@link #RING_SIZE} - 1フレーム前のものとなる．<br>
+ * PBOを用いない場合やPBOに対応していない環境では，使い回すバッファに同期的に読み出す．<br>
+ * 読み出したRGBデータを格納する配列も{@link #OUTPUT_COUNT}個を順に使い回すため，
+ * ある配列の内容は{@link #OUTPUT_COUNT}回後の読み出しで上書きされる．
+ */
+public class ScreenReader {
+
+	/**
+	 * PBOのリングの大きさ．
+	 */
+	public static final int RING_SIZE = 2;
+
+	/**
+	 * 読み出したRGBデータを格納する配列の数．
+	 * AIが前のフレームの画面を処理している間に次のフレームの画面を読み出せるよう，2つの配列を交互に用いる．
+	 */
+	public static final int OUTPUT_COUNT = 2;
+
+	/**
+	 * 画面の幅．
+	 */
+	private final int width;
+
+	/**
+	 * 画面の高さ．
+	 */
+	private final int height;
+
+	/**
+	 * PBOのハンドル．PBOを用いない場合はnull．
+	 */
+	private int[] pixelBuffers;
+
+	/**
+	 * 次に読み出しを要求するPBOのインデックス．
+	 */
+	private int index;
+
+	/**
+	 * 読み出しを要求したPBOの数．リングが一周するまでは同期的に読み出す．
+	 */
+	private int requestedCount;
+
+	/**
+	 * マップしたPBOのメモリを参照するバッファ．マップのたびに使い回す．
+	 */
+	private ByteBuffer mappedBuffer;
+
+	/**
+	 * 同期的に読み出す場合に用いるバッファ．
+	 */
+	private ByteBuffer pixels;
+
+	/**
+	 * 読み出したRGBデータを格納する配列．
+	 */
+	private final byte[][] outputs;
+
+	/**
+	 * 次に用いる配列のインデックス．
+	 */
+	private int outputIndex;
+
+	/**
+	 * クラスコンストラクタ．<br>
+	 * OpenGLのコンテキストを持つスレッドで呼び出す必要がある．
+	 *
+	 * @param width
+	 *            画面の幅
+	 * @param height
+	 *            画面の高さ
+	 * @param usePixelBuffers
+	 *            PBOのリングを用いる場合はtrue
+	 */
+	public ScreenReader(int width, int height, boolean usePixelBuffers) {
+		this.width = width;
+		this.height = height;
+		this.pixels = BufferUtils.createByteBuffer(3 * width * height);
+		this.outputs = new byte[OUTPUT_COUNT][3 * width * height];
+
+		GLCapabilities capabilities = GL.getCapabilities();
+		if (usePixelBuffers && (capabilities.OpenGL21 || capabilities.GL_ARB_pixel_buffer_object)) {
+			this.pixelBuffers = new int[RING_SIZE];
+			for (int i = 0; i < RING_SIZE; i++) {
+				this.pixelBuffers[i] = glGenBuffers();
+				glBindBuffer(GL_PIXEL_PACK_BUFFER, this.pixelBuffers[i]);
+				glBufferData(GL_PIXEL_PACK_BUFFER, 3L * width * height, GL_STREAM_READ);
+			}
+			glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+		} else if (usePixelBuffers) {
+			Logger.getAnonymousLogger().log(Level.WARNING, "Pixel buffer objects are not supported");
+		}
+	}
+
+	/**
+	 * 画面のRGBデータを読み出す．
+	 *
+	 * @return 画面のRGBデータ．{@link #OUTPUT_COUNT}回後の読み出しで上書きされる
+	 */
+	public byte[] read() {
+		byte[] buffer = this.outputs[this.outputIndex];
+		this.outputIndex = (this.outputIndex + 1) % OUTPUT_COUNT;
+
+		if (this.pixelBuffers == null) {
+			this.pixels.clear();
+			glReadPixels(0, 0, this.width, this.height, GL_RGB, GL_UNSIGNED_BYTE, this.pixels);
+			this.pixels.rewind();
+			this.pixels.get(buffer);
+
+			return buffer;
+		}
+
+		// 現在の画面の読み出しをPBOに要求する
+		glBindBuffer(GL_PIXEL_PACK_BUFFER, this.pixelBuffers[this.index]);
+		glReadPixels(0, 0, this.width, this.height, GL_RGB, GL_UNSIGNED_BYTE, 0L);
+		this.requestedCount++;
+
+		// リングが一周するまでは今回要求したPBOを，それ以降は最も古いPBOを取り出す
+		int mapIndex = this.requestedCount < RING_SIZE ? this.index : (this.index + 1) % RING_SIZE;
+		this.index = (this.index + 1) % RING_SIZE;
+
+		glBindBuffer(GL_PIXEL_PACK_BUFFER, this.pixelBuffers[mapIndex]);
+		this.mappedBuffer = glMapBuffer(GL_PIXEL_PACK_BUFFER, GL_READ_ONLY, buffer.length, this.mappedBuffer);
+		if (this.mappedBuffer != null) {
+			this.mappedBuffer.rewind();
+			this.mappedBuffer.get(buffer);
+			glUnmapBuffer(GL_PIXEL_PACK_BUFFER);
+		}
+		glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+
+		return buffer;
+	}
+
+	/**
+	 * PBOを解放する．
+	 */
+	public void close() {
+		if (this.pixelBuffers != null) {
+			for (int pixelBuffer : this.pixelBuffers) {
+				glDeleteBuffers(pixelBuffer);
+			}
+			this.pixelBuffers = null;
+		}
+		this.mappedBuffer = null;
+	}
+
+}
@@ -0,0 +1,338 @@
+package render.audio;
+
+import static org.lwjgl.openal.AL10.AL_FORMAT_MONO16;
+import static org.lwjgl.openal.AL10.AL_FORMAT_MONO8;
+import static org.lwjgl.openal.AL10.AL_FORMAT_STEREO16;
+import static org.lwjgl.openal.AL10.AL_FORMAT_STEREO8;
+import static org.lwjgl.openal.AL10.AL_ORIENTATION;
+import static org.lwjgl.openal.AL10.AL_POSITION;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import setting.GameSetting;
+
+/**
+ * The virtual renderer mixing the sounds in pure Java, without any OpenAL device.<br>
+ * It follows the model of the OpenAL virtual renderer: the listener and the sources have positions,
+ * mono sounds are attenuated with the inverse distance clamped model and panned between the left and
+ * right channels with constant power according to their azimuth, while stereo sounds are played as is.
+ * Sounds are resampled to the output rate with linear interpolation, and time only advances when the
+ * audio is sampled, so the output only depends on the sequence of calls and is reproducible across runs.
+ * The samples are close to those of OpenAL but not identical, since OpenAL's resampler and panning
+ * depend on its version and configuration.
+ */
+public class SoftwareSoundRender extends SoundRender {
+    /**
+     * Reference distance of the distance attenuation, the default one of OpenAL.
+     */
+    private static final float REFERENCE_DISTANCE = 1;
+
+    /**
+     * Samples of the buffers.
+     */
+    private final Map<Integer, Buffer> buffers;
+
+    /**
+     * States of the sources.
+     */
+    private final Map<Integer, Source> sources;
+
+    /**
+     * Id given to the next buffer or source.
+     */
+    private int nextId;
+
+    private final float[] listenerPos;
+
+    /**
+     * Unit vector pointing to the front of the listener.
+     */
+    private final float[] listenerAt;
+
+    /**
+     * Unit vector pointing to the right of the listener.
+     */
+    private final float[] listenerRight;
+
+    /**
+     * Unit vector pointing upward from the listener.
+     */
+    private final float[] listenerUp;
+
+    public SoftwareSoundRender() {
+        super(0, 0, null);
+        this.buffers = new HashMap<>();
+        this.sources = new HashMap<>();
+        this.nextId = 1;
+        this.listenerPos = new float[]{0, 0, 0};
+        this.listenerAt = new float[]{0, 0, -1};
+        this.listenerUp = new float[]{0, 1, 0};
+        this.listenerRight = new float[]{1, 0, 0};
+    }
+
+    @Override
+    public void set() {
+    }
+
+    @Override
+    public synchronized int createSource(float rolloffFactor) {
+        int sourceId = this.nextId++;
+        this.sources.put(sourceId, new Source(rolloffFactor));
+        return sourceId;
+    }
+
+    @Override
+    public synchronized int createBuffer(int format, ByteBuffer data, int sampleRate) {
+        int bufferId = this.nextId++;
+        Buffer buffer = Buffer.create(format, data, sampleRate);
+        if (buffer == null) {
+            Logger.getAnonymousLogger().log(Level.WARNING, "Unsupported audio format: " + format);
+            return 0;
+        }
+        this.buffers.put(bufferId, buffer);
+        return bufferId;
+    }
+
+    @Override
+    public synchronized void play(int sourceId, int bufferId) {
+        Source source = this.sources.get(sourceId);
+        if (source != null) {
+            source.buffer = this.buffers.get(bufferId);
+            source.offset = 0;
+            source.playing = source.buffer != null;
+        }
+    }
+
+    @Override
+    public synchronized void stop(int sourceId) {
+        Source source = this.sources.get(sourceId);
+        if (source != null) {
+            source.playing = false;
+        }
+    }
+
+    @Override
+    public synchronized void play(int sourceId, int bufferId, int x, int y, boolean loop) {
+        Source source = this.sources.get(sourceId);
+        if (source != null) {
+            setSource3f(sourceId, AL_POSITION, x, 0, 4);
+            source.looping = loop;
+            play(sourceId, bufferId);
+        }
+    }
+
+    @Override
+    public void setListenerData() {
+    }
+
+    @Override
+    public synchronized void setSource3f(int source, int param, float x, float y, float z) {
+        Source state = this.sources.get(source);
+        if (state != null && param == AL_POSITION) {
+            state.position[0] = x;
+            state.position[1] = y;
+            state.position[2] = z;
+        }
+    }
+
+    @Override
+    public synchronized void deleteSource(int source) {
+        this.sources.remove(source);
+    }
+
+    @Override
+    public synchronized void deleteBuffer(int buffer) {
+        this.buffers.remove(buffer);
+    }
+
+    @Override
+    public synchronized void close() {
+        this.sources.clear();
+        this.buffers.clear();
+    }
+
+    @Override
+    public synchronized boolean isPlaying(int source) {
+        Source state = this.sources.get(source);
+        return state != null && state.playing;
+    }
+
+    @Override
+    public synchronized void alListenerfv(int param, float[] values) {
+        if (param == AL_POSITION) {
+            System.arraycopy(values, 0, this.listenerPos, 0, 3);
+        } else if (param == AL_ORIENTATION) {
+            normalize(values, 0, this.listenerAt);
+            normalize(values, 3, this.listenerUp);
+            // right = at x up
+            this.listenerRight[0] = this.listenerAt[1] * this.listenerUp[2] - this.listenerAt[2] * this.listenerUp[1];
+            this.listenerRight[1] = this.listenerAt[2] * this.listenerUp[0] - this.listenerAt[0] * this.listenerUp[2];
+            this.listenerRight[2] = this.listenerAt[0] * this.listenerUp[1] - this.listenerAt[1] * this.listenerUp[0];
+        }
+    }
+
+    @Override
+    public synchronized void sampleAudio(float[][] separatedBuffer) {
+        float[] leftBuffer = separatedBuffer[0];
+        float[] rightBuffer = separatedBuffer[1];
+        for (int i = 0; i < GameSetting.SOUND_RENDER_SIZE; i++) {
+            leftBuffer[i] = 0;
+            rightBuffer[i] = 0;
+        }
+
+        for (Source source : this.sources.values()) {
+            if (source.playing) {
+                mix(source, leftBuffer, rightBuffer);
+            }
+        }
+    }
+
+    /**
+     * Adds the samples of a playing source to the output, and advances it.
+     */
+    private void mix(Source source, float[] leftBuffer, float[] rightBuffer) {
+        Buffer buffer = source.buffer;
+        float leftGain = 1;
+        float rightGain = 1;
+        if (buffer.samples.length == 1) {
+            float[] gains = computeGains(source);
+            leftGain = gains[0];
+            rightGain = gains[1];
+        }
+
+        float[] left = buffer.samples[0];
+        float[] right = buffer.samples[buffer.samples.length - 1];
+        double step = (double) buffer.sampleRate / GameSetting.SOUND_SAMPLING_RATE;
+        int length = left.length;
+        for (int i = 0; i < GameSetting.SOUND_RENDER_SIZE; i++) {
+            if (source.offset >= length) {
+                if (!source.looping || length == 0) {
+                    source.playing = false;
+                    return;
+                }
+                source.offset -= length;
+            }
+
+            int index = (int) source.offset;
+            float fraction = (float) (source.offset - index);
+            // the sample after the last one is the first one when looping, and silence otherwise
+            int nextIndex = index + 1 < length ? index + 1 : (source.looping ? 0 : -1);
+            float nextLeft = nextIndex >= 0 ? left[nextIndex] : 0;
+            float nextRight = nextIndex >= 0 ? right[nextIndex] : 0;
+            leftBuffer[i] += leftGain * (left[index] + (nextLeft - left[index]) * fraction);
+            rightBuffer[i] += rightGain * (right[index] + (nextRight - right[index]) * fraction);
+            source.offset += step;
+        }
+        if (source.offset >= length && !source.looping) {
+            source.playing = false;
+        }
+    }
+
+    /**
+     * Computes the gains of the left and right channels of a mono source.
+     */
+    private float[] computeGains(Source source) {
+        float dx = source.position[0] - this.listenerPos[0];
+        float dy = source.position[1] - this.listenerPos[1];
+        float dz = source.position[2] - this.listenerPos[2];
+
+        // inverse distance clamped model
+        float distance = Math.max((float) Math.sqrt(dx * dx + dy * dy + dz * dz), REFERENCE_DISTANCE);
+        float gain = REFERENCE_DISTANCE / (REFERENCE_DISTANCE + source.rolloffFactor * (distance - REFERENCE_DISTANCE));
+
+        // azimuth in the listener's frame, with the sounds behind the listener mirrored to the front,
+        // since two speakers cannot tell them apart
+        float right = dx * this.listenerRight[0] + dy * this.listenerRight[1] + dz * this.listenerRight[2];
+        float front = Math.abs(dx * this.listenerAt[0] + dy * this.listenerAt[1] + dz * this.listenerAt[2]);
+        double azimuth = right == 0 && front == 0 ? 0 : Math.atan2(right, front);
+
+        // constant power panning
+        double angle = (azimuth + Math.PI / 2) / 2;
+        return new float[]{(float) (gain * Math.cos(angle)), (float) (gain * Math.sin(angle))};
+    }
+
+    private static void normalize(float[] values, int offset, float[] vector) {
+        float norm = (float) Math.sqrt(values[offset] * values[offset] + values[offset + 1] * values[offset + 1]
+                + values[offset + 2] * values[offset + 2]);
+        if (norm > 0) {
+            for (int i = 0; i < 3; i++) {
+                vector[i] = values[offset + i] / norm;
+            }
+        }
+    }
+
+    /**
+     * Samples of a wave file, separated by channel.
+     */
+    private static class Buffer {
+        private final float[][] samples;
+        private final int sampleRate;
+
+        private Buffer(float[][] samples, int sampleRate) {
+            this.samples = samples;
+            this.sampleRate = sampleRate;
+        }
+
+        /**
+         * Converts decoded samples to floating-point numbers in [-1, 1].
+         * @return samples, or {@code null} if the format is not supported.
+         */
+        private static Buffer create(int format, ByteBuffer samplesData, int sampleRate) {
+            int channels;
+            int bytesPerSample;
+            switch (format) {
+                case AL_FORMAT_MONO8:
+                    channels = 1;
+                    bytesPerSample = 1;
+                    break;
+                case AL_FORMAT_MONO16:
+                    channels = 1;
+                    bytesPerSample = 2;
+                    break;
+                case AL_FORMAT_STEREO8:
+                    channels = 2;
+                    bytesPerSample = 1;
+                    break;
+                case AL_FORMAT_STEREO16:
+                    channels = 2;
+                    bytesPerSample = 2;
+                    break;
+                default:
+                    return null;
+            }
+
+            // the 16-bit samples are in the native byte order
+            ByteBuffer data = samplesData.duplicate().order(ByteOrder.nativeOrder());
+            int length = data.remaining() / (channels * bytesPerSample);
+            float[][] samples = new float[channels][length];
+            for (int i = 0; i < length; i++) {
+                for (int c = 0; c < channels; c++) {
+                    samples[c][i] = bytesPerSample == 1 ? ((data.get() & 0xff) - 128) / 128f : data.getShort() / 32768f;
+                }
+            }
+            return new Buffer(samples, sampleRate);
+        }
+    }
+
+    /**
+     * State of a source.
+     */
+    private static class Source {
+        private final float rolloffFactor;
+        private final float[] position;
+        private Buffer buffer;
+        private double offset;
+        private boolean looping;
+        private boolean playing;
+
+        private Source(float rolloffFactor) {
+            this.rolloffFactor = rolloffFactor;
+            this.position = new float[]{0, 0, 0};
+        }
+    }
+}
@@ -25,6 +25,10 @@ public class SoundRender {
      * The capabilities of the OpenAL Context API.
      */
     ALCCapabilities deviceCaps;
+    /**
+     * Interleaved samples rendered by the virtual device, reused every frame.
+     */
+    private float[] renderBuffer;
 
     public SoundRender(long device, long context, ALCCapabilities deviceCaps) {
         this.device = device;
@@ -76,6 +80,32 @@ public class SoundRender {
         ALC10.alcMakeContextCurrent(this.context);
     }
 
+    /**
+     * Creates an audio source.
+     * @param rolloffFactor rolloff factor of the distance attenuation
+     * @return source id
+     */
+    public int createSource(float rolloffFactor) {
+        set();
+        int sourceId = alGenSources();
+        alSourcef(sourceId, AL_ROLLOFF_FACTOR, rolloffFactor);
+        return sourceId;
+    }
+
+    /**
+     * Creates an audio buffer holding decoded samples.
+     * @param format OpenAL format of the samples
+     * @param data samples, with the 16-bit samples in the native byte order
+     * @param sampleRate sample rate
+     * @return buffer id
+     */
+    public int createBuffer(int format, ByteBuffer data, int sampleRate) {
+        set();
+        int bufferId = alGenBuffers();
+        alBufferData(bufferId, format, data, sampleRate);
+        return bufferId;
+    }
+
     /**
      * Plays sound.
      * @param sourceId audio source
@@ -211,19 +241,29 @@ public class SoundRender {
      * data from right channel
      */
     public float[][] sampleAudio() {
+        float[][] separatedBuffer = new float[2][GameSetting.SOUND_BUFFER_SIZE];
+        sampleAudio(separatedBuffer);
+        return separatedBuffer;
+    }
+
+    /**
+     * Renders the audio of a frame into the given buffers.<br>
+     * The samples are rendered into an interleaved buffer owned by this renderer and reused every frame,
+     * then separated into the left and right buffers, whose samples after the rendered ones are left untouched.
+     * @param separatedBuffer buffers of the left and right channels, each holding at least {@link GameSetting#SOUND_RENDER_SIZE} samples.
+     */
+    public void sampleAudio(float[][] separatedBuffer) {
         set();
-        float[] rawData = new float[GameSetting.SOUND_BUFFER_SIZE * 2];
-        SOFTLoopback.alcRenderSamplesSOFT(this.device, rawData, GameSetting.SOUND_RENDER_SIZE);
-        float[][] separatedBuffer = new float[2][];
-        float[] leftBuffer = new float[GameSetting.SOUND_BUFFER_SIZE];
-        float[] rightBuffer = new float[GameSetting.SOUND_BUFFER_SIZE];
+        if (this.renderBuffer == null) {
+            this.renderBuffer = new float[GameSetting.SOUND_RENDER_SIZE * 2];
+        }
+        SOFTLoopback.alcRenderSamplesSOFT(this.device, this.renderBuffer, GameSetting.SOUND_RENDER_SIZE);
+        float[] leftBuffer = separatedBuffer[0];
+        float[] rightBuffer = separatedBuffer[1];
         for (int i = 0; i < GameSetting.SOUND_RENDER_SIZE; i++) {
-            leftBuffer[i] = rawData[i * 2];
-            rightBuffer[i] = rawData[i * 2 + 1];
+            leftBuffer[i] = this.renderBuffer[i * 2];
+            rightBuffer[i] = this.renderBuffer[i * 2 + 1];
         }
-        separatedBuffer[0] = leftBuffer;
-        separatedBuffer[1] = rightBuffer;
-        return separatedBuffer;
     }
 
     /**
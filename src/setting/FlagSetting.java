@@ -70,6 +70,12 @@ public class FlagSetting {
      */
     public static boolean enableWindow = true;
 
+    /**
+     * Flag to determine whether to run the game without GLFW, OpenGL and OpenAL.<br>
+     * The frames are processed as fast as possible and the screen data is always black.
+     */
+    public static boolean headlessFlag = false;
+
     /**
      * Flag to determine whether to trigger slow motion at the end of a round.
      */
@@ -77,4 +83,56 @@ public class FlagSetting {
     
     public static boolean grpc = false;
     public static boolean grpcAuto = false;
+
+    /**
+     * Flag to determine whether each frame waits until every gRPC player has answered the previous one.<br>
+     * The waiting time is limited by {@link LaunchSetting#lockstepTimeout}.
+     */
+    public static boolean lockstepFlag = false;
+
+    /**
+     * Flag to determine whether to read the screen asynchronously through a ring of pixel buffer objects.<br>
+     * The screen data given to the AIs is then one frame older.
+     */
+    public static boolean asyncScreenCaptureFlag = false;
+
+    /**
+     * Flag to determine whether to render the screen given to the AIs at a reduced resolution on the GPU.<br>
+     * The resolution is given by {@link LaunchSetting#scaledScreenSize}.
+     */
+    public static boolean gpuScreenScaleFlag = false;
+
+    /**
+     * Flag to determine whether the Mel-Spectrogram given to the AIs is a rolling spectrogram updated incrementally
+     * across frames instead of the spectrogram of the current frame only.<br>
+     * The number of frames of the spectrogram is given by {@link LaunchSetting#streamingSpectrogramFrames}.
+     */
+    public static boolean streamingSpectrogramFlag = false;
+
+    /**
+     * Flag to determine whether the audio given to the AIs is mixed in pure Java instead of by an OpenAL virtual device.<br>
+     * The audio is then also available in headless mode.
+     */
+    public static boolean softwareAudioFlag = false;
+
+    /**
+     * Flag to determine whether the decoded sounds are also cached on disk, so that later processes map them
+     * instead of decoding the wave files again.<br>
+     * The cache is stored in {@link ResourceSetting#SOUND_CACHE_DIRECTORY}.
+     */
+    public static boolean soundCacheFlag = false;
+
+    /**
+     * Flag to determine whether the AI controllers process their frames on a pool of threads shared by all the
+     * matches instead of one thread per controller.<br>
+     * The number of threads is given by {@link LaunchSetting#aiPoolSize}.
+     */
+    public static boolean aiPoolFlag = false;
+
+    /**
+     * Flag to determine whether the repeated matches are run in parallel on a pool of threads, without the game
+     * scenes, in headless mode.<br>
+     * The number of threads is given by {@link LaunchSetting#parallelMatches}.
+     */
+    public static boolean parallelMatchFlag = false;
 }
@@ -1,6 +1,7 @@
 package setting;
 
 import enumerate.BackgroundType;
+import enumerate.BudgetPolicy;
 import grpc.GrpcServer;
 import python.PyGatewayServer;
 
@@ -82,4 +83,68 @@ public final class LaunchSetting {
 	public static int grpcPort = 50051;
 	
 	public static GrpcServer grpcServer = null;
+
+	/**
+	 * The maximum time in milliseconds to wait for the input of a gRPC player
+	 * in lockstep mode.
+	 */
+	public static long lockstepTimeout = 1000;
+
+	/**
+	 * The number of frames the frame data given to the AIs of P1 and P2 is delayed by.<br>
+	 * The AIs receive the frame data of 14 frames before, and their input is applied in the next frame at the
+	 * earliest, which makes the 15 frames of delay of the game.
+	 */
+	public static int[] frameDelay = { 14, 14 };
+
+	/**
+	 * The number of frames the inputs of the AIs of P1 and P2 are delayed by before being applied.
+	 */
+	public static int[] actionDelay = { 0, 0 };
+
+	/**
+	 * The maximum number of frames randomly added to the delay of each input of the AIs of P1 and P2.
+	 */
+	public static int[] actionJitter = { 0, 0 };
+
+	/**
+	 * The seed of the random delay of the inputs, so that a game can be reproduced.
+	 */
+	public static long latencySeed = 0;
+
+	/**
+	 * The number of threads shared by the AI controllers when {@link FlagSetting#aiPoolFlag} is set.
+	 */
+	public static int aiPoolSize = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * The maximum CPU time in milliseconds an AI may spend processing a frame, or 0 for no limit.
+	 */
+	public static double cpuBudget = 0;
+
+	/**
+	 * The maximum wall time in milliseconds an AI may spend processing a frame, or 0 for no limit.
+	 */
+	public static double wallBudget = 0;
+
+	/**
+	 * What is done with the input of an AI that has exceeded its compute budget in a frame.
+	 */
+	public static BudgetPolicy budgetPolicy = BudgetPolicy.NONE;
+
+	/**
+	 * The width and height of the screen rendered on the GPU for the AIs.
+	 */
+	public static int[] scaledScreenSize = { 96, 64 };
+
+	/**
+	 * The number of STFT frames of the rolling spectrogram given to the AIs,
+	 * each of which is 10 milliseconds apart.
+	 */
+	public static int streamingSpectrogramFrames = 100;
+
+	/**
+	 * The number of matches run at the same time when {@link FlagSetting#parallelMatchFlag} is set.
+	 */
+	public static int parallelMatches = 1;
 }
@@ -0,0 +1,533 @@
+package setting;
+
+import aiinterface.ComputeBudget;
+import enumerate.BudgetPolicy;
+import input.InputLatency;
+
+/**
+ * A class that holds the settings of a single match.<br>
+ * Unlike {@link LaunchSetting} and {@link FlagSetting}, each match owns its own
+ * instance, so matches with different settings can run in parallel in one
+ * process.
+ */
+public class MatchSetting {
+
+	/**
+	 * Arrays to store the maximum HP for P1 and P2.
+	 */
+	private int[] maxHp;
+
+	/**
+	 * Arrays to store the maximum energy for P1 and P2.
+	 */
+	private int[] maxEnergy;
+
+	/**
+	 * Arrays to store the AI names for P1 and P2.
+	 */
+	private String[] aiNames;
+
+	/**
+	 * Character names for P1 and P2.
+	 */
+	private String[] characterNames;
+
+	/**
+	 * Whether AI's visual data is disabled or not.
+	 */
+	private boolean[] noVisual;
+
+	/**
+	 * Whether the frame data without delay is provided to the AI or not.
+	 */
+	private boolean[] nonDelay;
+
+	/**
+	 * The number of frames the frame data given to each AI is delayed by.
+	 */
+	private int[] frameDelay;
+
+	/**
+	 * The number of frames the inputs of each AI are delayed by.
+	 */
+	private int[] actionDelay;
+
+	/**
+	 * The maximum number of frames randomly added to the delay of each input.
+	 */
+	private int[] actionJitter;
+
+	/**
+	 * The seed of the random delay of the inputs.
+	 */
+	private long latencySeed;
+
+	/**
+	 * The maximum CPU time in milliseconds an AI may spend processing a
+	 * frame, or 0 for no limit.
+	 */
+	private double cpuBudget;
+
+	/**
+	 * The maximum wall time in milliseconds an AI may spend processing a
+	 * frame, or 0 for no limit.
+	 */
+	private double wallBudget;
+
+	/**
+	 * What is done with the input of an AI that has exceeded its compute
+	 * budget in a frame.
+	 */
+	private BudgetPolicy budgetPolicy;
+
+	/**
+	 * Flag to determine whether each frame waits until every gRPC player has
+	 * answered the previous one.
+	 */
+	private boolean lockstepFlag;
+
+	/**
+	 * The maximum time in milliseconds to wait for the input of a gRPC player
+	 * in lockstep mode.
+	 */
+	private long lockstepTimeout;
+
+	/**
+	 * Flag to determine whether the AI controllers process their frames on
+	 * the pool of threads shared by all the matches instead of one thread per
+	 * controller.
+	 */
+	private boolean aiPoolFlag;
+
+	/**
+	 * Flag to determine whether to set maximum HP for P1 and P2.
+	 */
+	private boolean limitHpFlag;
+
+	/**
+	 * Flag to determine whether to use training mode.
+	 */
+	private boolean trainingModeFlag;
+
+	/**
+	 * Flag to determine whether the characters play sound effects through the
+	 * sound manager.
+	 */
+	private boolean soundFlag;
+
+	/**
+	 * Class constructor that copies the current values of {@link LaunchSetting}
+	 * and {@link FlagSetting}.
+	 */
+	public MatchSetting() {
+		this.maxHp = LaunchSetting.maxHp.clone();
+		this.maxEnergy = LaunchSetting.maxEnergy.clone();
+		this.aiNames = LaunchSetting.aiNames.clone();
+		this.characterNames = LaunchSetting.characterNames.clone();
+		this.noVisual = LaunchSetting.noVisual.clone();
+		this.nonDelay = LaunchSetting.nonDelay.clone();
+		this.frameDelay = LaunchSetting.frameDelay.clone();
+		this.actionDelay = LaunchSetting.actionDelay.clone();
+		this.actionJitter = LaunchSetting.actionJitter.clone();
+		this.latencySeed = LaunchSetting.latencySeed;
+		this.cpuBudget = LaunchSetting.cpuBudget;
+		this.wallBudget = LaunchSetting.wallBudget;
+		this.budgetPolicy = LaunchSetting.budgetPolicy;
+		this.lockstepFlag = FlagSetting.lockstepFlag;
+		this.lockstepTimeout = LaunchSetting.lockstepTimeout;
+		this.aiPoolFlag = FlagSetting.aiPoolFlag;
+		this.limitHpFlag = FlagSetting.limitHpFlag;
+		this.trainingModeFlag = FlagSetting.trainingModeFlag;
+		// The mute flag only silences the speakers, the AIs still hear the sound
+		this.soundFlag = true;
+	}
+
+	/**
+	 * Class constructor that copies the specified settings.
+	 *
+	 * @param setting
+	 *            the settings to be copied
+	 */
+	public MatchSetting(MatchSetting setting) {
+		this.maxHp = setting.maxHp.clone();
+		this.maxEnergy = setting.maxEnergy.clone();
+		this.aiNames = setting.aiNames.clone();
+		this.characterNames = setting.characterNames.clone();
+		this.noVisual = setting.noVisual.clone();
+		this.nonDelay = setting.nonDelay.clone();
+		this.frameDelay = setting.frameDelay.clone();
+		this.actionDelay = setting.actionDelay.clone();
+		this.actionJitter = setting.actionJitter.clone();
+		this.latencySeed = setting.latencySeed;
+		this.cpuBudget = setting.cpuBudget;
+		this.wallBudget = setting.wallBudget;
+		this.budgetPolicy = setting.budgetPolicy;
+		this.lockstepFlag = setting.lockstepFlag;
+		this.lockstepTimeout = setting.lockstepTimeout;
+		this.aiPoolFlag = setting.aiPoolFlag;
+		this.limitHpFlag = setting.limitHpFlag;
+		this.trainingModeFlag = setting.trainingModeFlag;
+		this.soundFlag = setting.soundFlag;
+	}
+
+	/**
+	 * Returns the maximum HP of the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the maximum HP of the specified player
+	 */
+	public int getMaxHp(boolean playerNumber) {
+		return this.maxHp[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Returns the maximum energy of the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the maximum energy of the specified player
+	 */
+	public int getMaxEnergy(boolean playerNumber) {
+		return this.maxEnergy[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Returns the AI name of the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the AI name of the specified player
+	 */
+	public String getAiName(boolean playerNumber) {
+		return this.aiNames[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Returns the character name of the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the character name of the specified player
+	 */
+	public String getCharacterName(boolean playerNumber) {
+		return this.characterNames[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Returns whether the visual data is hidden from the AI of the specified
+	 * player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return {@code true} if the visual data is hidden, {@code false}
+	 *         otherwise
+	 */
+	public boolean isNoVisual(boolean playerNumber) {
+		return this.noVisual[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Returns whether the frame data without delay is provided to the AI of
+	 * the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return {@code true} if the frame data without delay is provided,
+	 *         {@code false} otherwise
+	 */
+	public boolean isNonDelay(boolean playerNumber) {
+		return this.nonDelay[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Returns the number of frames the frame data given to the specified
+	 * player is delayed by.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the delay of the frame data in frames
+	 */
+	public int getFrameDelay(boolean playerNumber) {
+		return this.frameDelay[playerNumber ? 0 : 1];
+	}
+
+	/**
+	 * Creates the latency applied to the inputs of the specified player.
+	 *
+	 * @param playerNumber
+	 *            {@code true} if the player is P1, or {@code false} if P2
+	 * @return the latency of the inputs, with its own random jitter
+	 */
+	public InputLatency createInputLatency(boolean playerNumber) {
+		int index = playerNumber ? 0 : 1;
+		return new InputLatency(this.actionDelay[index], this.actionJitter[index], this.latencySeed * 31 + index);
+	}
+
+	/**
+	 * Creates the compute budget of an AI, which accounts the time the AI
+	 * spends processing each frame.
+	 *
+	 * @return the compute budget, with its own measures
+	 */
+	public ComputeBudget createComputeBudget() {
+		return new ComputeBudget((long) (this.cpuBudget * 1000000), (long) (this.wallBudget * 1000000),
+				this.budgetPolicy);
+	}
+
+	/**
+	 * Returns whether each frame waits until every gRPC player has answered
+	 * the previous one.
+	 *
+	 * @return {@code true} in lockstep mode, {@code false} otherwise
+	 */
+	public boolean isLockstepFlag() {
+		return this.lockstepFlag;
+	}
+
+	/**
+	 * Returns the maximum time to wait for the input of a gRPC player in
+	 * lockstep mode.
+	 *
+	 * @return the maximum waiting time in milliseconds
+	 */
+	public long getLockstepTimeout() {
+		return this.lockstepTimeout;
+	}
+
+	/**
+	 * Returns whether the AI controllers process their frames on the pool of
+	 * threads shared by all the matches.
+	 *
+	 * @return {@code true} if the shared pool of threads is used,
+	 *         {@code false} if each controller runs in its own thread
+	 */
+	public boolean isAiPoolFlag() {
+		return this.aiPoolFlag;
+	}
+
+	/**
+	 * Returns whether the maximum HP of P1 and P2 is set.
+	 *
+	 * @return {@code true} if the maximum HP is set, {@code false} otherwise
+	 */
+	public boolean isLimitHpFlag() {
+		return this.limitHpFlag;
+	}
+
+	/**
+	 * Returns whether the match is played in training mode.
+	 *
+	 * @return {@code true} in training mode, {@code false} otherwise
+	 */
+	public boolean isTrainingModeFlag() {
+		return this.trainingModeFlag;
+	}
+
+	/**
+	 * Returns whether the characters play sound effects through the sound
+	 * manager.
+	 *
+	 * @return {@code true} if the sound effects are played, {@code false}
+	 *         otherwise
+	 */
+	public boolean isSoundFlag() {
+		return this.soundFlag;
+	}
+
+	/**
+	 * Sets the maximum HP of P1 and P2.
+	 *
+	 * @param p1
+	 *            the maximum HP of P1
+	 * @param p2
+	 *            the maximum HP of P2
+	 */
+	public void setMaxHp(int p1, int p2) {
+		this.maxHp = new int[] { p1, p2 };
+	}
+
+	/**
+	 * Sets the maximum energy of P1 and P2.
+	 *
+	 * @param p1
+	 *            the maximum energy of P1
+	 * @param p2
+	 *            the maximum energy of P2
+	 */
+	public void setMaxEnergy(int p1, int p2) {
+		this.maxEnergy = new int[] { p1, p2 };
+	}
+
+	/**
+	 * Sets the AI names of P1 and P2.
+	 *
+	 * @param p1
+	 *            the AI name of P1
+	 * @param p2
+	 *            the AI name of P2
+	 */
+	public void setAiNames(String p1, String p2) {
+		this.aiNames = new String[] { p1, p2 };
+	}
+
+	/**
+	 * Sets the character names of P1 and P2.
+	 *
+	 * @param p1
+	 *            the character name of P1
+	 * @param p2
+	 *            the character name of P2
+	 */
+	public void setCharacterNames(String p1, String p2) {
+		this.characterNames = new String[] { p1, p2 };
+	}
+
+	/**
+	 * Sets whether the visual data is hidden from the AIs of P1 and P2.
+	 *
+	 * @param p1
+	 *            {@code true} to hide the visual data from P1
+	 * @param p2
+	 *            {@code true} to hide the visual data from P2
+	 */
+	public void setNoVisual(boolean p1, boolean p2) {
+		this.noVisual = new boolean[] { p1, p2 };
+	}
+
+	/**
+	 * Sets whether the frame data without delay is provided to the AIs of P1
+	 * and P2.
+	 *
+	 * @param p1
+	 *            {@code true} to provide the frame data without delay to P1
+	 * @param p2
+	 *            {@code true} to provide the frame data without delay to P2
+	 */
+	public void setNonDelay(boolean p1, boolean p2) {
+		this.nonDelay = new boolean[] { p1, p2 };
+	}
+
+	/**
+	 * Sets the number of frames the frame data given to the AIs of P1 and P2
+	 * is delayed by.
+	 *
+	 * @param p1
+	 *            the delay of the frame data of P1
+	 * @param p2
+	 *            the delay of the frame data of P2
+	 * @throws IllegalArgumentException
+	 *             if a delay is negative
+	 */
+	public void setFrameDelay(int p1, int p2) {
+		if (p1 < 0 || p2 < 0) {
+			throw new IllegalArgumentException("The frame delay must not be negative: " + p1 + ", " + p2);
+		}
+		this.frameDelay = new int[] { p1, p2 };
+	}
+
+	/**
+	 * Sets the latency of the inputs of the AIs of P1 and P2.
+	 *
+	 * @param delay
+	 *            the delays of the inputs of P1 and P2
+	 * @param jitter
+	 *            the maximum numbers of frames randomly added to the delay
+	 *            of each input of P1 and P2
+	 * @param seed
+	 *            the seed of the random delay
+	 * @throws IllegalArgumentException
+	 *             if a delay or a jitter is negative
+	 */
+	public void setInputLatency(int[] delay, int[] jitter, long seed) {
+		for (int i = 0; i < 2; i++) {
+			if (delay[i] < 0 || jitter[i] < 0) {
+				throw new IllegalArgumentException("The input latency must not be negative: " + delay[i] + ", " + jitter[i]);
+			}
+		}
+		this.actionDelay = delay.clone();
+		this.actionJitter = jitter.clone();
+		this.latencySeed = seed;
+	}
+
+	/**
+	 * Sets the compute budget of the AIs.
+	 *
+	 * @param cpuBudget
+	 *            the maximum CPU time in milliseconds an AI may spend
+	 *            processing a frame, or 0 for no limit
+	 * @param wallBudget
+	 *            the maximum wall time in milliseconds an AI may spend
+	 *            processing a frame, or 0 for no limit
+	 * @param policy
+	 *            what is done with the input of a frame over budget
+	 */
+	public void setComputeBudget(double cpuBudget, double wallBudget, BudgetPolicy policy) {
+		this.cpuBudget = cpuBudget;
+		this.wallBudget = wallBudget;
+		this.budgetPolicy = policy;
+	}
+
+	/**
+	 * Sets whether each frame waits until every gRPC player has answered the
+	 * previous one.
+	 *
+	 * @param lockstepFlag
+	 *            {@code true} to enable the lockstep mode
+	 * @param timeout
+	 *            the maximum time in milliseconds to wait for the input of a
+	 *            gRPC player
+	 * @throws IllegalArgumentException
+	 *             if the timeout is negative
+	 */
+	public void setLockstep(boolean lockstepFlag, long timeout) {
+		if (timeout < 0) {
+			throw new IllegalArgumentException("The lockstep timeout must not be negative: " + timeout);
+		}
+		this.lockstepFlag = lockstepFlag;
+		this.lockstepTimeout = timeout;
+	}
+
+	/**
+	 * Sets whether the AI controllers process their frames on the pool of
+	 * threads shared by all the matches.
+	 *
+	 * @param aiPoolFlag
+	 *            {@code true} to use the shared pool of threads,
+	 *            {@code false} to run each controller in its own thread
+	 */
+	public void setAiPool(boolean aiPoolFlag) {
+		this.aiPoolFlag = aiPoolFlag;
+	}
+
+	/**
+	 * Sets whether the maximum HP of P1 and P2 is set.
+	 *
+	 * @param limitHpFlag
+	 *            {@code true} to set the maximum HP
+	 */
+	public void setLimitHpFlag(boolean limitHpFlag) {
+		this.limitHpFlag = limitHpFlag;
+	}
+
+	/**
+	 * Sets whether the match is played in training mode.
+	 *
+	 * @param trainingModeFlag
+	 *            {@code true} to use training mode
+	 */
+	public void setTrainingModeFlag(boolean trainingModeFlag) {
+		this.trainingModeFlag = trainingModeFlag;
+	}
+
+	/**
+	 * Sets whether the characters play sound effects through the sound
+	 * manager.
+	 *
+	 * @param soundFlag
+	 *            {@code true} to play the sound effects
+	 */
+	public void setSoundFlag(boolean soundFlag) {
+		this.soundFlag = soundFlag;
+	}
+}
@@ -49,4 +49,9 @@ public class ResourceSetting {
      * Directory where sound files are stored.
      */
     public static String SOUND_DIRECTORY = "./data/sounds/";
+
+    /**
+     * Directory where decoded sound files are cached when {@link FlagSetting#soundCacheFlag} is set.
+     */
+    public static String SOUND_CACHE_DIRECTORY = "./data/cache/sounds/";
 }
@@ -1,5 +1,7 @@
 package simulator;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
@@ -13,6 +15,7 @@ import fighting.Fighting;
 import fighting.LoopEffect;
 import fighting.Motion;
 import setting.GameSetting;
+import setting.MatchSetting;
 import struct.AttackData;
 import struct.CharacterData;
 import struct.FrameData;
@@ -23,6 +26,11 @@ import struct.Key;
  */
 public class SimFighting extends Fighting {
 
+	/**
+	 * All actions, indexed by their ordinal.
+	 */
+	private static final Action[] ACTIONS = Action.values();
+
 	/**
 	 * Key inputs.
 	 */
@@ -38,6 +46,29 @@ public class SimFighting extends Fighting {
 	 */
 	private CommandCenter[] commandCenter;
 
+	/**
+	 * List containing motions for P1 and P2.
+	 */
+	private ArrayList<ArrayList<Motion>> motionList;
+
+	/**
+	 * Buffers holding the copies of the actions for P1 and P2 passed to
+	 * {@link #reset(FrameData, Deque, Deque)}.
+	 */
+	private ArrayList<Deque<Action>> actionBuffers;
+
+	/**
+	 * Buffers holding the copies of the keys of P1 and P2 read from the frame
+	 * data passed to {@link #reset(FrameData, Deque, Deque)}.
+	 */
+	private ArrayList<Deque<Key>> keyBuffers;
+
+	/**
+	 * Projectiles left over from a previous simulation, reused by
+	 * {@link #reset(FrameData, Deque, Deque)}.
+	 */
+	private Deque<LoopEffect> projectilePool;
+
 	/**
 	 * Class constructor.
 	 */
@@ -49,10 +80,47 @@ public class SimFighting extends Fighting {
 		this.inputKeys = new ArrayList<Deque<Key>>(2);
 		this.inputActions = new ArrayList<Deque<Action>>(2);
 		this.commandCenter = new CommandCenter[2];
+
+		this.actionBuffers = new ArrayList<Deque<Action>>(2);
+		this.actionBuffers.add(new ArrayDeque<Action>());
+		this.actionBuffers.add(new ArrayDeque<Action>());
+		this.keyBuffers = new ArrayList<Deque<Key>>(2);
+		this.keyBuffers.add(new ArrayDeque<Key>());
+		this.keyBuffers.add(new ArrayDeque<Key>());
+		this.projectilePool = new ArrayDeque<LoopEffect>();
+	}
+
+	/**
+	 * Class constructor that creates an instance which can be reused through
+	 * {@link #reset(FrameData, Deque, Deque)}.
+	 *
+	 * @param motionList
+	 *            List containing motions for P1 and P2.
+	 */
+	public SimFighting(ArrayList<ArrayList<Motion>> motionList) {
+		this();
+		this.motionList = motionList;
+	}
+
+	/**
+	 * Class constructor that creates an instance which can be reused through
+	 * {@link #reset(FrameData, Deque, Deque)} for a match with the specified
+	 * settings.
+	 *
+	 * @param motionList
+	 *            List containing motions for P1 and P2.
+	 * @param setting
+	 *            The settings of the simulated match.
+	 */
+	public SimFighting(ArrayList<ArrayList<Motion>> motionList, MatchSetting setting) {
+		this(motionList);
+		this.setting = setting;
 	}
 
 	/**
-	 * Perform initialization.
+	 * Perform initialization.<br>
+	 * Any state left by a previous simulation is discarded, so the same
+	 * instance can be initialized again for the next simulation.
 	 *
 	 * @param motionList
 	 *            List containing motions for P1 and P2.
@@ -65,9 +133,13 @@ public class SimFighting extends Fighting {
 	 */
 	public void initialize(ArrayList<ArrayList<Motion>> motionList, ArrayList<Deque<Action>> actionList,
 			FrameData frameData, boolean playerNumber) {
+		this.motionList = motionList;
+		this.inputKeys.clear();
+		this.inputActions.clear();
+		this.projectileDeque.clear();
 
 		for (int i = 0; i < 2; i++) {
-			this.playerCharacters[i] = new Character(frameData.getCharacter(i == 0), motionList.get(i));
+			this.playerCharacters[i] = new Character(frameData.getCharacter(i == 0), motionList.get(i), this.setting);
 
 			this.inputKeys.add(this.playerCharacters[i].getProcessedCommand());
 			this.inputActions.add(actionList.get(i));
@@ -82,6 +154,200 @@ public class SimFighting extends Fighting {
 		}
 	}
 
+	/**
+	 * Overwrites the state of this instance with the given frame data and
+	 * actions, reusing the characters, command centers and projectiles created
+	 * by a previous simulation.<br>
+	 * Unlike {@link #initialize}, the given frame data are read without being
+	 * copied and the given actions are copied into reused buffers, so
+	 * repeated calls do not allocate once the pools have grown, and the
+	 * caller's frame data and lists are left untouched. No reference to the
+	 * given frame data is kept after this method returns.
+	 *
+	 * @param frameData
+	 *            Frame data at the start of simulation.
+	 * @param p1Act
+	 *            Actions to be performed by P1, or {@code null}.
+	 * @param p2Act
+	 *            Actions to be performed by P2, or {@code null}.
+	 */
+	public void reset(FrameData frameData, Deque<Action> p1Act, Deque<Action> p2Act) {
+		if (this.motionList == null) {
+			throw new IllegalStateException("The motions of both characters have not been set.");
+		}
+
+		this.inputKeys.clear();
+		this.inputActions.clear();
+
+		for (int i = 0; i < 2; i++) {
+			CharacterData characterData = frameData.peekCharacter(i == 0);
+			if (this.playerCharacters[i] == null) {
+				this.playerCharacters[i] = new Character(characterData, this.motionList.get(i), this.setting);
+			} else {
+				this.playerCharacters[i].reset(characterData);
+			}
+
+			Deque<Key> keys = this.keyBuffers.get(i);
+			keys.clear();
+			keys.addAll(characterData.peekProcessedCommand());
+			this.inputKeys.add(keys);
+
+			Deque<Action> actions = i == 0 ? p1Act : p2Act;
+			if (actions == null) {
+				this.inputActions.add(null);
+			} else {
+				Deque<Action> buffer = this.actionBuffers.get(i);
+				buffer.clear();
+				buffer.addAll(actions);
+				this.inputActions.add(buffer);
+			}
+
+			if (this.commandCenter[i] == null) {
+				this.commandCenter[i] = new CommandCenter();
+			} else {
+				this.commandCenter[i].skillCancel();
+			}
+			this.commandCenter[i].setFrameData(frameData, i == 0);
+		}
+
+		while (!this.projectileDeque.isEmpty()) {
+			this.projectilePool.addLast(this.projectileDeque.removeFirst());
+		}
+		for (AttackData temp : frameData.peekProjectiles()) {
+			LoopEffect projectile = this.projectilePool.pollFirst();
+			if (projectile == null) {
+				projectile = new LoopEffect(new Attack(temp), null);
+			} else {
+				projectile.getAttack().reset(temp);
+			}
+			this.projectileDeque.addLast(projectile);
+		}
+	}
+
+	/**
+	 * Replaces the actions that remain to be performed by P1 and P2.<br>
+	 * This is typically called after {@link #restoreState(ByteBuffer)} to
+	 * explore a different branch from a saved state. The given actions are
+	 * copied.
+	 *
+	 * @param p1Act
+	 *            Actions to be performed by P1, or {@code null}.
+	 * @param p2Act
+	 *            Actions to be performed by P2, or {@code null}.
+	 */
+	public void setActions(Deque<Action> p1Act, Deque<Action> p2Act) {
+		for (int i = 0; i < 2; i++) {
+			Deque<Action> actions = i == 0 ? p1Act : p2Act;
+			if (actions == null) {
+				this.inputActions.set(i, null);
+			} else {
+				Deque<Action> buffer = this.actionBuffers.get(i);
+				if (buffer != actions) {
+					buffer.clear();
+					buffer.addAll(actions);
+				}
+				this.inputActions.set(i, buffer);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of bytes written by {@link #saveState(ByteBuffer)}
+	 * for the current state.
+	 *
+	 * @return the number of bytes
+	 */
+	public int getStateSize() {
+		int size = Short.BYTES + this.projectileDeque.size() * Attack.STATE_SIZE;
+		for (int i = 0; i < 2; i++) {
+			Deque<Action> actions = this.inputActions.get(i);
+			size += this.playerCharacters[i].getStateSize() + Key.getKeysSize(this.inputKeys.get(i))
+					+ this.commandCenter[i].getStateSize() + Short.BYTES
+					+ (actions == null ? 0 : actions.size());
+		}
+
+		return size;
+	}
+
+	/**
+	 * Writes everything that changes during the simulation (both characters,
+	 * their attacks, the projectiles, the key input history, the keys waiting
+	 * to be executed and the remaining actions) to the buffer as primitive
+	 * values.<br>
+	 * The buffer must have at least {@link #getStateSize()} bytes remaining.
+	 * Saving a state does not allocate, so a search can keep a snapshot per
+	 * node at the cost of a few hundred bytes.
+	 *
+	 * @param buffer
+	 *            the buffer to write to
+	 * @see #restoreState(ByteBuffer)
+	 */
+	public void saveState(ByteBuffer buffer) {
+		for (int i = 0; i < 2; i++) {
+			this.playerCharacters[i].saveState(buffer);
+			Key.writeKeys(buffer, this.inputKeys.get(i));
+			this.commandCenter[i].saveState(buffer);
+
+			Deque<Action> actions = this.inputActions.get(i);
+			if (actions == null) {
+				buffer.putShort((short) -1);
+			} else {
+				buffer.putShort((short) actions.size());
+				for (Action action : actions) {
+					buffer.put((byte) action.ordinal());
+				}
+			}
+		}
+
+		buffer.putShort((short) this.projectileDeque.size());
+		for (LoopEffect projectile : this.projectileDeque) {
+			projectile.getAttack().saveState(buffer);
+		}
+	}
+
+	/**
+	 * Overwrites the state of this instance with a state written by
+	 * {@link #saveState(ByteBuffer)}.<br>
+	 * This instance must have been set up by {@link #reset} or
+	 * {@link #initialize} beforehand, and the state must have been saved from
+	 * a simulation of the same characters.
+	 *
+	 * @param buffer
+	 *            the buffer to read from
+	 */
+	public void restoreState(ByteBuffer buffer) {
+		for (int i = 0; i < 2; i++) {
+			this.playerCharacters[i].restoreState(buffer);
+			Key.readKeys(buffer, this.inputKeys.get(i));
+			this.commandCenter[i].restoreState(buffer);
+
+			int size = buffer.getShort();
+			if (size < 0) {
+				this.inputActions.set(i, null);
+			} else {
+				Deque<Action> actions = this.actionBuffers.get(i);
+				actions.clear();
+				for (int j = 0; j < size; j++) {
+					actions.addLast(ACTIONS[buffer.get()]);
+				}
+				this.inputActions.set(i, actions);
+			}
+		}
+
+		while (!this.projectileDeque.isEmpty()) {
+			this.projectilePool.addLast(this.projectileDeque.removeFirst());
+		}
+		int size = buffer.getShort();
+		for (int i = 0; i < size; i++) {
+			LoopEffect projectile = this.projectilePool.pollFirst();
+			if (projectile == null) {
+				projectile = new LoopEffect(new Attack(), null);
+			}
+			projectile.getAttack().restoreState(buffer);
+			this.projectileDeque.addLast(projectile);
+		}
+	}
+
 	/**
 	 * Perform battle processing for one frame. <br>
 	 * The processing order is as follows: <br>
@@ -261,6 +527,6 @@ public class SimFighting extends Fighting {
 			newAttackDeque.addLast(new AttackData(loopEffect.getAttack()));
 		}
 
-		return new FrameData(characterData, nowFrame, round, newAttackDeque);
+		return new FrameData(characterData, nowFrame, round, newAttackDeque, this.setting);
 	}
 }
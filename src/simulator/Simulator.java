@@ -1,11 +1,15 @@
 package simulator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import enumerate.Action;
 import fighting.Motion;
+import setting.MatchSetting;
 import struct.FrameData;
 import struct.GameData;
 
@@ -14,11 +18,40 @@ import struct.GameData;
  */
 public class Simulator {
 
+	/**
+	 * The number of rollouts below which a batch is simulated by a single
+	 * worker instead of being split further.
+	 */
+	private static final int BATCH_THRESHOLD = 4;
+
 	/**
 	 * The variable that holds invariant information in the game.
 	 */
 	private GameData gameData;
 
+	/**
+	 * The settings of the match being simulated.
+	 */
+	private MatchSetting setting;
+
+	/**
+	 * The motions of P1 and P2, built once from {@link #gameData} and shared by
+	 * every simulation.<br>
+	 * The motions are never modified during a simulation.
+	 */
+	private volatile ArrayList<ArrayList<Motion>> motionList;
+
+	/**
+	 * The pool used by {@link #simulateBatch} to run rollouts in parallel.
+	 */
+	private ForkJoinPool simulationPool;
+
+	/**
+	 * The simulation instance owned by each worker thread, reused across
+	 * rollouts.
+	 */
+	private final ThreadLocal<SimFighting> workerSimFighting;
+
 	/**
 	 * The class constructor that creates an instance of the Simulator class by
 	 * using an instance of the GameData class.
@@ -27,7 +60,24 @@ public class Simulator {
 	 *            an instance of the GameData class
 	 */
 	public Simulator(GameData gameData) {
+		this(gameData, new MatchSetting());
+	}
+
+	/**
+	 * The class constructor that creates an instance of the Simulator class by
+	 * using an instance of the GameData class and the settings of the match
+	 * being simulated.
+	 *
+	 * @param gameData
+	 *            an instance of the GameData class
+	 * @param setting
+	 *            the settings of the match being simulated
+	 */
+	public Simulator(GameData gameData, MatchSetting setting) {
 		this.gameData = gameData;
+		this.setting = setting;
+		this.simulationPool = ForkJoinPool.commonPool();
+		this.workerSimFighting = ThreadLocal.withInitial(() -> new SimFighting(getMotionList(), this.setting));
 	}
 
 	/**
@@ -69,28 +119,114 @@ public class Simulator {
 	 */
 	public FrameData simulate(FrameData frameData, boolean playerNumber, Deque<Action> myAct, Deque<Action> oppAct,
 			int simulationLimit) {
+		return simulate(this.workerSimFighting.get(), frameData, playerNumber, myAct, oppAct, simulationLimit);
+	}
+
+	/**
+	 * Simulates many action sequences from the same {@link FrameData} instance
+	 * at once.<br>
+	 * The i-th rollout executes {@code myActs.get(i)} and
+	 * {@code oppActs.get(i)} exactly as
+	 * {@link #simulate(FrameData, boolean, Deque, Deque, int)} would, and its
+	 * result is stored at index i of the returned list.<br>
+	 * Rollouts are distributed over the simulation pool (see
+	 * {@link #setSimulationPool(ForkJoinPool)}), and each worker thread reuses
+	 * its own simulation instance, so the number of rollouts per frame scales
+	 * with the number of cores.
+	 *
+	 * @param frameData
+	 *            frame data at the start of every simulation
+	 * @param playerNumber
+	 *            boolean value which identifies P1/P2. {@code true} if the
+	 *            player is P1, or {@code false} if P2.
+	 * @param myActs
+	 *            the action sequences to be performed by the player identified
+	 *            by the parameter `player`. The elements may be {@code null}.
+	 * @param oppActs
+	 *            the action sequences to be performed by the opponent, one per
+	 *            element of `myActs`. The elements may be {@code null}.
+	 * @param simulationLimit
+	 *            the number of frames to be simulated in every rollout
+	 *
+	 * @return the frame data after each simulation, in the order of `myActs`
+	 */
+	public List<FrameData> simulateBatch(FrameData frameData, boolean playerNumber, List<Deque<Action>> myActs,
+			List<Deque<Action>> oppActs, int simulationLimit) {
+		if (myActs.size() != oppActs.size()) {
+			throw new IllegalArgumentException("myActs and oppActs must have the same size: " + myActs.size()
+					+ " != " + oppActs.size());
+		}
+
+		FrameData[] results = new FrameData[myActs.size()];
+		if (results.length > 0) {
+			this.simulationPool.invoke(
+					new BatchTask(frameData, playerNumber, myActs, oppActs, simulationLimit, results, 0, results.length));
+		}
+
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Creates a simulation instance for the characters of this game.<br>
+	 * Tree-search AIs can drive it directly: call
+	 * {@link SimFighting#reset(FrameData, Deque, Deque)}, advance it with
+	 * {@link SimFighting#processingFight(int)}, and branch from intermediate
+	 * states with {@link SimFighting#saveState(java.nio.ByteBuffer)} and
+	 * {@link SimFighting#restoreState(java.nio.ByteBuffer)}.
+	 *
+	 * @return a new simulation instance
+	 */
+	public SimFighting createSimFighting() {
+		return new SimFighting(getMotionList(), this.setting);
+	}
 
-		// Creates deep copy of each action's list
-		ArrayList<Deque<Action>> tempActionList = new ArrayList<Deque<Action>>(2);
-		Deque<Action> tempP1Act = ((playerNumber ? myAct : oppAct) == null) ? null
-				: new LinkedList<Action>(playerNumber ? myAct : oppAct);
-		Deque<Action> tempP2Act = ((!playerNumber ? myAct : oppAct) == null) ? null
-				: new LinkedList<Action>(!playerNumber ? myAct : oppAct);
-		tempActionList.add(tempP1Act);
-		tempActionList.add(tempP2Act);
-
-		ArrayList<ArrayList<Motion>> tempMotionList = new ArrayList<ArrayList<Motion>>(2);
-//		ArrayList<Motion> p1MotionData = this.gameData.getMotion(playerNumber ? true : false);
-//		ArrayList<Motion> p2MotionData = this.gameData.getMotion(!playerNumber ? true : false);
-		ArrayList<Motion> p1MotionData = this.gameData.getMotion(true);
-		ArrayList<Motion> p2MotionData = this.gameData.getMotion(false);
-		tempMotionList.add(p1MotionData);
-		tempMotionList.add(p2MotionData);
+	/**
+	 * Sets the pool used by {@link #simulateBatch} to run rollouts in
+	 * parallel.<br>
+	 * The common pool is used by default.
+	 *
+	 * @param simulationPool
+	 *            the pool used to run rollouts
+	 */
+	public void setSimulationPool(ForkJoinPool simulationPool) {
+		this.simulationPool = simulationPool;
+	}
 
+	/**
+	 * Returns the pool used by {@link #simulateBatch} to run rollouts in
+	 * parallel.
+	 *
+	 * @return the pool used to run rollouts
+	 */
+	public ForkJoinPool getSimulationPool() {
+		return this.simulationPool;
+	}
+
+	/**
+	 * Runs one simulation with the given simulation instance.
+	 *
+	 * @param simFighting
+	 *            the simulation instance, reset by this method
+	 * @param frameData
+	 *            frame data at the start of simulation
+	 * @param playerNumber
+	 *            boolean value which identifies P1/P2
+	 * @param myAct
+	 *            actions to be performed by the player
+	 * @param oppAct
+	 *            actions to be performed by the opponent
+	 * @param simulationLimit
+	 *            the number of frames to be simulated
+	 *
+	 * @return the frame data after the simulation
+	 */
+	private FrameData simulate(SimFighting simFighting, FrameData frameData, boolean playerNumber,
+			Deque<Action> myAct, Deque<Action> oppAct, int simulationLimit) {
 		int nowFrame = frameData.getFramesNumber();
 
-		SimFighting simFighting = new SimFighting();
-		simFighting.initialize(tempMotionList, tempActionList, new FrameData(frameData), playerNumber);
+		// The frame data is only read and the actions are copied by the
+		// simulation instance, so neither needs a defensive copy here
+		simFighting.reset(frameData, playerNumber ? myAct : oppAct, playerNumber ? oppAct : myAct);
 
 		for (int i = 0; i < simulationLimit; i++) {
 			simFighting.processingFight(nowFrame);
@@ -100,4 +236,76 @@ public class Simulator {
 		return simFighting.createFrameData(nowFrame, frameData.getRound());
 	}
 
+	/**
+	 * Returns the motions of P1 and P2, building them from the game data on
+	 * first use.
+	 *
+	 * @return the motions of P1 and P2
+	 */
+	private ArrayList<ArrayList<Motion>> getMotionList() {
+		ArrayList<ArrayList<Motion>> temp = this.motionList;
+		if (temp == null) {
+			temp = new ArrayList<ArrayList<Motion>>(2);
+			temp.add(this.gameData.getMotion(true));
+			temp.add(this.gameData.getMotion(false));
+			this.motionList = temp;
+		}
+
+		return temp;
+	}
+
+	/**
+	 * The task that simulates a range of rollouts of a batch, splitting the
+	 * range in halves until it is small enough.
+	 */
+	private class BatchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FrameData frameData;
+
+		private final boolean playerNumber;
+
+		private final List<Deque<Action>> myActs;
+
+		private final List<Deque<Action>> oppActs;
+
+		private final int simulationLimit;
+
+		private final FrameData[] results;
+
+		private final int from;
+
+		private final int to;
+
+		BatchTask(FrameData frameData, boolean playerNumber, List<Deque<Action>> myActs,
+				List<Deque<Action>> oppActs, int simulationLimit, FrameData[] results, int from, int to) {
+			this.frameData = frameData;
+			this.playerNumber = playerNumber;
+			this.myActs = myActs;
+			this.oppActs = oppActs;
+			this.simulationLimit = simulationLimit;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= BATCH_THRESHOLD) {
+				SimFighting simFighting = workerSimFighting.get();
+				for (int i = this.from; i < this.to; i++) {
+					this.results[i] = simulate(simFighting, this.frameData, this.playerNumber, this.myActs.get(i),
+							this.oppActs.get(i), this.simulationLimit);
+				}
+			} else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new BatchTask(this.frameData, this.playerNumber, this.myActs, this.oppActs,
+						this.simulationLimit, this.results, this.from, middle),
+						new BatchTask(this.frameData, this.playerNumber, this.myActs, this.oppActs,
+								this.simulationLimit, this.results, middle, this.to));
+			}
+		}
+	}
+
 }
@@ -475,6 +475,31 @@ public class AttackData {
 		return new HitArea(this.settingHitArea);
 	}
 
+	/**
+	 * Returns HitArea's setting information without copying it.<br>
+	 * The returned instance must not be modified. This method is used by the
+	 * simulator to read the data without allocating; AIs should use
+	 * {@link #getSettingHitArea()} instead.
+	 *
+	 * @return HitArea's setting information held by this instance
+	 */
+	public HitArea peekSettingHitArea() {
+		return this.settingHitArea;
+	}
+
+	/**
+	 * Returns HitArea's information of this attack hit box in the current frame
+	 * without copying it.<br>
+	 * The returned instance must not be modified. This method is used by the
+	 * simulator to read the data without allocating; AIs should use
+	 * {@link #getCurrentHitArea()} instead.
+	 *
+	 * @return HitArea's information in the current frame held by this instance
+	 */
+	public HitArea peekCurrentHitArea() {
+		return this.currentHitArea;
+	}
+
 	////// Setter//////
 
 	/**
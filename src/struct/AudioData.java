@@ -1,14 +1,25 @@
 package struct;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
+import enumerate.AudioFeature;
 import setting.GameSetting;
+import util.DspPlan;
 import util.FFT;
 import util.MFCC;
 import util.NumberConverter;
 
 /**
  * The class dealing with the audio information in game such as raw audio data, FFT and Mel-Spectrogram transformation.<br>
+ * The transformations are computed on first access and shared by all the copies of the audio data,
+ * so an AI that does not use them does not pay for them.<br>
  * For more details on the data structure, please see <a href="https://tinyurl.com/DareFightingICE/AI" target="blank">https://tinyurl.com/DareFightingICE/AI</a>.
  */
 public class AudioData {
@@ -16,39 +27,26 @@ public class AudioData {
      * Raw audio data.
      */
     private float[][] rawData = null;
-    /**
-     * Raw audio data as byte sequence.
-     */
-    private byte[] rawDataAsBytes = null;
 
     /**
-     * Fourier-transformed audio data.
-     */
-    private FFTData[] fftData = null;
-    /**
-     * Mel-Spectrogram audio data.
-     */
-    private float[][][] spectrogramData = null;
-    /**
-     * Mel-Spectrogram audio data as byte sequence.
+     * Transformations of the raw audio data, shared by all the copies.
      */
-    private byte[] spectrogramDataAsBytes = null;
+    private Transform transform = null;
 
     /**
-     * Fast-Fourier transformer.
+     * Precomputed tables of the FFT and the Mel-Spectrogram transformation.
      */
-    private static FFT fft = new FFT();
+    private static final DspPlan plan = MFCC.getPlan();
     /**
-     * Mel-Spectrogram transformer.
+     * Buffers for the intermediate results of the transformations, one per thread.
      */
-    private static MFCC mfcc = new MFCC();
+    private static final ThreadLocal<DspPlan.Scratch> scratch = ThreadLocal.withInitial(plan::createScratch);
 
     /**
      * Class constructor.
      */
     public AudioData() {
     	this.init();
-    	this.tranformRawData();
     }
 
     /**
@@ -56,19 +54,7 @@ public class AudioData {
      */
     private void init() {
         this.rawData = new float[2][GameSetting.SOUND_BUFFER_SIZE];
-        this.fftData = new FFTData[2];
-        this.spectrogramData = new float[2][][];
-    }
-    
-    private void tranformRawData() {
-        fft.process(Arrays.copyOf(this.rawData[0], this.rawData[0].length));
-        this.fftData[0] = new FFTData(fft.getReal(), fft.getImag());
-        fft.process(Arrays.copyOf(this.rawData[1], this.rawData[1].length));
-        this.fftData[1] = new FFTData(fft.getReal(), fft.getImag());
-        this.rawDataAsBytes = NumberConverter.getInstance().getByteArray(this.rawData);
-        this.spectrogramData[0] = mfcc.melSpectrogram(Arrays.copyOf(this.rawData[0], this.rawData[0].length));
-        this.spectrogramData[1] = mfcc.melSpectrogram(Arrays.copyOf(this.rawData[1], this.rawData[1].length));
-        this.spectrogramDataAsBytes = NumberConverter.getInstance().getByteArray(this.spectrogramData);
+        this.transform = new Transform(this.rawData, null);
     }
 
     /**
@@ -76,14 +62,11 @@ public class AudioData {
      * @param audioData audio data.
      */
     public AudioData(AudioData audioData) {
-        int bufferSize = (audioData.getRawData() != null && audioData.getRawData()[0].length > 0) ? audioData.getRawData()[0].length : 0;
-        this.init();
-        if (bufferSize > 0) {
+        if (audioData.getRawData() != null && audioData.getRawData()[0].length > 0) {
             this.rawData = audioData.getRawData();
-            this.fftData = audioData.getFftData();
-            this.spectrogramData = audioData.getSpectrogramData();
-            this.rawDataAsBytes = audioData.getRawDataAsBytes();
-            this.spectrogramDataAsBytes = audioData.getSpectrogramDataAsBytes();
+            this.transform = audioData.transform;
+        } else {
+            this.init();
         }
     }
 
@@ -92,10 +75,19 @@ public class AudioData {
      * @param rawData raw audio data.
      */
     public AudioData(float[][] rawData) {
-        this.init();
         this.rawData = rawData;
+        this.transform = new Transform(rawData, null);
+    }
 
-        this.tranformRawData();
+    /**
+     * Class constructor with a Mel-Spectrogram computed elsewhere, such as a rolling spectrogram.
+     * @param rawData raw audio data.
+     * @param spectrogramData Mel-Spectrogram of each channel.
+     * @see util.StreamingSpectrogram
+     */
+    public AudioData(float[][] rawData, Future<float[][][]> spectrogramData) {
+        this.rawData = rawData;
+        this.transform = new Transform(rawData, spectrogramData);
     }
 
     /**
@@ -112,7 +104,7 @@ public class AudioData {
      * @return raw audio data as byte sequence.
      */
     public byte[] getRawDataAsBytes() {
-        return rawDataAsBytes;
+        return transform.getRawDataAsBytes();
     }
 
     /**
@@ -120,7 +112,7 @@ public class AudioData {
      * @return Fast Fourier Transform data.
      */
     public FFTData[] getFftData() {
-        return fftData;
+        return transform.getFftData();
     }
 
     /**
@@ -128,7 +120,7 @@ public class AudioData {
      * @return Mel-Spectrogram data.
      */
     public float[][][] getSpectrogramData() {
-        return spectrogramData;
+        return transform.getSpectrogramData();
     }
 
     /**
@@ -137,6 +129,139 @@ public class AudioData {
      * @return Mel-Spectrogram data as byte sequence.
      */
     public byte[] getSpectrogramDataAsBytes() {
-        return spectrogramDataAsBytes;
+        return transform.getSpectrogramDataAsBytes();
+    }
+
+    /**
+     * Starts computing the specified features on the specified executor, with each channel computed in
+     * a separate task.<br>
+     * The getters of the features wait for the tasks instead of computing the features again.
+     * @param features features to compute.
+     * @param executor executor running the tasks.
+     */
+    public void computeAsync(Set<AudioFeature> features, Executor executor) {
+        transform.computeAsync(features, executor);
+    }
+
+    /**
+     * Transformations of raw audio data, each computed once on first access.<br>
+     * Each transformation of each channel is a task that is run either by the first thread that needs it or by
+     * an executor, while the other threads wait for its result.
+     */
+    private static class Transform {
+        private final float[][] rawData;
+        private final FutureTask<byte[]> rawDataAsBytes;
+        private final List<FutureTask<FFTData>> fftData;
+        private final List<FutureTask<float[][]>> spectrogramData;
+        private final FutureTask<byte[]> spectrogramDataAsBytes;
+
+        /**
+         * Mel-Spectrogram of each channel computed elsewhere, or null.
+         */
+        private final Future<float[][][]> spectrogramSource;
+
+        private Transform(float[][] rawData, Future<float[][][]> spectrogramSource) {
+            this.rawData = rawData;
+            this.spectrogramSource = spectrogramSource;
+            this.rawDataAsBytes = new FutureTask<byte[]>(() -> NumberConverter.getInstance().getByteArray(rawData));
+            this.fftData = new ArrayList<FutureTask<FFTData>>();
+            this.spectrogramData = new ArrayList<FutureTask<float[][]>>();
+            for (int i = 0; i < rawData.length; i++) {
+                final int channel = i;
+                this.fftData.add(new FutureTask<FFTData>(() -> computeFftData(channel)));
+                this.spectrogramData.add(new FutureTask<float[][]>(() -> computeSpectrogramData(channel)));
+            }
+            this.spectrogramDataAsBytes = new FutureTask<byte[]>(
+                    () -> NumberConverter.getInstance().getByteArray(getSpectrogramData()));
+        }
+
+        private void computeAsync(Set<AudioFeature> features, Executor executor) {
+            if (features.contains(AudioFeature.RAW)) {
+                executor.execute(rawDataAsBytes);
+            }
+            if (features.contains(AudioFeature.FFT)) {
+                fftData.forEach(executor::execute);
+            }
+            if (features.contains(AudioFeature.SPECTROGRAM) && spectrogramSource == null) {
+                spectrogramData.forEach(executor::execute);
+            }
+        }
+
+        private byte[] getRawDataAsBytes() {
+            return get(rawDataAsBytes);
+        }
+
+        private FFTData[] getFftData() {
+            FFTData[] result = new FFTData[fftData.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = get(fftData.get(i));
+            }
+            return result;
+        }
+
+        private float[][][] getSpectrogramData() {
+            float[][][] result = new float[spectrogramData.size()][][];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = get(spectrogramData.get(i));
+            }
+            return result;
+        }
+
+        private byte[] getSpectrogramDataAsBytes() {
+            return get(spectrogramDataAsBytes);
+        }
+
+        private FFTData computeFftData(int channel) {
+            float[] real = Arrays.copyOf(rawData[channel], rawData[channel].length);
+            float[] imag = new float[real.length];
+            if (real.length == plan.getFftSize()) {
+                plan.fft(real, imag);
+            } else {
+                FFT fft = new FFT();
+                fft.process(real);
+                imag = fft.getImag();
+            }
+            return new FFTData(real, imag);
+        }
+
+        private float[][] computeSpectrogramData(int channel) {
+            if (spectrogramSource != null) {
+                return await(spectrogramSource)[channel];
+            }
+
+            float[][] melS = new float[plan.getMelCount()][plan.getFrameCount(rawData[channel].length)];
+            plan.melSpectrogram(rawData[channel], melS, scratch.get());
+            return melS;
+        }
+
+        /**
+         * Runs the task unless it has been started by another thread, and returns its result.
+         */
+        private static <T> T get(FutureTask<T> task) {
+            task.run();
+            return await(task);
+        }
+
+        /**
+         * Waits for the result of a computation.
+         */
+        private static <T> T await(Future<T> task) {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return task.get();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Cannot transform the audio data", e.getCause());
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
     }
 }
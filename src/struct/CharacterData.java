@@ -406,6 +406,21 @@ public class CharacterData {
 		return new AttackData(this.attackData);
 	}
 
+	/**
+	 * Returns the attack data that the character is using without copying
+	 * it.<br>
+	 * The returned instance must not be modified. This method is used by the
+	 * simulator to read the data without allocating; AIs should use
+	 * {@link #getAttack()} instead.
+	 *
+	 * @return the attack data held by this instance
+	 *
+	 * @see AttackData
+	 */
+	public AttackData peekAttack() {
+		return this.attackData;
+	}
+
 	/**
 	 * Returns the character's graphic width.
 	 *
@@ -504,6 +519,34 @@ public class CharacterData {
 		return temp;
 	}
 
+	/**
+	 * Returns the list storing keys of the action that the character will be
+	 * executing in the simulator without copying it.<br>
+	 * The returned list must not be modified.
+	 *
+	 * @deprecated This method is used only for processing of the simulator. You
+	 *             should not use this method for AI development.
+	 *
+	 * @return the list of keys held by this instance
+	 */
+	public Deque<Key> peekInputCommand() {
+		return this.inputCommands;
+	}
+
+	/**
+	 * Returns the list storing up to 30 keys that the character executed in
+	 * the simulator without copying it.<br>
+	 * The returned list must not be modified.
+	 *
+	 * @deprecated This method is used only for processing of the simulator. You
+	 *             should not use this method for AI development.
+	 *
+	 * @return the list of keys held by this instance
+	 */
+	public Deque<Key> peekProcessedCommand() {
+		return this.processedCommands;
+	}
+
 	/**
 	 * Sets the character's HP.
 	 *
@@ -6,6 +6,7 @@ import java.util.LinkedList;
 import input.KeyData;
 import setting.FlagSetting;
 import setting.GameSetting;
+import setting.MatchSetting;
 
 /**
  * The class dealing with the information in the game such as the current frame
@@ -44,6 +45,12 @@ public class FrameData {
      */
     private boolean[] front;
 
+    /**
+     * If this value is true, the match this frame belongs to is in the training
+     * mode, in which the rounds have no time limit.
+     */
+    private boolean trainingModeFlag;
+
     /**
      * The class constructor.
      */
@@ -54,6 +61,7 @@ public class FrameData {
         this.projectileData = new LinkedList<AttackData>();
         this.emptyFlag = true;
         this.front = new boolean[2];
+        this.trainingModeFlag = FlagSetting.trainingModeFlag;
     }
 
     /**
@@ -69,6 +77,38 @@ public class FrameData {
      */
     public FrameData(CharacterData[] characterData, int currentFrame, int currentRound,
                      Deque<AttackData> projectileData) {
+        this(characterData, currentFrame, currentRound, projectileData, FlagSetting.trainingModeFlag);
+    }
+
+    /**
+     * The class constructor that creates a new instance of the FrameData class
+     * of a match with the specified settings by copying the data passed as the
+     * arguments.
+     *
+     * @param characterData  an instance of the CharacterData class
+     * @param currentFrame   the frame number of the current frame
+     * @param currentRound   the round number of the current round
+     * @param projectileData the queue that stores information on projectiles of P1 and P2
+     * @param setting        the settings of the match
+     * @see CharacterData
+     * @see MatchSetting
+     */
+    public FrameData(CharacterData[] characterData, int currentFrame, int currentRound,
+                     Deque<AttackData> projectileData, MatchSetting setting) {
+        this(characterData, currentFrame, currentRound, projectileData, setting.isTrainingModeFlag());
+    }
+
+    /**
+     * The class constructor shared by the public constructors.
+     *
+     * @param characterData    an instance of the CharacterData class
+     * @param currentFrame     the frame number of the current frame
+     * @param currentRound     the round number of the current round
+     * @param projectileData   the queue that stores information on projectiles of P1 and P2
+     * @param trainingModeFlag whether the match is in the training mode
+     */
+    private FrameData(CharacterData[] characterData, int currentFrame, int currentRound,
+                      Deque<AttackData> projectileData, boolean trainingModeFlag) {
         this.characterData = new CharacterData[]{characterData[0], characterData[1]};
         this.currentFrameNumber = currentFrame;
         this.currentRound = currentRound;
@@ -83,6 +123,7 @@ public class FrameData {
         this.front = new boolean[2];
         this.front[0] = characterData[0].isFront();
         this.front[1] = characterData[1].isFront();
+        this.trainingModeFlag = trainingModeFlag;
     }
 
     /**
@@ -107,6 +148,7 @@ public class FrameData {
         }
 
         this.emptyFlag = frameData.getEmptyFlag();
+        this.trainingModeFlag = frameData.trainingModeFlag;
         try {
             this.front = new boolean[2];
             this.front[0] = this.characterData[0].isFront();
@@ -118,7 +160,8 @@ public class FrameData {
 
     /**
      * Create FrameData for AI
-     * it removes visual-data if the player is able to access only sound, otherwise does nothing
+     * it removes visual-data if the player is able to access only sound, otherwise does nothing<br>
+     * The frame data given to the AIs is shared between them, so the game uses {@link #withoutVisualData()} instead.
      */
 
     public void removeVisualData() {
@@ -128,6 +171,21 @@ public class FrameData {
         this.projectileData = new LinkedList<AttackData>();
     }
 
+    /**
+     * Returns a copy of this frame data without visual-data for the player who is able to access only sound.<br>
+     * Unlike {@link #removeVisualData()}, this frame data is left unchanged, so it can be shared.
+     *
+     * @return a copy of this frame data without the character data, the projectiles and the round number
+     */
+    public FrameData withoutVisualData() {
+        FrameData frameData = new FrameData();
+        frameData.currentFrameNumber = this.currentFrameNumber;
+        frameData.emptyFlag = this.emptyFlag;
+        frameData.front = this.front.clone();
+        frameData.trainingModeFlag = this.trainingModeFlag;
+        return frameData;
+    }
+
     /**
      * Returns an instance of the CharacterData class of the player specified by
      * an argument.
@@ -142,15 +200,30 @@ public class FrameData {
         return temp == null ? null : new CharacterData(temp);
     }
 
+    /**
+     * Returns the CharacterData instance of the specified player held by this
+     * frame data without copying it.<br>
+     * The returned instance must not be modified. This method is used by the
+     * simulator to read a frame without allocating; AIs should use
+     * {@link #getCharacter(boolean)} instead.
+     *
+     * @param playerNumber the number of the player. {@code true} if the player is P1, or
+     *                     {@code false} if P2.
+     * @return the CharacterData instance of the player held by this frame data
+     */
+    public CharacterData peekCharacter(boolean playerNumber) {
+        return this.characterData[playerNumber ? 0 : 1];
+    }
+
     /**
      * Returns the number of remaining frames of the round. <br>
-     * When FightingICE was launched with the training mode, this method returns
+     * When the match is in the training mode, this method returns
      * the max value of integer.
      *
      * @return the number of remaining frames of the round
      */
     public int getRemainingFramesNumber() {
-        if (FlagSetting.trainingModeFlag) {
+        if (this.trainingModeFlag) {
             return Integer.MAX_VALUE;
         } else {
             return GameSetting.ROUND_FRAME_NUMBER - currentFrameNumber;
@@ -159,7 +232,7 @@ public class FrameData {
 
     /**
      * Returns the expected remaining time in seconds of the current round.<br>
-     * When FightingICE was launched with the training mode, this method returns
+     * When the match is in the training mode, this method returns
      * the max value of integer.
      *
      * @return the expected remaining time in seconds of the current round
@@ -167,7 +240,7 @@ public class FrameData {
      * method has been renamed to more clearly reflect its purpose.
      */
     public int getRemainingTime() {
-        if (FlagSetting.trainingModeFlag) {
+        if (this.trainingModeFlag) {
             return Integer.MAX_VALUE;
         } else {
             return (int) Math.ceil((float) getRemainingTimeMilliseconds() / 1000);
@@ -177,13 +250,13 @@ public class FrameData {
     /**
      * Returns the expected remaining time in milliseconds of the current round.
      * <br>
-     * When FightingICE was launched with the training mode, this method returns
+     * When the match is in the training mode, this method returns
      * the max value of integer.
      *
      * @return the expected remaining time in milliseconds of the current round
      */
     public int getRemainingTimeMilliseconds() {
-        if (FlagSetting.trainingModeFlag) {
+        if (this.trainingModeFlag) {
             return Integer.MAX_VALUE;
         } else {
         	return (int) (((float) getRemainingFramesNumber() / GameSetting.FPS) * 1000);
@@ -222,6 +295,19 @@ public class FrameData {
         return attackList;
     }
 
+    /**
+     * Returns the projectile data of both characters held by this frame data
+     * without copying it.<br>
+     * The returned list and its elements must not be modified. This method is
+     * used by the simulator to read a frame without allocating; AIs should use
+     * {@link #getProjectiles()} instead.
+     *
+     * @return the projectile data of both characters held by this frame data
+     */
+    public Deque<AttackData> peekProjectiles() {
+        return this.projectileData;
+    }
+
     /**
      * Returns the projectile data of player 1.
      *
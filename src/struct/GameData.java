@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import fighting.Character;
 import fighting.Motion;
 import setting.GameSetting;
-import setting.LaunchSetting;
+import setting.MatchSetting;
 import simulator.Simulator;
 
 /**
@@ -84,6 +84,22 @@ public class GameData {
 	 * @see Character
 	 */
 	public GameData(Character[] players) {
+		this(players, new MatchSetting());
+	}
+
+	/**
+	 * The class constructor that creates an instance of the GameData class by
+	 * using character information and the settings of the match.
+	 *
+	 * @param players
+	 *            character information of P1 and P2
+	 * @param setting
+	 *            the settings of the match
+	 *
+	 * @see Character
+	 * @see MatchSetting
+	 */
+	public GameData(Character[] players, MatchSetting setting) {
 		this();
 
 		for (int i = 0; i < 2; i++) {
@@ -98,12 +114,14 @@ public class GameData {
 
 		this.stageWidth = GameSetting.STAGE_WIDTH;
 		this.stageHeight = GameSetting.STAGE_HEIGHT;
-		this.maxHPs = LaunchSetting.maxHp.clone();
-		this.maxEnergies = LaunchSetting.maxEnergy.clone();
-		this.characterNames = LaunchSetting.characterNames.clone();
-		this.aiNames = LaunchSetting.aiNames.clone();
+		for (int i = 0; i < 2; i++) {
+			this.maxHPs[i] = setting.getMaxHp(i == 0);
+			this.maxEnergies[i] = setting.getMaxEnergy(i == 0);
+			this.characterNames[i] = setting.getCharacterName(i == 0);
+			this.aiNames[i] = setting.getAiName(i == 0);
+		}
 
-		this.simulator = new Simulator(this);
+		this.simulator = new Simulator(this, setting);
 	}
 
 	/**
@@ -77,6 +77,28 @@ public class HitArea {
 		this.bottom = bottom;
 	}
 
+	/**
+	 * Overwrites the coordinates of this hit determination area with those of
+	 * the specified one. If {@code hitArea} is {@code null}, all coordinates
+	 * are set to zero.
+	 *
+	 * @param hitArea
+	 *            an instance of the HitArea class
+	 */
+	public void set(HitArea hitArea) {
+		if (hitArea != null) {
+			this.left = hitArea.getLeft();
+			this.right = hitArea.getRight();
+			this.top = hitArea.getTop();
+			this.bottom = hitArea.getBottom();
+		} else {
+			this.left = 0;
+			this.right = 0;
+			this.top = 0;
+			this.bottom = 0;
+		}
+	}
+
 	/**
 	 * Updates the hit determination area's coordinates using the specified
 	 * speed.
@@ -1,5 +1,8 @@
 package struct;
 
+import java.nio.ByteBuffer;
+import java.util.Deque;
+
 /**
  * The class dealing with all possible keys used in the game.
  */
@@ -110,4 +113,76 @@ public class Key {
 
 		return lever;
 	}
+
+	/**
+	 * Returns all keys packed into the lower 7 bits of a byte.
+	 *
+	 * @return the packed keys
+	 */
+	public byte toBits() {
+		return (byte) ((this.A ? 1 : 0) | (this.B ? 2 : 0) | (this.C ? 4 : 0) | (this.U ? 8 : 0)
+				| (this.R ? 16 : 0) | (this.D ? 32 : 0) | (this.L ? 64 : 0));
+	}
+
+	/**
+	 * Sets all keys from a byte created by {@link #toBits()}.
+	 *
+	 * @param bits
+	 *            the packed keys
+	 */
+	public void setBits(byte bits) {
+		this.A = (bits & 1) != 0;
+		this.B = (bits & 2) != 0;
+		this.C = (bits & 4) != 0;
+		this.U = (bits & 8) != 0;
+		this.R = (bits & 16) != 0;
+		this.D = (bits & 32) != 0;
+		this.L = (bits & 64) != 0;
+	}
+
+	/**
+	 * Writes the number of keys in the list followed by each packed key.
+	 *
+	 * @param buffer
+	 *            the buffer to write to
+	 * @param keys
+	 *            the list of keys
+	 */
+	public static void writeKeys(ByteBuffer buffer, Deque<Key> keys) {
+		buffer.putShort((short) keys.size());
+		for (Key key : keys) {
+			buffer.put(key.toBits());
+		}
+	}
+
+	/**
+	 * Replaces the contents of the list with keys written by
+	 * {@link #writeKeys(ByteBuffer, Deque)}.
+	 *
+	 * @param buffer
+	 *            the buffer to read from
+	 * @param keys
+	 *            the list of keys to overwrite
+	 */
+	public static void readKeys(ByteBuffer buffer, Deque<Key> keys) {
+		keys.clear();
+		int size = buffer.getShort();
+		for (int i = 0; i < size; i++) {
+			Key key = new Key();
+			key.setBits(buffer.get());
+			keys.addLast(key);
+		}
+	}
+
+	/**
+	 * Returns the number of bytes written by
+	 * {@link #writeKeys(ByteBuffer, Deque)} for the list.
+	 *
+	 * @param keys
+	 *            the list of keys
+	 * @return the number of bytes
+	 */
+	public static int getKeysSize(Deque<Key> keys) {
+		return Short.BYTES + keys.size();
+	}
 }
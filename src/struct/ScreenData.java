@@ -1,9 +1,5 @@
 package struct;
 
-import static org.lwjgl.opengl.GL11.GL_RGB;
-import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
-import static org.lwjgl.opengl.GL11.glReadPixels;
-
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
@@ -12,10 +8,10 @@ import java.awt.image.DataBufferByte;
 import java.awt.image.DataBufferInt;
 import java.nio.ByteBuffer;
 
-import org.lwjgl.BufferUtils;
-
 import manager.GraphicManager;
+import setting.FlagSetting;
 import setting.GameSetting;
+import setting.LaunchSetting;
 
 /**
  * The class dealing with the screen information such as the game screen's image
@@ -23,6 +19,12 @@ import setting.GameSetting;
  */
 public class ScreenData {
 
+	/**
+	 * The RGB data of the black screen returned in headless mode, shared by
+	 * all the frames. It must not be modified.
+	 */
+	private static final byte[] BLACK_DISPLAY_BYTES = new byte[3 * GameSetting.STAGE_WIDTH * GameSetting.STAGE_HEIGHT];
+
 	/**
 	 * The pixel data of the screen are saved in the form of bytes.
 	 */
@@ -32,12 +34,44 @@ public class ScreenData {
 	 *
 	 */
 	private BufferedImage displayBufferedImage;
+
+	/**
+	 * The RGB data of the screen rendered at a reduced resolution on the GPU,
+	 * from the top row, or {@code null}.
+	 */
+	private byte[] scaledDisplayBytes;
 	
+	/**
+	 * The class constructor that reads the game screen.<br>
+	 * If the screen is rendered at a reduced resolution on the GPU, only that
+	 * image is read back, and the RGB data and the image of the screen have
+	 * the size of {@link LaunchSetting#scaledScreenSize}.
+	 */
 	public ScreenData() {
+		this.scaledDisplayBytes = GraphicManager.getInstance().renderScaledScreen();
+		if (this.scaledDisplayBytes != null) {
+			this.displayBytes = this.scaledDisplayBytes;
+			return;
+		}
+
 		this.displayBytes = createDisplayBytes();
 		this.displayBufferedImage =  GraphicManager.getInstance().getScreenImage();
 	}
 
+	/**
+	 * The class constructor that creates pixel information of the game screen
+	 * from the specified pixels without reading the game screen.
+	 *
+	 * @param displayBytes
+	 *            the RGB data of the screen
+	 * @param displayBufferedImage
+	 *            the image of the screen
+	 */
+	public ScreenData(byte[] displayBytes, BufferedImage displayBufferedImage) {
+		this.displayBytes = displayBytes;
+		this.displayBufferedImage = displayBufferedImage;
+	}
+
 	/**
 	 * The class constructor that creates pixel information of the game screen
 	 * by using the specified data.
@@ -47,7 +81,8 @@ public class ScreenData {
 	 */
 	public ScreenData(ScreenData screenData) {
 		this.displayBytes = screenData.getDisplayBytes();
-		this.displayBufferedImage = screenData.getDisplayBufferedImage();
+		this.displayBufferedImage = screenData.displayBufferedImage;
+		this.scaledDisplayBytes = screenData.scaledDisplayBytes;
 	}
 
 	/**
@@ -61,12 +96,17 @@ public class ScreenData {
 	}
 
 	public BufferedImage getDisplayBufferedImage() {
+		if (this.displayBufferedImage == null && this.scaledDisplayBytes != null) {
+			this.displayBufferedImage = createScaledBufferedImage();
+		}
 		return this.displayBufferedImage;
 	}
 
 	/**
 	 * Obtains RGB data of the screen in the form of byte[].<br>
-	 * Warning: If the window is disabled, will just return a black buffer.
+	 * Warning: If the window is disabled, will just return a black buffer.<br>
+	 * The array is reused when the screen of a later frame is read, so an AI
+	 * keeping the screens of past frames must copy it.
 	 *
 	 * @return the RGB data of the screen in the form of byte[]
 	 */
@@ -78,7 +118,9 @@ public class ScreenData {
 	 * Obtains RGB data or the grayScale data of the screen in the form of
 	 * byte[].<br>
 	 * Warning: This method doesn't return exactly the same buffer as
-	 * getDisplayByteBufferAsBytes().
+	 * getDisplayByteBufferAsBytes().<br>
+	 * If the screen has been rendered on the GPU at the requested size, that
+	 * image is used instead of scaling the screen image.
 	 *
 	 * @param newWidth
 	 *            the width in pixel for the scaled image
@@ -91,7 +133,13 @@ public class ScreenData {
 	 *         byte[]
 	 */
 	public byte[] getDisplayByteBufferAsBytes(int newWidth, int newHeight, boolean grayScale) {
+		if (this.scaledDisplayBytes != null && newWidth == LaunchSetting.scaledScreenSize[0]
+				&& newHeight == LaunchSetting.scaledScreenSize[1]) {
+			return getScaledDisplayBytes(grayScale);
+		}
+
 		// Resizes the image
+		BufferedImage displayBufferedImage = getDisplayBufferedImage();
 		AffineTransformOp xform = new AffineTransformOp(AffineTransform
 				.getScaleInstance((double) newWidth / displayBufferedImage.getWidth(), (double) newHeight / displayBufferedImage.getHeight()),
 				AffineTransformOp.TYPE_BILINEAR);
@@ -126,6 +174,49 @@ public class ScreenData {
 		return dst;
 	}
 
+	/**
+	 * Obtains the RGB data or the grayScale data of the screen rendered on the
+	 * GPU.
+	 *
+	 * @param grayScale
+	 *            true to convert the data to grayScale
+	 * @return the RGB data or the grayScale data of the screen
+	 */
+	private byte[] getScaledDisplayBytes(boolean grayScale) {
+		if (!grayScale) {
+			return this.scaledDisplayBytes.clone();
+		}
+
+		byte[] dst = new byte[this.scaledDisplayBytes.length / 3];
+		for (int i = 0; i < dst.length; i++) {
+			int r = this.scaledDisplayBytes[i * 3] & 0xFF;
+			int g = this.scaledDisplayBytes[i * 3 + 1] & 0xFF;
+			int b = this.scaledDisplayBytes[i * 3 + 2] & 0xFF;
+			dst[i] = (byte) ((299 * r + 587 * g + 114 * b) / 1000);
+		}
+
+		return dst;
+	}
+
+	/**
+	 * Creates the image of the screen rendered at a reduced resolution on the
+	 * GPU, to scale it to another size.
+	 *
+	 * @return the image of the screen
+	 */
+	private BufferedImage createScaledBufferedImage() {
+		int width = LaunchSetting.scaledScreenSize[0];
+		int height = LaunchSetting.scaledScreenSize[1];
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int[] array = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		for (int i = 0; i < array.length; i++) {
+			array[i] = (this.scaledDisplayBytes[i * 3] & 0xFF) << 16 | (this.scaledDisplayBytes[i * 3 + 1] & 0xFF) << 8
+					| (this.scaledDisplayBytes[i * 3 + 2] & 0xFF);
+		}
+
+		return image;
+	}
+
 	/**
 	 * Obtains RGB data of the screen in the form of ByteBuffer<br>
 	 * Warning: If the window is disabled, will just returns a black buffer.
@@ -133,19 +224,12 @@ public class ScreenData {
 	 * @return RGB data of the screen in the form of ByteBuffer
 	 */
 	private byte[] createDisplayBytes() {
-		// Allocate memory for the RGB data of the screen
-		ByteBuffer pixels = BufferUtils.createByteBuffer(3 * GameSetting.STAGE_WIDTH * GameSetting.STAGE_HEIGHT);
-		pixels.clear();
-
-		// Assign the RGB data of the screen to pixels, a ByteBuffer
-		// variable
-		glReadPixels(0, 0, GameSetting.STAGE_WIDTH, GameSetting.STAGE_HEIGHT, GL_RGB, GL_UNSIGNED_BYTE, pixels);
-		pixels.rewind();
-		
-		byte[] buffer = new byte[pixels.remaining()];
-		pixels.get(buffer);
-
-		return buffer;
+		if (FlagSetting.headlessFlag) {
+			// There is no OpenGL context to read from
+			return BLACK_DISPLAY_BYTES;
+		}
+
+		return GraphicManager.getInstance().readScreenPixels();
 	}
 
 //	private BufferedImage createDisplayBufferedImage(){
@@ -0,0 +1,262 @@
+package util;
+
+import static org.lwjgl.openal.AL10.AL_FORMAT_MONO16;
+import static org.lwjgl.openal.AL10.AL_FORMAT_STEREO16;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import loader.SoundCache;
+import loader.SoundCache.DecodedSound;
+import setting.GameSetting;
+import struct.AudioData;
+
+/**
+ * Benchmarks of each stage of the per-frame audio processing, measured in isolation on recorded audio frames.<br>
+ * Each stage is run on the frames in turn for a number of warmup iterations, then for a number of measured
+ * iterations, and is reported in nanoseconds and allocated bytes per frame, which can be compared before and after
+ * an optimization.<br>
+ * Usage: {@code java -cp FightingICE.jar:./lib/*:./lib/lwjgl/* util.AudioBenchmark [wave file] [-w warmup iterations]
+ * [-i measured iterations] [-t milliseconds per iteration] [-s stage name filter]}<br>
+ * The frames are cut from a 16-bit wave file at 48 kHz, such as a recording of a game or the BGM,
+ * in the same layout as the frames of the game; a synthetic signal is used when no file is given.
+ */
+public final class AudioBenchmark {
+
+    /**
+     * Sink of the results, so that the computation of a stage is not eliminated.
+     */
+    private static volatile Object sink;
+
+    /**
+     * Number of frames cut from the wave file at most.
+     */
+    private static final int MAX_FRAMES = 256;
+
+    private final List<float[][]> frames;
+    private final Map<String, Function<float[][], Object>> stages;
+
+    /**
+     * Class constructor.
+     * @param frames recorded audio frames of shape [2][SOUND_BUFFER_SIZE].
+     */
+    private AudioBenchmark(List<float[][]> frames) {
+        this.frames = frames;
+        this.stages = new LinkedHashMap<String, Function<float[][], Object>>();
+
+        final FFT fft = new FFT();
+        final float[] signal = new float[GameSetting.SOUND_BUFFER_SIZE];
+        final DspPlan plan = MFCC.getPlan();
+        final DspPlan.Scratch scratch = plan.createScratch();
+        final float[] real = new float[plan.getFftSize()];
+        final float[] imag = new float[plan.getFftSize()];
+        final MFCC mfcc = new MFCC();
+        final NumberConverter converter = NumberConverter.getInstance();
+        final Map<float[][], float[][][]> spectrograms = new LinkedHashMap<float[][], float[][][]>();
+        for (float[][] frame : frames) {
+            spectrograms.put(frame, new AudioData(frame).getSpectrogramData());
+        }
+
+        stages.put("AudioData.<init>", frame -> new AudioData(frame));
+        stages.put("AudioData.all features", frame -> {
+            AudioData audioData = new AudioData(frame);
+            audioData.getRawDataAsBytes();
+            audioData.getFftData();
+            return audioData.getSpectrogramDataAsBytes();
+        });
+        stages.put("FFT.process", frame -> {
+            System.arraycopy(frame[0], 0, signal, 0, signal.length);
+            fft.process(signal);
+            return fft.getImag();
+        });
+        stages.put("DspPlan.fft", frame -> {
+            System.arraycopy(frame[0], 0, real, 0, real.length);
+            Arrays.fill(imag, 0);
+            plan.fft(real, imag);
+            return imag;
+        });
+        stages.put("DspPlan.melSpectrogram", frame -> {
+            float[][] melS = new float[plan.getMelCount()][plan.getFrameCount(frame[0].length)];
+            plan.melSpectrogram(frame[0], melS, scratch);
+            return melS;
+        });
+        stages.put("MFCC.melSpectrogram", frame -> mfcc.melSpectrogram(frame[0]));
+        stages.put("MFCC.process", frame -> mfcc.process(frame[0]));
+        stages.put("NumberConverter.getByteArray(raw)", frame -> converter.getByteArray(frame));
+        stages.put("NumberConverter.getByteArray(mel)", frame -> converter.getByteArray(spectrograms.get(frame)));
+        stages.put("NumberConverter.getFloat16ByteArray", frame -> converter.getFloat16ByteArray(frame));
+        stages.put("NumberConverter.getInt16ByteArray", frame -> {
+            float scale = converter.getInt16Scale(frame);
+            return converter.getInt16ByteArray(frame, scale, true);
+        });
+    }
+
+    public static void main(String[] args) {
+        String waveFile = null;
+        int warmupIterations = 5;
+        int iterations = 10;
+        long iterationMillis = 200;
+        String filter = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-w":
+                    warmupIterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-i":
+                    iterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-t":
+                    iterationMillis = Long.parseLong(args[++i]);
+                    break;
+                case "-s":
+                    filter = args[++i];
+                    break;
+                default:
+                    waveFile = args[i];
+            }
+        }
+
+        List<float[][]> frames = waveFile == null ? null : loadFrames(waveFile);
+        if (frames == null || frames.isEmpty()) {
+            frames = syntheticFrames();
+            System.out.println("Frames: " + frames.size() + " synthetic");
+        } else {
+            System.out.println("Frames: " + frames.size() + " from " + waveFile);
+        }
+        System.out.println("DSP kernels: " + DspKernels.getInstance().getClass().getSimpleName());
+
+        AudioBenchmark benchmark = new AudioBenchmark(frames);
+        System.out.println(String.format(Locale.ROOT, "%-40s %12s %12s %14s", "Stage", "ns/op", "error", "B/op"));
+        for (Map.Entry<String, Function<float[][], Object>> stage : benchmark.stages.entrySet()) {
+            if (filter == null || stage.getKey().contains(filter)) {
+                benchmark.run(stage.getKey(), stage.getValue(), warmupIterations, iterations, iterationMillis);
+            }
+        }
+    }
+
+    /**
+     * Runs a stage and prints the mean time per frame with its standard deviation over the measured iterations,
+     * and the bytes allocated per frame.
+     */
+    private void run(String name, Function<float[][], Object> stage, int warmupIterations, int iterations,
+            long iterationMillis) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(stage, iterationMillis);
+        }
+
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads == null ? 0 : threads.getThreadAllocatedBytes(threadId);
+        long totalOps = 0;
+        double[] nanosPerOp = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            long ops = iterate(stage, iterationMillis);
+            nanosPerOp[i] = (double) (System.nanoTime() - start) / ops;
+            totalOps += ops;
+        }
+        long allocated = threads == null ? -1 : threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        double mean = 0;
+        for (double value : nanosPerOp) {
+            mean += value / iterations;
+        }
+        double variance = 0;
+        for (double value : nanosPerOp) {
+            variance += (value - mean) * (value - mean) / Math.max(1, iterations - 1);
+        }
+        System.out.println(String.format(Locale.ROOT, "%-40s %12.1f %12.1f %14s", name, mean, Math.sqrt(variance),
+                allocated < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f", (double) allocated / totalOps)));
+    }
+
+    /**
+     * Runs a stage on all the frames in turn until the time of an iteration has elapsed.
+     * @return number of frames processed.
+     */
+    private long iterate(Function<float[][], Object> stage, long iterationMillis) {
+        long deadline = System.nanoTime() + iterationMillis * 1000000L;
+        long ops = 0;
+        do {
+            for (float[][] frame : frames) {
+                sink = stage.apply(frame);
+            }
+            ops += frames.size();
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    /**
+     * Gets the counter of the bytes allocated by each thread, or null if the JVM does not support it.
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cuts a 16-bit wave file into frames of {@link GameSetting#SOUND_RENDER_SIZE} samples, zero-padded to
+     * {@link GameSetting#SOUND_BUFFER_SIZE} like the frames of the game.
+     * @return frames, or null if the file cannot be read.
+     */
+    private static List<float[][]> loadFrames(String waveFile) {
+        DecodedSound sound = SoundCache.getInstance().load(waveFile);
+        if (sound == null) {
+            return null;
+        }
+        if (sound.getFormat() != AL_FORMAT_MONO16 && sound.getFormat() != AL_FORMAT_STEREO16) {
+            System.out.println("Only 16-bit wave files are supported: " + waveFile);
+            return null;
+        }
+        if (sound.getSampleRate() != GameSetting.SOUND_SAMPLING_RATE) {
+            System.out.println("The sample rate of the wave file is " + sound.getSampleRate() + " Hz instead of "
+                    + GameSetting.SOUND_SAMPLING_RATE + " Hz");
+        }
+
+        int channels = sound.getFormat() == AL_FORMAT_STEREO16 ? 2 : 1;
+        ByteBuffer data = sound.getData();
+        List<float[][]> frames = new ArrayList<float[][]>();
+        while (frames.size() < MAX_FRAMES && data.remaining() >= GameSetting.SOUND_RENDER_SIZE * channels * 2) {
+            float[][] frame = new float[2][GameSetting.SOUND_BUFFER_SIZE];
+            for (int i = 0; i < GameSetting.SOUND_RENDER_SIZE; i++) {
+                frame[0][i] = data.getShort() / 32768f;
+                frame[1][i] = channels == 2 ? data.getShort() / 32768f : frame[0][i];
+            }
+            frames.add(frame);
+        }
+        return frames;
+    }
+
+    /**
+     * Generates frames of tones and noise, used when no wave file is given.
+     */
+    private static List<float[][]> syntheticFrames() {
+        Random random = new Random(0);
+        List<float[][]> frames = new ArrayList<float[][]>();
+        long t = 0;
+        for (int k = 0; k < 64; k++) {
+            float[][] frame = new float[2][GameSetting.SOUND_BUFFER_SIZE];
+            for (int i = 0; i < GameSetting.SOUND_RENDER_SIZE; i++, t++) {
+                double time = (double) t / GameSetting.SOUND_SAMPLING_RATE;
+                float noise = (float) random.nextGaussian() * 0.05f;
+                frame[0][i] = (float) (0.3 * Math.sin(2 * Math.PI * 440 * time)) + noise;
+                frame[1][i] = (float) (0.2 * Math.sin(2 * Math.PI * 660 * time)) + noise;
+            }
+            frames.add(frame);
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,82 @@
+package util;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import enumerate.AudioFeature;
+import struct.AudioData;
+
+/**
+ * The stage computing the audio features of each frame on a pool of worker threads.<br>
+ * The features of the left and right channels are computed concurrently, so that the game thread only hands the
+ * sampled audio data over and never waits for the transformations, which are delivered to the AIs through the
+ * audio data itself.
+ */
+public class AudioFeaturePipeline {
+    /**
+     * Number of worker threads, enough for the FFT and the Mel-Spectrogram of both channels.
+     */
+    private static final int THREAD_COUNT = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * Pool of the worker threads.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Thread updating the streaming spectrograms, which must receive the frames in order.
+     */
+    private final ExecutorService streamExecutor;
+
+    private AudioFeaturePipeline() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "AudioFeature-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.streamExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AudioFeature-Stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static AudioFeaturePipeline getInstance() {
+        return AudioFeaturePipelineHolder.instance;
+    }
+
+    private static class AudioFeaturePipelineHolder {
+        private static final AudioFeaturePipeline instance = new AudioFeaturePipeline();
+    }
+
+    /**
+     * Starts computing the specified features of the audio data on the worker threads.<br>
+     * The getters of the audio data and its copies return the results once they are available.
+     * @param audioData audio data of the current frame.
+     * @param features features used by the AIs and the spectator.
+     */
+    public void submit(AudioData audioData, Set<AudioFeature> features) {
+        if (!features.isEmpty()) {
+            audioData.computeAsync(features, executor);
+        }
+    }
+
+    /**
+     * Appends the samples of the current frame to a streaming spectrogram on a dedicated worker thread.<br>
+     * The samples are appended in the order of the calls.
+     * @param spectrogram streaming spectrogram.
+     * @param samples samples of each channel.
+     * @param length number of samples in each channel.
+     * @return the rolling spectrogram including the appended samples.
+     */
+    public Future<float[][][]> submit(StreamingSpectrogram spectrogram, float[][] samples, int length) {
+        return streamExecutor.submit(() -> {
+            spectrogram.push(samples, length);
+            return spectrogram.getSpectrogramData();
+        });
+    }
+}
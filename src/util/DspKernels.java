@@ -0,0 +1,157 @@
+package util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Inner loops of {@link DspPlan}.<br>
+ * The SIMD implementation based on the Vector API is selected when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}, and the scalar implementation otherwise.
+ * The SIMD implementation is in the separate source root {@code src-simd}, which is compiled with the same option,
+ * so that the rest of the game builds without the incubator module.
+ */
+abstract class DspKernels {
+    private static final DspKernels instance = create();
+
+    static DspKernels getInstance() {
+        return instance;
+    }
+
+    private static DspKernels create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                DspKernels kernels = (DspKernels) Class.forName("util.VectorDspKernels").getDeclaredConstructor().newInstance();
+                Logger.getAnonymousLogger().log(Level.INFO, "Use SIMD audio kernels: " + kernels);
+                return kernels;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                Logger.getAnonymousLogger().log(Level.WARNING, "Cannot use SIMD audio kernels: " + e);
+            }
+        }
+        return new ScalarDspKernels();
+    }
+
+    /**
+     * Computes the butterflies of one stage of a radix-2 FFT in place.
+     * @param real real parts of length n.
+     * @param imag imaginary parts of length n.
+     * @param n number of points.
+     * @param half half the size of the sub DFTs of the stage.
+     * @param twiddleReal real parts of the twiddle factors of the stage, from the index offset.
+     * @param twiddleImag imaginary parts of the twiddle factors of the stage, from the index offset.
+     * @param offset index of the first twiddle factor of the stage.
+     */
+    abstract void butterflies(float[] real, float[] imag, int n, int half, float[] twiddleReal, float[] twiddleImag, int offset);
+
+    /**
+     * Replaces the real parts with the squared magnitudes.
+     * @param real real parts.
+     * @param imag imaginary parts.
+     * @param length number of values.
+     */
+    abstract void powerSpectrum(float[] real, float[] imag, int length);
+
+    /**
+     * Computes the dot product of two ranges of arrays.
+     * @param a first array.
+     * @param aOffset first index of the range of the first array.
+     * @param b second array.
+     * @param bOffset first index of the range of the second array.
+     * @param length length of the ranges.
+     * @return dot product.
+     */
+    abstract float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Converts power values to decibel units in place, with values under 1e-10 set to -100 dB.
+     * @param values power values.
+     * @param length number of values.
+     * @return maximum value in decibel units, or -100 if it is smaller.
+     */
+    abstract float powerToDb(float[] values, int length);
+
+    /**
+     * Raises the values under a floor to the floor.
+     * @param values values.
+     * @param length number of values.
+     * @param floor floor.
+     */
+    abstract void clampMin(float[] values, int length, float floor);
+
+    /**
+     * Converts a power value to decibel units.
+     */
+    static float toDb(float power) {
+        float magnitude = Math.abs(power);
+        if (magnitude > 1e-10) {
+            return (float) (10.0 * (float) (Math.log(magnitude) / Math.log(10)));
+        } else {
+            return (float) (10.0 * (-10));
+        }
+    }
+
+    /**
+     * Implementation of the kernels with scalar instructions.
+     */
+    static final class ScalarDspKernels extends DspKernels {
+        @Override
+        void butterflies(float[] real, float[] imag, int n, int half, float[] twiddleReal, float[] twiddleImag, int offset) {
+            // loop for each sub DFT
+            for (int subDFT = 0; subDFT < half; subDFT++) {
+                final float UR = twiddleReal[offset + subDFT];
+                final float UI = twiddleImag[offset + subDFT];
+                // loop for each butterfly
+                for (int butterfly = subDFT; butterfly < n; butterfly += 2 * half) {
+                    int ip = butterfly + half;
+                    float tempReal = (real[ip] * UR - imag[ip] * UI);
+                    float tempImag = (real[ip] * UI + imag[ip] * UR);
+                    real[ip] = real[butterfly] - tempReal;
+                    imag[ip] = imag[butterfly] - tempImag;
+                    real[butterfly] += tempReal;
+                    imag[butterfly] += tempImag;
+                }
+            }
+        }
+
+        @Override
+        void powerSpectrum(float[] real, float[] imag, int length) {
+            for (int i = 0; i < length; i++) {
+                real[i] = real[i] * real[i] + imag[i] * imag[i];
+            }
+        }
+
+        @Override
+        float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+            float sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += a[aOffset + i] * b[bOffset + i];
+            }
+            return sum;
+        }
+
+        @Override
+        float powerToDb(float[] values, int length) {
+            float maxValue = -100;
+            for (int i = 0; i < length; i++) {
+                values[i] = toDb(values[i]);
+                if (values[i] > maxValue) {
+                    maxValue = values[i];
+                }
+            }
+            return maxValue;
+        }
+
+        @Override
+        void clampMin(float[] values, int length, float floor) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] < floor) {
+                    values[i] = floor;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "scalar";
+        }
+    }
+}
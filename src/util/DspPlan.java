@@ -0,0 +1,343 @@
+package util;
+
+/**
+ * Precomputed tables for the audio features: the analysis window, the mel
+ * filter bank, the DCT basis and the FFT twiddle factors.<br>
+ * A plan is immutable and can be shared by all threads, while the
+ * intermediate results are kept in a {@link Scratch} owned by the caller, so
+ * that the features of a frame are computed without allocating memory.<br>
+ * The inner loops are run by {@link DspKernels}, with SIMD instructions when they are available.
+ */
+public final class DspPlan {
+
+    /**
+     * Number of points of the FFT.
+     */
+    private final int nFft;
+
+    /**
+     * Number of samples between successive STFT frames.
+     */
+    private final int hopLength;
+
+    /**
+     * Analysis window of length nFft.
+     */
+    private final float[] window;
+
+    /**
+     * Mel filter bank of shape [n_mels][1 + nFft / 2].
+     */
+    private final float[][] melWeights;
+
+    /**
+     * First FFT bin with a non-zero weight in each mel band.
+     */
+    private final int[] melStart;
+
+    /**
+     * Last FFT bin with a non-zero weight in each mel band, plus one.
+     */
+    private final int[] melEnd;
+
+    /**
+     * DCT basis of shape [n_mfcc][n_mels].
+     */
+    private final float[][] dctBasis;
+
+    /**
+     * cos(2 * pi * k / LE) for k in [0, LE / 2) at index LE / 2 - 1, for each stage of the FFT with sub DFTs of size LE.
+     */
+    private final float[] twiddleReal;
+
+    /**
+     * -sin(2 * pi * k / LE) for k in [0, LE / 2) at index LE / 2 - 1, for each stage of the FFT with sub DFTs of size LE.
+     */
+    private final float[] twiddleImag;
+
+    /**
+     * Implementation of the inner loops.
+     */
+    private final DspKernels kernels;
+
+    /**
+     * Bit-reversed index of each point.
+     */
+    private final int[] bitReverse;
+
+    /**
+     * Class constructor.
+     * @param nFft number of points of the FFT, a power of 2.
+     * @param hopLength number of samples between successive STFT frames.
+     * @param window analysis window of length nFft.
+     * @param melWeights mel filter bank of shape [n_mels][1 + nFft / 2].
+     * @param dctBasis DCT basis of shape [n_mfcc][n_mels].
+     */
+    public DspPlan(int nFft, int hopLength, float[] window, float[][] melWeights, float[][] dctBasis) {
+        if (Integer.bitCount(nFft) != 1) {
+            throw new IllegalArgumentException("The number of points of the FFT must be a power of 2: " + nFft);
+        }
+
+        this.nFft = nFft;
+        this.hopLength = hopLength;
+        this.window = window.clone();
+        this.melWeights = new float[melWeights.length][];
+        this.melStart = new int[melWeights.length];
+        this.melEnd = new int[melWeights.length];
+        for (int i = 0; i < melWeights.length; i++) {
+            this.melWeights[i] = melWeights[i].clone();
+
+            int start = 0;
+            int end = melWeights[i].length;
+            while (start < end && melWeights[i][start] == 0) {
+                start++;
+            }
+            while (end > start && melWeights[i][end - 1] == 0) {
+                end--;
+            }
+            this.melStart[i] = start;
+            this.melEnd[i] = end;
+        }
+        this.dctBasis = new float[dctBasis.length][];
+        for (int i = 0; i < dctBasis.length; i++) {
+            this.dctBasis[i] = dctBasis[i].clone();
+        }
+
+        // the twiddle factors of each stage are stored contiguously, so that the butterflies can be vectorized
+        this.twiddleReal = new float[Math.max(1, nFft - 1)];
+        this.twiddleImag = new float[Math.max(1, nFft - 1)];
+        for (int LE = 2; LE <= nFft; LE <<= 1) {
+            final int step = nFft / LE;
+            for (int k = 0; k < LE / 2; k++) {
+                this.twiddleReal[LE / 2 - 1 + k] = (float) Math.cos(2.0 * Math.PI * k * step / nFft);
+                this.twiddleImag[LE / 2 - 1 + k] = (float) -Math.sin(2.0 * Math.PI * k * step / nFft);
+            }
+        }
+        this.kernels = DspKernels.getInstance();
+
+        int numStages = Integer.numberOfTrailingZeros(nFft);
+        this.bitReverse = new int[nFft];
+        for (int i = 0; i < nFft; i++) {
+            this.bitReverse[i] = numStages == 0 ? 0 : Integer.reverse(i) >>> (32 - numStages);
+        }
+    }
+
+    /**
+     * Gets the number of points of the FFT.
+     * @return number of points of the FFT.
+     */
+    public int getFftSize() {
+        return nFft;
+    }
+
+    /**
+     * Gets the number of mel bands.
+     * @return number of mel bands.
+     */
+    public int getMelCount() {
+        return melWeights.length;
+    }
+
+    /**
+     * Gets the number of MFCCs per frame.
+     * @return number of MFCCs per frame.
+     */
+    public int getMfccCount() {
+        return dctBasis.length;
+    }
+
+    /**
+     * Gets the number of STFT frames of a signal, which is centered by padding.
+     * @param signalLength length of the signal.
+     * @return number of STFT frames.
+     */
+    public int getFrameCount(int signalLength) {
+        return 1 + signalLength / hopLength;
+    }
+
+    /**
+     * Gets the number of samples between successive STFT frames.
+     * @return number of samples between successive STFT frames.
+     */
+    public int getHopLength() {
+        return hopLength;
+    }
+
+    /**
+     * Creates the buffers for the intermediate results of this plan.
+     * @return new buffers.
+     */
+    public Scratch createScratch() {
+        return new Scratch(this);
+    }
+
+    /**
+     * Performs Fast Fourier Transformation in place.
+     * @param real real parts of length nFft.
+     * @param imag imaginary parts of length nFft.
+     */
+    public void fft(float[] real, float[] imag) {
+        // bit reversal sorting
+        for (int i = 0; i < nFft; i++) {
+            int j = bitReverse[i];
+            if (i < j) {
+                float tempReal = real[j];
+                float tempImag = imag[j];
+                real[j] = real[i];
+                imag[j] = imag[i];
+                real[i] = tempReal;
+                imag[i] = tempImag;
+            }
+        }
+
+        // loop for each stage
+        for (int LE = 2; LE <= nFft; LE <<= 1) {
+            final int LE2 = LE >> 1;
+            kernels.butterflies(real, imag, nFft, LE2, twiddleReal, twiddleImag, LE2 - 1);
+        }
+    }
+
+    /**
+     * Computes the mel spectrogram of a signal.
+     * @param y signal.
+     * @param melS output of shape [n_mels][getFrameCount(y.length)].
+     * @param scratch buffers for the intermediate results.
+     */
+    public void melSpectrogram(float[] y, float[][] melS, Scratch scratch) {
+        final float[] ypad = scratch.getPaddedSignal(y.length);
+        //pad y with reflect mode so it's centered
+        for (int i = 0; i < nFft / 2; i++) {
+            ypad[(nFft / 2) - i - 1] = y[i + 1];
+            ypad[(nFft / 2) + y.length + i] = y[y.length - 2 - i];
+        }
+        System.arraycopy(y, 0, ypad, nFft / 2, y.length);
+
+        final float[] real = scratch.real;
+        final float[] imag = scratch.imag;
+        final int nFrames = getFrameCount(y.length);
+        for (int k = 0; k < nFrames; k++) {
+            int offset = k * hopLength;
+            for (int l = 0; l < nFft; l++) {
+                real[l] = window[l] * ypad[offset + l];
+                imag[l] = 0;
+            }
+            fft(real, imag);
+            powerSpectrum(real, imag);
+
+            for (int m = 0; m < melWeights.length; m++) {
+                melS[m][k] = melBand(m, real);
+            }
+        }
+    }
+
+    /**
+     * Computes the mel spectrum of a single STFT frame taken from a circular buffer, without padding.
+     * @param ring circular buffer of length nFft.
+     * @param start index of the oldest sample of the frame in the buffer.
+     * @param melFrame output of length n_mels.
+     * @param scratch buffers for the intermediate results.
+     */
+    public void melFrame(float[] ring, int start, float[] melFrame, Scratch scratch) {
+        final float[] real = scratch.real;
+        final float[] imag = scratch.imag;
+        for (int l = 0; l < nFft; l++) {
+            real[l] = window[l] * ring[(start + l) & (nFft - 1)];
+            imag[l] = 0;
+        }
+        fft(real, imag);
+        powerSpectrum(real, imag);
+
+        for (int m = 0; m < melWeights.length; m++) {
+            melFrame[m] = melBand(m, real);
+        }
+    }
+
+    /**
+     * Replaces the first half of the real parts with the power spectrum of the non-negative frequencies.
+     */
+    private void powerSpectrum(float[] real, float[] imag) {
+        kernels.powerSpectrum(real, imag, nFft / 2 + 1);
+    }
+
+    /**
+     * Applies the filter of a mel band to a power spectrum.
+     */
+    private float melBand(int m, float[] power) {
+        return kernels.dot(melWeights[m], melStart[m], power, melStart[m], melEnd[m] - melStart[m]);
+    }
+
+    /**
+     * Computes the MFCCs of a signal.
+     * @param y signal.
+     * @param mfcc output of length getFrameCount(y.length) * n_mfcc, frame by frame.
+     * @param scratch buffers for the intermediate results.
+     */
+    public void mfcc(float[] y, float[] mfcc, Scratch scratch) {
+        final int nFrames = getFrameCount(y.length);
+        final int nMels = melWeights.length;
+        final float[][] melS = scratch.getMelSpectrogram(nFrames);
+        melSpectrogram(y, melS, scratch);
+
+        // lay the spectrogram out frame by frame, so that each frame is contiguous for the DCT
+        final float[] melFrames = scratch.getMelFrames(nFrames);
+        for (int m = 0; m < nMels; m++) {
+            for (int j = 0; j < nFrames; j++) {
+                melFrames[j * nMels + m] = melS[m][j];
+            }
+        }
+
+        // convert to decibel units with top_db set to 80
+        float maxValue = kernels.powerToDb(melFrames, nFrames * nMels);
+        kernels.clampMin(melFrames, nFrames * nMels, (float) (maxValue - 80.0));
+
+        int k = 0;
+        for (int j = 0; j < nFrames; j++) {
+            for (int i = 0; i < dctBasis.length; i++) {
+                mfcc[k++] = kernels.dot(dctBasis[i], 0, melFrames, j * nMels, nMels);
+            }
+        }
+    }
+
+    /**
+     * Buffers for the intermediate results of a {@link DspPlan}.<br>
+     * A scratch must not be used by several threads at the same time.
+     */
+    public static final class Scratch {
+        private final DspPlan plan;
+        private final float[] real;
+        private final float[] imag;
+        private float[] ypad;
+        private float[][] melS;
+        private float[] melFrames;
+
+        private Scratch(DspPlan plan) {
+            this.plan = plan;
+            this.real = new float[plan.nFft];
+            this.imag = new float[plan.nFft];
+            this.ypad = new float[0];
+            this.melS = new float[plan.getMelCount()][0];
+            this.melFrames = new float[0];
+        }
+
+        private float[] getPaddedSignal(int signalLength) {
+            if (ypad.length != plan.nFft + signalLength) {
+                ypad = new float[plan.nFft + signalLength];
+            }
+            return ypad;
+        }
+
+        private float[][] getMelSpectrogram(int nFrames) {
+            if (melS[0].length != nFrames) {
+                melS = new float[plan.getMelCount()][nFrames];
+            }
+            return melS;
+        }
+
+        private float[] getMelFrames(int nFrames) {
+            if (melFrames.length != nFrames * plan.getMelCount()) {
+                melFrames = new float[nFrames * plan.getMelCount()];
+            }
+            return melFrames;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package util;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 
 import com.google.protobuf.ByteString;
 
+import enumerate.AudioFeature;
+import enumerate.AudioSampleFormat;
+import grpc.AudioPayloadOptions;
 import informationcontainer.RoundResult;
+import protoc.EnumProto;
 import protoc.MessageProto.GrpcAttackData;
 import protoc.MessageProto.GrpcAudioData;
 import protoc.MessageProto.GrpcCharacterData;
@@ -15,6 +21,9 @@ import protoc.MessageProto.GrpcHitArea;
 import protoc.MessageProto.GrpcKey;
 import protoc.MessageProto.GrpcRoundResult;
 import protoc.MessageProto.GrpcScreenData;
+import protoc.ServiceProto.AudioEncoding;
+import protoc.ServiceProto.AudioFeatureSet;
+import protoc.ServiceProto.InitializeRequest;
 import struct.AttackData;
 import struct.AudioData;
 import struct.CharacterData;
@@ -134,15 +143,128 @@ public class GrpcUtil {
   	}
   	
   	public static GrpcAudioData convertAudioData(AudioData audioData) {
+  		return convertAudioData(audioData, AudioPayloadOptions.DEFAULT);
+  	}
+  	
+  	public static GrpcAudioData convertAudioData(AudioData audioData, AudioPayloadOptions options) {
   		if (audioData == null) {
   			return GrpcAudioData.getDefaultInstance();
   		}
   		
-  		return GrpcAudioData.newBuilder()
-  				.setRawDataAsBytes(ByteString.copyFrom(audioData.getRawDataAsBytes()))
-  				.addAllFftData(Arrays.stream(audioData.getFftData()).map(x -> convertFftData(x)).toList())
-  				.setSpectrogramDataAsBytes(ByteString.copyFrom(audioData.getSpectrogramDataAsBytes()))
-  				.build();
+  		// Only the requested features are computed
+  		Set<AudioFeature> features = options.getFeatures();
+  		GrpcAudioData.Builder builder = GrpcAudioData.newBuilder();
+  		if (options.getFormat() == AudioSampleFormat.FLOAT32) {
+  			if (features.contains(AudioFeature.RAW)) {
+  				builder.setRawDataAsBytes(ByteString.copyFrom(audioData.getRawDataAsBytes()));
+  			}
+  			if (features.contains(AudioFeature.FFT)) {
+  				builder.addAllFftData(Arrays.stream(audioData.getFftData()).map(x -> convertFftData(x)).toList());
+  			}
+  			if (features.contains(AudioFeature.SPECTROGRAM)) {
+  				builder.setSpectrogramDataAsBytes(ByteString.copyFrom(audioData.getSpectrogramDataAsBytes()));
+  			}
+  			return builder.build();
+  		}
+  		
+  		if (features.contains(AudioFeature.RAW)) {
+  			float[][] rows = audioData.getRawData();
+  			float scale = getAudioDataScale(rows, options);
+  			builder.setRawDataAsBytes(encodeAudioData(rows, options, scale)).setRawDataScale(scale);
+  		}
+  		if (features.contains(AudioFeature.FFT)) {
+  			for (FFTData fftData : audioData.getFftData()) {
+  				float[][] real = new float[][] { fftData.getReal() };
+  				float[][] imag = new float[][] { fftData.getImag() };
+  				float realScale = getAudioDataScale(real, options);
+  				float imagScale = getAudioDataScale(imag, options);
+  				builder.addFftData(GrpcFftData.newBuilder()
+  						.setRealDataAsBytes(encodeAudioData(real, options, realScale))
+  						.setRealDataScale(realScale)
+  						.setImaginaryDataAsBytes(encodeAudioData(imag, options, imagScale))
+  						.setImaginaryDataScale(imagScale)
+  						.build());
+  			}
+  		}
+  		if (features.contains(AudioFeature.SPECTROGRAM)) {
+  			// each mel band of each channel is a row
+  			float[][] rows = Arrays.stream(audioData.getSpectrogramData()).flatMap(Arrays::stream).toArray(float[][]::new);
+  			float scale = getAudioDataScale(rows, options);
+  			builder.setSpectrogramDataAsBytes(encodeAudioData(rows, options, scale)).setSpectrogramDataScale(scale);
+  		}
+  		return builder.build();
+  	}
+  	
+  	/**
+  	 * Encodes rows of audio data in a 16-bit format, with the scale returned
+  	 * by {@link #getAudioDataScale(float[][], AudioPayloadOptions)}.
+  	 */
+  	private static ByteString encodeAudioData(float[][] rows, AudioPayloadOptions options, float scale) {
+  		if (options.getFormat() == AudioSampleFormat.FLOAT16) {
+  			return ByteString.copyFrom(NumberConverter.getInstance().getFloat16ByteArray(rows));
+  		}
+  		
+  		return ByteString.copyFrom(NumberConverter.getInstance().getInt16ByteArray(rows, scale, options.isDelta()));
+  	}
+  	
+  	/**
+  	 * Returns the scale of rows of audio data encoded as 16-bit integers, or
+  	 * 0 if they are encoded in another format.
+  	 */
+  	private static float getAudioDataScale(float[][] rows, AudioPayloadOptions options) {
+  		if (options.getFormat() != AudioSampleFormat.INT16) {
+  			return 0;
+  		}
+  		return NumberConverter.getInstance().getInt16Scale(rows);
+  	}
+  	
+  	/**
+  	 * Returns the audio data requested by the audio_features and
+  	 * audio_encoding fields of InitializeRequest.
+  	 *
+  	 * @throws IllegalArgumentException
+  	 *             if the requested format is unknown, or the delta encoding
+  	 *             is requested with a format other than INT16, which does
+  	 *             not support it
+  	 */
+  	public static AudioPayloadOptions getAudioPayloadOptions(InitializeRequest request) {
+  		AudioSampleFormat format = AudioSampleFormat.FLOAT32;
+  		boolean delta = false;
+  		if (request.hasAudioEncoding()) {
+  			AudioEncoding encoding = request.getAudioEncoding();
+  			if (encoding.getFormat() == EnumProto.AudioSampleFormat.UNRECOGNIZED) {
+  				throw new IllegalArgumentException("Unknown audio sample format: " + encoding.getFormatValue());
+  			}
+  			format = AudioSampleFormat.valueOf(encoding.getFormat().name());
+  			delta = encoding.getDelta();
+  		}
+  		if (delta && format != AudioSampleFormat.INT16) {
+  			throw new IllegalArgumentException("The delta encoding is only supported with the INT16 format, not " + format);
+  		}
+  		return new AudioPayloadOptions(getAudioFeatures(request), format, delta);
+  	}
+  	
+  	/**
+  	 * Returns the audio features requested by the audio_features field of
+  	 * InitializeRequest, or all the features if the field is unset.
+  	 */
+  	public static EnumSet<AudioFeature> getAudioFeatures(InitializeRequest request) {
+  		if (!request.hasAudioFeatures()) {
+  			return AudioFeature.all();
+  		}
+  		
+  		AudioFeatureSet featureSet = request.getAudioFeatures();
+  		EnumSet<AudioFeature> features = EnumSet.noneOf(AudioFeature.class);
+  		if (featureSet.getRaw()) {
+  			features.add(AudioFeature.RAW);
+  		}
+  		if (featureSet.getFft()) {
+  			features.add(AudioFeature.FFT);
+  		}
+  		if (featureSet.getSpectrogram()) {
+  			features.add(AudioFeature.SPECTROGRAM);
+  		}
+  		return features;
   	}
   	
   	public static Key fromGrpcKey(GrpcKey grpcKey) {
@@ -18,9 +18,9 @@ import fighting.Character;
 import informationcontainer.RoundResult;
 import input.KeyData;
 import loader.ResourceLoader;
-import setting.FlagSetting;
 import setting.GameSetting;
 import setting.LaunchSetting;
+import setting.MatchSetting;
 import struct.AttackData;
 import struct.CharacterData;
 import struct.FrameData;
@@ -60,9 +60,11 @@ public class LogWriter {
     boolean disableDisplayDataInFrameData;
 
     /**
-     * Class constructor.
+     * Class constructor.<br>
+     * The game scenes share the instance returned by {@link #getInstance()}. A match running in parallel with
+     * others creates its own instance, so that its JSON log does not mix with theirs.
      */
-    private LogWriter() {
+    public LogWriter() {
         Logger.getAnonymousLogger().log(Level.INFO, "Create instance: " + LogWriter.class.getName());
     }
 
@@ -91,8 +93,20 @@ public class LogWriter {
      * @param timeInfo     The current time information.
      */
     public void outputResult(ArrayList<RoundResult> roundResults, int extension, String timeInfo) {
+        outputResult(roundResults, extension, timeInfo, new MatchSetting());
+    }
+
+    /**
+     * Output match results of a match with the specified settings to a file with the specified extension.
+     *
+     * @param roundResults List containing the results of each round.
+     * @param extension    The specified file extension.
+     * @param timeInfo     The current time information.
+     * @param setting      The settings of the match.
+     */
+    public void outputResult(ArrayList<RoundResult> roundResults, int extension, String timeInfo, MatchSetting setting) {
         String path = "./log/point/";
-        String fileName = createOutputFileName(path, timeInfo);
+        String fileName = createOutputFileName(path, timeInfo, setting);
 
         PrintWriter pw;
         switch (extension) {
@@ -158,14 +172,24 @@ public class LogWriter {
      * @param dos DataOutputStream for writing to the replay file.
      */
     public void writeHeader(DataOutputStream dos) {
+        writeHeader(dos, new MatchSetting());
+    }
+
+    /**
+     * Write header information of a match with the specified settings to the replay file.
+     *
+     * @param dos     DataOutputStream for writing to the replay file.
+     * @param setting The settings of the match.
+     */
+    public void writeHeader(DataOutputStream dos, MatchSetting setting) {
         try {
             for (int i = 0; i < 2; i++) {
-                if (FlagSetting.limitHpFlag) {
+                if (setting.isLimitHpFlag()) {
                     dos.writeInt(-1);
-                    dos.writeInt(LaunchSetting.maxHp[i]);
+                    dos.writeInt(setting.getMaxHp(i == 0));
                 }
 
-                dos.writeInt(Arrays.asList(GameSetting.CHARACTERS).indexOf(LaunchSetting.characterNames[i]));
+                dos.writeInt(Arrays.asList(GameSetting.CHARACTERS).indexOf(setting.getCharacterName(i == 0)));
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -181,9 +205,21 @@ public class LogWriter {
      * @return The output file name.
      */
     public String createOutputFileName(String path, String timeInfo) {
-        String mode = FlagSetting.limitHpFlag ? "HPMode" : "TimeMode";
+        return createOutputFileName(path, timeInfo, new MatchSetting());
+    }
+
+    /**
+     * Generate the output file name of a match with the specified settings.
+     *
+     * @param path     The path where the file will be output.
+     * @param timeInfo The current time information.
+     * @param setting  The settings of the match.
+     * @return The output file name.
+     */
+    public String createOutputFileName(String path, String timeInfo, MatchSetting setting) {
+        String mode = setting.isLimitHpFlag() ? "HPMode" : "TimeMode";
 
-        return path + mode + "_" + LaunchSetting.aiNames[0] + "_" + LaunchSetting.aiNames[1] + "_" + timeInfo;
+        return path + mode + "_" + setting.getAiName(true) + "_" + setting.getAiName(false) + "_" + timeInfo;
     }
 
     /**
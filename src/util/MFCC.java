@@ -26,102 +26,40 @@ public class MFCC {
     private final static float    sampleRate           = GameSetting.SOUND_SAMPLING_RATE;
     private final static float    fMax                 = (float) (sampleRate/2.0);
 
-    FFT fft = new FFT();
+    /**
+     * Tables shared by all instances.
+     */
+    private final static DspPlan plan = new DspPlan(n_fft, hop_length, getWindow(), melFilter(), dctFilter(n_mfcc, n_mels));
 
+    /**
+     * Buffers for the intermediate results of this instance.
+     */
+    private final DspPlan.Scratch scratch = plan.createScratch();
 
-    public float[] process(float[] floatInputBuffer) {
-        final float[][] mfccResult = dctMfcc(floatInputBuffer);
-        return finalshape(mfccResult);
-    }
-
-    //MFCC into 1d
-    private float[] finalshape(float[][] mfccSpecTro){
-        float[] finalMfcc = new float[mfccSpecTro[0].length * mfccSpecTro.length];
-        int k = 0;
-        for (int i = 0; i < mfccSpecTro[0].length; i++){
-            for (int j = 0; j < mfccSpecTro.length; j++){
-                finalMfcc[k] = (float) mfccSpecTro[j][i];
-                k = k+1;
-            }
-        }
-        return finalMfcc;
+    /**
+     * Gets the precomputed tables used by the feature extraction.
+     * @return the precomputed tables.
+     */
+    public static DspPlan getPlan() {
+        return plan;
     }
 
-    //DCT to mfcc, librosa
-    private float[][] dctMfcc(float[] y){
-        final float[][] specTroGram = powerToDb(melSpectrogram(y));
-        final float[][] dctBasis = dctFilter(n_mfcc, n_mels);
-        float[][] mfccSpecTro = new float[n_mfcc][specTroGram[0].length];
-        for (int i = 0; i < n_mfcc; i++){
-            for (int j = 0; j < specTroGram[0].length; j++){
-                for (int k = 0; k < specTroGram.length; k++){
-                    mfccSpecTro[i][j] += dctBasis[i][k]*specTroGram[k][j];
-                }
-            }
-        }
-        return mfccSpecTro;
+    public float[] process(float[] floatInputBuffer) {
+        float[] mfcc = new float[plan.getFrameCount(floatInputBuffer.length) * n_mfcc];
+        plan.mfcc(floatInputBuffer, mfcc, scratch);
+        return mfcc;
     }
 
-
     //mel spectrogram, librosa
     public float[][] melSpectrogram(float[] y){
-        float[][] melBasis = melFilter();
-        float[][] spectro = stftMagSpec(y);
-        float[][] melS = new float[melBasis.length][spectro[0].length];
-        for (int i = 0; i < melBasis.length; i++){
-            for (int j = 0; j < spectro[0].length; j++){
-                for (int k = 0; k < melBasis[0].length; k++){
-                    melS[i][j] += melBasis[i][k]*spectro[k][j];
-                }
-            }
-        }
+        float[][] melS = new float[n_mels][plan.getFrameCount(y.length)];
+        plan.melSpectrogram(y, melS, scratch);
         return melS;
     }
 
 
-    //stft, librosa
-    private float[][] stftMagSpec(float[] y){
-        //Short-time Fourier transform (STFT)
-        final float[] fftwin = getWindow();
-        //pad y with reflect mode so it's centered. This reflect padding implementation is
-        // not perfect but works for this demo.
-        float[] ypad = new float[n_fft+y.length];
-        for (int i = 0; i < n_fft/2; i++){
-            ypad[(n_fft/2)-i-1] = y[i+1];
-            ypad[(n_fft/2)+y.length+i] = y[y.length-2-i];
-        }
-        for (int j = 0; j < y.length; j++){
-            ypad[(n_fft/2)+j] = y[j];
-        }
-
-
-        final float[][] frame = yFrame(ypad);
-        float[][] fftmagSpec = new float[1+n_fft/2][frame[0].length];
-        float[] fftFrame = new float[n_fft];
-        for (int k = 0; k < frame[0].length; k++){
-            for (int l =0; l < n_fft; l++){
-                fftFrame[l] = fftwin[l]*frame[l][k];
-            }
-            float[] magSpec = magSpectrogram(fftFrame);
-            for (int i =0; i < 1+n_fft/2; i++){
-                fftmagSpec[i][k] = magSpec[i];
-            }
-        }
-        return fftmagSpec;
-    }
-
-    private float[] magSpectrogram(float[] frame){
-        float[] magSpec = new float[frame.length];
-        fft.process(frame);
-        for (int m = 0; m < frame.length; m++) {
-            magSpec[m] = fft.real[m] * fft.real[m] + fft.imag[m] * fft.imag[m];
-        }
-        return magSpec;
-    }
-
-
     //get hann window, librosa
-    private float[] getWindow(){
+    private static float[] getWindow(){
         //Return a Hann window for even n_fft.
         //The Hann window is a taper formed by using a raised cosine or sine-squared
         //with ends that touch zero.
@@ -132,53 +70,8 @@ public class MFCC {
         return win;
     }
 
-    //frame, librosa
-    private float[][] yFrame(float[] ypad){
-        final int n_frames = 1 + (ypad.length - n_fft) / hop_length;
-        float[][] winFrames = new float[n_fft][n_frames];
-        for (int i = 0; i < n_fft; i++){
-            for (int j = 0; j < n_frames; j++){
-                winFrames[i][j] = ypad[j*hop_length+i];
-            }
-        }
-        return winFrames;
-    }
-
-    //power to db, librosa
-    private float[][] powerToDb(float[][] melS){
-        //Convert a power spectrogram (amplitude squared) to decibel (dB) units
-        //  This computes the scaling ``10 * log10(S / ref)`` in a numerically
-        //  stable way.
-        float[][] log_spec = new float[melS.length][melS[0].length];
-        float maxValue = -100;
-        for (int i = 0; i < melS.length; i++){
-            for (int j = 0; j < melS[0].length; j++){
-                float magnitude = Math.abs(melS[i][j]);
-                if (magnitude > 1e-10){
-                    log_spec[i][j]= (float) (10.0*log10(magnitude));
-                }else{
-                    log_spec[i][j]= (float) (10.0*(-10));
-                }
-                if (log_spec[i][j] > maxValue){
-                    maxValue = log_spec[i][j];
-                }
-            }
-        }
-
-        //set top_db to 80.0
-        for (int i = 0; i < melS.length; i++){
-            for (int j = 0; j < melS[0].length; j++){
-                if (log_spec[i][j] < maxValue - 80.0){
-                    log_spec[i][j] = (float) (maxValue - 80.0);
-                }
-            }
-        }
-        //ref is disabled, maybe later.
-        return log_spec;
-    }
-
     //dct, librosa
-    private float[][] dctFilter(int n_filters, int n_input){
+    private static float[][] dctFilter(int n_filters, int n_input){
         //Discrete cosine transform (DCT type-III) basis.
         float[][] basis = new float[n_filters][n_input];
         float[] samples = new float[n_input];
@@ -198,7 +91,7 @@ public class MFCC {
 
 
     //mel, librosa
-    private float[][] melFilter(){
+    private static float[][] melFilter(){
         //Create a Filterbank matrix to combine FFT bins into Mel-frequency bins.
         // Center freqs of each FFT bin
         final float[] fftFreqs = fftFreq();
@@ -247,7 +140,7 @@ public class MFCC {
     }
 
     //fft frequencies, librosa
-    private float[] fftFreq() {
+    private static float[] fftFreq() {
         //Alternative implementation of np.fft.fftfreqs
         float[] freqs = new float[1+n_fft/2];
         for (int i = 0; i < 1+n_fft/2; i++){
@@ -257,7 +150,7 @@ public class MFCC {
     }
 
     //mel frequencies, librosa
-    private float[] melFreq(int numMels) {
+    private static float[] melFreq(int numMels) {
         //'Center freqs' of mel bands - uniformly spaced between limits
         float[] LowFFreq = new float[1];
         float[] HighFFreq = new float[1];
@@ -274,7 +167,7 @@ public class MFCC {
 
 
     //mel to hz, htk, librosa
-    private float[] melToFreqS(float[] mels) {
+    private static float[] melToFreqS(float[] mels) {
         float[] freqs = new float[mels.length];
         for (int i = 0; i < mels.length; i++) {
             freqs[i] = (float) (700.0 * (Math.pow(10, mels[i]/2595.0) - 1.0));
@@ -284,7 +177,7 @@ public class MFCC {
 
 
     // hz to mel, htk, librosa
-    protected float[] freqToMelS(float[] freqs) {
+    protected static float[] freqToMelS(float[] freqs) {
         float[] mels = new float[freqs.length];
         for (int i = 0; i < freqs.length; i++){
             mels[i] = (float) (2595.0 * log10((float) (1.0 + freqs[i]/700.0)));
@@ -293,7 +186,7 @@ public class MFCC {
     }
 
     //mel to hz, Slaney, librosa
-    private float[] melToFreq(float[] mels) {
+    private static float[] melToFreq(float[] mels) {
         // Fill in the linear scale
         final float f_min = 0.0F;
         final float f_sp = (float) (200.0 / 3);
@@ -316,7 +209,7 @@ public class MFCC {
 
 
     // hz to mel, Slaney, librosa
-    protected float[] freqToMel(float[] freqs) {
+    protected static float[] freqToMel(float[] freqs) {
         final float f_min = 0.0f;
         final float f_sp = 200.0f / 3;
         float[] mels = new float[freqs.length];
@@ -338,7 +231,7 @@ public class MFCC {
     }
 
     // log10
-    private float log10(float value) {
+    private static float log10(float value) {
         return (float) (Math.log(value) / Math.log(10));
     }
 }
\ No newline at end of file
@@ -110,4 +110,105 @@ public class NumberConverter {
         byte[] byteArray = intBuffer.array();
         return byteArray;
     }
+
+    /**
+     * Converts rows of values to 16-bit floating-point numbers, row by row.
+     * @param rows rows of values.
+     * @return little-endian byte sequence.
+     */
+    public byte[] getFloat16ByteArray(float[][] rows){
+        ByteBuffer halfBuffer = ByteBuffer.allocate(2*getLength(rows));
+        halfBuffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        for (float[] row : rows) {
+            for (float value : row) {
+                halfBuffer.putShort(toFloat16(value));
+            }
+        }
+        return halfBuffer.array();
+    }
+
+    /**
+     * Gets the scale mapping the largest magnitude of the values to the largest 16-bit integer.
+     * @param rows rows of values.
+     * @return scale of the 16-bit integers.
+     */
+    public float getInt16Scale(float[][] rows){
+        float maxValue = 0;
+        for (float[] row : rows) {
+            for (float value : row) {
+                maxValue = Math.max(maxValue, Math.abs(value));
+            }
+        }
+        return maxValue > 0 && Float.isFinite(maxValue) ? maxValue / Short.MAX_VALUE : 1;
+    }
+
+    /**
+     * Converts rows of values to 16-bit integers, row by row.
+     * @param rows rows of values.
+     * @param scale scale of the 16-bit integers, a value being the integer multiplied by the scale.
+     * @param delta whether each integer is replaced with the difference from the previous integer of the same row,
+     * wrapping around on overflow.
+     * @return little-endian byte sequence.
+     */
+    public byte[] getInt16ByteArray(float[][] rows, float scale, boolean delta){
+        ByteBuffer shortBuffer = ByteBuffer.allocate(2*getLength(rows));
+        shortBuffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        for (float[] row : rows) {
+            short previous = 0;
+            for (float value : row) {
+                short quantized = (short) Math.max(-Short.MAX_VALUE, Math.min(Short.MAX_VALUE, Math.round(value / scale)));
+                shortBuffer.putShort(delta ? (short) (quantized - previous) : quantized);
+                previous = quantized;
+            }
+        }
+        return shortBuffer.array();
+    }
+
+    private static int getLength(float[][] rows){
+        int length = 0;
+        for (float[] row : rows) {
+            length += row.length;
+        }
+        return length;
+    }
+
+    /**
+     * Converts a value to a 16-bit floating-point number, rounding to the nearest even.
+     */
+    private static short toFloat16(float value){
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = ((bits >>> 23) & 0xff) - 127 + 15;
+        int mantissa = bits & 0x7fffff;
+
+        if (exponent == 0xff - 127 + 15) {
+            // infinity or NaN
+            return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 : 0));
+        }
+        if (exponent >= 0x1f) {
+            // overflow
+            return (short) (sign | 0x7c00);
+        }
+
+        int shift = 13;
+        if (exponent <= 0) {
+            // subnormal number
+            if (exponent < -10) {
+                return (short) sign;
+            }
+            mantissa |= 0x800000;
+            shift = 14 - exponent;
+            exponent = 0;
+        }
+        int half = (exponent << 10) | (mantissa >> shift);
+        int remainder = mantissa & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        // a carry into the exponent gives the next power of 2, or infinity
+        if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+            half++;
+        }
+        return (short) (sign | half);
+    }
 }
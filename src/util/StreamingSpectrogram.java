@@ -0,0 +1,119 @@
+package util;
+
+/**
+ * Mel-Spectrogram computed incrementally over a stream of audio samples.<br>
+ * The most recent samples of each channel are kept in a ring buffer of one FFT window, and a new STFT frame is
+ * computed every hop length samples, so that each sample is only transformed by the frames that overlap it.
+ * The last frames are kept as a rolling spectrogram of a fixed number of frames.<br>
+ * Unlike {@link DspPlan#melSpectrogram}, the frames are not centered, since the samples after the last frame are
+ * not known yet.
+ */
+public class StreamingSpectrogram {
+    /**
+     * Precomputed tables of the transformation.
+     */
+    private final DspPlan plan;
+
+    /**
+     * Number of frames of the rolling spectrogram.
+     */
+    private final int frameCount;
+
+    /**
+     * Most recent samples of each channel, of shape [channels][nFft].
+     */
+    private final float[][] samples;
+
+    /**
+     * Index of the ring buffers where the next sample is written.
+     */
+    private int writeIndex;
+
+    /**
+     * Number of samples to write before the next frame is computed.
+     */
+    private int remaining;
+
+    /**
+     * Mel spectra of the last frames of each channel, of shape [channels][frameCount][n_mels].
+     */
+    private final float[][][] frames;
+
+    /**
+     * Index of the oldest frame of the rolling spectrogram.
+     */
+    private int oldestFrame;
+
+    /**
+     * Buffers for the intermediate results of the transformation.
+     */
+    private final DspPlan.Scratch scratch;
+
+    /**
+     * Class constructor.<br>
+     * The stream starts with silence, so that the spectrogram always has frameCount frames.
+     * @param plan precomputed tables of the transformation.
+     * @param channels number of channels.
+     * @param frameCount number of frames of the rolling spectrogram.
+     */
+    public StreamingSpectrogram(DspPlan plan, int channels, int frameCount) {
+        if (frameCount <= 0) {
+            throw new IllegalArgumentException("The number of frames must be positive: " + frameCount);
+        }
+
+        this.plan = plan;
+        this.frameCount = frameCount;
+        this.samples = new float[channels][plan.getFftSize()];
+        this.writeIndex = 0;
+        this.remaining = plan.getHopLength();
+        this.frames = new float[channels][frameCount][plan.getMelCount()];
+        this.oldestFrame = 0;
+        this.scratch = plan.createScratch();
+    }
+
+    /**
+     * Appends samples to the stream and computes the frames completed by them.
+     * @param input new samples of each channel.
+     * @param length number of new samples in each channel.
+     */
+    public synchronized void push(float[][] input, int length) {
+        final int nFft = plan.getFftSize();
+        int offset = 0;
+        while (offset < length) {
+            int count = Math.min(Math.min(remaining, length - offset), nFft - writeIndex);
+            for (int c = 0; c < samples.length; c++) {
+                System.arraycopy(input[c], offset, samples[c], writeIndex, count);
+            }
+            offset += count;
+            writeIndex = (writeIndex + count) & (nFft - 1);
+            remaining -= count;
+
+            if (remaining == 0) {
+                // the oldest sample of the window is the one overwritten next
+                for (int c = 0; c < samples.length; c++) {
+                    plan.melFrame(samples[c], writeIndex, frames[c][oldestFrame], scratch);
+                }
+                oldestFrame = (oldestFrame + 1) % frameCount;
+                remaining = plan.getHopLength();
+            }
+        }
+    }
+
+    /**
+     * Gets a copy of the rolling spectrogram.
+     * @return Mel-Spectrogram of shape [channels][n_mels][frameCount], from the oldest frame to the newest one.
+     */
+    public synchronized float[][][] getSpectrogramData() {
+        float[][][] melS = new float[samples.length][plan.getMelCount()][frameCount];
+        for (int c = 0; c < samples.length; c++) {
+            for (int k = 0; k < frameCount; k++) {
+                float[] frame = frames[c][(oldestFrame + k) % frameCount];
+                for (int m = 0; m < frame.length; m++) {
+                    melS[c][m][k] = frame[m];
+                }
+            }
+        }
+        return melS;
+    }
+
+}